@@ -9,47 +9,36 @@
  */
 package org.eclipse.dirigible.components.api.cache;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.dirigible.commons.config.Configuration;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Map;
-import java.util.concurrent.TimeUnit;
-
 public class CacheFacade {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CacheFacade.class);
 
-    private static final Cache<String, Object> cache = Caffeine.newBuilder()
-                                                               .expireAfterWrite(30, TimeUnit.MINUTES)
-                                                               .maximumSize(1500)
-                                                               .build();
+    /** The name of the region used by the methods without a region. */
+    public static final String DEFAULT_REGION = "default";
 
+    /** The maximum number of entries of the regions created without settings. */
+    private static final String DIRIGIBLE_CACHE_MAX_SIZE = "DIRIGIBLE_CACHE_MAX_SIZE";
 
-    static class JsonHolder {
+    /** The default time to live in seconds of the regions created without settings. */
+    private static final String DIRIGIBLE_CACHE_TIME_TO_LIVE = "DIRIGIBLE_CACHE_TIME_TO_LIVE";
 
-        private static final Gson GSON = new GsonBuilder().create();
+    private static final Gson GSON = new GsonBuilder().create();
 
-        private final String json;
-
-        JsonHolder(String json) {
-            this.json = json;
-        }
-
-        Map<?, ?> getObject() {
-            return GSON.fromJson(json, Map.class);
-        }
-
-        static JsonHolder toJsonHolder(Object object) {
-            return new JsonHolder(GSON.toJson(object));
-        }
-    }
+    private static final Map<String, CacheRegion> regions = new ConcurrentHashMap<>();
 
     public static boolean contains(String key) {
-        return get(key) != null;
+        return contains(DEFAULT_REGION, key);
     }
 
     /**
@@ -59,13 +48,7 @@ public class CacheFacade {
      * @return the string
      */
     public static Object get(String key) {
-        Object cachedValue = cache.getIfPresent(key);
-
-        if (cachedValue instanceof JsonHolder jsonHolder) {
-            return jsonHolder.getObject();
-        }
-        return cachedValue;
-
+        return get(DEFAULT_REGION, key);
     }
 
     /**
@@ -75,16 +58,7 @@ public class CacheFacade {
      * @param content the content
      */
     public static void set(String key, Object content) {
-        if (content != null) {
-            Object cacheValue = shouldBeConverted(content) ? JsonHolder.toJsonHolder(content) : content;
-            cache.put(key, cacheValue);
-        }
-    }
-
-    private static boolean shouldBeConverted(Object value) {
-        return null != value && !(value instanceof String || value instanceof Character || value instanceof Byte || value instanceof Short
-                || value instanceof Integer || value instanceof Long || value instanceof Double || value instanceof Float
-                || value instanceof Boolean);
+        set(DEFAULT_REGION, key, content);
     }
 
     /**
@@ -93,13 +67,173 @@ public class CacheFacade {
      * @param key the path
      */
     public static void delete(String key) {
-        cache.invalidate(key);
+        delete(DEFAULT_REGION, key);
     }
 
     /**
-     * Clear.
+     * Clears all the regions, keeping the regions and their settings.
      */
     public static void clear() {
-        cache.invalidateAll();
+        regions.values()
+               .forEach(CacheRegion::clear);
+    }
+
+    /**
+     * Creates a region, or replaces the region with the same name if its settings differ. Calling it
+     * again with the same settings keeps the region and its entries.
+     *
+     * @param region the region
+     * @param maximumSize the maximum number of entries, used if the maximum weight is not set
+     * @param maximumWeight the maximum weight in bytes, estimated by the length of the encoded values,
+     *        or 0 to limit the region by size
+     * @param timeToLive the default time to live in milliseconds
+     * @param byReference whether the values are stored by reference instead of as JSON, which is faster
+     *        but shares the cached objects between the callers
+     */
+    public static void createRegion(String region, long maximumSize, long maximumWeight, long timeToLive, boolean byReference) {
+        regions.compute(region, (name, existing) -> {
+            if (existing != null && existing.hasSettings(maximumSize, maximumWeight, timeToLive, byReference)) {
+                return existing;
+            }
+            if (existing != null) {
+                LOGGER.info("Replacing cache region [{}] with different settings", name);
+            }
+            return new CacheRegion(name, maximumSize, maximumWeight, timeToLive, byReference);
+        });
+    }
+
+    /**
+     * Removes a region with its entries.
+     *
+     * @param region the region
+     */
+    public static void removeRegion(String region) {
+        regions.remove(region);
+    }
+
+    /**
+     * Gets the names of the regions.
+     *
+     * @return the region names
+     */
+    public static Set<String> getRegions() {
+        return Set.copyOf(regions.keySet());
+    }
+
+    /**
+     * Checks whether a region contains a value.
+     *
+     * @param region the region
+     * @param key the key
+     * @return true, if successful, false if the region does not exist
+     */
+    public static boolean contains(String region, String key) {
+        CacheRegion cacheRegion = regions.get(region);
+        return cacheRegion != null && cacheRegion.contains(key);
+    }
+
+    /**
+     * Gets a value from a region.
+     *
+     * @param region the region
+     * @param key the key
+     * @return the value or null, also if the region does not exist
+     */
+    public static Object get(String region, String key) {
+        CacheRegion cacheRegion = regions.get(region);
+        return cacheRegion != null ? cacheRegion.get(key) : null;
+    }
+
+    /**
+     * Sets a value in a region with the default time to live of the region.
+     *
+     * @param region the region
+     * @param key the key
+     * @param content the content
+     * @throws IllegalArgumentException if the region has not been created
+     */
+    public static void set(String region, String key, Object content) {
+        getRegionForWrite(region).set(key, content);
+    }
+
+    /**
+     * Sets a value in a region.
+     *
+     * @param region the region
+     * @param key the key
+     * @param content the content
+     * @param timeToLive the time to live in milliseconds, or 0 for the default of the region
+     * @throws IllegalArgumentException if the region has not been created
+     */
+    public static void set(String region, String key, Object content, long timeToLive) {
+        getRegionForWrite(region).set(key, content, timeToLive);
+    }
+
+    /**
+     * Deletes a value from a region, if the region exists.
+     *
+     * @param region the region
+     * @param key the key
+     */
+    public static void delete(String region, String key) {
+        CacheRegion cacheRegion = regions.get(region);
+        if (cacheRegion != null) {
+            cacheRegion.delete(key);
+        }
+    }
+
+    /**
+     * Clears a region, if it exists.
+     *
+     * @param region the region
+     */
+    public static void clear(String region) {
+        CacheRegion cacheRegion = regions.get(region);
+        if (cacheRegion != null) {
+            cacheRegion.clear();
+        }
+    }
+
+    /**
+     * Gets the hit, miss and eviction statistics of a region.
+     *
+     * @param region the region
+     * @return the statistics, empty if the region does not exist
+     */
+    public static Map<String, Object> getStatistics(String region) {
+        CacheRegion cacheRegion = regions.get(region);
+        return cacheRegion != null ? cacheRegion.getStatistics() : Map.of();
+    }
+
+    /**
+     * Gets the statistics of a region as JSON.
+     *
+     * @param region the region
+     * @return the statistics as JSON
+     */
+    public static String getStatisticsAsJson(String region) {
+        return GSON.toJson(getStatistics(region));
+    }
+
+    /**
+     * Gets a region to write to. The default region is created with the configured defaults on its
+     * first write, any other region has to be created before, so that the number of regions is bounded
+     * by the calls of {@link #createRegion(String, long, long, long, boolean)}.
+     *
+     * @param region the region
+     * @return the cache region
+     * @throws IllegalArgumentException if the region has not been created
+     */
+    private static CacheRegion getRegionForWrite(String region) {
+        CacheRegion cacheRegion = regions.get(region);
+        if (cacheRegion == null && DEFAULT_REGION.equals(region)) {
+            cacheRegion =
+                    regions.computeIfAbsent(region, name -> new CacheRegion(name, Configuration.getAsInt(DIRIGIBLE_CACHE_MAX_SIZE, 1500), 0,
+                            TimeUnit.SECONDS.toMillis(Configuration.getAsInt(DIRIGIBLE_CACHE_TIME_TO_LIVE, 1800)), false));
+        }
+        if (cacheRegion == null) {
+            throw new IllegalArgumentException("Cache region [" + region + "] does not exist, it has to be created first");
+        }
+        return cacheRegion;
     }
 }
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * A named region of the cache with its own capacity, default time to live and statistics, so that
+ * the entries of one application do not evict the entries of another. The values are either stored
+ * as JSON and decoded into a new object on every read, which isolates the callers from each other,
+ * or stored by reference, which avoids the encoding for callers who do not modify the cached
+ * objects.
+ */
+public class CacheRegion {
+
+    /** The Constant GSON. */
+    private static final Gson GSON = new GsonBuilder().create();
+
+    /** The estimated weight of a value which is not a string, for the regions limited by weight. */
+    private static final int OBJECT_WEIGHT = 64;
+
+    /** The name. */
+    private final String name;
+
+    /** The maximum size, or 0 if the region is limited by weight. */
+    private final long maximumSize;
+
+    /** The maximum weight, or 0 if the region is limited by size. */
+    private final long maximumWeight;
+
+    /** The default time to live in milliseconds. */
+    private final long timeToLive;
+
+    /** Whether the values are stored by reference. */
+    private final boolean byReference;
+
+    /** The cache. */
+    private final Cache<String, Entry> cache;
+
+    /**
+     * Instantiates a new cache region.
+     *
+     * @param name the name
+     * @param maximumSize the maximum number of entries, used if the maximum weight is not set
+     * @param maximumWeight the maximum weight in bytes, estimated by the length of the encoded values,
+     *        or 0 to limit the region by size
+     * @param timeToLive the default time to live in milliseconds
+     * @param byReference whether the values are stored by reference instead of as JSON
+     */
+    public CacheRegion(String name, long maximumSize, long maximumWeight, long timeToLive, boolean byReference) {
+        if (timeToLive <= 0) {
+            throw new IllegalArgumentException("The time to live of the cache region [" + name + "] must be positive");
+        }
+        this.name = name;
+        this.maximumSize = maximumWeight > 0 ? 0 : maximumSize;
+        this.maximumWeight = Math.max(maximumWeight, 0);
+        this.timeToLive = timeToLive;
+        this.byReference = byReference;
+        Caffeine<String, Entry> builder = Caffeine.newBuilder()
+                                                  .recordStats()
+                                                  .expireAfter(new EntryExpiry());
+        if (this.maximumWeight > 0) {
+            builder.maximumWeight(this.maximumWeight)
+                   .weigher((String key, Entry entry) -> entry.weight());
+        } else {
+            builder.maximumSize(this.maximumSize);
+        }
+        this.cache = builder.build();
+    }
+
+    /**
+     * Gets the name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks whether the region has the settings.
+     *
+     * @param maximumSize the maximum size
+     * @param maximumWeight the maximum weight
+     * @param timeToLive the time to live
+     * @param byReference whether the values are stored by reference
+     * @return true, if successful
+     */
+    boolean hasSettings(long maximumSize, long maximumWeight, long timeToLive, boolean byReference) {
+        return this.maximumSize == (maximumWeight > 0 ? 0 : maximumSize) && this.maximumWeight == Math.max(maximumWeight, 0)
+                && this.timeToLive == timeToLive && this.byReference == byReference;
+    }
+
+    /**
+     * Gets the value.
+     *
+     * @param key the key
+     * @return the value or null
+     */
+    public Object get(String key) {
+        Entry entry = cache.getIfPresent(key);
+        return entry != null ? entry.value() : null;
+    }
+
+    /**
+     * Checks whether the region contains a value.
+     *
+     * @param key the key
+     * @return true, if successful
+     */
+    public boolean contains(String key) {
+        return cache.getIfPresent(key) != null;
+    }
+
+    /**
+     * Sets the value with the default time to live of the region.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public void set(String key, Object value) {
+        set(key, value, timeToLive);
+    }
+
+    /**
+     * Sets the value.
+     *
+     * @param key the key
+     * @param value the value
+     * @param timeToLive the time to live in milliseconds, or 0 for the default of the region
+     */
+    public void set(String key, Object value, long timeToLive) {
+        if (value == null) {
+            return;
+        }
+        long ttl = timeToLive > 0 ? timeToLive : this.timeToLive;
+        Object stored = byReference || !shouldBeConverted(value) ? value : new JsonHolder(GSON.toJson(value));
+        cache.put(key, new Entry(stored, TimeUnit.MILLISECONDS.toNanos(ttl)));
+    }
+
+    /**
+     * Deletes the value.
+     *
+     * @param key the key
+     */
+    public void delete(String key) {
+        cache.invalidate(key);
+    }
+
+    /**
+     * Clears the region.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Gets the statistics.
+     *
+     * @return the statistics
+     */
+    public Map<String, Object> getStatistics() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("name", name);
+        statistics.put("size", cache.estimatedSize());
+        statistics.put("maximumSize", maximumSize);
+        statistics.put("maximumWeight", maximumWeight);
+        statistics.put("timeToLive", timeToLive);
+        statistics.put("byReference", byReference);
+        statistics.put("hitCount", stats.hitCount());
+        statistics.put("missCount", stats.missCount());
+        statistics.put("hitRate", stats.hitRate());
+        statistics.put("evictionCount", stats.evictionCount());
+        statistics.put("evictionWeight", stats.evictionWeight());
+        return statistics;
+    }
+
+    /**
+     * Cleans up the expired and the evicted entries, which is otherwise done during the operations.
+     */
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    /**
+     * Checks whether the value is encoded as JSON.
+     *
+     * @param value the value
+     * @return true, if successful
+     */
+    private static boolean shouldBeConverted(Object value) {
+        return !(value instanceof String || value instanceof Character || value instanceof Byte || value instanceof Short
+                || value instanceof Integer || value instanceof Long || value instanceof Double || value instanceof Float
+                || value instanceof Boolean);
+    }
+
+    /**
+     * A value encoded as JSON.
+     *
+     * @param json the json
+     */
+    private record JsonHolder(String json) {
+    }
+
+    /**
+     * A cached value.
+     *
+     * @param stored the stored value
+     * @param timeToLive the time to live in nanoseconds
+     */
+    private record Entry(Object stored, long timeToLive) {
+
+        /**
+         * Gets the value, decoded if it is stored as JSON.
+         *
+         * @return the value
+         */
+        Object value() {
+            return stored instanceof JsonHolder holder ? GSON.fromJson(holder.json(), Map.class) : stored;
+        }
+
+        /**
+         * Gets the estimated weight.
+         *
+         * @return the weight
+         */
+        int weight() {
+            if (stored instanceof JsonHolder holder) {
+                return holder.json()
+                             .length()
+                        * 2;
+            }
+            if (stored instanceof String string) {
+                return string.length() * 2;
+            }
+            return OBJECT_WEIGHT;
+        }
+    }
+
+    /**
+     * The expiry by the time to live of the entry.
+     */
+    private static class EntryExpiry implements Expiry<String, Entry> {
+
+        /**
+         * Expire after create.
+         *
+         * @param key the key
+         * @param entry the entry
+         * @param currentTime the current time
+         * @return the duration in nanoseconds
+         */
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return entry.timeToLive();
+        }
+
+        /**
+         * Expire after update.
+         *
+         * @param key the key
+         * @param entry the entry
+         * @param currentTime the current time
+         * @param currentDuration the current duration
+         * @return the duration in nanoseconds
+         */
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return entry.timeToLive();
+        }
+
+        /**
+         * Expire after read.
+         *
+         * @param key the key
+         * @param entry the entry
+         * @param currentTime the current time
+         * @param currentDuration the current duration
+         * @return the duration in nanoseconds
+         */
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
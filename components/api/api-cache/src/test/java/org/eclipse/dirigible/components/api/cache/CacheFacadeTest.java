@@ -11,7 +11,11 @@ package org.eclipse.dirigible.components.api.cache;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class CacheFacadeTest {
 
@@ -35,6 +39,93 @@ class CacheFacadeTest {
 
     }
 
+    @Test
+    void testRegions() {
+        CacheFacade.createRegion("small", 2, 0, 60_000, true);
+        List<String> value = List.of("a", "b");
+        CacheFacade.set("small", KEY, value);
+        CacheFacade.set(KEY, VALUE);
+
+        assertThat(CacheFacade.get("small", KEY)).isSameAs(value);
+        assertThat(CacheFacade.get(KEY)).isEqualTo(VALUE);
+
+        CacheFacade.clear("small");
+        assertThat(CacheFacade.contains("small", KEY)).isFalse();
+        assertThat(CacheFacade.get(KEY)).isEqualTo(VALUE);
+        CacheFacade.clear();
+
+        CacheFacade.createRegion("small", 2, 0, 60_000, true);
+        CacheFacade.set("small", KEY, value);
+        CacheFacade.createRegion("small", 2, 0, 60_000, true);
+        assertThat(CacheFacade.contains("small", KEY)).isTrue();
+        CacheFacade.removeRegion("small");
+    }
+
+    @Test
+    void testMissingRegion() {
+        assertThat(CacheFacade.contains("missing", KEY)).isFalse();
+        assertThat(CacheFacade.get("missing", KEY)).isNull();
+        CacheFacade.delete("missing", KEY);
+        CacheFacade.clear("missing");
+        assertThat(CacheFacade.getStatistics("missing")).isEmpty();
+        assertThatThrownBy(() -> CacheFacade.set("missing", KEY, VALUE)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CacheFacade.set("missing", KEY, VALUE, 1_000)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(CacheFacade.getRegions()).doesNotContain("missing");
+    }
+
+    @Test
+    void testClearAllRegions() {
+        CacheFacade.createRegion("cleared", 10, 0, 60_000, false);
+        CacheFacade.set("cleared", KEY, VALUE);
+        CacheFacade.set(KEY, VALUE);
+
+        CacheFacade.clear();
+
+        assertThat(CacheFacade.contains("cleared", KEY)).isFalse();
+        assertMissingEntry();
+        assertThat(CacheFacade.getRegions()).contains("cleared");
+        CacheFacade.removeRegion("cleared");
+    }
+
+    @Test
+    void testJsonValues() {
+        CacheFacade.createRegion("json", 10, 0, 60_000, false);
+        CacheFacade.set("json", KEY, Map.of("name", "value"));
+        Object first = CacheFacade.get("json", KEY);
+        assertThat(first).isEqualTo(Map.of("name", "value"));
+        assertThat(CacheFacade.get("json", KEY)).isNotSameAs(first);
+        CacheFacade.removeRegion("json");
+    }
+
+    @Test
+    void testTimeToLive() throws InterruptedException {
+        CacheFacade.createRegion("ttl", 10, 0, 60_000, false);
+        CacheFacade.set("ttl", KEY, VALUE, 1);
+        CacheFacade.set("ttl", "key2", VALUE);
+        Thread.sleep(20);
+
+        assertThat(CacheFacade.contains("ttl", KEY)).isFalse();
+        assertThat(CacheFacade.contains("ttl", "key2")).isTrue();
+        CacheFacade.removeRegion("ttl");
+    }
+
+    @Test
+    void testStatisticsAndEviction() {
+        CacheRegion region = new CacheRegion("stats", 2, 0, 60_000, false);
+        for (int i = 0; i < 10; i++) {
+            region.set("key" + i, VALUE);
+        }
+        region.get("key9");
+        region.get("missing");
+        region.cleanUp();
+
+        Map<String, Object> statistics = region.getStatistics();
+        assertThat((Long) statistics.get("size")).isLessThanOrEqualTo(2);
+        assertThat((Long) statistics.get("evictionCount")).isGreaterThanOrEqualTo(8);
+        assertThat(statistics.get("missCount")).isEqualTo(1L);
+    }
+
     private static void assertMissingEntry() {
         assertThat(CacheFacade.contains(KEY)).isFalse();
         assertThat(CacheFacade.get(KEY)).isNull();
@@ -13,23 +13,29 @@ import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.*;
 import org.apache.lucene.index.*;
-import org.apache.lucene.index.IndexWriterConfig.OpenMode;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.store.Directory;
-import org.apache.lucene.store.FSDirectory;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.search.NearRealTimeIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
 
 /**
  * The Class IndexingCoreService.
@@ -37,6 +43,9 @@ import java.util.*;
 @Component
 public class IndexingService {
 
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndexingService.class);
+
     /** The Constant DIRIGIBLE_INDEXING_ROOT_FOLDER. */
     private static final String DIRIGIBLE_INDEXING_ROOT_FOLDER = "DIRIGIBLE_INDEXING_ROOT_FOLDER";
 
@@ -70,10 +79,39 @@ public class IndexingService {
     /** The max results. */
     private static final int MAX_RESULTS;
 
+    /** The max staleness of the searchers in millis, when no search waits for a change. */
+    private static final int MAX_STALE;
+
+    /** The min staleness of the searchers in millis, when a search waits for a change. */
+    private static final int MIN_STALE;
+
+    /** The commit interval in millis. */
+    private static final int COMMIT_INTERVAL;
+
     static {
         Configuration.loadModuleConfig("/dirigible-indexing.properties");
         ROOT_FOLDER = Configuration.get(DIRIGIBLE_INDEXING_ROOT_FOLDER);
         MAX_RESULTS = Configuration.getAsInt(DIRIGIBLE_INDEXING_MAX_RESULTS, 100);
+        MAX_STALE = Configuration.getAsInt("DIRIGIBLE_INDEXING_MAX_STALE", 1000);
+        MIN_STALE = Configuration.getAsInt("DIRIGIBLE_INDEXING_MIN_STALE", 25);
+        COMMIT_INTERVAL = Configuration.getAsInt("DIRIGIBLE_INDEXING_COMMIT_INTERVAL", 5000);
+    }
+
+    /** The open indexes by name. */
+    private final Map<String, NearRealTimeIndex> indexes = new ConcurrentHashMap<>();
+
+    /** The committer. */
+    private final ScheduledExecutorService committer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "dirigible-indexing-committer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Instantiates a new indexing service.
+     */
+    public IndexingService() {
+        committer.scheduleWithFixedDelay(this::commit, COMMIT_INTERVAL, COMMIT_INTERVAL, TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -94,30 +132,18 @@ public class IndexingService {
             throw new IOException("Index name may not be null");
         }
 
-        Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-        Analyzer analyzer = new StandardAnalyzer();
-        IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
-        iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
-        IndexWriter writer = null;
-        try {
-            writer = new IndexWriter(dir, iwc);
-            Document doc = new Document();
-            Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
-            doc.add(pathField);
-            doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
-            if (parameters != null) {
-                for (String key : parameters.keySet()) {
-                    doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
-                }
-            }
-            doc.add(new TextField(FIELD_CONTENTS,
-                    new BufferedReader(new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
-            writer.updateDocument(new Term(FIELD_LOCATION, location), doc);
-        } finally {
-            if (writer != null) {
-                writer.close();
+        Document doc = new Document();
+        Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
+        doc.add(pathField);
+        doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
+        if (parameters != null) {
+            for (String key : parameters.keySet()) {
+                doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
             }
         }
+        doc.add(new TextField(FIELD_CONTENTS,
+                new BufferedReader(new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
+        getIndex(indexName).update(new Term(FIELD_LOCATION, location), doc);
     }
 
     /**
@@ -143,7 +169,6 @@ public class IndexingService {
      * @throws IOException the indexing exception
      */
     public String search(String index, String term) throws IOException {
-        List<Map<String, String>> results = new ArrayList<Map<String, String>>();
         String indexName = index;
         if (index != null) {
             indexName = flattenizeIndexName(indexName);
@@ -151,34 +176,12 @@ public class IndexingService {
             throw new IOException("Index name may not be null");
         }
         try {
-            Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-            IndexReader reader = null;
-            try {
-                reader = DirectoryReader.open(dir);
-                IndexSearcher searcher = new IndexSearcher(reader);
-                StoredFields storedFields = searcher.storedFields();
-
-                Analyzer analyzer = new StandardAnalyzer();
-                String field = FIELD_CONTENTS;
-                QueryParser parser = new QueryParser(field, analyzer);
-                Query query = parser.parse(term);
-
-                TopDocs topDocs = searcher.search(query, MAX_RESULTS);
-                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                    Document document = storedFields.document(scoreDoc.doc);
-                    Map<String, String> map = new HashMap<String, String>();
-                    for (IndexableField indexableField : document.getFields()) {
-                        map.put(indexableField.name(), indexableField.stringValue());
-                    }
-                    results.add(map);
-                }
-            } finally {
-                if (reader != null) {
-                    reader.close();
-                }
-            }
-            return GsonHelper.toJson(results);
-        } catch (IOException | ParseException e) {
+            Analyzer analyzer = new StandardAnalyzer();
+            String field = FIELD_CONTENTS;
+            QueryParser parser = new QueryParser(field, analyzer);
+            Query query = parser.parse(term);
+            return GsonHelper.toJson(search(indexName, query));
+        } catch (ParseException e) {
             throw new IOException(e);
         }
     }
@@ -205,23 +208,43 @@ public class IndexingService {
      * @throws IOException the indexing exception
      */
     public String between(String index, long lower, long upper) throws IOException {
-        List<Map<String, String>> results = new ArrayList<Map<String, String>>();
         String indexName = index;
         if (index != null) {
             indexName = flattenizeIndexName(indexName);
         } else {
             throw new IOException("Index name may not be null");
         }
-        Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-        IndexReader reader = null;
+        Query query = LongPoint.newRangeQuery(FIELD_MODIFIED, lower, upper);
+        return GsonHelper.toJson(search(indexName, query));
+    }
+
+    /**
+     * After.
+     *
+     * @param index the index
+     * @param date the date
+     * @return the string
+     * @throws IOException the indexing exception
+     */
+    public String after(String index, long date) throws IOException {
+        return between(index, date, new Date().getTime());
+    }
+
+    /**
+     * Search an index with a searcher which sees all the changes made so far.
+     *
+     * @param indexName the flattened index name
+     * @param query the query
+     * @return the stored fields of the matching documents
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private List<Map<String, String>> search(String indexName, Query query) throws IOException {
+        List<Map<String, String>> results = new ArrayList<Map<String, String>>();
+        NearRealTimeIndex target = getIndex(indexName);
+        IndexSearcher searcher = target.acquire();
         try {
-            reader = DirectoryReader.open(dir);
-            IndexSearcher searcher = new IndexSearcher(reader);
             StoredFields storedFields = searcher.storedFields();
-
-            Query query = LongPoint.newRangeQuery(FIELD_MODIFIED, lower, upper);
             TopDocs topDocs = searcher.search(query, MAX_RESULTS);
-
             for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
                 Document document = storedFields.document(scoreDoc.doc);
                 Map<String, String> map = new HashMap<String, String>();
@@ -231,23 +254,62 @@ public class IndexingService {
                 results.add(map);
             }
         } finally {
-            if (reader != null) {
-                reader.close();
-            }
+            target.release(searcher);
         }
-        return GsonHelper.toJson(results);
+        return results;
     }
 
     /**
-     * After.
+     * Gets the index, opening it on first use.
      *
-     * @param index the index
-     * @param date the date
-     * @return the string
-     * @throws IOException the indexing exception
+     * @param indexName the flattened index name
+     * @return the index
+     * @throws IOException Signals that an I/O exception has occurred.
      */
-    public String after(String index, long date) throws IOException {
-        return between(index, date, new Date().getTime());
+    private NearRealTimeIndex getIndex(String indexName) throws IOException {
+        try {
+            return indexes.computeIfAbsent(indexName, name -> {
+                try {
+                    return new NearRealTimeIndex(Paths.get(ROOT_FOLDER + File.separator + name), "dirigible-indexing-reopen-" + name,
+                            MAX_STALE, MIN_STALE);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Commits the changes of all the indexes, so that they survive a restart.
+     */
+    private void commit() {
+        for (Map.Entry<String, NearRealTimeIndex> entry : indexes.entrySet()) {
+            try {
+                entry.getValue()
+                     .commit();
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("Failed to commit index [{}]", entry.getKey(), e);
+            }
+        }
+    }
+
+    /**
+     * Commits and closes all the indexes.
+     */
+    @PreDestroy
+    public void close() {
+        committer.shutdownNow();
+        for (Map.Entry<String, NearRealTimeIndex> entry : indexes.entrySet()) {
+            try {
+                entry.getValue()
+                     .close();
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("Failed to close index [{}]", entry.getKey(), e);
+            }
+        }
+        indexes.clear();
     }
 
 }
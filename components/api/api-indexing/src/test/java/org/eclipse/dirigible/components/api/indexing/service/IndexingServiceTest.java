@@ -110,4 +110,42 @@ public class IndexingServiceTest {
         assertEquals(1, matches.size());
     }
 
+    /**
+     * Near real time test: a document is visible to the next search, without a commit.
+     *
+     * @throws IOException the indexing exception
+     */
+    @SuppressWarnings("rawtypes")
+    @Test
+    public void nearRealTimeTest() throws IOException {
+        indexingService.add("nrt_index", "/root/nrt/file1.txt", "nearrealtime".getBytes(), new Date().getTime(), null);
+        List matches = GsonHelper.fromJson(indexingService.search("nrt_index", "nearrealtime"), List.class);
+        assertEquals(1, matches.size());
+
+        indexingService.add("nrt_index", "/root/nrt/file1.txt", "changed".getBytes(), new Date().getTime(), null);
+        matches = GsonHelper.fromJson(indexingService.search("nrt_index", "nearrealtime"), List.class);
+        assertEquals(0, matches.size());
+    }
+
+    /**
+     * Close test: the changes are committed on close and the index can be opened again.
+     *
+     * @throws IOException the indexing exception
+     */
+    @SuppressWarnings("rawtypes")
+    @Test
+    public void closeTest() throws IOException {
+        IndexingService service = new IndexingService();
+        service.add("close_index", "/root/close/file1.txt", "closedindex".getBytes(), new Date().getTime(), null);
+        service.close();
+
+        IndexingService reopened = new IndexingService();
+        try {
+            List matches = GsonHelper.fromJson(reopened.search("close_index", "closedindex"), List.class);
+            assertEquals(1, matches.size());
+        } finally {
+            reopened.close();
+        }
+    }
+
 }
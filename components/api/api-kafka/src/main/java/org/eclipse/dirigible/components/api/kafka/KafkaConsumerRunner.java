@@ -11,25 +11,50 @@ package org.eclipse.dirigible.components.api.kafka;
 
 import static java.text.MessageFormat.format;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 
+import org.apache.kafka.clients.consumer.CommitFailedException;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.errors.WakeupException;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.components.engine.javascript.service.JavascriptService;
 import org.eclipse.dirigible.repository.api.RepositoryPath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 
 /**
- * The Class KafkaConsumerRunner.
+ * The Class KafkaConsumerRunner. Polls the topic in its own thread and hands the records of each
+ * partition to a worker, so that the partitions are processed in parallel while the records of a
+ * partition keep their order. The records are handled either one by one, or as a batch per
+ * partition with a single script invocation. The offsets of the processed records are committed
+ * after each poll, unless the consumer commits automatically. When the handler of a record fails,
+ * the offsets up to the failed record are committed and the partition is rewound to it, so it is
+ * delivered again. The partition is paused for a delay doubled on each retry, and after the last
+ * retry the record, or the batch in batch mode, is skipped, so a record failing every time does not
+ * block its partition. With auto commit, the failed records are reported to the error handler and
+ * skipped, as before.
  */
 public class KafkaConsumerRunner implements Runnable {
 
@@ -39,14 +64,26 @@ public class KafkaConsumerRunner implements Runnable {
     /** The Constant DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_MESSAGE. */
     private static final String DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_MESSAGE = "messaging/wrappers/onMessage";
 
+    /** The Constant DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_MESSAGES. */
+    private static final String DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_MESSAGES = "messaging/wrappers/onMessages";
+
     /** The Constant DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_ERROR. */
     private static final String DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_ERROR = "messaging/wrappers/onError";
 
+    /** The default number of the retries of a failed record. */
+    static final int DEFAULT_RETRIES = 3;
+
+    /** The default delay before the first retry of a failed record in millis. */
+    static final long DEFAULT_RETRY_DELAY = 1000;
+
+    /** The maximum number of the doublings of the retry delay. */
+    private static final int MAX_RETRY_DELAY_DOUBLINGS = 10;
+
     /** The stopped. */
     private final AtomicBoolean stopped = new AtomicBoolean(false);
 
     /** The consumer. */
-    private final Consumer consumer;
+    private final Consumer<String, String> consumer;
 
     /** The name. */
     private final String name;
@@ -57,8 +94,45 @@ public class KafkaConsumerRunner implements Runnable {
     /** The timeout. */
     private int timeout = 1000;
 
-    @Autowired
-    private JavascriptService javascriptService;
+    /** The maximum number of partitions processed in parallel. */
+    private final int concurrency;
+
+    /** Whether the records of a partition are handled as a batch. */
+    private final boolean batch;
+
+    /** Whether the offsets are committed by the runner. */
+    private final boolean commit;
+
+    /** The invoker of the wrapper modules by path and context. */
+    private final BiConsumer<String, Map<Object, Object>> invoker;
+
+    /** The number of the retries of a failed record, before it is skipped. */
+    private final int retries;
+
+    /** The delay before the first retry of a failed record in millis, doubled on each next retry. */
+    private final long retryDelay;
+
+    /** The number of the processed records. */
+    private final AtomicLong processed = new AtomicLong();
+
+    /** The last failures by partition, used by the polling thread only. */
+    private final Map<TopicPartition, Failure> failures = new HashMap<>();
+
+    /** The times to resume the paused partitions by partition, used by the polling thread only. */
+    private final Map<TopicPartition, Long> paused = new HashMap<>();
+
+    /**
+     * Instantiates a new kafka consumer runner, which handles the records one by one in the polling
+     * thread.
+     *
+     * @param consumer the consumer
+     * @param name the name
+     * @param handler the handler
+     * @param timeout the timeout
+     */
+    public KafkaConsumerRunner(Consumer<String, String> consumer, String name, String handler, int timeout) {
+        this(consumer, name, handler, timeout, 1, false, false);
+    }
 
     /**
      * Instantiates a new kafka consumer runner.
@@ -67,12 +141,61 @@ public class KafkaConsumerRunner implements Runnable {
      * @param name the name
      * @param handler the handler
      * @param timeout the timeout
+     * @param concurrency the maximum number of partitions processed in parallel
+     * @param batch whether the records of a partition are handled as a batch
+     * @param commit whether the offsets are committed by the runner, which requires the auto commit of
+     *        the consumer to be disabled
      */
-    public KafkaConsumerRunner(Consumer consumer, String name, String handler, int timeout) {
+    public KafkaConsumerRunner(Consumer<String, String> consumer, String name, String handler, int timeout, int concurrency, boolean batch,
+            boolean commit) {
+        this(consumer, name, handler, timeout, concurrency, batch, commit, DEFAULT_RETRIES, DEFAULT_RETRY_DELAY);
+    }
+
+    /**
+     * Instantiates a new kafka consumer runner.
+     *
+     * @param consumer the consumer
+     * @param name the name
+     * @param handler the handler
+     * @param timeout the timeout
+     * @param concurrency the maximum number of partitions processed in parallel
+     * @param batch whether the records of a partition are handled as a batch
+     * @param commit whether the offsets are committed by the runner, which requires the auto commit of
+     *        the consumer to be disabled
+     * @param retries the number of the retries of a failed record, before it is skipped
+     * @param retryDelay the delay before the first retry of a failed record in millis
+     */
+    public KafkaConsumerRunner(Consumer<String, String> consumer, String name, String handler, int timeout, int concurrency, boolean batch,
+            boolean commit, int retries, long retryDelay) {
+        this(consumer, name, handler, timeout, concurrency, batch, commit, retries, retryDelay, KafkaConsumerRunner::invokeModule);
+    }
+
+    /**
+     * Instantiates a new kafka consumer runner.
+     *
+     * @param consumer the consumer
+     * @param name the name
+     * @param handler the handler
+     * @param timeout the timeout
+     * @param concurrency the maximum number of partitions processed in parallel
+     * @param batch whether the records of a partition are handled as a batch
+     * @param commit whether the offsets are committed by the runner
+     * @param retries the number of the retries of a failed record, before it is skipped
+     * @param retryDelay the delay before the first retry of a failed record in millis
+     * @param invoker the invoker of the wrapper modules
+     */
+    KafkaConsumerRunner(Consumer<String, String> consumer, String name, String handler, int timeout, int concurrency, boolean batch,
+            boolean commit, int retries, long retryDelay, BiConsumer<String, Map<Object, Object>> invoker) {
         this.consumer = consumer;
         this.name = name;
         this.handler = handler;
         this.timeout = timeout;
+        this.concurrency = Math.max(concurrency, 1);
+        this.batch = batch;
+        this.commit = commit;
+        this.retries = Math.max(retries, 0);
+        this.retryDelay = Math.max(retryDelay, 0);
+        this.invoker = invoker;
     }
 
     /**
@@ -80,59 +203,345 @@ public class KafkaConsumerRunner implements Runnable {
      */
     @Override
     public void run() {
+        ExecutorService workers = concurrency > 1 ? Executors.newFixedThreadPool(concurrency, new WorkerThreadFactory(name)) : null;
         try {
             if (logger.isInfoEnabled()) {
-                logger.info("Starting a Kafka listener for {} ...", this.name);
+                logger.info("Starting a Kafka listener for {} with [{}] workers{} ...", this.name, this.concurrency,
+                        this.batch ? " in batch mode" : "");
             }
             consumer.subscribe(Arrays.asList(this.name));
             while (!stopped.get()) {
-                ConsumerRecords<String, String> records = consumer.poll(Duration.ofMillis(this.timeout));
-                for (ConsumerRecord<String, String> record : records) {
-                    if (logger.isTraceEnabled()) {
-                        logger.trace(format("Start processing a received record in [{0}] by [{1}] ...", this.name, this.handler));
-                    }
-                    if (this.handler != null) {
-                        Map<Object, Object> context = createMessagingContext();
-                        context.put("message", escapeCodeString(GsonHelper.toJson(record)));
-                        try {
-                            RepositoryPath path = new RepositoryPath(DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_MESSAGE);
-                            JavascriptService.get()
-                                             .handleRequest(path.getSegments()[0], path.constructPathFrom(1), null, context, false);
-                        } catch (Exception e) {
-                            if (logger.isErrorEnabled()) {
-                                logger.error(e.getMessage(), e);
-                            }
-                            try {
-                                context.put("error", escapeCodeString(e.getMessage()));
-                                RepositoryPath path = new RepositoryPath(DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_ERROR);
-                                javascriptService.handleRequest(path.getSegments()[0], path.constructPathFrom(1), null, context, false);
-                            } catch (Exception es) {
-                                if (logger.isErrorEnabled()) {
-                                    logger.error(es.getMessage(), es);
-                                }
-                            }
-                        }
-                    } else {
-                        if (logger.isInfoEnabled()) {
-                            logger.info(String.format("[Kafka Consumer] %s -  offset = %d, key = %s, value = %s%n", this.name,
-                                    record.offset(), record.key(), record.value()));
-                        }
-                    }
-                    if (logger.isTraceEnabled()) {
-                        logger.trace(format("Done processing the received record in [{0}] by [{1}]", this.name, this.handler));
-                    }
+                resumePaused();
+                ConsumerRecords<String, String> records = consumer.poll(Duration.ofMillis(getPollTimeout()));
+                if (!records.isEmpty()) {
+                    process(records, workers);
                 }
-
             }
         } catch (WakeupException e) {
             // Ignore exception if closing
             if (!stopped.get())
                 throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
         } finally {
+            if (workers != null) {
+                workers.shutdownNow();
+            }
             consumer.close();
         }
     }
 
+    /**
+     * Processes the polled records, a partition per worker, and commits the offsets of the processed
+     * ones. A partition, which has failed, is rewound to its first record, so that it is polled again.
+     *
+     * @param records the records
+     * @param workers the workers or null to process in the polling thread
+     * @throws InterruptedException the interrupted exception
+     */
+    private void process(ConsumerRecords<String, String> records, ExecutorService workers) throws InterruptedException {
+        List<TopicPartition> partitions = new ArrayList<>(records.partitions());
+        List<Callable<OffsetAndMetadata>> tasks = new ArrayList<>(partitions.size());
+        for (TopicPartition partition : partitions) {
+            List<ConsumerRecord<String, String>> partitionRecords = records.records(partition);
+            tasks.add(() -> processPartition(partitionRecords));
+        }
+
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        if (workers == null || tasks.size() == 1) {
+            for (int i = 0; i < tasks.size(); i++) {
+                try {
+                    addOffset(offsets, partitions.get(i), tasks.get(i)
+                                                               .call());
+                    failures.remove(partitions.get(i));
+                } catch (Exception e) {
+                    rewind(offsets, partitions.get(i), records, e);
+                }
+            }
+        } else {
+            List<Future<OffsetAndMetadata>> futures = workers.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    addOffset(offsets, partitions.get(i), futures.get(i)
+                                                                 .get());
+                    failures.remove(partitions.get(i));
+                } catch (ExecutionException e) {
+                    rewind(offsets, partitions.get(i), records, e.getCause());
+                }
+            }
+        }
+        commit(offsets);
+    }
+
+    /**
+     * Processes the records of a partition in their order.
+     *
+     * @param records the records of the partition
+     * @return the offset after the last processed record, or null if none has been processed
+     * @throws PartitionFailedException if the handler has failed
+     */
+    private OffsetAndMetadata processPartition(List<ConsumerRecord<String, String>> records) {
+        if (batch) {
+            try {
+                handleBatch(records);
+            } catch (RuntimeException e) {
+                throw new PartitionFailedException(null, records.get(0)
+                                                                .offset(),
+                        e);
+            }
+            processed.addAndGet(records.size());
+            return new OffsetAndMetadata(records.get(records.size() - 1)
+                                                .offset()
+                    + 1);
+        }
+        ConsumerRecord<String, String> last = null;
+        for (ConsumerRecord<String, String> record : records) {
+            if (stopped.get()) {
+                break;
+            }
+            try {
+                handleRecord(record);
+            } catch (RuntimeException e) {
+                throw new PartitionFailedException(last != null ? new OffsetAndMetadata(last.offset() + 1) : null, record.offset(), e);
+            }
+            processed.incrementAndGet();
+            last = record;
+        }
+        return last != null ? new OffsetAndMetadata(last.offset() + 1) : null;
+    }
+
+    /**
+     * Adds the offset of a partition.
+     *
+     * @param offsets the offsets
+     * @param partition the partition
+     * @param offset the offset or null
+     */
+    private static void addOffset(Map<TopicPartition, OffsetAndMetadata> offsets, TopicPartition partition, OffsetAndMetadata offset) {
+        if (offset != null) {
+            offsets.put(partition, offset);
+        }
+    }
+
+    /**
+     * Rewinds a failed partition to the failed record, or to its first polled record if it is not
+     * known, and pauses it until the retry. The records processed before the failed one are committed.
+     * After the last retry, the failed record, or the polled batch in batch mode, is skipped and
+     * committed instead.
+     *
+     * @param offsets the offsets
+     * @param partition the partition
+     * @param records the records
+     * @param cause the cause
+     */
+    private void rewind(Map<TopicPartition, OffsetAndMetadata> offsets, TopicPartition partition, ConsumerRecords<String, String> records,
+            Throwable cause) {
+        List<ConsumerRecord<String, String>> partitionRecords = records.records(partition);
+        long offset = partitionRecords.get(0)
+                                      .offset();
+        if (cause instanceof PartitionFailedException failure) {
+            addOffset(offsets, partition, failure.getProcessed());
+            offset = failure.getFailedOffset();
+            cause = failure.getCause();
+        }
+        Failure previous = failures.get(partition);
+        int attempts = previous != null && previous.offset() == offset ? previous.attempts() + 1 : 1;
+        if (attempts > retries) {
+            long next = batch ? partitionRecords.get(partitionRecords.size() - 1)
+                                                .offset()
+                    + 1 : offset + 1;
+            logger.error("Processing the records of [{}] from offset [{}] has failed [{}] times, they are skipped up to offset [{}]",
+                    partition, offset, attempts, next, cause);
+            failures.remove(partition);
+            offsets.put(partition, new OffsetAndMetadata(next));
+            consumer.seek(partition, next);
+            return;
+        }
+        failures.put(partition, new Failure(offset, attempts));
+        logger.error("Processing the records of [{}] has failed, they will be polled again from offset [{}], retry [{}] of [{}]", partition,
+                offset, attempts, retries, cause);
+        consumer.seek(partition, offset);
+        if (retryDelay > 0) {
+            long delay = retryDelay << Math.min(attempts - 1, MAX_RETRY_DELAY_DOUBLINGS);
+            consumer.pause(List.of(partition));
+            paused.put(partition, System.currentTimeMillis() + delay);
+        }
+    }
+
+    /**
+     * Resumes the paused partitions, which are due to be retried and are still assigned.
+     */
+    private void resumePaused() {
+        if (paused.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<TopicPartition> due = new ArrayList<>();
+        paused.entrySet()
+              .removeIf(entry -> {
+                  if (entry.getValue() <= now) {
+                      due.add(entry.getKey());
+                      return true;
+                  }
+                  return false;
+              });
+        due.retainAll(consumer.assignment());
+        if (!due.isEmpty()) {
+            consumer.resume(due);
+        }
+    }
+
+    /**
+     * Gets the poll timeout, which is shortened so that the paused partitions are resumed on time.
+     *
+     * @return the poll timeout in millis
+     */
+    private long getPollTimeout() {
+        long pollTimeout = this.timeout;
+        long now = System.currentTimeMillis();
+        for (long resumeAt : paused.values()) {
+            pollTimeout = Math.min(pollTimeout, Math.max(resumeAt - now, 1));
+        }
+        return pollTimeout;
+    }
+
+    /**
+     * Commits the offsets, if the runner commits them.
+     *
+     * @param offsets the offsets
+     */
+    private void commit(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        if (!commit || offsets.isEmpty()) {
+            return;
+        }
+        try {
+            consumer.commitSync(offsets);
+        } catch (CommitFailedException e) {
+            logger.warn("Committing the offsets of [{}] has failed, the records may be delivered again", this.name, e);
+        }
+    }
+
+    /**
+     * Handles a record.
+     *
+     * @param record the record
+     */
+    private void handleRecord(ConsumerRecord<String, String> record) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(format("Start processing a received record in [{0}] by [{1}] ...", this.name, this.handler));
+        }
+        if (this.handler != null) {
+            Map<Object, Object> context = createMessagingContext();
+            context.put("message", escapeCodeString(GsonHelper.toJson(toMessage(record))));
+            invoke(DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_MESSAGE, context);
+        } else {
+            if (logger.isInfoEnabled()) {
+                logger.info(String.format("[Kafka Consumer] %s -  offset = %d, key = %s, value = %s%n", this.name, record.offset(),
+                        record.key(), record.value()));
+            }
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace(format("Done processing the received record in [{0}] by [{1}]", this.name, this.handler));
+        }
+    }
+
+    /**
+     * Handles the records of a partition with a single invocation. The messages are passed as a JSON
+     * array of the messages, which would have been passed one by one.
+     *
+     * @param records the records
+     */
+    private void handleBatch(List<ConsumerRecord<String, String>> records) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(format("Start processing [{0}] received records in [{1}] by [{2}] ...", records.size(), this.name, this.handler));
+        }
+        if (this.handler != null) {
+            List<String> messages = new ArrayList<>(records.size());
+            for (ConsumerRecord<String, String> record : records) {
+                messages.add(escapeCodeString(GsonHelper.toJson(toMessage(record))));
+            }
+            Map<Object, Object> context = createMessagingContext();
+            context.put("messages", GsonHelper.toJson(messages));
+            invoke(DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_MESSAGES, context);
+        } else {
+            if (logger.isInfoEnabled()) {
+                for (ConsumerRecord<String, String> record : records) {
+                    logger.info(String.format("[Kafka Consumer] %s -  offset = %d, key = %s, value = %s%n", this.name, record.offset(),
+                            record.key(), record.value()));
+                }
+            }
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace(format("Done processing [{0}] received records in [{1}] by [{2}]", records.size(), this.name, this.handler));
+        }
+    }
+
+    /**
+     * Converts a record to the map of its fields, which is passed as JSON to the handler. The record is
+     * not serialized by reflection, as it contains JDK types, which are not accessible to Gson.
+     *
+     * @param record the record
+     * @return the message
+     */
+    private static Map<String, Object> toMessage(ConsumerRecord<String, String> record) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("topic", record.topic());
+        message.put("partition", record.partition());
+        message.put("offset", record.offset());
+        message.put("timestamp", record.timestamp());
+        message.put("timestampType", record.timestampType()
+                                           .name());
+        message.put("key", record.key());
+        message.put("value", record.value());
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Header header : record.headers()) {
+            headers.put(header.key(), header.value() != null ? new String(header.value(), StandardCharsets.UTF_8) : null);
+        }
+        message.put("headers", headers);
+        return message;
+    }
+
+    /**
+     * Invokes a wrapper module and the error wrapper module, if it fails. The failure is rethrown, if
+     * the runner commits the offsets, so the records are delivered again.
+     *
+     * @param module the module
+     * @param context the context
+     */
+    private void invoke(String module, Map<Object, Object> context) {
+        try {
+            invoker.accept(module, context);
+        } catch (RuntimeException e) {
+            if (logger.isErrorEnabled()) {
+                logger.error(e.getMessage(), e);
+            }
+            try {
+                context.put("error", escapeCodeString(String.valueOf(e.getMessage())));
+                invoker.accept(DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_ERROR, context);
+            } catch (Exception es) {
+                if (logger.isErrorEnabled()) {
+                    logger.error(es.getMessage(), es);
+                }
+            }
+            if (commit) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Invokes a module with the javascript service.
+     *
+     * @param module the module
+     * @param context the context
+     */
+    private static void invokeModule(String module, Map<Object, Object> context) {
+        RepositoryPath path = new RepositoryPath(module);
+        JavascriptService.get()
+                         .handleRequest(path.getSegments()[0], path.constructPathFrom(1), null, context, false);
+    }
+
     /**
      * Stop the consumer.
      */
@@ -141,6 +550,15 @@ public class KafkaConsumerRunner implements Runnable {
         consumer.wakeup();
     }
 
+    /**
+     * Gets the number of the processed records.
+     *
+     * @return the processed count
+     */
+    public long getProcessedCount() {
+        return processed.get();
+    }
+
     /**
      * Create a context map and set the handler.
      *
@@ -162,4 +580,93 @@ public class KafkaConsumerRunner implements Runnable {
         return raw.replace("'", "&amp;");
     }
 
+    /**
+     * The last failure of a partition.
+     *
+     * @param offset the offset of the failed record
+     * @param attempts the number of the failed attempts
+     */
+    private record Failure(long offset, int attempts) {
+    }
+
+    /**
+     * The failure of the handler of a partition.
+     */
+    private static class PartitionFailedException extends RuntimeException {
+
+        /** The Constant serialVersionUID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The offset after the last processed record, or null if none has been processed. */
+        private final transient OffsetAndMetadata processed;
+
+        /** The offset of the failed record. */
+        private final long failedOffset;
+
+        /**
+         * Instantiates a new partition failed exception.
+         *
+         * @param processed the offset after the last processed record, or null if none has been processed
+         * @param failedOffset the offset of the failed record
+         * @param cause the cause
+         */
+        PartitionFailedException(OffsetAndMetadata processed, long failedOffset, Throwable cause) {
+            super(cause);
+            this.processed = processed;
+            this.failedOffset = failedOffset;
+        }
+
+        /**
+         * Gets the offset after the last processed record.
+         *
+         * @return the processed offset, or null if none has been processed
+         */
+        OffsetAndMetadata getProcessed() {
+            return processed;
+        }
+
+        /**
+         * Gets the offset of the failed record.
+         *
+         * @return the failed offset
+         */
+        long getFailedOffset() {
+            return failedOffset;
+        }
+    }
+
+    /**
+     * The factory of the named daemon worker threads.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+
+        /** The name. */
+        private final String name;
+
+        /** The counter. */
+        private final AtomicInteger counter = new AtomicInteger();
+
+        /**
+         * Instantiates a new worker thread factory.
+         *
+         * @param name the name
+         */
+        WorkerThreadFactory(String name) {
+            this.name = name;
+        }
+
+        /**
+         * New thread.
+         *
+         * @param runnable the runnable
+         * @return the thread
+         */
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "kafka-consumer-" + name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
 }
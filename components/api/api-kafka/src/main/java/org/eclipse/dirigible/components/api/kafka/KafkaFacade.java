@@ -50,6 +50,30 @@ public class KafkaFacade {
     private static final String DIRIGIBLE_KAFKA_AUTOCOMMIT_INTERVAL = "DIRIGIBLE_KAFKA_AUTOCOMMIT_INTERVAL";
 
 
+    /** The Constant DIRIGIBLE_KAFKA_CONSUMER_CONCURRENCY. */
+    private static final String DIRIGIBLE_KAFKA_CONSUMER_CONCURRENCY = "DIRIGIBLE_KAFKA_CONSUMER_CONCURRENCY";
+
+    /** The Constant DIRIGIBLE_KAFKA_CONSUMER_BATCH. */
+    private static final String DIRIGIBLE_KAFKA_CONSUMER_BATCH = "DIRIGIBLE_KAFKA_CONSUMER_BATCH";
+
+    /** The Constant DIRIGIBLE_KAFKA_CONSUMER_RETRIES. */
+    private static final String DIRIGIBLE_KAFKA_CONSUMER_RETRIES = "DIRIGIBLE_KAFKA_CONSUMER_RETRIES";
+
+    /** The Constant DIRIGIBLE_KAFKA_CONSUMER_RETRY_DELAY. */
+    private static final String DIRIGIBLE_KAFKA_CONSUMER_RETRY_DELAY = "DIRIGIBLE_KAFKA_CONSUMER_RETRY_DELAY";
+
+    /** The configuration key of the maximum number of partitions processed in parallel. */
+    private static final String CONSUMER_CONCURRENCY = "dirigible.consumer.concurrency";
+
+    /** The configuration key of the batch mode. */
+    private static final String CONSUMER_BATCH = "dirigible.consumer.batch";
+
+    /** The configuration key of the number of the retries of a failed record. */
+    private static final String CONSUMER_RETRIES = "dirigible.consumer.retries";
+
+    /** The configuration key of the delay before the first retry of a failed record. */
+    private static final String CONSUMER_RETRY_DELAY = "dirigible.consumer.retry.delay";
+
     /** The Constant DEFAULT_BOOTSTRAP_SERVER. */
     private static final String DEFAULT_BOOTSTRAP_SERVER = "localhost:9092";
 
@@ -60,12 +84,15 @@ public class KafkaFacade {
     private static final String DIRIGIBLE_KAFKA_SERIALIZER_STRING = "org.apache.kafka.common.serialization.StringSerializer";
 
     /** The Constant DIRIGIBLE_KAFKA_AUTOCOMMIT_ENABLED_DEFAULT. */
-    private static final String DIRIGIBLE_KAFKA_AUTOCOMMIT_ENABLED_DEFAULT = "true";
+    private static final String DIRIGIBLE_KAFKA_AUTOCOMMIT_ENABLED_DEFAULT = "false";
 
     /** The Constant DIRIGIBLE_KAFKA_AUTOCOMMIT_INTERVAL_DEFAULT. */
     private static final String DIRIGIBLE_KAFKA_AUTOCOMMIT_INTERVAL_DEFAULT = "1000";
 
 
+    /** The Constant DIRIGIBLE_KAFKA_CONSUMER_CONCURRENCY_DEFAULT. */
+    private static final int DIRIGIBLE_KAFKA_CONSUMER_CONCURRENCY_DEFAULT = 4;
+
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(KafkaFacade.class);
 
@@ -193,6 +220,19 @@ public class KafkaFacade {
         consumerRunner = CONSUMERS.get(location);
 
         if (consumerRunner == null) {
+            Object concurrencyValue = map.remove(CONSUMER_CONCURRENCY);
+            int concurrency = concurrencyValue != null ? (int) Double.parseDouble(concurrencyValue.toString())
+                    : Configuration.getAsInt(DIRIGIBLE_KAFKA_CONSUMER_CONCURRENCY, DIRIGIBLE_KAFKA_CONSUMER_CONCURRENCY_DEFAULT);
+            Object batchValue = map.remove(CONSUMER_BATCH);
+            boolean batch = Boolean.parseBoolean(batchValue != null ? batchValue.toString()
+                    : Configuration.get(DIRIGIBLE_KAFKA_CONSUMER_BATCH, Boolean.FALSE.toString()));
+            Object retriesValue = map.remove(CONSUMER_RETRIES);
+            int retries = retriesValue != null ? (int) Double.parseDouble(retriesValue.toString())
+                    : Configuration.getAsInt(DIRIGIBLE_KAFKA_CONSUMER_RETRIES, KafkaConsumerRunner.DEFAULT_RETRIES);
+            Object retryDelayValue = map.remove(CONSUMER_RETRY_DELAY);
+            long retryDelay = retryDelayValue != null ? (long) Double.parseDouble(retryDelayValue.toString())
+                    : Configuration.getAsInt(DIRIGIBLE_KAFKA_CONSUMER_RETRY_DELAY, (int) KafkaConsumerRunner.DEFAULT_RETRY_DELAY);
+
             Properties props = new Properties();
             for (Object k : map.keySet()) {
                 props.put(k, map.get(k));
@@ -229,7 +269,11 @@ public class KafkaFacade {
 
             consumer = new KafkaConsumer<>(props);
 
-            consumerRunner = new KafkaConsumerRunner(consumer, destination, handler, timeout);
+            // the records are committed by the runner after they have been processed
+            boolean commit = !Boolean.parseBoolean(props.get("enable.auto.commit")
+                                                        .toString());
+            consumerRunner =
+                    new KafkaConsumerRunner(consumer, destination, handler, timeout, concurrency, batch, commit, retries, retryDelay);
             Thread consumerThread = new Thread(consumerRunner);
             consumerThread.setDaemon(false);
             consumerThread.start();
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class KafkaConsumerRunnerTest.
+ */
+public class KafkaConsumerRunnerTest {
+
+    /** The Constant TOPIC. */
+    private static final String TOPIC = "test-topic";
+
+    /** The Constant PARTITIONS. */
+    private static final int PARTITIONS = 4;
+
+    /** The Constant RECORDS. */
+    private static final int RECORDS = 5;
+
+    /** The invocations by module. */
+    private final Map<String, AtomicInteger> invocations = new ConcurrentHashMap<>();
+
+    /** The handled offsets by partition. */
+    private final Map<Integer, List<Long>> handled = new ConcurrentHashMap<>();
+
+    /** The number of the active invocations. */
+    private final AtomicInteger active = new AtomicInteger();
+
+    /** The maximum number of the active invocations. */
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    /**
+     * Test that the partitions are processed in parallel in order and their offsets are committed.
+     */
+    @Test
+    public void testPartitionsInParallel() {
+        Map<TopicPartition, OffsetAndMetadata> committed = consume(PARTITIONS, false);
+
+        assertTrue(maxActive.get() > 1, "The partitions have not been processed in parallel");
+        assertEquals(PARTITIONS * RECORDS, invocations.get("messaging/wrappers/onMessage")
+                                                      .get());
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            assertEquals(List.of(0L, 1L, 2L, 3L, 4L), handled.get(partition));
+            assertEquals(RECORDS, committed.get(new TopicPartition(TOPIC, partition))
+                                           .offset());
+        }
+    }
+
+    /**
+     * Test that the records of a partition are handled with a single invocation in batch mode.
+     */
+    @Test
+    public void testBatch() {
+        Map<TopicPartition, OffsetAndMetadata> committed = consume(1, true);
+
+        assertEquals(PARTITIONS, invocations.get("messaging/wrappers/onMessages")
+                                            .get());
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            assertEquals(List.of(0L, 1L, 2L, 3L, 4L), handled.get(partition));
+            assertEquals(RECORDS, committed.get(new TopicPartition(TOPIC, partition))
+                                           .offset());
+        }
+    }
+
+    /**
+     * Test that a failed record is not committed and is delivered again, while the records before it
+     * are committed.
+     */
+    @Test
+    public void testFailedRecordIsDeliveredAgain() {
+        MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        TopicPartition partition = new TopicPartition(TOPIC, 0);
+        consumer.updateBeginningOffsets(Map.of(partition, 0L));
+
+        KafkaConsumerRunner runner = new KafkaConsumerRunner(consumer, TOPIC, "test/handler", 100, 1, false, true, 3, 0, failingInvoker(1));
+
+        Map<TopicPartition, OffsetAndMetadata> committed = new HashMap<>();
+        consumer.schedulePollTask(() -> {
+            consumer.rebalance(List.of(partition));
+            addRecords(consumer, partition);
+        });
+        consumer.schedulePollTask(() -> {
+            committed.putAll(consumer.committed(Set.of(partition)));
+            assertEquals(2, consumer.position(partition));
+            // the broker delivers again from the position
+            addRecords(consumer, partition);
+        });
+        consumer.schedulePollTask(() -> {
+            assertEquals(RECORDS, consumer.committed(Set.of(partition))
+                                          .get(partition)
+                                          .offset());
+            runner.stop();
+        });
+        runner.run();
+
+        assertEquals(2, committed.get(partition)
+                                 .offset());
+        assertEquals(1, invocations.get("messaging/wrappers/onError")
+                                   .get());
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L), handled.get(0));
+        assertEquals(RECORDS, runner.getProcessedCount());
+    }
+
+    /**
+     * Test that a record failing every time is retried the configured number of times and then skipped,
+     * so the records after it are processed.
+     */
+    @Test
+    public void testFailingRecordIsSkippedAfterRetries() {
+        MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        TopicPartition partition = new TopicPartition(TOPIC, 0);
+        consumer.updateBeginningOffsets(Map.of(partition, 0L));
+
+        KafkaConsumerRunner runner =
+                new KafkaConsumerRunner(consumer, TOPIC, "test/handler", 100, 1, false, true, 2, 0, failingInvoker(Integer.MAX_VALUE));
+
+        consumer.schedulePollTask(() -> {
+            consumer.rebalance(List.of(partition));
+            addRecords(consumer, partition);
+        });
+        for (int retry = 0; retry < 3; retry++) {
+            consumer.schedulePollTask(() -> addRecords(consumer, partition));
+        }
+        Map<TopicPartition, OffsetAndMetadata> committed = new HashMap<>();
+        consumer.schedulePollTask(() -> {
+            committed.putAll(consumer.committed(Set.of(partition)));
+            runner.stop();
+        });
+        runner.run();
+
+        assertEquals(RECORDS, committed.get(partition)
+                                       .offset());
+        assertEquals(3, invocations.get("messaging/wrappers/onError")
+                                   .get());
+        assertEquals(List.of(0L, 1L, 3L, 4L), handled.get(0));
+        assertEquals(RECORDS - 1, runner.getProcessedCount());
+    }
+
+    /**
+     * Test that a failed partition is paused until its retry is due.
+     */
+    @Test
+    public void testFailedPartitionIsPausedBeforeRetry() {
+        MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        TopicPartition partition = new TopicPartition(TOPIC, 0);
+        consumer.updateBeginningOffsets(Map.of(partition, 0L));
+
+        KafkaConsumerRunner runner =
+                new KafkaConsumerRunner(consumer, TOPIC, "test/handler", 100, 1, false, true, 3, 50, failingInvoker(1));
+
+        consumer.schedulePollTask(() -> {
+            consumer.rebalance(List.of(partition));
+            addRecords(consumer, partition);
+        });
+        consumer.schedulePollTask(() -> {
+            assertEquals(Set.of(partition), consumer.paused());
+            addRecords(consumer, partition);
+        });
+        consumer.schedulePollTask(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            }
+        });
+        consumer.schedulePollTask(() -> assertTrue(consumer.paused()
+                                                           .isEmpty()));
+        Map<TopicPartition, OffsetAndMetadata> committed = new HashMap<>();
+        consumer.schedulePollTask(() -> {
+            committed.putAll(consumer.committed(Set.of(partition)));
+            runner.stop();
+        });
+        runner.run();
+
+        assertEquals(RECORDS, committed.get(partition)
+                                       .offset());
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L), handled.get(0));
+    }
+
+    /**
+     * Creates an invoker, which fails on the record with offset 2 the given number of times.
+     *
+     * @param times the number of the failures
+     * @return the invoker
+     */
+    private BiConsumer<String, Map<Object, Object>> failingInvoker(int times) {
+        AtomicInteger failures = new AtomicInteger();
+        BiConsumer<String, Map<Object, Object>> recording = invoker();
+        return (module, context) -> {
+            if ("messaging/wrappers/onError".equals(module)) {
+                invocations.computeIfAbsent(module, m -> new AtomicInteger())
+                           .incrementAndGet();
+                return;
+            }
+            if ("messaging/wrappers/onMessage".equals(module) && ((Number) GsonHelper.fromJson((String) context.get("message"), Map.class)
+                                                                                     .get("offset")).longValue() == 2
+                    && failures.getAndIncrement() < times) {
+                throw new IllegalStateException("Handler failed");
+            }
+            recording.accept(module, context);
+        };
+    }
+
+    /**
+     * Adds the records of a partition.
+     *
+     * @param consumer the consumer
+     * @param partition the partition
+     */
+    private static void addRecords(MockConsumer<String, String> consumer, TopicPartition partition) {
+        for (int offset = 0; offset < RECORDS; offset++) {
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, partition.partition(), offset, "key", "value-" + offset));
+        }
+    }
+
+    /**
+     * Consumes the records of all the partitions with a mock consumer.
+     *
+     * @param concurrency the concurrency
+     * @param batch the batch
+     * @return the committed offsets after the first poll
+     */
+    private Map<TopicPartition, OffsetAndMetadata> consume(int concurrency, boolean batch) {
+        MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        List<TopicPartition> partitions = new ArrayList<>();
+        Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            TopicPartition topicPartition = new TopicPartition(TOPIC, partition);
+            partitions.add(topicPartition);
+            beginningOffsets.put(topicPartition, 0L);
+        }
+        consumer.updateBeginningOffsets(beginningOffsets);
+
+        KafkaConsumerRunner runner =
+                new KafkaConsumerRunner(consumer, TOPIC, "test/handler", 100, concurrency, batch, true, 3, 0, invoker());
+        Map<TopicPartition, OffsetAndMetadata> committed = new HashMap<>();
+        consumer.schedulePollTask(() -> {
+            consumer.rebalance(partitions);
+            for (int offset = 0; offset < RECORDS; offset++) {
+                for (int partition = 0; partition < PARTITIONS; partition++) {
+                    consumer.addRecord(new ConsumerRecord<>(TOPIC, partition, offset, "key", "value-" + offset));
+                }
+            }
+        });
+        consumer.schedulePollTask(() -> {
+            committed.putAll(consumer.committed(new HashSet<>(partitions)));
+            runner.stop();
+        });
+        runner.run();
+
+        assertEquals(PARTITIONS * RECORDS, runner.getProcessedCount());
+        return committed;
+    }
+
+    /**
+     * Creates an invoker, which records the handled records and takes some time.
+     *
+     * @return the invoker
+     */
+    @SuppressWarnings("unchecked")
+    private BiConsumer<String, Map<Object, Object>> invoker() {
+        return (module, context) -> {
+            invocations.computeIfAbsent(module, m -> new AtomicInteger())
+                       .incrementAndGet();
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                List<String> messages = context.containsKey("messages") ? GsonHelper.fromJson((String) context.get("messages"), List.class)
+                        : List.of((String) context.get("message"));
+                for (String message : messages) {
+                    Map<String, Object> record = GsonHelper.fromJson(message, Map.class);
+                    int partition = ((Number) record.get("partition")).intValue();
+                    long offset = ((Number) record.get("offset")).longValue();
+                    handled.computeIfAbsent(partition, p -> new ArrayList<>())
+                           .add(offset);
+                }
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            } finally {
+                active.decrementAndGet();
+            }
+        };
+    }
+
+}
@@ -16,6 +16,7 @@ import jakarta.mail.internet.*;
 import jakarta.mail.util.ByteArrayDataSource;
 import org.eclipse.angus.mail.smtp.SMTPSSLTransport;
 import org.eclipse.angus.mail.smtp.SMTPTransport;
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,55 +67,158 @@ public class MailClient {
      * @throws MessagingException the messaging exception
      */
     public Map send(String from, String[] to, String[] cc, String[] bcc, String subject, List<Map> parts) throws MessagingException {
+        MailMessage message = new MailMessage(from, to, cc, bcc, subject, parts);
         try {
             Session session = getSession(this.properties);
-            SMTPTransport transport;
-            String protocol = properties.getProperty(MAIL_TRANSPORT_PROTOCOL);
-            if (null == protocol) {
-                throw new IllegalStateException("Missing property " + MAIL_TRANSPORT_PROTOCOL);
+            SMTPTransport transport = connect(session);
+            try {
+                return send(session, transport, message);
+            } finally {
+                transport.close();
             }
-            String transportProperty = protocol.toLowerCase();
+        } catch (MessagingException | IOException | RuntimeException ex) {
+            throw failed(message, ex);
+        }
 
-            transport = switch (transportProperty) {
-                case SMTP_TRANSPORT -> (SMTPTransport) session.getTransport();
-                case SMTPS_TRANSPORT -> (SMTPSSLTransport) session.getTransport();
-                default -> throw new IllegalStateException("Unexpected transport property: " + transportProperty);
-            };
+    }
 
-            try {
-                String proxyType = this.properties.getProperty("ProxyType");
-                if (proxyType != null && proxyType.equals("OnPremise")) {
-                    Socket socket = new ConnectivitySocks5ProxySocket(getTransportProperty(transportProperty, "socks.host"),
-                            getTransportProperty(transportProperty, "socks.port"), getTransportProperty(transportProperty, "proxy.user"),
-                            getTransportProperty(transportProperty, "proxy.password", " "));
-
-                    socket.connect(new InetSocketAddress(getTransportProperty(transportProperty, "host"),
-                            Integer.parseInt(getTransportProperty(transportProperty, "port"))));
-
-                    transport.connect(socket);
-                } else {
-                    transport.connect(this.properties.getProperty(MAIL_USER), this.properties.getProperty(MAIL_PASSWORD));
+    /**
+     * Send the emails over a single connection. A message, which fails, does not stop the rest, and the
+     * connection is opened again, if it has been lost. A failure to open it again fails only the
+     * message, which needs it.
+     *
+     * @param messages the messages
+     * @return the results in the order of the messages, each with either the message id and the final
+     *         reply, or the error
+     * @throws MessagingException the messaging exception, if the first connection cannot be opened
+     */
+    public List<Map> sendBatch(List<MailMessage> messages) throws MessagingException {
+        List<Map> results = new ArrayList<>(messages.size());
+        if (messages.isEmpty()) {
+            return results;
+        }
+        Session session = getSession(this.properties);
+        SMTPTransport transport;
+        try {
+            transport = connect(session);
+        } catch (IOException ex) {
+            MessagingException failure = new MessagingException("Failed to connect for sending emails", ex);
+            LOGGER.error(failure.getMessage(), ex);
+            throw failure;
+        }
+        try {
+            for (MailMessage message : messages) {
+                try {
+                    if (!transport.isConnected()) {
+                        transport = connect(session);
+                    }
+                    results.add(send(session, transport, message));
+                } catch (MessagingException | IOException | RuntimeException ex) {
+                    LOGGER.error("Failed to send email from [{}] to {}", message.from(), Arrays.toString(message.to()), ex);
+                    Map mailResult = new HashMap();
+                    mailResult.put("error", ex.getMessage());
+                    results.add(mailResult);
                 }
+            }
+            return results;
+        } finally {
+            transport.close();
+        }
+    }
 
-                MimeMessage mimeMessage = createMimeMessage(session, from, to, cc, bcc, subject, parts);
-                mimeMessage.saveChanges();
-                String messageId = mimeMessage.getMessageID();
-                transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
-                String finalReply = transport.getLastServerResponse();
-                Map mailResult = new HashMap();
-                mailResult.put("messageId", messageId);
-                mailResult.put("finalReply", finalReply);
+    /**
+     * Send the emails given as JSON array over a single connection.
+     *
+     * @param messages the JSON array of the messages, with the fields of {@link MailMessage}
+     * @return the JSON array of the results
+     * @throws MessagingException the messaging exception, if the connection cannot be opened
+     * @see #sendBatch(List)
+     */
+    public String sendBatch(String messages) throws MessagingException {
+        return GsonHelper.toJson(sendBatch(MailMessage.fromJson(messages)));
+    }
 
-                return mailResult;
-            } finally {
-                transport.close();
-            }
-        } catch (MessagingException | IOException | RuntimeException ex) {
-            String message = "Failed to send email from [" + from + "] to " + Arrays.toString(to);
-            LOGGER.error(message, ex); // log the message since the js may not log it properly
-            throw new MessagingException(message, ex);
+    /**
+     * Creates the session.
+     *
+     * @return the session
+     */
+    Session createSession() {
+        return getSession(this.properties);
+    }
+
+    /**
+     * Opens a connection, directly or through the proxy, and authenticates.
+     *
+     * @param session the session
+     * @return the connected transport
+     * @throws MessagingException the messaging exception
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    SMTPTransport connect(Session session) throws MessagingException, IOException {
+        SMTPTransport transport;
+        String protocol = properties.getProperty(MAIL_TRANSPORT_PROTOCOL);
+        if (null == protocol) {
+            throw new IllegalStateException("Missing property " + MAIL_TRANSPORT_PROTOCOL);
         }
+        String transportProperty = protocol.toLowerCase();
+
+        transport = switch (transportProperty) {
+            case SMTP_TRANSPORT -> (SMTPTransport) session.getTransport();
+            case SMTPS_TRANSPORT -> (SMTPSSLTransport) session.getTransport();
+            default -> throw new IllegalStateException("Unexpected transport property: " + transportProperty);
+        };
 
+        String proxyType = this.properties.getProperty("ProxyType");
+        if (proxyType != null && proxyType.equals("OnPremise")) {
+            Socket socket = new ConnectivitySocks5ProxySocket(getTransportProperty(transportProperty, "socks.host"),
+                    getTransportProperty(transportProperty, "socks.port"), getTransportProperty(transportProperty, "proxy.user"),
+                    getTransportProperty(transportProperty, "proxy.password", " "));
+
+            socket.connect(new InetSocketAddress(getTransportProperty(transportProperty, "host"),
+                    Integer.parseInt(getTransportProperty(transportProperty, "port"))));
+
+            transport.connect(socket);
+        } else {
+            transport.connect(this.properties.getProperty(MAIL_USER), this.properties.getProperty(MAIL_PASSWORD));
+        }
+        return transport;
+    }
+
+    /**
+     * Send an email over a connected transport.
+     *
+     * @param session the session
+     * @param transport the transport
+     * @param message the message
+     * @return the map
+     * @throws MessagingException the messaging exception
+     */
+    Map send(Session session, SMTPTransport transport, MailMessage message) throws MessagingException {
+        MimeMessage mimeMessage =
+                createMimeMessage(session, message.from(), message.to(), message.cc(), message.bcc(), message.subject(), message.parts());
+        mimeMessage.saveChanges();
+        String messageId = mimeMessage.getMessageID();
+        transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+        String finalReply = transport.getLastServerResponse();
+        Map mailResult = new HashMap();
+        mailResult.put("messageId", messageId);
+        mailResult.put("finalReply", finalReply);
+
+        return mailResult;
+    }
+
+    /**
+     * Logs the failure of a message.
+     *
+     * @param message the message
+     * @param ex the cause
+     * @return the messaging exception to be thrown
+     */
+    static MessagingException failed(MailMessage message, Exception ex) {
+        String text = "Failed to send email from [" + message.from() + "] to " + Arrays.toString(message.to());
+        LOGGER.error(text, ex); // log the message since the js may not log it properly
+        return new MessagingException(text, ex);
     }
 
     /**
@@ -13,6 +13,8 @@ import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.base.spring.BeanProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -21,7 +23,8 @@ import java.util.Properties;
 /**
  * The Class MailFacade.
  */
-public class MailFacade {
+@Component
+public class MailFacade implements DisposableBean {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MailFacade.class);
 
@@ -29,6 +32,30 @@ public class MailFacade {
     // Dirigible mail properties
     private static final String DIRIGIBLE_MAIL_CONFIG_PROVIDER = "DIRIGIBLE_MAIL_CONFIG_PROVIDER";
 
+    /** The Constant DIRIGIBLE_MAIL_OUTBOX_CONNECTIONS. */
+    private static final String DIRIGIBLE_MAIL_OUTBOX_CONNECTIONS = "DIRIGIBLE_MAIL_OUTBOX_CONNECTIONS";
+
+    /** The Constant DIRIGIBLE_MAIL_OUTBOX_CAPACITY. */
+    private static final String DIRIGIBLE_MAIL_OUTBOX_CAPACITY = "DIRIGIBLE_MAIL_OUTBOX_CAPACITY";
+
+    /** The Constant DIRIGIBLE_MAIL_OUTBOX_RETRIES. */
+    private static final String DIRIGIBLE_MAIL_OUTBOX_RETRIES = "DIRIGIBLE_MAIL_OUTBOX_RETRIES";
+
+    /** The Constant DIRIGIBLE_MAIL_OUTBOX_RETRY_DELAY. */
+    private static final String DIRIGIBLE_MAIL_OUTBOX_RETRY_DELAY = "DIRIGIBLE_MAIL_OUTBOX_RETRY_DELAY";
+
+    /** The Constant DIRIGIBLE_MAIL_OUTBOX_IDLE_TIMEOUT. */
+    private static final String DIRIGIBLE_MAIL_OUTBOX_IDLE_TIMEOUT = "DIRIGIBLE_MAIL_OUTBOX_IDLE_TIMEOUT";
+
+    /** The Constant DIRIGIBLE_MAIL_OUTBOX_SHUTDOWN_TIMEOUT. */
+    private static final String DIRIGIBLE_MAIL_OUTBOX_SHUTDOWN_TIMEOUT = "DIRIGIBLE_MAIL_OUTBOX_SHUTDOWN_TIMEOUT";
+
+    /** The outbox of the default configuration. */
+    private static MailOutbox outbox;
+
+    /** The configuration options of the outbox. */
+    private static Properties outboxProperties;
+
     /** The Constant DEFAULT_PROVIDER_NAME. */
     // Default values
     private static final String DEFAULT_PROVIDER_NAME = "environment";
@@ -39,6 +66,15 @@ public class MailFacade {
      * @return MailClient instance
      */
     public static MailClient getInstance() {
+        return getInstance(getProperties());
+    }
+
+    /**
+     * Gets the configuration options from the chosen mail configuration provider.
+     *
+     * @return the properties
+     */
+    private static Properties getProperties() {
         Properties properties = new Properties();
         String providerName = Configuration.get(DIRIGIBLE_MAIL_CONFIG_PROVIDER, DEFAULT_PROVIDER_NAME);
 
@@ -54,7 +90,7 @@ public class MailFacade {
             LOGGER.info("Properties will not be loaded from any provider since provider with name [{}] was not found in [{}]", providerName,
                     providers);
         }
-        return getInstance(properties);
+        return properties;
     }
 
     /**
@@ -66,4 +102,77 @@ public class MailFacade {
     public static MailClient getInstance(Properties properties) {
         return new MailClient(properties);
     }
+
+    /**
+     * Gets the outbox, which sends the emails asynchronously with the configuration options from the
+     * chosen mail configuration provider, over a few long-lived connections. When the options change, a
+     * new outbox replaces the current one, which still sends its pending emails.
+     *
+     * @return the outbox
+     */
+    public static MailOutbox getOutbox() {
+        Properties properties = getProperties();
+        synchronized (MailFacade.class) {
+            if (outbox == null || !properties.equals(outboxProperties)) {
+                MailOutbox previous = outbox;
+                outbox = new MailOutbox(getInstance(properties), Configuration.getAsInt(DIRIGIBLE_MAIL_OUTBOX_CONNECTIONS, 2),
+                        Configuration.getAsInt(DIRIGIBLE_MAIL_OUTBOX_CAPACITY, 10000),
+                        Configuration.getAsInt(DIRIGIBLE_MAIL_OUTBOX_RETRIES, 3),
+                        Configuration.getAsInt(DIRIGIBLE_MAIL_OUTBOX_RETRY_DELAY, 1000),
+                        Configuration.getAsInt(DIRIGIBLE_MAIL_OUTBOX_IDLE_TIMEOUT, 30000));
+                outboxProperties = properties;
+                if (previous != null) {
+                    LOGGER.info("The mail configuration has been changed, the mail outbox has been replaced");
+                    previous.close();
+                }
+            }
+            return outbox;
+        }
+    }
+
+    /**
+     * Closes the outbox and waits for its pending emails to be sent.
+     */
+    @Override
+    public void destroy() {
+        MailOutbox current;
+        synchronized (MailFacade.class) {
+            current = outbox;
+            outbox = null;
+            outboxProperties = null;
+        }
+        if (current == null) {
+            return;
+        }
+        try {
+            if (!current.awaitTermination(Configuration.getAsInt(DIRIGIBLE_MAIL_OUTBOX_SHUTDOWN_TIMEOUT, 10000))) {
+                LOGGER.warn("Not all the pending emails have been sent before the shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    /**
+     * Submits the emails given as JSON array to the outbox without waiting for them to be sent. The
+     * failures are logged.
+     *
+     * @param messages the JSON array of the messages, with the fields of {@link MailMessage}
+     * @return the number of the accepted messages
+     */
+    public static int enqueue(String messages) {
+        int accepted = 0;
+        MailOutbox current = getOutbox();
+        for (MailMessage message : MailMessage.fromJson(messages)) {
+            if (current.isClosed()) {
+                // replaced meanwhile by a change of the configuration
+                current = getOutbox();
+            }
+            if (current.offer(message)) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
 }
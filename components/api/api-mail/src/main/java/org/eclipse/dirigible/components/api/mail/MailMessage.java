@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.mail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+
+/**
+ * An email to be sent.
+ *
+ * @param from the sender
+ * @param to the to receiver
+ * @param cc the cc receiver
+ * @param bcc the bcc receiver
+ * @param subject the subject
+ * @param parts the mail parts
+ */
+public record MailMessage(String from, String[] to, String[] cc, String[] bcc, String subject, List<Map> parts) {
+
+    /**
+     * Creates the messages from a JSON array of objects with the same fields, where the recipients may
+     * be a single address or an array.
+     *
+     * @param messages the JSON array of the messages
+     * @return the mail messages
+     */
+    @SuppressWarnings("unchecked")
+    static List<MailMessage> fromJson(String messages) {
+        List<Map<String, Object>> maps = GsonHelper.fromJson(messages, List.class);
+        return maps.stream()
+                   .map(MailMessage::fromMap)
+                   .toList();
+    }
+
+    /**
+     * Creates a message from a map with the same fields.
+     *
+     * @param message the message as map
+     * @return the mail message
+     */
+    @SuppressWarnings("unchecked")
+    static MailMessage fromMap(Map<String, Object> message) {
+        return new MailMessage((String) message.get("from"), toArray(message.get("to")), toArray(message.get("cc")),
+                toArray(message.get("bcc")), (String) message.get("subject"), (List<Map>) message.get("parts"));
+    }
+
+    /**
+     * Converts the recipients to array.
+     *
+     * @param recipients the recipients as a single address or a list
+     * @return the array
+     */
+    private static String[] toArray(Object recipients) {
+        if (recipients == null) {
+            return null;
+        }
+        if (recipients instanceof List<?> list) {
+            return list.stream()
+                       .map(String::valueOf)
+                       .toArray(String[]::new);
+        }
+        return new String[] {String.valueOf(recipients)};
+    }
+
+    /**
+     * To string.
+     *
+     * @return the string
+     */
+    @Override
+    public String toString() {
+        return "MailMessage [from=" + from + ", to=" + Arrays.toString(to) + ", subject=" + subject + "]";
+    }
+}
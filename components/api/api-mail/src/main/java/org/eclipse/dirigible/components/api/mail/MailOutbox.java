@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.mail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.angus.mail.smtp.SMTPSendFailedException;
+import org.eclipse.angus.mail.smtp.SMTPTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+
+/**
+ * The outbox, which sends the emails asynchronously. Each of its workers keeps an authenticated
+ * connection open while there are messages to send, so many messages share the handshake and the
+ * authentication, and closes it after it has been idle for a while. A message, which fails, is
+ * retried over a new connection, unless the server has rejected it permanently. A closed outbox
+ * does not accept messages, but still sends the pending ones.
+ */
+public class MailOutbox implements AutoCloseable {
+
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(MailOutbox.class);
+
+    /** The time in milliseconds after which an idle worker checks whether the outbox is closed. */
+    private static final long POLL_INTERVAL = 500;
+
+    /** The client. */
+    private final MailClient client;
+
+    /** The pending messages. */
+    private final BlockingQueue<Task> queue;
+
+    /** The number of retries of a failed message. */
+    private final int retries;
+
+    /** The delay before the first retry in milliseconds, doubled for every next one. */
+    private final long retryDelay;
+
+    /** The time in milliseconds after which an idle connection is closed. */
+    private final long idleTimeout;
+
+    /** The workers. */
+    private final List<Thread> workers = new ArrayList<>();
+
+    /** Whether the outbox is closed. */
+    private volatile boolean closed;
+
+    /**
+     * Instantiates a new mail outbox.
+     *
+     * @param client the client
+     * @param connections the number of connections, each used by its own worker
+     * @param capacity the maximum number of pending messages
+     * @param retries the number of retries of a failed message
+     * @param retryDelay the delay before the first retry in milliseconds, doubled for every next one
+     * @param idleTimeout the time in milliseconds after which an idle connection is closed
+     */
+    public MailOutbox(MailClient client, int connections, int capacity, int retries, long retryDelay, long idleTimeout) {
+        this.client = client;
+        this.queue = new LinkedBlockingQueue<>(Math.max(capacity, 1));
+        this.retries = Math.max(retries, 0);
+        this.retryDelay = retryDelay;
+        this.idleTimeout = idleTimeout;
+        for (int i = 0; i < Math.max(connections, 1); i++) {
+            Thread worker = new Thread(new Worker(), "dirigible-mail-outbox-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * Submits a message to be sent.
+     *
+     * @param message the message
+     * @return the future result with the message id and the final reply, which fails if the outbox is
+     *         full or the message could not be sent after the retries
+     */
+    public CompletableFuture<Map> submit(MailMessage message) {
+        Task task = new Task(message);
+        if (!enqueue(task)) {
+            task.result.completeExceptionally(new MessagingException("The mail outbox has rejected the email " + message));
+        }
+        return task.result;
+    }
+
+    /**
+     * Submits a message to be sent, without a result. The failures are logged.
+     *
+     * @param message the message
+     * @return true, if the message has been accepted, or false if the outbox is full or closed
+     */
+    public boolean offer(MailMessage message) {
+        return enqueue(new Task(message));
+    }
+
+    /**
+     * Adds a task to the queue.
+     *
+     * @param task the task
+     * @return true, if the task has been accepted
+     */
+    private boolean enqueue(Task task) {
+        if (closed || !queue.offer(task)) {
+            LOGGER.error("The mail outbox is {}, the email {} has been rejected", closed ? "closed" : "full", task.message);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of the pending messages.
+     *
+     * @return the pending count
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * Checks if the outbox is closed.
+     *
+     * @return true, if closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Stops accepting messages. The workers send the pending messages, close their connections and
+     * stop.
+     */
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Closes the outbox and waits for the pending messages to be sent. The messages, which are still
+     * pending after the timeout, fail.
+     *
+     * @param timeout the timeout in milliseconds
+     * @return true, if all the pending messages have been processed within the timeout
+     * @throws InterruptedException the interrupted exception
+     */
+    public boolean awaitTermination(long timeout) throws InterruptedException {
+        close();
+        long deadline = System.currentTimeMillis() + timeout;
+        boolean terminated = true;
+        for (Thread worker : workers) {
+            worker.join(Math.max(deadline - System.currentTimeMillis(), 1));
+            terminated &= !worker.isAlive();
+        }
+        if (!terminated) {
+            workers.forEach(Thread::interrupt);
+        }
+        Task task;
+        while ((task = queue.poll()) != null) {
+            terminated = false;
+            LOGGER.error("The mail outbox has been closed, the email {} has not been sent", task.message);
+            task.result.completeExceptionally(new MessagingException("The mail outbox has been closed"));
+        }
+        return terminated;
+    }
+
+    /**
+     * A message with its result.
+     */
+    private static class Task {
+
+        /** The message. */
+        private final MailMessage message;
+
+        /** The result. */
+        private final CompletableFuture<Map> result = new CompletableFuture<>();
+
+        /**
+         * Instantiates a new task.
+         *
+         * @param message the message
+         */
+        Task(MailMessage message) {
+            this.message = message;
+        }
+    }
+
+    /**
+     * The worker, which sends the messages over its own connection.
+     */
+    private class Worker implements Runnable {
+
+        /** The session. */
+        private final Session session = client.createSession();
+
+        /** The transport, or null if not connected. */
+        private SMTPTransport transport;
+
+        /**
+         * Run.
+         */
+        @Override
+        public void run() {
+            try {
+                long idleSince = System.currentTimeMillis();
+                while (true) {
+                    Task task = queue.poll(Math.min(POLL_INTERVAL, Math.max(idleTimeout, 1)), TimeUnit.MILLISECONDS);
+                    if (task != null) {
+                        deliver(task);
+                        idleSince = System.currentTimeMillis();
+                    } else if (closed) {
+                        return;
+                    } else if (System.currentTimeMillis() - idleSince >= idleTimeout) {
+                        disconnect();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            } finally {
+                disconnect();
+            }
+        }
+
+        /**
+         * Delivers a message, retrying over a new connection on failure.
+         *
+         * @param task the task
+         * @throws InterruptedException the interrupted exception
+         */
+        private void deliver(Task task) throws InterruptedException {
+            for (int attempt = 0;; attempt++) {
+                try {
+                    if (transport == null || !transport.isConnected()) {
+                        transport = client.connect(session);
+                    }
+                    task.result.complete(client.send(session, transport, task.message));
+                    return;
+                } catch (MessagingException | IOException | RuntimeException ex) {
+                    boolean rejected = isRejected(ex);
+                    if (!rejected) {
+                        disconnect();
+                    }
+                    if (rejected || attempt >= retries || closed) {
+                        task.result.completeExceptionally(MailClient.failed(task.message, ex));
+                        return;
+                    }
+                    LOGGER.warn("Failed to send email from [{}], attempt [{}] of [{}]: {}", task.message.from(), attempt + 1, retries + 1,
+                            ex.getMessage());
+                    try {
+                        Thread.sleep(retryDelay << attempt);
+                    } catch (InterruptedException e) {
+                        task.result.completeExceptionally(MailClient.failed(task.message, ex));
+                        throw e;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Checks if the server has rejected the message permanently, so it is not retried.
+         *
+         * @param ex the failure
+         * @return true, if rejected
+         */
+        private boolean isRejected(Exception ex) {
+            if (ex instanceof SMTPSendFailedException failure) {
+                return failure.getReturnCode() >= 500;
+            }
+            return ex instanceof SendFailedException failure && failure.getInvalidAddresses() != null
+                    && failure.getInvalidAddresses().length > 0;
+        }
+
+        /**
+         * Closes the connection, if open.
+         */
+        private void disconnect() {
+            if (transport != null) {
+                try {
+                    transport.close();
+                } catch (MessagingException e) {
+                    LOGGER.debug("Error closing the mail connection", e);
+                }
+                transport = null;
+            }
+        }
+    }
+
+}
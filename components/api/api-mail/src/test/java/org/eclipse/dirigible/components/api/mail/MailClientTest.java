@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.mail;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.angus.mail.smtp.SMTPTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+
+/**
+ * The Class MailClientTest, which sends to a minimal SMTP server running in the test.
+ */
+public class MailClientTest {
+
+    /** The Constant MESSAGES. */
+    private static final int MESSAGES = 20;
+
+    /** The server. */
+    private SmtpServer server;
+
+    /** The properties of the client. */
+    private Properties properties;
+
+    /** The client. */
+    private MailClient client;
+
+    /**
+     * Sets up the server and the client.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = new SmtpServer();
+        properties = new Properties();
+        properties.setProperty("mail.transport.protocol", "smtp");
+        properties.setProperty("mail.smtp.host", "localhost");
+        properties.setProperty("mail.smtp.port", String.valueOf(server.getPort()));
+        client = new MailClient(properties);
+    }
+
+    /**
+     * Stops the server.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.close();
+    }
+
+    /**
+     * Test that every single email opens its own connection.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testSend() throws Exception {
+        Map result = client.send("sender@example.com", new String[] {"receiver@example.com"}, null, null, "Subject", parts());
+
+        assertNotNull(result.get("messageId"));
+        assertEquals(1, server.getMessages());
+        assertEquals(1, server.getConnections());
+    }
+
+    /**
+     * Test that a batch is sent over a single connection.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testSendBatch() throws Exception {
+        List<MailMessage> messages = new ArrayList<>();
+        for (int i = 0; i < MESSAGES; i++) {
+            messages.add(message(i));
+        }
+
+        List<Map> results = client.sendBatch(messages);
+
+        assertEquals(MESSAGES, results.size());
+        results.forEach(result -> assertNotNull(result.get("messageId")));
+        assertEquals(MESSAGES, server.getMessages());
+        assertEquals(1, server.getConnections());
+    }
+
+    /**
+     * Test that a failure to connect again in the middle of a batch fails only the message, which needs
+     * the connection.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testSendBatchReconnectFailure() throws Exception {
+        AtomicInteger connects = new AtomicInteger();
+        MailClient failingClient = new MailClient(properties) {
+            @Override
+            SMTPTransport connect(Session session) throws MessagingException, IOException {
+                if (connects.incrementAndGet() == 2) {
+                    throw new IOException("The proxy is not reachable");
+                }
+                return super.connect(session);
+            }
+        };
+        server.failNext();
+
+        List<Map> results = failingClient.sendBatch(List.of(message(0), message(1), message(2)));
+
+        assertEquals(3, results.size());
+        assertNotNull(results.get(0)
+                             .get("error"));
+        assertEquals("The proxy is not reachable", results.get(1)
+                                                          .get("error"));
+        assertNotNull(results.get(2)
+                             .get("messageId"));
+        assertEquals(1, server.getMessages());
+        assertEquals(3, connects.get());
+    }
+
+    /**
+     * Test that a batch given as JSON is sent.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testSendBatchJson() throws Exception {
+        String results = client.sendBatch("[{\"from\":\"sender@example.com\",\"to\":[\"first@example.com\"],\"subject\":\"First\","
+                + "\"parts\":[{\"type\":\"text\",\"contentType\":\"text/plain\",\"text\":\"Hello\"}]},"
+                + "{\"from\":\"sender@example.com\",\"to\":\"second@example.com\",\"cc\":[],\"subject\":\"Second\","
+                + "\"parts\":[{\"type\":\"text\",\"contentType\":\"text/html\",\"text\":\"<b>Hello</b>\"}]}]");
+
+        assertTrue(results.contains("messageId"));
+        assertEquals(2, server.getMessages());
+        assertEquals(1, server.getConnections());
+    }
+
+    /**
+     * Test that the outbox sends over its connections and retries after the connection has been lost.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testOutbox() throws Exception {
+        try (MailOutbox outbox = new MailOutbox(client, 2, 100, 2, 10, 60000)) {
+            List<CompletableFuture<Map>> results = new ArrayList<>();
+            for (int i = 0; i < MESSAGES; i++) {
+                results.add(outbox.submit(message(i)));
+            }
+            for (CompletableFuture<Map> result : results) {
+                assertNotNull(result.get(10, TimeUnit.SECONDS)
+                                    .get("messageId"));
+            }
+            assertEquals(MESSAGES, server.getMessages());
+            assertTrue(server.getConnections() <= 2, "Connections: " + server.getConnections());
+
+            server.failNext();
+            assertNotNull(outbox.submit(message(MESSAGES))
+                                .get(10, TimeUnit.SECONDS)
+                                .get("messageId"));
+            assertEquals(MESSAGES + 1, server.getMessages());
+        }
+    }
+
+    /**
+     * Test that a closed outbox rejects new messages, but sends the pending ones.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testOutboxClose() throws Exception {
+        MailOutbox outbox = new MailOutbox(client, 1, 100, 0, 10, 60000);
+        List<CompletableFuture<Map>> results = new ArrayList<>();
+        for (int i = 0; i < MESSAGES; i++) {
+            results.add(outbox.submit(message(i)));
+        }
+
+        outbox.close();
+        assertTrue(outbox.isClosed());
+        assertFalse(outbox.offer(message(MESSAGES)));
+        assertThrows(ExecutionException.class, () -> outbox.submit(message(MESSAGES))
+                                                           .get(10, TimeUnit.SECONDS));
+
+        assertTrue(outbox.awaitTermination(10000));
+        for (CompletableFuture<Map> result : results) {
+            assertNotNull(result.get(0, TimeUnit.SECONDS)
+                                .get("messageId"));
+        }
+        assertEquals(MESSAGES, server.getMessages());
+    }
+
+    /**
+     * Creates a message.
+     *
+     * @param index the index
+     * @return the mail message
+     */
+    private static MailMessage message(int index) {
+        return new MailMessage("sender@example.com", new String[] {"receiver" + index + "@example.com"}, null, null, "Subject " + index,
+                parts());
+    }
+
+    /**
+     * Creates the parts.
+     *
+     * @return the parts
+     */
+    private static List<Map> parts() {
+        return List.of(Map.of("type", "text", "contentType", "text/plain", "text", "Hello"));
+    }
+
+    /**
+     * A minimal SMTP server, which accepts all the messages and counts the connections.
+     */
+    private static class SmtpServer implements AutoCloseable {
+
+        /** The server socket. */
+        private final ServerSocket serverSocket;
+
+        /** The number of the connections. */
+        private final AtomicInteger connections = new AtomicInteger();
+
+        /** The number of the received messages. */
+        private final AtomicInteger messages = new AtomicInteger();
+
+        /** The number of the next commands to be answered with a closed connection. */
+        private final AtomicInteger failures = new AtomicInteger();
+
+        /**
+         * Instantiates a new smtp server.
+         *
+         * @throws IOException Signals that an I/O exception has occurred.
+         */
+        SmtpServer() throws IOException {
+            serverSocket = new ServerSocket(0);
+            Thread acceptor = new Thread(this::accept, "smtp-server");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        /**
+         * Accepts the connections.
+         */
+        private void accept() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    connections.incrementAndGet();
+                    Thread session = new Thread(() -> serve(socket), "smtp-session");
+                    session.setDaemon(true);
+                    session.start();
+                } catch (IOException e) {
+                    // closed
+                }
+            }
+        }
+
+        /**
+         * Serves a connection.
+         *
+         * @param socket the socket
+         */
+        private void serve(Socket socket) {
+            try (socket;
+                    BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                    PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+                reply(out, "220 localhost ESMTP");
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.length() >= 4 ? line.substring(0, 4)
+                                                              .toUpperCase()
+                            : line.toUpperCase();
+                    if ("MAIL".equals(command) && failures.getAndUpdate(f -> Math.max(f - 1, 0)) > 0) {
+                        return;
+                    }
+                    switch (command) {
+                        case "EHLO", "HELO" -> reply(out, "250 localhost");
+                        case "DATA" -> {
+                            reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                            while ((line = in.readLine()) != null && !".".equals(line)) {
+                                // the content is not checked
+                            }
+                            messages.incrementAndGet();
+                            reply(out, "250 OK queued");
+                        }
+                        case "QUIT" -> {
+                            reply(out, "221 Bye");
+                            return;
+                        }
+                        default -> reply(out, "250 OK");
+                    }
+                }
+            } catch (IOException e) {
+                // the client has disconnected
+            }
+        }
+
+        /**
+         * Replies.
+         *
+         * @param out the out
+         * @param reply the reply
+         */
+        private static void reply(PrintWriter out, String reply) {
+            out.print(reply + "\r\n");
+            out.flush();
+        }
+
+        /**
+         * Closes the connection on the next message.
+         */
+        void failNext() {
+            failures.incrementAndGet();
+        }
+
+        /**
+         * Gets the port.
+         *
+         * @return the port
+         */
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        /**
+         * Gets the connections.
+         *
+         * @return the connections
+         */
+        int getConnections() {
+            return connections.get();
+        }
+
+        /**
+         * Gets the messages.
+         *
+         * @return the messages
+         */
+        int getMessages() {
+            return messages.get();
+        }
+
+        /**
+         * Close.
+         *
+         * @throws IOException Signals that an I/O exception has occurred.
+         */
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+
+}
@@ -9,7 +9,11 @@
  */
 package org.eclipse.dirigible.components.api.messaging;
 
+import java.util.Arrays;
+import java.util.List;
+
 import jakarta.jms.JMSException;
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.components.listeners.service.MessageConsumer;
 import org.eclipse.dirigible.components.listeners.service.MessageProducer;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,6 +50,24 @@ public class MessagingFacade {
         }
     }
 
+    /**
+     * Send a message to queue with an ordering key. The messages with the same ordering key are
+     * processed in the order they were sent, even by a listener with concurrent consumers.
+     *
+     * @param queue the queue
+     * @param message the message
+     * @param orderingKey the ordering key
+     * @throws MessagingAPIException if fail to send the message
+     */
+    public static void sendToQueue(String queue, String message, String orderingKey) throws MessagingAPIException {
+        validateClassIsInitialized();
+        try {
+            messageProducer.sendMessageToQueue(queue, message, orderingKey);
+        } catch (RuntimeException | JMSException ex) {
+            throw new MessagingAPIException("Failed to send message to queue [" + queue + "]", ex);
+        }
+    }
+
     private static void validateClassIsInitialized() {
         if (null == messageProducer) {
             throw new IllegalStateException("Class is not initialized yet. Cannot call this static method before the bean is initialized");
@@ -68,6 +90,67 @@ public class MessagingFacade {
         }
     }
 
+    /**
+     * Send a batch of messages to queue in a single transaction - either all or none of them are sent.
+     *
+     * @param queue the queue
+     * @param messages the messages as JSON array of strings
+     * @throws MessagingAPIException if fail to send the messages
+     */
+    public static void sendBatchToQueue(String queue, String messages) throws MessagingAPIException {
+        validateClassIsInitialized();
+        try {
+            messageProducer.sendMessagesToQueue(queue, parseMessages(messages));
+        } catch (RuntimeException | JMSException ex) {
+            throw new MessagingAPIException("Failed to send messages to queue [" + queue + "]", ex);
+        }
+    }
+
+    /**
+     * Send a batch of messages with an ordering key to queue in a single transaction - either all or
+     * none of them are sent.
+     *
+     * @param queue the queue
+     * @param messages the messages as JSON array of strings
+     * @param orderingKey the ordering key
+     * @throws MessagingAPIException if fail to send the messages
+     */
+    public static void sendBatchToQueue(String queue, String messages, String orderingKey) throws MessagingAPIException {
+        validateClassIsInitialized();
+        try {
+            messageProducer.sendMessagesToQueue(queue, parseMessages(messages), orderingKey);
+        } catch (RuntimeException | JMSException ex) {
+            throw new MessagingAPIException("Failed to send messages to queue [" + queue + "]", ex);
+        }
+    }
+
+    /**
+     * Send a batch of messages to topic in a single transaction - either all or none of them are sent.
+     *
+     * @param topic the topic
+     * @param messages the messages as JSON array of strings
+     * @throws MessagingAPIException if fail to send the messages
+     */
+    public static void sendBatchToTopic(String topic, String messages) throws MessagingAPIException {
+        validateClassIsInitialized();
+        try {
+            messageProducer.sendMessagesToTopic(topic, parseMessages(messages));
+        } catch (RuntimeException | JMSException ex) {
+            throw new MessagingAPIException("Failed to send messages to topic [" + topic + "]", ex);
+        }
+    }
+
+    /**
+     * Parses the messages.
+     *
+     * @param messages the messages as JSON array of strings
+     * @return the messages
+     */
+    private static List<String> parseMessages(String messages) {
+        String[] parsed = GsonHelper.fromJson(messages, String[].class);
+        return parsed != null ? Arrays.asList(parsed) : List.of();
+    }
+
     /**
      * Receive a message from queue.
      *
@@ -14,6 +14,7 @@ import static org.junit.Assert.assertThrows;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import java.util.List;
 import jakarta.jms.JMSException;
 import org.eclipse.dirigible.components.listeners.service.MessageConsumer;
 import org.eclipse.dirigible.components.listeners.service.MessageProducer;
@@ -168,4 +169,29 @@ class MessagingFacadeTest {
         }
     }
 
+    @Nested
+    class SendBatchTest {
+
+        @Test
+        void toQueue() throws JMSException {
+            MessagingFacade.sendBatchToQueue(QUEUE, "[\"a\",\"b\"]");
+
+            verify(messageProducer).sendMessagesToQueue(QUEUE, List.of("a", "b"));
+        }
+
+        @Test
+        void toTopic() throws JMSException {
+            MessagingFacade.sendBatchToTopic(TOPIC, "[\"a\",\"b\"]");
+
+            verify(messageProducer).sendMessagesToTopic(TOPIC, List.of("a", "b"));
+        }
+
+        @Test
+        void onJMSException() throws JMSException {
+            doThrow(JMSException.class).when(messageProducer)
+                                       .sendMessagesToQueue(QUEUE, List.of("a"));
+
+            assertThrows(MessagingAPIException.class, () -> MessagingFacade.sendBatchToQueue(QUEUE, "[\"a\"]"));
+        }
+    }
 }
@@ -44,9 +44,103 @@ export class Cache {
     }
 
     /**
-     * Clears all entries from the cache.
+     * Clears all entries from the cache, in all the regions.
      */
     public static clear(): void {
         CacheFacade.clear();
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a named cache region with its own capacity and time to live, or returns the existing one
+     * if it has the same settings. The entries of a region are not evicted by the entries of other regions.
+     * @param name The name of the region.
+     * @param options The settings of the region.
+     * @returns The region.
+     */
+    public static createRegion(name: string, options: CacheRegionOptions = {}): CacheRegion {
+        CacheFacade.createRegion(name, options.maximumSize ?? 1500, options.maximumWeight ?? 0, options.timeToLive ?? 1800000, options.byReference ?? false);
+        return new CacheRegion(name);
+    }
+
+    /**
+     * Removes a named cache region with its entries.
+     * @param name The name of the region.
+     */
+    public static removeRegion(name: string): void {
+        CacheFacade.removeRegion(name);
+    }
+}
+
+/**
+ * The settings of a cache region.
+ */
+export interface CacheRegionOptions {
+    /** The maximum number of entries, used if the maximum weight is not set. */
+    maximumSize?: number;
+    /** The maximum weight in bytes, estimated by the length of the stored values. */
+    maximumWeight?: number;
+    /** The default time to live of the entries in milliseconds. */
+    timeToLive?: number;
+    /** Whether the values are stored by reference instead of as JSON. Faster, but the cached objects are shared. */
+    byReference?: boolean;
+}
+
+/**
+ * A named cache region.
+ */
+export class CacheRegion {
+
+    constructor(private readonly name: string) { }
+
+    /**
+     * Checks if the region contains a value for the specified key.
+     * @param key The key to check.
+     * @returns True if the key exists in the region, false otherwise.
+     */
+    public contains(key: string): boolean {
+        return CacheFacade.contains(this.name, key);
+    }
+
+    /**
+     * Retrieves the value associated with the specified key from the region.
+     * @param key The key to retrieve.
+     * @returns The cached value, or `undefined` if the key is not found.
+     */
+    public get(key: string): any | undefined {
+        return CacheFacade.get(this.name, key);
+    }
+
+    /**
+     * Stores a value in the region under the specified key.
+     * @param key The key to store the data under.
+     * @param data The data to store.
+     * @param timeToLive The time to live in milliseconds, the default of the region if not set.
+     * @throws Error if the region has been removed.
+     */
+    public set(key: string, data: any, timeToLive: number = 0): void {
+        CacheFacade.set(this.name, key, data, timeToLive);
+    }
+
+    /**
+     * Removes the key and its associated value from the region.
+     * @param key The key to delete.
+     */
+    public delete(key: string): void {
+        CacheFacade.delete(this.name, key);
+    }
+
+    /**
+     * Clears all entries from the region.
+     */
+    public clear(): void {
+        CacheFacade.clear(this.name);
+    }
+
+    /**
+     * Gets the hit, miss and eviction statistics of the region.
+     * @returns The statistics.
+     */
+    public getStatistics(): { [key: string]: any } {
+        return JSON.parse(CacheFacade.getStatisticsAsJson(this.name));
+    }
+}
@@ -16,7 +16,10 @@ export class Consumer {
      *
      * @param destination The name of the Kafka topic to consume messages from.
      * @param configuration Optional key-value object containing Kafka consumer properties
-     * (e.g., 'group.id', 'auto.offset.reset').
+     * (e.g., 'group.id', 'auto.offset.reset'). In addition, 'dirigible.consumer.concurrency' sets the
+     * maximum number of partitions processed in parallel, and 'dirigible.consumer.batch' set to 'true'
+     * passes all the polled records of a partition at once to the `onMessages(messages)` function
+     * of the handler, falling back to `onMessage` per record if it is not defined.
      * @returns A {@link Topic} instance configured for the specified destination and properties.
      */
     public static topic(destination: string, configuration: { [key: string]: string } = {}): Topic {
@@ -37,6 +37,32 @@ export interface MailMultipart {
     data?: string;
 }
 
+/**
+ * Defines a single email of a batch sent via {@link MailClient.sendBatch} or {@link MailClient.enqueue}.
+ */
+export interface MailMessage {
+    /** The sender's email address. */
+    from: string;
+    /** The recipient(s) structure (string for 'to', or {@link MailRecipients} object). */
+    recipients: string | MailRecipients;
+    /** The subject line of the email. */
+    subject: string;
+    /** An array of {@link MailMultipart} objects defining the email content. */
+    parts: MailMultipart[];
+}
+
+/**
+ * Defines the result of sending a single email of a batch.
+ */
+export interface MailResult {
+    /** The Message-ID header of the sent email. */
+    messageId?: string;
+    /** The final reply of the mail server. */
+    finalReply?: string;
+    /** The error, if the email has not been sent. */
+    error?: string;
+}
+
 /**
  * Defines the content type for simple emails sent via {@link MailClient.send}.
  */
@@ -77,6 +103,18 @@ export class MailClient {
         mailClient.send(from, recipients, subject, text, contentType);
     }
 
+    /**
+     * Queues emails to be sent asynchronously with the default configuration, over connections kept
+     * open between the emails. The call does not wait for the emails to be sent, and the failures are logged.
+     *
+     * @param messages The email or the array of emails.
+     * @returns The number of the emails accepted by the outbox, which rejects emails when it is full.
+     */
+    public static enqueue(messages: MailMessage | MailMessage[]): number {
+        const batch = Array.isArray(messages) ? messages : [messages];
+        return MailFacade.enqueue(JSON.stringify(batch.map(toNativeMessage)));
+    }
+
     /**
      * Creates a new instance of the MailClient, optionally configuring the underlying
      * native mail facade.
@@ -133,6 +171,41 @@ export class MailClient {
             throw new Error(error as string);
         }
     }
+
+    /**
+     * Sends several emails over a single connection to the mail server, instead of a connection per email.
+     * An email, which fails, does not stop the rest.
+     *
+     * @param messages The array of emails.
+     * @returns The results in the order of the emails.
+     * @throws {Error} Throws an error if a recipient format is invalid or the connection cannot be opened.
+     */
+    public sendBatch(messages: MailMessage[]): MailResult[] {
+        try {
+            return JSON.parse(this.native.sendBatch(JSON.stringify(messages.map(toNativeMessage))));
+        } catch (error) {
+            console.error(error.message);
+            throw new Error(error as string);
+        }
+    }
+}
+
+/**
+ * Converts an email of a batch to the structure expected by the native facade.
+ *
+ * @param message The email.
+ * @returns The email with the recipients split into 'to', 'cc' and 'bcc' arrays.
+ */
+function toNativeMessage(message: MailMessage) {
+    const recipients = processRecipients(message.recipients);
+    return {
+        from: message.from,
+        to: recipients.to,
+        cc: recipients.cc,
+        bcc: recipients.bcc,
+        subject: message.subject,
+        parts: stringifyPartData(message.parts)
+    };
 }
 
 /**
@@ -3,6 +3,9 @@ const LISTENER_METADATA_KEY = Symbol("listener:metadata");
 export interface ListenerOptions {
     name: string; // e.g., "MyQueue"
     kind: string;      // e.g., "Queue"
+    minConsumers?: number; // concurrent consumers of a queue, 1 by default
+    maxConsumers?: number; // upper bound when scaling to the queue backlog
+    prefetch?: number;     // messages buffered by each consumer
 }
 
 /**
@@ -22,7 +25,10 @@ export function Listener(options: ListenerOptions) {
         Object.defineProperty(target, LISTENER_METADATA_KEY, {
             value: {
                 name: options.name,
-                kind: options.kind
+                kind: options.kind,
+                minConsumers: options.minConsumers,
+                maxConsumers: options.maxConsumers,
+                prefetch: options.prefetch
             },
             writable: false,
             configurable: false,
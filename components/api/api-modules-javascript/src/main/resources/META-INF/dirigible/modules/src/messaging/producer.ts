@@ -52,9 +52,31 @@ class Queue {
 	 * Sends a message to the configured queue destination.
 	 *
 	 * @param message The content of the message to send (typically a string or serialized object).
+	 * @param orderingKey Optional key - the messages with the same key are processed in the order
+	 * they were sent, even by a listener with concurrent consumers.
 	 */
-	public send(message: string): void {
-		MessagingFacade.sendToQueue(this.destination, message);
+	public send(message: string, orderingKey?: string): void {
+		if (orderingKey) {
+			MessagingFacade.sendToQueue(this.destination, message, orderingKey);
+		} else {
+			MessagingFacade.sendToQueue(this.destination, message);
+		}
+	}
+
+	/**
+	 * Sends several messages to the configured queue destination in a single transaction -
+	 * either all or none of them are sent.
+	 *
+	 * @param messages The contents of the messages to send.
+	 * @param orderingKey Optional key - the messages with the same key are processed in the order
+	 * they were sent, even by a listener with concurrent consumers.
+	 */
+	public sendBatch(messages: string[], orderingKey?: string): void {
+		if (orderingKey) {
+			MessagingFacade.sendBatchToQueue(this.destination, JSON.stringify(messages), orderingKey);
+		} else {
+			MessagingFacade.sendBatchToQueue(this.destination, JSON.stringify(messages));
+		}
 	}
 }
 
@@ -80,6 +102,16 @@ class Topic {
 	public send(message: string): void {
 		MessagingFacade.sendToTopic(this.destination, message);
 	}
+
+	/**
+	 * Publishes several messages to the configured topic destination in a single transaction -
+	 * either all or none of them are sent.
+	 *
+	 * @param messages The contents of the messages to publish.
+	 */
+	public sendBatch(messages: string[]): void {
+		MessagingFacade.sendBatchToTopic(this.destination, JSON.stringify(messages));
+	}
 }
 
 
@@ -1,6 +1,7 @@
 import { Registry } from "@aerokit/sdk/platform/registry";
 import { XML } from "@aerokit/sdk/utils/xml";
 import { TemplateEngines } from "@aerokit/sdk/template";
+import { OutputStream } from "@aerokit/sdk/io/streams";
 const PDFFacade = Java.type("org.eclipse.dirigible.components.api.pdf.PDFFacade");
 
 // Path to the default table template
@@ -103,6 +104,37 @@ export class PDF {
         return PDFFacade.generate(template, xmlData);
     }
 
+    /**
+     * Generates a PDF document using a custom template path and data payload directly into a stream,
+     * e.g. the output stream of the HTTP response, without holding the document in memory.
+     *
+     * @param {string} templatePath The path to the custom template file (e.g., in the Registry).
+     * @param {PDFTableData} data The data to be injected into the template.
+     * @param {OutputStream} output The stream to write the PDF content to. It is not closed.
+     */
+    public static generateToStream(templatePath: string, data: PDFTableData, output: OutputStream): void {
+        const template = Registry.getText(templatePath);
+        const xmlData = XML.fromJson({
+            content: data
+        });
+        PDFFacade.generate(template, xmlData, output.native);
+    }
+
+    /**
+     * Generates a PDF document using a custom template path and data payload directly into a file.
+     *
+     * @param {string} templatePath The path to the custom template file (e.g., in the Registry).
+     * @param {PDFTableData} data The data to be injected into the template.
+     * @param {string} path The path of the file to write the PDF content to.
+     */
+    public static generateToFile(templatePath: string, data: PDFTableData, path: string): void {
+        const template = Registry.getText(templatePath);
+        const xmlData = XML.fromJson({
+            content: data
+        });
+        PDFFacade.generateToFile(template, xmlData, path);
+    }
+
     /**
      * Internal method to set template parameters based on optional configuration.
      *
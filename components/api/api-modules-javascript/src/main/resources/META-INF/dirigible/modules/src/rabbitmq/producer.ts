@@ -18,6 +18,18 @@ export class Producer {
     public static send(queue: string, message: string): void {
         RabbitMQFacade.send(queue, message);
     }
+
+    /**
+     * Sends the messages to the specified RabbitMQ queue at once over a single channel.
+     *
+     * @param queue The name of the RabbitMQ queue to send the messages to.
+     * @param messages The contents of the messages to be sent (as strings).
+     * @param confirm Whether to wait until the broker has confirmed all the messages.
+     * @returns True if the messages have been sent, and confirmed if requested.
+     */
+    public static sendBatch(queue: string, messages: string[], confirm: boolean = false): boolean {
+        return RabbitMQFacade.sendBatch(queue, JSON.stringify(messages), confirm);
+    }
 }
 
 // @ts-ignore
@@ -113,6 +113,28 @@ export class Client {
         return this.native.set(key, value);
     }
 
+    /**
+     * Gets the values of several keys in a single round-trip.
+     *
+     * @param keys The keys to retrieve the values for.
+     * @returns An object with the value of each key, or null if the key does not exist.
+     */
+    public getAll(keys: string[]): { [key: string]: string | null } {
+        const values = JSON.parse(RedisFacade.getAll(JSON.stringify(keys)));
+        keys.filter(key => !(key in values)).forEach(key => values[key] = null);
+        return values;
+    }
+
+    /**
+     * Sets the string values of several keys in a single round-trip.
+     *
+     * @param entries An object with the value of each key.
+     * @param timeToLive Optional time to live of the keys in seconds, 0 for no expiration.
+     */
+    public setAll(entries: { [key: string]: string }, timeToLive: number = 0): void {
+        RedisFacade.setAll(JSON.stringify(entries), timeToLive);
+    }
+
     // --- List Operations ---
 
     /**
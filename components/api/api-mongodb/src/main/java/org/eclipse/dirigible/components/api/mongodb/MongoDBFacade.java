@@ -10,9 +10,10 @@
 package org.eclipse.dirigible.components.api.mongodb;
 
 import java.net.URI;
+import java.util.Properties;
 
 import org.eclipse.dirigible.commons.config.Configuration;
-import org.eclipse.dirigible.mongodb.jdbc.MongoDBConnection;
+import org.eclipse.dirigible.mongodb.jdbc.MongoClientRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -39,6 +40,12 @@ public class MongoDBFacade {
     /** The Constant DIRIGIBLE_MONGODB_DATABASE_DEFAULT_DB. */
     private static final String DIRIGIBLE_MONGODB_DATABASE_DEFAULT_DB = "db";
 
+    /** The Constant DIRIGIBLE_MONGODB_MAX_POOL_SIZE. */
+    private static final String DIRIGIBLE_MONGODB_MAX_POOL_SIZE = "DIRIGIBLE_MONGODB_MAX_POOL_SIZE";
+
+    /** The Constant DIRIGIBLE_MONGODB_MIN_POOL_SIZE. */
+    private static final String DIRIGIBLE_MONGODB_MIN_POOL_SIZE = "DIRIGIBLE_MONGODB_MIN_POOL_SIZE";
+
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(MongoDBFacade.class);
 
@@ -49,13 +56,21 @@ public class MongoDBFacade {
      * @param uri the uri
      * @param user the user
      * @param password the password
-     * @return the client
+     * @return the lease of the shared client, which is released on closing it
      */
     public static MongoClient getClient(String uri, String user, String password) {
         String defaultUri = Configuration.get(DIRIGIBLE_MONGODB_CLIENT_URI, CLIENT_URI);
         URI dbUri = URI.create(uri != null ? uri : defaultUri);
-        MongoClient mongoClient = MongoDBConnection.createMongoClient(dbUri.toString(), user, password);
-        return mongoClient;
+        Properties poolProperties = new Properties();
+        String maxPoolSize = Configuration.get(DIRIGIBLE_MONGODB_MAX_POOL_SIZE);
+        if (maxPoolSize != null) {
+            poolProperties.setProperty(MongoClientRegistry.MAX_POOL_SIZE, maxPoolSize);
+        }
+        String minPoolSize = Configuration.get(DIRIGIBLE_MONGODB_MIN_POOL_SIZE);
+        if (minPoolSize != null) {
+            poolProperties.setProperty(MongoClientRegistry.MIN_POOL_SIZE, minPoolSize);
+        }
+        return MongoClientRegistry.acquire(dbUri.toString(), user, password, poolProperties);
     }
 
     /**
@@ -9,25 +9,39 @@
  */
 package org.eclipse.dirigible.components.api.pdf;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.nio.charset.Charset;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.xml.transform.Result;
-import javax.xml.transform.Transformer;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.sax.SAXResult;
 import javax.xml.transform.stream.StreamSource;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.fop.apps.*;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 /**
- * The Class PDFFacade.
+ * The Class PDFFacade. The FOP factory, which discovers the fonts and parses the configuration, is
+ * created once, and the compiled templates are cached by the hash of their content, so only the
+ * transformation of the data remains per document.
  */
 @Component
 public class PDFFacade {
@@ -35,6 +49,23 @@ public class PDFFacade {
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(PDFFacade.class);
 
+    /** The Constant DIRIGIBLE_PDF_TEMPLATES_CACHE_SIZE. */
+    private static final String DIRIGIBLE_PDF_TEMPLATES_CACHE_SIZE = "DIRIGIBLE_PDF_TEMPLATES_CACHE_SIZE";
+
+    /** The FOP factory, which is thread-safe. */
+    private static final FopFactory FOP_FACTORY = FopFactory.newInstance(new File(".").toURI());
+
+    /** The transformer factory, which is not thread-safe, so guarded by the templates cache. */
+    private static final TransformerFactory TRANSFORMER_FACTORY = TransformerFactory.newInstance();
+
+    /** The compiled templates by the hash of their content, in the least recently used order. */
+    private static final Map<String, Templates> TEMPLATES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Templates> eldest) {
+            return size() > Configuration.getAsInt(DIRIGIBLE_PDF_TEMPLATES_CACHE_SIZE, 100);
+        }
+    };
+
     /**
      * Generate.
      *
@@ -43,27 +74,32 @@ public class PDFFacade {
      * @return the byte[]
      */
     public static byte[] generate(String template, String data) {
-        if (logger.isInfoEnabled()) {
-            logger.info("Generating PDF from template: [\n{}\n] and data: [\n{}\n]", template, data);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        generate(template, data, baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Generates the PDF directly into a stream, e.g. the output stream of the HTTP response, so the
+     * document is not held in memory.
+     *
+     * @param template the template
+     * @param data the data
+     * @param output the output, which is not closed
+     */
+    public static void generate(String template, String data, OutputStream output) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Generating PDF from template: [\n{}\n] and data: [\n{}\n]", template, data);
         }
 
         try {
-            StreamSource templateSource = new StreamSource(IOUtils.toInputStream(template, Charset.defaultCharset()));
-            StreamSource dataSource = new StreamSource(IOUtils.toInputStream(data, Charset.defaultCharset()));
-
-            FopFactory fopFactory = FopFactory.newInstance(new File(".").toURI());
-            FOUserAgent foUserAgent = fopFactory.newFOUserAgent();
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
-            Fop fop = fopFactory.newFop(MimeConstants.MIME_PDF, foUserAgent, baos);
-
-            TransformerFactory factory = TransformerFactory.newInstance();
-            Transformer transformer = factory.newTransformer(templateSource);
+            FOUserAgent foUserAgent = FOP_FACTORY.newFOUserAgent();
+            Fop fop = FOP_FACTORY.newFop(MimeConstants.MIME_PDF, foUserAgent, output);
 
             Result result = new SAXResult(fop.getDefaultHandler());
 
-            transformer.transform(dataSource, result);
-            return baos.toByteArray();
+            getTemplates(template).newTransformer()
+                                  .transform(new StreamSource(new StringReader(data)), result);
         } catch (FOPException | TransformerException e) {
             if (logger.isErrorEnabled()) {
                 logger.error(e.getMessage());
@@ -71,4 +107,57 @@ public class PDFFacade {
             throw new PDFException(e.getMessage(), e);
         }
     }
+
+    /**
+     * Generates the PDF directly into a file.
+     *
+     * @param template the template
+     * @param data the data
+     * @param path the path of the file
+     */
+    public static void generateToFile(String template, String data, String path) {
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(Path.of(path)))) {
+            generate(template, data, output);
+        } catch (IOException e) {
+            if (logger.isErrorEnabled()) {
+                logger.error(e.getMessage());
+            }
+            throw new PDFException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gets the compiled templates from the cache, or compiles them.
+     *
+     * @param template the template
+     * @return the templates
+     * @throws TransformerConfigurationException the transformer configuration exception
+     */
+    private static Templates getTemplates(String template) throws TransformerConfigurationException {
+        String key = hash(template);
+        synchronized (TEMPLATES) {
+            Templates templates = TEMPLATES.get(key);
+            if (templates == null) {
+                templates = TRANSFORMER_FACTORY.newTemplates(new StreamSource(new StringReader(template)));
+                TEMPLATES.put(key, templates);
+            }
+            return templates;
+        }
+    }
+
+    /**
+     * Hash.
+     *
+     * @param template the template
+     * @return the SHA-256 hash of the template
+     */
+    private static String hash(String template) {
+        try {
+            return HexFormat.of()
+                            .formatHex(MessageDigest.getInstance("SHA-256")
+                                                    .digest(template.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -9,8 +9,10 @@
  */
 package org.eclipse.dirigible.components.api.pdf;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
@@ -21,6 +23,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -73,6 +76,29 @@ public class PDFFacadeTest {
         assertTrue(pdf.length > 0);
     }
 
+    /**
+     * Generate pdf to stream test, with the compiled template reused from the first generation.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void generatePdfToStreamTest() throws IOException {
+        String template = IOUtils.toString(getClass().getClassLoader()
+                                                     .getResourceAsStream("template.xsl"),
+                Charset.defaultCharset());
+        String data = IOUtils.toString(getClass().getClassLoader()
+                                                 .getResourceAsStream("data2.xml"),
+                Charset.defaultCharset());
+
+        byte[] pdf = PDFFacade.generate(template, data);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PDFFacade.generate(template, data, output);
+
+        assertTrue(output.size() > 0);
+        assertEquals("%PDF", new String(output.toByteArray(), 0, 4, StandardCharsets.US_ASCII));
+        assertEquals(pdf.length, output.size(), 64);
+    }
+
     @SpringBootApplication
     static class TestConfiguration {
     }
@@ -9,6 +9,7 @@
  */
 package org.eclipse.dirigible.components.api.rabbitmq;
 
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.config.Configuration;
 
 import com.rabbitmq.client.Channel;
@@ -18,10 +19,12 @@ import com.rabbitmq.client.ConnectionFactory;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Component;
 
 
@@ -29,7 +32,7 @@ import org.springframework.stereotype.Component;
  * The Class RabbitMQFacade.
  */
 @Component
-public class RabbitMQFacade extends Thread {
+public class RabbitMQFacade extends Thread implements DisposableBean {
 
     /**
      * The Constant logger.
@@ -56,6 +59,21 @@ public class RabbitMQFacade extends Thread {
      */
     private static final String DIRIGIBLE_RABBITMQ_CLIENT_URI = "DIRIGIBLE_RABBITMQ_CLIENT_URI";
 
+    /**
+     * The Constant DIRIGIBLE_RABBITMQ_PUBLISHER_CHANNELS.
+     */
+    private static final String DIRIGIBLE_RABBITMQ_PUBLISHER_CHANNELS = "DIRIGIBLE_RABBITMQ_PUBLISHER_CHANNELS";
+
+    /**
+     * The Constant DIRIGIBLE_RABBITMQ_PUBLISHER_TIMEOUT.
+     */
+    private static final String DIRIGIBLE_RABBITMQ_PUBLISHER_TIMEOUT = "DIRIGIBLE_RABBITMQ_PUBLISHER_TIMEOUT";
+
+    /**
+     * The publisher.
+     */
+    private static RabbitMQPublisher publisher;
+
     /**
      * The consumers.
      */
@@ -69,11 +87,7 @@ public class RabbitMQFacade extends Thread {
      */
     public static void send(String queue, String message) {
         try {
-            Connection connection = connect();
-            Channel channel = createChannel(connection);
-
-            channel.queueDeclare(queue, false, false, false, null);
-            channel.basicPublish("", queue, null, message.getBytes());
+            getPublisher().publish(queue, message);
             if (logger.isInfoEnabled()) {
                 logger.info("Sent: " + "'" + message + "'" + " to [" + queue + "]");
             }
@@ -84,6 +98,59 @@ public class RabbitMQFacade extends Thread {
         }
     }
 
+    /**
+     * Send messages to given queue over a single channel.
+     *
+     * @param queue the queue being used
+     * @param messages the JSON array of the messages to be delivered
+     * @param confirm whether to wait until the broker has confirmed all the messages
+     * @return true, if the messages have been sent, and confirmed if requested
+     */
+    public static boolean sendBatch(String queue, String messages, boolean confirm) {
+        List<String> batch = GsonHelper.fromJson(messages, List.class);
+        try {
+            getPublisher().publish(queue, batch, confirm);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Sent [{}] messages to [{}]{}", batch.size(), queue, confirm ? " with confirms" : "");
+            }
+            return true;
+        } catch (IOException e) {
+            if (logger.isErrorEnabled()) {
+                logger.error("Error sending [" + batch.size() + "] messages: " + e.toString(), e);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Gets the publisher, which shares a connection for all the sent messages.
+     *
+     * @return the publisher
+     */
+    private static synchronized RabbitMQPublisher getPublisher() {
+        if (publisher == null) {
+            ConnectionFactory factory = createConnectionFactory();
+            // the publisher opens a new connection on demand
+            factory.setAutomaticRecoveryEnabled(false);
+            publisher = new RabbitMQPublisher(factory, Configuration.getAsInt(DIRIGIBLE_RABBITMQ_PUBLISHER_CHANNELS, 8),
+                    Configuration.getAsInt(DIRIGIBLE_RABBITMQ_PUBLISHER_TIMEOUT, 10000));
+        }
+        return publisher;
+    }
+
+    /**
+     * Closes the connection of the publisher.
+     */
+    @Override
+    public void destroy() {
+        synchronized (RabbitMQFacade.class) {
+            if (publisher != null) {
+                publisher.close();
+                publisher = null;
+            }
+        }
+    }
+
     /**
      * Start listening given queue and destination.
      *
@@ -147,6 +214,25 @@ public class RabbitMQFacade extends Thread {
      * @return the connection
      */
     private static Connection connect() {
+        ConnectionFactory factory = createConnectionFactory();
+        Connection connection = null;
+
+        try {
+            connection = factory.newConnection();
+        } catch (Exception e) {
+            if (logger.isErrorEnabled()) {
+                logger.error("Error establishing connection to AMQP: " + e.toString(), e);
+            }
+        }
+        return connection;
+    }
+
+    /**
+     * Creates the connection factory.
+     *
+     * @return the connection factory
+     */
+    private static ConnectionFactory createConnectionFactory() {
         String[] splitUri = Configuration.get(DIRIGIBLE_RABBITMQ_CLIENT_URI, RABBITMQ_CLIENT)
                                          .split(":");
         String host = splitUri[0];
@@ -158,16 +244,7 @@ public class RabbitMQFacade extends Thread {
         factory.setPassword(DIRIGIBLE_RABBITMQ_PASSWORD);
         factory.setPort(port);
         factory.setConnectionTimeout(20000);
-        Connection connection = null;
-
-        try {
-            connection = factory.newConnection();
-        } catch (Exception e) {
-            if (logger.isErrorEnabled()) {
-                logger.error("Error establishing connection to AMQP: " + e.toString(), e);
-            }
-        }
-        return connection;
+        return factory;
     }
 
     /**
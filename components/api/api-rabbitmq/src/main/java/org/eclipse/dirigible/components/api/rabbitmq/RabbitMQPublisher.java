@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.rabbitmq;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+
+/**
+ * The publisher of messages to RabbitMQ queues over a long-lived connection. The channels are
+ * pooled, as a channel must not be used by several threads at once, and the queues are declared
+ * only once per connection.
+ */
+public class RabbitMQPublisher implements AutoCloseable {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(RabbitMQPublisher.class);
+
+    /** The connection factory. */
+    private final ConnectionFactory factory;
+
+    /** The idle channels. */
+    private final BlockingQueue<PooledChannel> idleChannels = new LinkedBlockingQueue<>();
+
+    /** The permits for the open channels. */
+    private final Semaphore permits;
+
+    /** The declared queues. */
+    private final Set<String> declaredQueues = ConcurrentHashMap.newKeySet();
+
+    /** The timeout for a channel and for the confirms in milliseconds. */
+    private final long timeout;
+
+    /** The connection. */
+    private volatile Connection connection;
+
+    /**
+     * Instantiates a new rabbit MQ publisher.
+     *
+     * @param factory the connection factory
+     * @param maxChannels the maximum number of open channels
+     * @param timeout the timeout for a channel and for the confirms in milliseconds
+     */
+    public RabbitMQPublisher(ConnectionFactory factory, int maxChannels, long timeout) {
+        this.factory = factory;
+        this.permits = new Semaphore(Math.max(maxChannels, 1));
+        this.timeout = timeout;
+    }
+
+    /**
+     * Publishes a message.
+     *
+     * @param queue the queue
+     * @param message the message
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public void publish(String queue, String message) throws IOException {
+        publish(queue, List.of(message), false);
+    }
+
+    /**
+     * Publishes the messages over a single channel.
+     *
+     * @param queue the queue
+     * @param messages the messages
+     * @param confirm whether to wait until the broker has confirmed all the messages
+     * @throws IOException Signals that an I/O exception has occurred, or the messages have not been
+     *         confirmed
+     */
+    public void publish(String queue, List<String> messages, boolean confirm) throws IOException {
+        PooledChannel pooled = borrow();
+        try {
+            Channel channel = pooled.channel;
+            if (!declaredQueues.contains(queue)) {
+                channel.queueDeclare(queue, false, false, false, null);
+                declaredQueues.add(queue);
+            }
+            if (confirm && !pooled.confirms) {
+                channel.confirmSelect();
+                pooled.confirms = true;
+            }
+            for (String message : messages) {
+                channel.basicPublish("", queue, null, message.getBytes(StandardCharsets.UTF_8));
+            }
+            if (confirm) {
+                channel.waitForConfirmsOrDie(timeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new IOException("Interrupted while waiting for the confirms of [" + queue + "]", e);
+        } catch (TimeoutException e) {
+            throw new IOException("The messages to [" + queue + "] have not been confirmed in [" + timeout + "] ms", e);
+        } finally {
+            release(pooled);
+        }
+    }
+
+    /**
+     * Borrows an idle channel or opens a new one, if the maximum has not been reached.
+     *
+     * @return the channel
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private PooledChannel borrow() throws IOException {
+        try {
+            if (!permits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                throw new IOException("No RabbitMQ channel has become available in [" + timeout + "] ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new IOException("Interrupted while waiting for a RabbitMQ channel", e);
+        }
+        try {
+            PooledChannel pooled;
+            while ((pooled = idleChannels.poll()) != null) {
+                if (pooled.channel.isOpen()) {
+                    return pooled;
+                }
+            }
+            return new PooledChannel(getConnection().createChannel());
+        } catch (IOException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a channel to the pool, unless it has been closed.
+     *
+     * @param pooled the channel
+     */
+    private void release(PooledChannel pooled) {
+        if (pooled.channel.isOpen()) {
+            idleChannels.offer(pooled);
+        }
+        permits.release();
+    }
+
+    /**
+     * Gets the connection, opening a new one if there is none or it has been closed.
+     *
+     * @return the connection
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private Connection getConnection() throws IOException {
+        Connection current = connection;
+        if (current != null && current.isOpen()) {
+            return current;
+        }
+        synchronized (this) {
+            if (connection == null || !connection.isOpen()) {
+                try {
+                    connection = factory.newConnection("dirigible-publisher");
+                } catch (TimeoutException e) {
+                    throw new IOException("Error establishing connection to AMQP: " + e.getMessage(), e);
+                }
+                // the queues are not durable, so they may be gone after the broker has been restarted
+                declaredQueues.clear();
+                idleChannels.clear();
+                logger.info("RabbitMQ publisher connection established to [{}:{}]", factory.getHost(), factory.getPort());
+            }
+            return connection;
+        }
+    }
+
+    /**
+     * Closes the connection and all of its channels.
+     */
+    @Override
+    public synchronized void close() {
+        idleChannels.clear();
+        declaredQueues.clear();
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (Exception e) {
+                logger.warn("Error closing the RabbitMQ publisher connection", e);
+            }
+            connection = null;
+        }
+    }
+
+    /**
+     * A pooled channel.
+     */
+    private static class PooledChannel {
+
+        /** The channel. */
+        private final Channel channel;
+
+        /** Whether the channel is in confirm mode. */
+        private boolean confirms;
+
+        /**
+         * Instantiates a new pooled channel.
+         *
+         * @param channel the channel
+         */
+        PooledChannel(Channel channel) {
+            this.channel = channel;
+        }
+    }
+
+}
@@ -20,6 +20,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisabledOnOs(OS.WINDOWS)
 @Testcontainers
@@ -49,6 +50,12 @@ public class RabbitMQFacadeTest {
 
     }
 
+    @Test
+    public void sendBatch() {
+        assertTrue(RabbitMQFacade.sendBatch(queue, "[\"first\", \"second\"]", true));
+        assertTrue(RabbitMQFacade.sendBatch(queue, "[\"third\"]", false));
+    }
+
     @Test
     public void rabbitMQIntegration() {
         logCaptor.setLogLevelToInfo();
@@ -9,39 +9,147 @@
  */
 package org.eclipse.dirigible.components.api.redis;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.config.Configuration;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Component;
-import redis.clients.jedis.Jedis;
+
+import redis.clients.jedis.ConnectionPoolConfig;
+import redis.clients.jedis.JedisPooled;
+import redis.clients.jedis.PipelineBase;
+import redis.clients.jedis.Response;
 
 /**
  * The Class RedisFacade.
  */
 @Component
-public class RedisFacade {
+public class RedisFacade implements DisposableBean {
 
     /**
      * The Constant DIRIGIBLE_REDIS_CLIENT_URI.
      */
     private static final String DIRIGIBLE_REDIS_CLIENT_URI = "DIRIGIBLE_REDIS_CLIENT_URI";
 
+    /**
+     * The Constant DIRIGIBLE_REDIS_POOL_MAX_TOTAL.
+     */
+    private static final String DIRIGIBLE_REDIS_POOL_MAX_TOTAL = "DIRIGIBLE_REDIS_POOL_MAX_TOTAL";
+
+    /**
+     * The Constant DIRIGIBLE_REDIS_POOL_MAX_IDLE.
+     */
+    private static final String DIRIGIBLE_REDIS_POOL_MAX_IDLE = "DIRIGIBLE_REDIS_POOL_MAX_IDLE";
+
+    /**
+     * The Constant DIRIGIBLE_REDIS_POOL_MIN_IDLE.
+     */
+    private static final String DIRIGIBLE_REDIS_POOL_MIN_IDLE = "DIRIGIBLE_REDIS_POOL_MIN_IDLE";
+
+    /**
+     * The Constant DIRIGIBLE_REDIS_POOL_MAX_WAIT.
+     */
+    private static final String DIRIGIBLE_REDIS_POOL_MAX_WAIT = "DIRIGIBLE_REDIS_POOL_MAX_WAIT";
+
     /**
      * The Constant CLIENT_URI.
      */
     private static final String CLIENT_URI = "localhost:6379";
 
     /**
-     * Gets the client.
+     * The pooled clients by URI.
+     */
+    private static final Map<String, JedisPooled> CLIENTS = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the client. The client is shared and thread-safe, as every command borrows a connection from
+     * the pool of the client and returns it afterwards, so it must not be closed by the callers.
      *
      * @return the client
      */
-    public static Jedis getClient() {
+    public static JedisPooled getClient() {
+        String uri = Configuration.get(DIRIGIBLE_REDIS_CLIENT_URI, CLIENT_URI);
+        return CLIENTS.computeIfAbsent(uri, RedisFacade::createClient);
+    }
+
+    /**
+     * Gets the values of the keys in a single round-trip.
+     *
+     * @param keys the JSON array of the keys
+     * @return the JSON object of the values by key, without the missing keys
+     */
+    public static String getAll(String keys) {
+        List<String> names = GsonHelper.fromJson(keys, List.class);
+        List<Response<String>> responses = new ArrayList<>(names.size());
+        try (PipelineBase pipeline = getClient().pipelined()) {
+            for (String name : names) {
+                responses.add(pipeline.get(name));
+            }
+            pipeline.sync();
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            values.put(names.get(i), responses.get(i)
+                                              .get());
+        }
+        return GsonHelper.toJson(values);
+    }
+
+    /**
+     * Sets the values of the keys in a single round-trip.
+     *
+     * @param entries the JSON object of the values by key
+     * @param timeToLive the time to live in seconds, or 0 for no expiration
+     */
+    public static void setAll(String entries, long timeToLive) {
+        Map<String, Object> values = GsonHelper.fromJson(entries, Map.class);
+        try (PipelineBase pipeline = getClient().pipelined()) {
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                String value = String.valueOf(entry.getValue());
+                if (timeToLive > 0) {
+                    pipeline.setex(entry.getKey(), timeToLive, value);
+                } else {
+                    pipeline.set(entry.getKey(), value);
+                }
+            }
+            pipeline.sync();
+        }
+    }
 
-        String[] splitUri = Configuration.get(DIRIGIBLE_REDIS_CLIENT_URI, CLIENT_URI)
-                                         .split(":");
+    /**
+     * Creates a pooled client.
+     *
+     * @param uri the uri
+     * @return the client
+     */
+    private static JedisPooled createClient(String uri) {
+        String[] splitUri = uri.split(":");
 
         String host = splitUri[0];
         int port = Integer.parseInt(splitUri[1]);
 
-        return new Jedis(host, port);
+        ConnectionPoolConfig poolConfig = new ConnectionPoolConfig();
+        poolConfig.setMaxTotal(Configuration.getAsInt(DIRIGIBLE_REDIS_POOL_MAX_TOTAL, 16));
+        poolConfig.setMaxIdle(Configuration.getAsInt(DIRIGIBLE_REDIS_POOL_MAX_IDLE, 16));
+        poolConfig.setMinIdle(Configuration.getAsInt(DIRIGIBLE_REDIS_POOL_MIN_IDLE, 0));
+        poolConfig.setMaxWait(Duration.ofMillis(Configuration.getAsInt(DIRIGIBLE_REDIS_POOL_MAX_WAIT, 5000)));
+        poolConfig.setTestWhileIdle(true);
+        return new JedisPooled(poolConfig, host, port);
+    }
+
+    /**
+     * Closes the pools of the clients.
+     */
+    @Override
+    public void destroy() {
+        CLIENTS.values()
+               .forEach(JedisPooled::close);
+        CLIENTS.clear();
     }
 }
@@ -9,6 +9,9 @@
  */
 package org.eclipse.dirigible.components.api.redis;
 
+import java.util.Map;
+
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -18,9 +21,10 @@ import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
-import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPooled;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 @DisabledOnOs(OS.WINDOWS)
 @Testcontainers
@@ -36,8 +40,16 @@ public class RedisFacadeTest {
 
     @Test
     public void getClient() {
-        Jedis client = RedisFacade.getClient();
+        JedisPooled client = RedisFacade.getClient();
         client.set("key", "value");
         assertEquals("value", client.get("key"));
+        assertSame(client, RedisFacade.getClient());
+    }
+
+    @Test
+    public void getAllAndSetAll() {
+        RedisFacade.setAll("{\"first\": \"1\", \"second\": \"2\"}", 0);
+        assertEquals(Map.of("first", "1", "second", "2"),
+                GsonHelper.fromJson(RedisFacade.getAll("[\"first\", \"second\", \"missing\"]"), Map.class));
     }
 }
@@ -10,6 +10,8 @@
 package org.eclipse.dirigible.components.api.templates;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
@@ -154,11 +156,8 @@ public class TemplateEnginesFacade implements InitializingBean {
          * @return the string
          * @throws IOException Signals that an I/O exception has occurred.
          */
-        @SuppressWarnings("unchecked")
         public String generate(String location, String template, String parametersJson) throws IOException {
-            Map<String, Object> parameters = GsonHelper.fromJson(parametersJson, Map.class);
-            byte[] result = engine.generate(parameters, location, template.getBytes());
-            return new String(result);
+            return generate(location, template, parametersJson, null, null);
         }
 
         /**
@@ -174,8 +173,9 @@ public class TemplateEnginesFacade implements InitializingBean {
         @SuppressWarnings("unchecked")
         public String generate(String location, String template, String parametersJson, String sm, String em) throws IOException {
             Map<String, Object> parameters = GsonHelper.fromJson(parametersJson, Map.class);
-            byte[] result = engine.generate(parameters, location, template.getBytes(), sm, em);
-            return new String(result);
+            StringWriter writer = new StringWriter();
+            engine.generate(parameters, location, template.getBytes(StandardCharsets.UTF_8), sm, em, writer);
+            return writer.toString();
         }
     }
 }
@@ -33,6 +33,9 @@ public interface ApplicationListenersOrder {
         /** The default tenant initializer. */
         int DEFAULT_TENANT_INITIALIZER = 20;
 
+        /** The tenant cache initializer. */
+        int TENANT_CACHE_INITIALIZER = 25;
+
         /** The admin user initializer. */
         int ADMIN_USER_INITIALIZER = 30;
 
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.base.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes items in the background. The items are queued by the callers and a background thread
+ * passes them in batches to the sink, which writes a batch at once, e.g. in one transaction. If a
+ * batch fails, its items are passed to the sink one by one, so that only the failing items are
+ * lost. The thread is started with the first queued item. When the queue is full the item is either
+ * dropped or the caller waits for up to a flush interval, depending on the overflow policy.
+ *
+ * @param <T> the type of the items
+ */
+public class BatchWriter<T> implements AutoCloseable {
+
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchWriter.class);
+
+    /**
+     * The overflow policy.
+     */
+    public enum OverflowPolicy {
+        /** Drop the item. */
+        DROP,
+        /** Wait for free space for up to a flush interval, then drop the item. */
+        BLOCK
+    }
+
+    /** The name of the writer thread. */
+    private final String name;
+
+    /** The sink. */
+    private final Consumer<List<T>> sink;
+
+    /** The queue. */
+    private final BlockingQueue<T> queue;
+
+    /** The batch size. */
+    private final int batchSize;
+
+    /** The flush interval in millis. */
+    private final long flushInterval;
+
+    /** The overflow policy. */
+    private final OverflowPolicy overflowPolicy;
+
+    /** The monitor the writer thread waits on. */
+    private final Object signal = new Object();
+
+    /** The lock guarding the writes, so that the items are written in order. */
+    private final Object writeLock = new Object();
+
+    /** The dropped items count. */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /** The written items count. */
+    private final AtomicLong written = new AtomicLong();
+
+    /** The failed items count. */
+    private final AtomicLong failed = new AtomicLong();
+
+    /** The writer thread, or null if not started yet. */
+    private volatile Thread thread;
+
+    /** Whether the writer is running. */
+    private volatile boolean running = true;
+
+    /**
+     * Instantiates a new batch writer.
+     *
+     * @param name the name of the writer thread
+     * @param sink the sink writing a batch at once
+     * @param capacity the queue capacity
+     * @param batchSize the batch size
+     * @param flushInterval the flush interval in millis
+     * @param overflowPolicy the overflow policy
+     */
+    public BatchWriter(String name, Consumer<List<T>> sink, int capacity, int batchSize, long flushInterval,
+            OverflowPolicy overflowPolicy) {
+        this.name = name;
+        this.sink = sink;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Parses the overflow policy.
+     *
+     * @param value the value, or null
+     * @param defaultValue the default value, used if the value is missing or not a valid policy
+     * @return the overflow policy
+     */
+    public static OverflowPolicy parseOverflowPolicy(String value, OverflowPolicy defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        for (OverflowPolicy policy : OverflowPolicy.values()) {
+            if (policy.name()
+                      .equalsIgnoreCase(value)) {
+                return policy;
+            }
+        }
+        LOGGER.warn("Invalid overflow policy [{}], [{}] will be used", value, defaultValue);
+        return defaultValue;
+    }
+
+    /**
+     * Enqueue an item.
+     *
+     * @param item the item
+     * @return true, if enqueued, false if dropped
+     */
+    public boolean enqueue(T item) {
+        if (thread == null) {
+            start();
+        }
+        boolean enqueued = queue.offer(item);
+        if (!enqueued && overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                enqueued = queue.offer(item, flushInterval, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            }
+        }
+        if (!enqueued) {
+            if (dropped.incrementAndGet() % 1_000 == 1) {
+                LOGGER.warn("The queue of [{}] is full, [{}] items have been dropped so far", name, dropped.get());
+            }
+            return false;
+        }
+        if (queue.size() >= batchSize) {
+            synchronized (signal) {
+                signal.notifyAll();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes all the queued items in the current thread.
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            List<T> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of the dropped items.
+     *
+     * @return the dropped count
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Gets the number of the written items.
+     *
+     * @return the written count
+     */
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    /**
+     * Gets the number of the items failed to be written.
+     *
+     * @return the failed count
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Gets the number of the queued items.
+     *
+     * @return the queue size
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Checks if the writer thread has been started.
+     *
+     * @return true, if started
+     */
+    public boolean isStarted() {
+        return thread != null;
+    }
+
+    /**
+     * Stops the writer thread and writes the queued items.
+     */
+    @Override
+    public void close() {
+        Thread current;
+        synchronized (this) {
+            running = false;
+            current = thread;
+        }
+        if (current != null) {
+            synchronized (signal) {
+                signal.notifyAll();
+            }
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Starts the writer thread, if not started yet and not closed.
+     */
+    private synchronized void start() {
+        if (thread == null && running) {
+            thread = new Thread(this::run, name);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * The writer thread loop.
+     */
+    private void run() {
+        while (running) {
+            try {
+                synchronized (signal) {
+                    if (running && queue.size() < batchSize) {
+                        signal.wait(flushInterval);
+                    }
+                }
+                flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to write the items of [{}]", name, e);
+            }
+        }
+    }
+
+    /**
+     * Writes a batch, falling back to writing the items one by one if the batch fails.
+     *
+     * @param batch the batch
+     */
+    private void write(List<T> batch) {
+        try {
+            sink.accept(batch);
+            written.addAndGet(batch.size());
+            return;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                failed.incrementAndGet();
+                LOGGER.error("Failed to write item [{}] of [{}]", batch.get(0), name, e);
+                return;
+            }
+            LOGGER.warn("Failed to write a batch of [{}] items of [{}], retrying them one by one", batch.size(), name, e);
+        }
+        for (T item : batch) {
+            try {
+                sink.accept(List.of(item));
+                written.incrementAndGet();
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                LOGGER.error("Failed to write item [{}] of [{}]", item, name, e);
+            }
+        }
+    }
+
+}
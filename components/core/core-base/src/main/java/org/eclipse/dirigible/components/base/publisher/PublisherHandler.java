@@ -9,18 +9,34 @@
  */
 package org.eclipse.dirigible.components.base.publisher;
 
+import java.util.Set;
+
 /**
  * The Interface PublisherHandler.
  */
 public interface PublisherHandler {
 
     /**
-     * The AfterPublishMetadata.
+     * The AfterPublishMetadata. The changed paths are the registry paths written or deleted by the
+     * publish, or null if they are not known.
      */
-    record AfterPublishMetadata(String workspace, String projectName, String entryPath, boolean isDirectory) {
+    record AfterPublishMetadata(String workspace, String projectName, String entryPath, boolean isDirectory, Set<String> changedPaths) {
+
+        public AfterPublishMetadata(String workspace, String projectName, String entryPath, boolean isDirectory) {
+            this(workspace, projectName, entryPath, isDirectory, null);
+        }
+
         public boolean isProjectMetadata() {
             return isDirectory && "".equals(entryPath);
         }
+
+        public boolean hasChanges() {
+            return changedPaths == null || !changedPaths.isEmpty();
+        }
+
+        public AfterPublishMetadata withChangedPaths(Set<String> changedPaths) {
+            return new AfterPublishMetadata(workspace, projectName, entryPath, isDirectory, changedPaths);
+        }
     }
 
     /**
@@ -9,6 +9,7 @@
  */
 package org.eclipse.dirigible.components.base.synchronizer;
 
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.DisposableBean;
@@ -17,13 +18,23 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.nio.file.*;
-import java.util.List;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * The Class SynchronizationWatcher.
+ * The Class SynchronizationWatcher. Watches the registry folder and all of its sub-folders, and
+ * collects the changed paths. The events are collected until the registry has been quiet for the
+ * debounce period, or at most for ten debounce periods during a longer storm, and are then
+ * published at once as a modification. If the folders cannot be watched, e.g. because the inotify
+ * watch limit has been reached, the watcher falls back to polling: the registry is reported as
+ * modified on every check, so that the periodic synchronization scans it as a whole.
  */
 @Component
 @Scope("singleton")
@@ -32,14 +43,43 @@ public class SynchronizationWatcher implements DisposableBean {
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(SynchronizationWatcher.class);
 
+    /** The Constant DIRIGIBLE_SYNCHRONIZATION_WATCHER_DEBOUNCE. */
+    private static final String DIRIGIBLE_SYNCHRONIZATION_WATCHER_DEBOUNCE = "DIRIGIBLE_SYNCHRONIZATION_WATCHER_DEBOUNCE";
+
     /** The modified. */
     private final AtomicBoolean modified;
 
+    /** The registered folders by watch key. */
+    private final Map<WatchKey, Path> folders = new ConcurrentHashMap<>();
+
+    /** The published changes, relative to the root folder. */
+    private final Map<String, WatchEvent.Kind<?>> changes = new LinkedHashMap<>();
+
+    /** Whether there have been changes which are not known by path. */
+    private boolean incomplete;
+
+    /** The debounce period in milliseconds. */
+    private final long debounce;
+
+    /** Whether the watcher has fallen back to polling. */
+    private volatile boolean polling;
+
     private WatchService watchService;
     private ExecutorService executorService;
+    private Path root;
 
     SynchronizationWatcher() {
-        modified = new AtomicBoolean(false);
+        this(Configuration.getAsInt(DIRIGIBLE_SYNCHRONIZATION_WATCHER_DEBOUNCE, 500));
+    }
+
+    /**
+     * Instantiates a new synchronization watcher.
+     *
+     * @param debounce the debounce period in milliseconds
+     */
+    SynchronizationWatcher(long debounce) {
+        this.modified = new AtomicBoolean(false);
+        this.debounce = Math.max(debounce, 1);
     }
 
     /**
@@ -56,29 +96,207 @@ public class SynchronizationWatcher implements DisposableBean {
             logger.warn("[{}] has been initialized already. Existing watcher will be closes and a new one will be created.", this);
             destroy();
         }
-        watchService = FileSystems.getDefault()
-                                  .newWatchService();
-
-        Path path = Paths.get(folder);
-        path.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE,
-                StandardWatchEventKinds.ENTRY_MODIFY);
+        polling = false;
+        WatchService service = FileSystems.getDefault()
+                                          .newWatchService();
+        watchService = service;
+        root = Paths.get(folder)
+                    .toAbsolutePath()
+                    .normalize();
+        try {
+            registerTree(service, root, null);
+        } catch (IOException e) {
+            fallBackToPolling(service, e);
+            return;
+        }
 
         executorService = Executors.newFixedThreadPool(1);
-        executorService.submit(() -> {
-            WatchKey watchKey;
-            try {
-                while ((watchKey = watchService.take()) != null) {
-                    List<WatchEvent<?>> events = watchKey.pollEvents();
-                    if (!events.isEmpty()) {
-                        modified.set(true);
+        executorService.submit(() -> watch(service));
+        logger.debug("Done initializing the Registry file watcher for [{}] folders.", folders.size());
+    }
+
+    /**
+     * Processes the events of the watch service until it is closed.
+     *
+     * @param service the watch service
+     */
+    private void watch(WatchService service) {
+        Map<String, WatchEvent.Kind<?>> pending = new LinkedHashMap<>();
+        boolean pendingIncomplete = false;
+        long firstPending = 0;
+        try {
+            while (true) {
+                WatchKey watchKey = service.poll(debounce, TimeUnit.MILLISECONDS);
+                if (watchKey != null) {
+                    if (pending.isEmpty() && !pendingIncomplete) {
+                        firstPending = System.currentTimeMillis();
                     }
-                    watchKey.reset();
+                    pendingIncomplete |= collect(service, watchKey, pending);
+                }
+                boolean quiet = watchKey == null;
+                boolean overdue = System.currentTimeMillis() - firstPending >= debounce * 10;
+                if ((!pending.isEmpty() || pendingIncomplete) && (quiet || overdue)) {
+                    publish(pending, pendingIncomplete);
+                    pending.clear();
+                    pendingIncomplete = false;
                 }
-            } catch (InterruptedException e) {
-                logger.error("Failed to take watch keys", e);
+            }
+        } catch (ClosedWatchServiceException e) {
+            logger.debug("The Registry file watcher has been closed");
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        } catch (RuntimeException e) {
+            logger.error("The Registry file watcher has failed", e);
+            force();
+        }
+    }
+
+    /**
+     * Collects the events of a watch key and registers the created folders.
+     *
+     * @param service the watch service
+     * @param watchKey the watch key
+     * @param pending the pending changes
+     * @return true, if some changes are not known by path
+     */
+    private boolean collect(WatchService service, WatchKey watchKey, Map<String, WatchEvent.Kind<?>> pending) {
+        boolean overflow = false;
+        Path folder = folders.get(watchKey);
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            WatchEvent.Kind<?> kind = event.kind();
+            if (kind == StandardWatchEventKinds.OVERFLOW || folder == null) {
+                overflow = true;
+                continue;
+            }
+            Path path = folder.resolve((Path) event.context());
+            merge(pending, relativize(path), kind);
+            if (kind == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                try {
+                    registerTree(service, path, pending);
+                } catch (IOException e) {
+                    fallBackToPolling(service, e);
+                    overflow = true;
+                }
+            }
+        }
+        if (!watchKey.reset()) {
+            // the folder has been deleted or is not accessible anymore
+            folders.remove(watchKey);
+        }
+        return overflow;
+    }
+
+    /**
+     * Stops watching and falls back to polling. The watch service is closed, so the watch loop, if
+     * running, ends with its next poll.
+     *
+     * @param service the watch service
+     * @param cause the cause
+     */
+    private void fallBackToPolling(WatchService service, IOException cause) {
+        logger.warn("Failed to watch the registry folders, falling back to polling the whole registry: {}", cause.getMessage());
+        logger.debug("The registry folders cannot be watched", cause);
+        polling = true;
+        folders.clear();
+        try {
+            service.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close the Registry file watcher", e);
+        }
+    }
+
+    /**
+     * Registers a folder and all of its sub-folders. The linked folders are not followed, as they may
+     * point outside of the registry or form cycles.
+     *
+     * @param service the watch service
+     * @param start the start folder
+     * @param pending the pending changes to which the existing files are added as created, as they may
+     *        have been created before the folder was registered, or null on initialization
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void registerTree(WatchService service, Path start, Map<String, WatchEvent.Kind<?>> pending) throws IOException {
+        Files.walkFileTree(start, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                folders.put(register(service, dir), dir);
+                if (pending != null && !dir.equals(start)) {
+                    merge(pending, relativize(dir), StandardWatchEventKinds.ENTRY_CREATE);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (pending != null) {
+                    merge(pending, relativize(file), StandardWatchEventKinds.ENTRY_CREATE);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                // deleted in the meantime
+                return FileVisitResult.CONTINUE;
             }
         });
-        logger.debug("Done initializing the Registry file watcher.");
+    }
+
+    /**
+     * Registers a folder with the watch service.
+     *
+     * @param service the watch service
+     * @param folder the folder
+     * @return the watch key
+     * @throws IOException Signals that an I/O exception has occurred, e.g. the watch limit has been
+     *         reached
+     */
+    WatchKey register(WatchService service, Path folder) throws IOException {
+        return folder.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    /**
+     * Merges an event into the changes. A path which has been created and then modified remains
+     * created, otherwise the last event wins.
+     *
+     * @param target the changes
+     * @param path the path
+     * @param kind the kind
+     */
+    private static void merge(Map<String, WatchEvent.Kind<?>> target, String path, WatchEvent.Kind<?> kind) {
+        target.merge(path, kind,
+                (previous, next) -> previous == StandardWatchEventKinds.ENTRY_CREATE && next == StandardWatchEventKinds.ENTRY_MODIFY
+                        ? previous
+                        : next);
+    }
+
+    /**
+     * Publishes the pending changes.
+     *
+     * @param pending the pending changes
+     * @param pendingIncomplete whether some changes are not known by path
+     */
+    private void publish(Map<String, WatchEvent.Kind<?>> pending, boolean pendingIncomplete) {
+        synchronized (changes) {
+            pending.forEach((path, kind) -> merge(changes, path, kind));
+            incomplete |= pendingIncomplete;
+            modified.set(true);
+        }
+        logger.debug("Registry changes detected: [{}] paths{}", pending.size(), pendingIncomplete ? " and unknown changes" : "");
+    }
+
+    /**
+     * Relativize.
+     *
+     * @param path the path
+     * @return the path relative to the root folder, with forward slashes
+     */
+    private String relativize(Path path) {
+        return root.relativize(path)
+                   .toString()
+                   .replace('\\', '/');
     }
 
     @Override
@@ -86,33 +304,77 @@ public class SynchronizationWatcher implements DisposableBean {
         logger.info("Destroying [{}}", this);
         reset();
 
-        watchService.close();
-        watchService = null;
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+        folders.clear();
 
-        executorService.shutdown();
-        executorService = null;
+        if (executorService != null) {
+            executorService.shutdown();
+            executorService = null;
+        }
     }
 
     /**
      * Reset.
      */
     public void reset() {
-        modified.set(false);
+        drainChanges();
+    }
+
+    /**
+     * Returns the changes since the last reset or drain and resets the watcher. The changes are
+     * incomplete while polling.
+     *
+     * @return the changes
+     */
+    public Changes drainChanges() {
+        synchronized (changes) {
+            Changes drained = new Changes(Collections.unmodifiableMap(new LinkedHashMap<>(changes)), !incomplete && !polling);
+            changes.clear();
+            incomplete = false;
+            modified.set(false);
+            return drained;
+        }
     }
 
     /**
-     * Checks if is modified.
+     * Checks if is modified. Always true while polling.
      *
      * @return true, if is modified
      */
     public boolean isModified() {
-        return modified.get();
+        return polling || modified.get();
     }
 
     /**
-     * Force.
+     * Checks if the watcher has fallen back to polling.
+     *
+     * @return true, if polling
+     */
+    public boolean isPolling() {
+        return polling;
+    }
+
+    /**
+     * Force a modification, which is not known by path.
      */
     public void force() {
-        modified.set(true);
+        synchronized (changes) {
+            incomplete = true;
+            modified.set(true);
+        }
+    }
+
+    /**
+     * The changes in the registry.
+     *
+     * @param paths the changed paths relative to the registry folder with the kind of their last
+     *        change. A deleted folder stands for all of its content.
+     * @param complete false if there have been changes, which are not known by path, e.g. forced ones
+     *        or lost events, so the whole registry has to be synchronized
+     */
+    public record Changes(Map<String, WatchEvent.Kind<?>> paths, boolean complete) {
     }
 }
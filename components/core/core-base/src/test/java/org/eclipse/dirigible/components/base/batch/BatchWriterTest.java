@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.base.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.dirigible.components.base.batch.BatchWriter.OverflowPolicy;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class BatchWriterTest.
+ */
+public class BatchWriterTest {
+
+    /** The written items. */
+    private final List<String> written = new ArrayList<>();
+
+    /** The sizes of the batches passed to the sink. */
+    private final List<Integer> batches = new ArrayList<>();
+
+    /**
+     * Test that the items are written in batches and in order.
+     */
+    @Test
+    public void testBatches() {
+        try (BatchWriter<String> writer = new BatchWriter<>("test-writer", this::write, 10, 2, 60_000, OverflowPolicy.DROP)) {
+            writer.enqueue("a");
+            writer.enqueue("b");
+            writer.enqueue("c");
+            writer.flush();
+
+            assertEquals(List.of("a", "b", "c"), written);
+            assertEquals(List.of(2, 1), batches);
+            assertEquals(3, writer.getWrittenCount());
+            assertEquals(0, writer.getQueueSize());
+        }
+    }
+
+    /**
+     * Test that a failed batch is retried one by one, so only the failing item is lost.
+     */
+    @Test
+    public void testRetryOneByOne() {
+        try (BatchWriter<String> writer = new BatchWriter<>("test-writer", this::write, 10, 10, 60_000, OverflowPolicy.DROP)) {
+            writer.enqueue("a");
+            writer.enqueue("");
+            writer.enqueue("c");
+            writer.flush();
+
+            assertEquals(List.of("a", "c"), written);
+            assertEquals(List.of(3, 1, 1, 1), batches);
+            assertEquals(2, writer.getWrittenCount());
+            assertEquals(1, writer.getFailedCount());
+        }
+    }
+
+    /**
+     * Test that the items are dropped and counted when the queue is full.
+     */
+    @Test
+    public void testDropWhenFull() {
+        try (BatchWriter<String> writer = new BatchWriter<>("test-writer", this::write, 1, 10, 60_000, OverflowPolicy.DROP)) {
+            assertTrue(writer.enqueue("a"));
+            assertFalse(writer.enqueue("b"));
+            assertFalse(writer.enqueue("c"));
+
+            assertEquals(2, writer.getDroppedCount());
+            assertEquals(1, writer.getQueueSize());
+        }
+    }
+
+    /**
+     * Test that the thread is started with the first item and the queued items are written on close.
+     */
+    @Test
+    public void testLazyStartAndClose() {
+        BatchWriter<String> writer = new BatchWriter<>("test-writer", this::write, 10, 10, 60_000, OverflowPolicy.DROP);
+        assertFalse(writer.isStarted());
+
+        writer.enqueue("a");
+        assertTrue(writer.isStarted());
+
+        writer.close();
+        assertEquals(List.of("a"), written);
+    }
+
+    /**
+     * Test the parsing of the overflow policy.
+     */
+    @Test
+    public void testParseOverflowPolicy() {
+        assertEquals(OverflowPolicy.BLOCK, BatchWriter.parseOverflowPolicy("block", OverflowPolicy.DROP));
+        assertEquals(OverflowPolicy.DROP, BatchWriter.parseOverflowPolicy("unknown", OverflowPolicy.DROP));
+    }
+
+    /**
+     * The sink, failing the whole batch if an item is empty, like a constraint violation would roll
+     * back the transaction.
+     *
+     * @param items the items
+     */
+    private void write(List<String> items) {
+        batches.add(items.size());
+        if (items.contains("")) {
+            throw new IllegalStateException("Empty item");
+        }
+        written.addAll(items);
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.base.synchronizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The Class SynchronizationWatcherTest.
+ */
+public class SynchronizationWatcherTest {
+
+    /** The registry. */
+    @TempDir
+    Path registry;
+
+    /** The watcher. */
+    private SynchronizationWatcher watcher;
+
+    /**
+     * Sets up the watcher.
+     *
+     * @throws Exception the exception
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        Files.createDirectories(registry.resolve("project/nested"));
+        watcher = new SynchronizationWatcher(100);
+        watcher.initialize(registry.toString());
+    }
+
+    /**
+     * Tear down.
+     *
+     * @throws Exception the exception
+     */
+    @AfterEach
+    public void tearDown() throws Exception {
+        watcher.destroy();
+    }
+
+    /**
+     * Test that the changes in nested and in new folders are recorded by path.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testNestedChanges() throws Exception {
+        Files.writeString(registry.resolve("project/nested/file.txt"), "content");
+        awaitModified();
+        SynchronizationWatcher.Changes changes = watcher.drainChanges();
+        assertTrue(changes.complete());
+        assertEquals(StandardWatchEventKinds.ENTRY_CREATE, changes.paths()
+                                                                  .get("project/nested/file.txt"));
+        assertFalse(watcher.isModified());
+
+        Files.createDirectories(registry.resolve("project/created"));
+        awaitModified();
+        watcher.drainChanges();
+        Files.writeString(registry.resolve("project/created/file.js"), "content");
+        awaitModified();
+        assertEquals(StandardWatchEventKinds.ENTRY_CREATE, watcher.drainChanges()
+                                                                  .paths()
+                                                                  .get("project/created/file.js"));
+    }
+
+    /**
+     * Test that a forced modification is reported as incomplete.
+     */
+    @Test
+    public void testForce() {
+        watcher.force();
+        assertTrue(watcher.isModified());
+        assertFalse(watcher.drainChanges()
+                           .complete());
+        assertFalse(watcher.isModified());
+    }
+
+    /**
+     * Test that the watcher falls back to polling if the folders cannot be watched.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testFallBackToPolling() throws Exception {
+        SynchronizationWatcher limited = new SynchronizationWatcher(100) {
+            @Override
+            WatchKey register(WatchService service, Path folder) throws IOException {
+                throw new IOException("User limit of inotify watches reached");
+            }
+        };
+        try {
+            limited.initialize(registry.toString());
+            assertTrue(limited.isPolling());
+            assertTrue(limited.isModified());
+            assertFalse(limited.drainChanges()
+                               .complete());
+            assertTrue(limited.isModified());
+        } finally {
+            limited.destroy();
+        }
+    }
+
+    /**
+     * Await modified.
+     *
+     * @throws InterruptedException the interrupted exception
+     */
+    private void awaitModified() throws InterruptedException {
+        for (int i = 0; i < 100 && !watcher.isModified(); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(watcher.isModified());
+    }
+
+}
@@ -162,7 +162,11 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
         logger.info("Executing synchronization...");
 
         processing.set(true);
-        synchronizationWatcher.reset();
+        SynchronizationWatcher.Changes changes = synchronizationWatcher.drainChanges();
+        if (changes.complete()) {
+            logger.info("Registry changes since the last synchronization: [{}] paths", changes.paths()
+                                                                                              .size());
+        }
 
         try {
 
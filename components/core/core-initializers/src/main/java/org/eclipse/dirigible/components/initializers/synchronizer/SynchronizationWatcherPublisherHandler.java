@@ -46,7 +46,9 @@ public class SynchronizationWatcherPublisherHandler implements PublisherHandler
      */
     @Override
     public void afterPublish(String workspaceLocation, String registryLocation, AfterPublishMetadata metadata) {
-        synchronizationWatcher.force();
+        if (metadata.hasChanges()) {
+            synchronizationWatcher.force();
+        }
     }
 
     /**
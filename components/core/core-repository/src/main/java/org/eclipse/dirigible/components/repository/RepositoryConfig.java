@@ -30,7 +30,7 @@ public class RepositoryConfig {
      *
      * @return the i repository
      */
-    @Bean
+    @Bean(destroyMethod = "dispose")
     public IRepository repository() {
         String repoFolderPath = DirigibleConfig.REPOSITORY_LOCAL_ROOT_FOLDER.getStringValue();
         Path path = Paths.get(repoFolderPath);
@@ -9,6 +9,7 @@
  */
 package org.eclipse.dirigible.components.tenants.provisioning;
 
+import org.eclipse.dirigible.commons.config.DirigibleConfig;
 import org.eclipse.dirigible.components.base.tenant.TenantPostProvisioningStep;
 import org.eclipse.dirigible.components.base.tenant.TenantProvisioningStep;
 import org.eclipse.dirigible.components.tenants.domain.Tenant;
@@ -19,7 +20,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The Class TenantsProvisioner.
@@ -70,7 +76,7 @@ class TenantsProvisioner {
             LOGGER.debug("No tenants applicable for provisioning");
         }
 
-        tenants.forEach(this::provisionTenant);
+        provisionTenants(tenants);
 
         if (!tenants.isEmpty()) {
             LOGGER.info("Starting post provisioning process...");
@@ -84,6 +90,41 @@ class TenantsProvisioner {
         }
     }
 
+    /**
+     * Provisions the tenants in parallel. The tenants are independent of each other, so the number of
+     * the parallel provisionings is only bounded to limit the load on the database.
+     *
+     * @param tenants the tenants
+     */
+    private void provisionTenants(Set<Tenant> tenants) {
+        int threads = Math.min(Math.max(DirigibleConfig.TENANTS_PROVISIONING_THREADS.getIntValue(), 1), tenants.size());
+        if (threads <= 1) {
+            tenants.forEach(this::provisionTenant);
+            return;
+        }
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "tenants-provisioning-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Callable<Void>> tasks = tenants.stream()
+                                                .map(tenant -> (Callable<Void>) () -> {
+                                                    provisionTenant(tenant);
+                                                    return null;
+                                                })
+                                                .toList();
+            executor.invokeAll(tasks);
+        } catch (InterruptedException ex) {
+            Thread.currentThread()
+                  .interrupt();
+            LOGGER.warn("Tenants provisioning has been interrupted.", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Provision tenant.
      *
@@ -15,7 +15,6 @@ import java.util.Set;
 import org.eclipse.dirigible.components.tenants.domain.Tenant;
 import org.eclipse.dirigible.components.tenants.domain.TenantStatus;
 import org.eclipse.dirigible.components.tenants.tenant.TenantExtractor;
-import org.eclipse.dirigible.components.tenants.tenant.TenantImpl;
 import org.springframework.stereotype.Service;
 
 /**
@@ -73,7 +72,7 @@ public class TenantService {
      */
     public Tenant save(Tenant tenant) {
         Tenant newTenant = tenantRepository.save(tenant);
-        TenantExtractor.TENANT_CACHE.put(newTenant.getSubdomain(), Optional.of(TenantImpl.createFromEntity(newTenant)));
+        TenantExtractor.cacheTenant(newTenant);
         return newTenant;
     }
 
@@ -94,7 +93,7 @@ public class TenantService {
      */
     public void delete(Tenant tenant) {
         tenantRepository.delete(tenant);
-        TenantExtractor.TENANT_CACHE.invalidate(tenant.getSubdomain());
+        TenantExtractor.evictTenant(tenant);
     }
 
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.tenants.tenant;
+
+import org.eclipse.dirigible.components.base.ApplicationListenersOrder.ApplicationReadyEventListeners;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Preloads the registered tenants into the tenants cache at startup.
+ */
+@Order(ApplicationReadyEventListeners.TENANT_CACHE_INITIALIZER)
+@Component
+class TenantCacheInitializer implements ApplicationListener<ApplicationReadyEvent> {
+
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(TenantCacheInitializer.class);
+
+    /** The tenant extractor. */
+    private final TenantExtractor tenantExtractor;
+
+    /**
+     * Instantiates a new tenant cache initializer.
+     *
+     * @param tenantExtractor the tenant extractor
+     */
+    TenantCacheInitializer(TenantExtractor tenantExtractor) {
+        this.tenantExtractor = tenantExtractor;
+    }
+
+    /**
+     * On application event.
+     *
+     * @param event the event
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        try {
+            int count = tenantExtractor.preload();
+            if (count > 0) {
+                LOGGER.info("Preloaded [{}] tenants into the tenants cache", count);
+            }
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Failed to preload the tenants cache. The tenants will be resolved on demand.", ex);
+        }
+    }
+
+}
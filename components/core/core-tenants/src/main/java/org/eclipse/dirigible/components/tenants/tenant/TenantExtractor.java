@@ -13,6 +13,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -39,10 +40,21 @@ public class TenantExtractor {
     /** The Constant TENANT_SUBDOMAIN_PATTERN. */
     private static final Pattern TENANT_SUBDOMAIN_PATTERN = Pattern.compile(DirigibleConfig.TENANT_SUBDOMAIN_REGEX.getStringValue());
 
+    /**
+     * The subdomains of the cached tenants by tenant id, so that a tenant is evicted under its previous
+     * subdomain without scanning the cache.
+     */
+    private static final Map<String, String> TENANT_SUBDOMAINS = new ConcurrentHashMap<>();
+
     /** The Constant tenantCache. */
     public static final Cache<String, Optional<Tenant>> TENANT_CACHE = Caffeine.newBuilder()
-                                                                               .expireAfterWrite(10, TimeUnit.MINUTES)
-                                                                               .maximumSize(100)
+                                                                               .expireAfterWrite(
+                                                                                       DirigibleConfig.TENANTS_CACHE_EXPIRE_SECONDS.getIntValue(),
+                                                                                       TimeUnit.SECONDS)
+                                                                               .maximumSize(
+                                                                                       DirigibleConfig.TENANTS_CACHE_MAX_SIZE.getIntValue())
+                                                                               .<String, Optional<Tenant>>evictionListener((subdomain,
+                                                                                       tenant, cause) -> forgetSubdomain(subdomain, tenant))
                                                                                .build();
 
     private final TenantService tenantService;
@@ -56,6 +68,65 @@ public class TenantExtractor {
                                      .create();
     }
 
+    /**
+     * Loads all registered tenants into the cache, so that the first requests to each of them do not
+     * have to resolve it from the database.
+     *
+     * @return the number of the cached tenants
+     */
+    public int preload() {
+        if (!multitenantModeEnabled) {
+            return 0;
+        }
+        int count = 0;
+        for (org.eclipse.dirigible.components.tenants.domain.Tenant tenant : tenantService.getAll()) {
+            cacheTenant(tenant);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Puts a tenant in the cache, replacing the entry of its previous subdomain if it has been changed.
+     *
+     * @param tenant the tenant
+     */
+    public static void cacheTenant(org.eclipse.dirigible.components.tenants.domain.Tenant tenant) {
+        evictTenant(tenant);
+        TENANT_CACHE.put(tenant.getSubdomain(), Optional.of(TenantImpl.createFromEntity(tenant)));
+        rememberSubdomain(tenant.getId(), tenant.getSubdomain());
+    }
+
+    /**
+     * Removes a tenant from the cache under its current and its previous subdomain.
+     *
+     * @param tenant the tenant
+     */
+    public static void evictTenant(org.eclipse.dirigible.components.tenants.domain.Tenant tenant) {
+        TENANT_CACHE.invalidate(tenant.getSubdomain());
+        if (tenant.getId() != null) {
+            String previousSubdomain = TENANT_SUBDOMAINS.remove(tenant.getId());
+            if (previousSubdomain != null && !previousSubdomain.equals(tenant.getSubdomain())) {
+                TENANT_CACHE.invalidate(previousSubdomain);
+            }
+        }
+    }
+
+    private static void rememberSubdomain(String tenantId, String subdomain) {
+        if (tenantId != null) {
+            TENANT_SUBDOMAINS.put(tenantId, subdomain);
+        }
+    }
+
+    private static void forgetSubdomain(String subdomain, Optional<Tenant> tenant) {
+        if (tenant != null && tenant.isPresent() && tenant.get()
+                                                          .getId() != null) {
+            TENANT_SUBDOMAINS.remove(tenant.get()
+                                           .getId(),
+                    subdomain);
+        }
+    }
+
     /**
      * Determine current tenant.
      *
@@ -104,8 +175,10 @@ public class TenantExtractor {
         String subdomain = subdomainOpt.get();
         return TENANT_CACHE.get(subdomain, k -> {
             LOGGER.debug("Searching for tenant with subdomain [{}] from database", subdomain);
-            return tenantService.findBySubdomain(subdomain)
-                                .map(TenantImpl::createFromEntity);
+            Optional<Tenant> tenant = tenantService.findBySubdomain(subdomain)
+                                                   .map(TenantImpl::createFromEntity);
+            tenant.ifPresent(t -> rememberSubdomain(t.getId(), subdomain));
+            return tenant;
         });
     }
 
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.tenants.provisioning;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.commons.config.DirigibleConfig;
+import org.eclipse.dirigible.components.base.tenant.TenantPostProvisioningStep;
+import org.eclipse.dirigible.components.base.tenant.TenantProvisioningException;
+import org.eclipse.dirigible.components.base.tenant.TenantProvisioningStep;
+import org.eclipse.dirigible.components.tenants.domain.Tenant;
+import org.eclipse.dirigible.components.tenants.domain.TenantStatus;
+import org.eclipse.dirigible.components.tenants.service.TenantService;
+import org.eclipse.dirigible.components.tenants.tenant.TenantExtractor;
+import org.eclipse.dirigible.components.tenants.tenant.TenantFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Resolves and provisions 1000 synthetic tenants stored in H2 and logs the time of each. The tenant
+ * service reads and writes the tenants table with plain JDBC. Only the results are asserted, the
+ * times depend on the machine. Run with the benchmarks profile.
+ */
+public class TenantsBenchmark {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(TenantsBenchmark.class);
+
+    /** The number of tenants. */
+    private static final int TENANTS = 1_000;
+
+    /** The number of measured rounds. */
+    private static final int ROUNDS = 10;
+
+    /** The number of the parallel provisionings. */
+    private static final int THREADS = 8;
+
+    /** The data source. */
+    private JdbcDataSource dataSource;
+
+    /** The connection, which keeps the in-memory database open. */
+    private Connection connection;
+
+    /** The tenant service. */
+    private TenantService tenantService;
+
+    /**
+     * Creates the tenants and the tenant service.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @BeforeEach
+    public void setUp() throws SQLException {
+        DirigibleConfig.MULTI_TENANT_MODE_ENABLED.setBooleanValue(true);
+        TenantExtractor.TENANT_CACHE.invalidateAll();
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:tenants-benchmark");
+        connection = dataSource.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE DIRIGIBLE_TENANTS (TENANT_ID VARCHAR(36) PRIMARY KEY, TENANT_NAME VARCHAR(255), "
+                    + "TENANT_SUBDOMAIN VARCHAR(255) UNIQUE NOT NULL, TENANT_STATUS VARCHAR(20) NOT NULL)");
+        }
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO DIRIGIBLE_TENANTS VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < TENANTS; i++) {
+                statement.setString(1, "id" + i);
+                statement.setString(2, "Tenant " + i);
+                statement.setString(3, "tenant" + i);
+                statement.setString(4, TenantStatus.PROVISIONED.name());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+
+        tenantService = mock(TenantService.class);
+        when(tenantService.findBySubdomain(anyString())).thenAnswer(
+                invocation -> select("TENANT_SUBDOMAIN", invocation.getArgument(0)).stream()
+                                                                                   .findFirst());
+        when(tenantService.getAll()).thenAnswer(invocation -> select(null, null));
+        when(tenantService.findByStatus(any())).thenAnswer(
+                invocation -> new HashSet<>(select("TENANT_STATUS", invocation.<TenantStatus>getArgument(0)
+                                                                              .name())));
+        when(tenantService.save(any())).thenAnswer(invocation -> {
+            Tenant tenant = invocation.getArgument(0);
+            update("UPDATE DIRIGIBLE_TENANTS SET TENANT_STATUS = ? WHERE TENANT_ID = ?", tenant.getStatus()
+                                                                                               .name(),
+                    tenant.getId());
+            return tenant;
+        });
+    }
+
+    /**
+     * Drops the tenants and restores the configuration.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @AfterEach
+    public void tearDown() throws SQLException {
+        DirigibleConfig.MULTI_TENANT_MODE_ENABLED.setBooleanValue(false);
+        Configuration.remove(DirigibleConfig.TENANTS_PROVISIONING_THREADS.getKey());
+        TenantExtractor.TENANT_CACHE.invalidateAll();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    /**
+     * Resolve 1000 tenants from the database and from the preloaded cache.
+     */
+    @Test
+    public void resolve1000Tenants() {
+        TenantExtractor tenantExtractor = new TenantExtractor(tenantService);
+        List<HttpServletRequest> requests = new ArrayList<>();
+        for (int i = 0; i < TENANTS; i++) {
+            HttpServletRequest request = mock(HttpServletRequest.class);
+            when(request.getHeader("host")).thenReturn("tenant" + i + ".example.com");
+            requests.add(request);
+        }
+        // warm up
+        resolve(tenantExtractor, requests);
+
+        long database = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            TenantExtractor.TENANT_CACHE.invalidateAll();
+            long start = System.nanoTime();
+            resolve(tenantExtractor, requests);
+            database += System.nanoTime() - start;
+        }
+
+        TenantExtractor.TENANT_CACHE.invalidateAll();
+        assertEquals(TENANTS, tenantExtractor.preload());
+        clearInvocations(tenantService);
+        long cached = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            resolve(tenantExtractor, requests);
+            cached += System.nanoTime() - start;
+        }
+        verify(tenantService, never()).findBySubdomain(anyString());
+
+        long resolutions = (long) ROUNDS * TENANTS;
+        logger.info("Resolution of [{}] tenants in ns per request - from the database: [{}], from the preloaded cache: [{}]", TENANTS,
+                database / resolutions, cached / resolutions);
+    }
+
+    /**
+     * Provision 1000 tenants serially and in parallel.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void provision1000Tenants() throws SQLException {
+        long serial = provision(1);
+        long parallel = provision(THREADS);
+
+        logger.info("Provisioning of [{}] tenants in ms - serially: [{}], on [{}] threads: [{}]", TENANTS, serial / 1_000_000, THREADS,
+                parallel / 1_000_000);
+    }
+
+    /**
+     * Provisions all the tenants, each with a table in its own in-memory database, which is dropped
+     * when its connection is closed.
+     *
+     * @param threads the number of the parallel provisionings
+     * @return the time in ns
+     * @throws SQLException the SQL exception
+     */
+    private long provision(int threads) throws SQLException {
+        update("UPDATE DIRIGIBLE_TENANTS SET TENANT_STATUS = ?", TenantStatus.INITIAL.name());
+        DirigibleConfig.TENANTS_PROVISIONING_THREADS.setIntValue(threads);
+
+        TenantProvisioningStep step = tenant -> {
+            JdbcDataSource tenantDataSource = new JdbcDataSource();
+            tenantDataSource.setURL("jdbc:h2:mem:tenant-" + tenant.getId());
+            try (Connection tenantConnection = tenantDataSource.getConnection(); Statement statement = tenantConnection.createStatement()) {
+                statement.execute("CREATE TABLE SETTINGS (SETTING_KEY VARCHAR(255) PRIMARY KEY, SETTING_VALUE VARCHAR(255))");
+                statement.execute("INSERT INTO SETTINGS VALUES ('subdomain', '" + tenant.getSubdomain() + "')");
+            } catch (SQLException ex) {
+                throw new TenantProvisioningException("Failed to create the database of tenant " + tenant.getId(), ex);
+            }
+        };
+        AtomicInteger postProvisionings = new AtomicInteger();
+        TenantPostProvisioningStep postStep = postProvisionings::incrementAndGet;
+        TenantsProvisioner provisioner = new TenantsProvisioner(tenantService, Set.of(step), Set.of(postStep), new TenantFactory());
+
+        long start = System.nanoTime();
+        provisioner.provision();
+        long time = System.nanoTime() - start;
+
+        assertEquals(TENANTS, select("TENANT_STATUS", TenantStatus.PROVISIONED.name()).size());
+        assertEquals(1, postProvisionings.get());
+        return time;
+    }
+
+    /**
+     * Resolves the tenants of the requests and asserts them.
+     *
+     * @param tenantExtractor the tenant extractor
+     * @param requests the requests
+     */
+    private static void resolve(TenantExtractor tenantExtractor, List<HttpServletRequest> requests) {
+        for (int i = 0; i < requests.size(); i++) {
+            assertEquals("id" + i, tenantExtractor.determineTenantSubdomain(requests.get(i))
+                                                  .map(org.eclipse.dirigible.components.base.tenant.Tenant::getId)
+                                                  .orElseThrow());
+        }
+    }
+
+    /**
+     * Selects the tenants.
+     *
+     * @param column the column to filter by or null for all the tenants
+     * @param value the value of the column
+     * @return the tenants
+     * @throws SQLException the SQL exception
+     */
+    private List<Tenant> select(String column, String value) throws SQLException {
+        String sql = "SELECT TENANT_ID, TENANT_NAME, TENANT_SUBDOMAIN, TENANT_STATUS FROM DIRIGIBLE_TENANTS"
+                + (column != null ? " WHERE " + column + " = ?" : "");
+        List<Tenant> tenants = new ArrayList<>();
+        try (Connection selectConnection = dataSource.getConnection();
+                PreparedStatement statement = selectConnection.prepareStatement(sql)) {
+            if (column != null) {
+                statement.setString(1, value);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    Tenant tenant = new Tenant();
+                    tenant.setId(resultSet.getString(1));
+                    tenant.setName(resultSet.getString(2));
+                    tenant.setSubdomain(resultSet.getString(3));
+                    tenant.setStatus(TenantStatus.valueOf(resultSet.getString(4)));
+                    tenants.add(tenant);
+                }
+            }
+        }
+        return tenants;
+    }
+
+    /**
+     * Executes an update.
+     *
+     * @param sql the SQL
+     * @param parameters the parameters
+     * @throws SQLException the SQL exception
+     */
+    private void update(String sql, String... parameters) throws SQLException {
+        try (Connection updateConnection = dataSource.getConnection();
+                PreparedStatement statement = updateConnection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setString(i + 1, parameters[i]);
+            }
+            statement.executeUpdate();
+        }
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.tenants.tenant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.dirigible.commons.config.DirigibleConfig;
+import org.eclipse.dirigible.components.base.tenant.Tenant;
+import org.eclipse.dirigible.components.tenants.service.TenantService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * The Class TenantExtractorTest.
+ */
+public class TenantExtractorTest {
+
+    /** The tenant service. */
+    private TenantService tenantService;
+
+    /** The tenant extractor. */
+    private TenantExtractor tenantExtractor;
+
+    /**
+     * Enables the multitenant mode and clears the cache.
+     */
+    @BeforeEach
+    public void setUp() {
+        DirigibleConfig.MULTI_TENANT_MODE_ENABLED.setBooleanValue(true);
+        TenantExtractor.TENANT_CACHE.invalidateAll();
+        tenantService = mock(TenantService.class);
+        tenantExtractor = new TenantExtractor(tenantService);
+    }
+
+    /**
+     * Restores the single tenant mode and clears the cache.
+     */
+    @AfterEach
+    public void tearDown() {
+        DirigibleConfig.MULTI_TENANT_MODE_ENABLED.setBooleanValue(false);
+        TenantExtractor.TENANT_CACHE.invalidateAll();
+    }
+
+    /**
+     * Test that a subdomain is resolved from the database only once, including an unknown one.
+     */
+    @Test
+    public void testCacheHits() {
+        when(tenantService.findBySubdomain("first")).thenReturn(Optional.of(tenant("1", "first")));
+        when(tenantService.findBySubdomain("unknown")).thenReturn(Optional.empty());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("1", tenantExtractor.determineTenantSubdomain(request("first"))
+                                             .map(Tenant::getId)
+                                             .orElseThrow());
+            assertTrue(tenantExtractor.determineTenantSubdomain(request("unknown"))
+                                      .isEmpty());
+        }
+
+        verify(tenantService, times(1)).findBySubdomain("first");
+        verify(tenantService, times(1)).findBySubdomain("unknown");
+    }
+
+    /**
+     * Test that the preloaded tenants are resolved without the database.
+     */
+    @Test
+    public void testPreload() {
+        when(tenantService.getAll()).thenReturn(List.of(tenant("1", "first"), tenant("2", "second")));
+
+        assertEquals(2, tenantExtractor.preload());
+
+        assertEquals("2", tenantExtractor.determineTenantSubdomain(request("second"))
+                                         .map(Tenant::getId)
+                                         .orElseThrow());
+        verify(tenantService, times(0)).findBySubdomain("second");
+    }
+
+    /**
+     * Test that a tenant updated with a new subdomain is evicted under its previous subdomain, both
+     * when it was cached on save and when it was resolved from the database.
+     */
+    @Test
+    public void testEvictionAfterUpdate() {
+        TenantExtractor.cacheTenant(tenant("1", "old"));
+        when(tenantService.findBySubdomain("resolved")).thenReturn(Optional.of(tenant("2", "resolved")));
+        assertTrue(tenantExtractor.determineTenantSubdomain(request("resolved"))
+                                  .isPresent());
+
+        TenantExtractor.cacheTenant(tenant("1", "new"));
+        TenantExtractor.cacheTenant(tenant("2", "renamed"));
+
+        assertNull(TenantExtractor.TENANT_CACHE.getIfPresent("old"));
+        assertNull(TenantExtractor.TENANT_CACHE.getIfPresent("resolved"));
+        assertEquals("1", TenantExtractor.TENANT_CACHE.getIfPresent("new")
+                                                      .map(Tenant::getId)
+                                                      .orElseThrow());
+        assertEquals("2", TenantExtractor.TENANT_CACHE.getIfPresent("renamed")
+                                                      .map(Tenant::getId)
+                                                      .orElseThrow());
+    }
+
+    /**
+     * Test that a deleted tenant is evicted.
+     */
+    @Test
+    public void testEvictionAfterDelete() {
+        TenantExtractor.cacheTenant(tenant("1", "first"));
+
+        TenantExtractor.evictTenant(tenant("1", "first"));
+
+        assertNull(TenantExtractor.TENANT_CACHE.getIfPresent("first"));
+    }
+
+    /**
+     * Tenant.
+     *
+     * @param id the id
+     * @param subdomain the subdomain
+     * @return the tenant
+     */
+    private static org.eclipse.dirigible.components.tenants.domain.Tenant tenant(String id, String subdomain) {
+        org.eclipse.dirigible.components.tenants.domain.Tenant tenant = new org.eclipse.dirigible.components.tenants.domain.Tenant();
+        tenant.setId(id);
+        tenant.setName(subdomain);
+        tenant.setSubdomain(subdomain);
+        return tenant;
+    }
+
+    /**
+     * Request.
+     *
+     * @param subdomain the subdomain
+     * @return the http servlet request
+     */
+    private static HttpServletRequest request(String subdomain) {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getHeader("host")).thenReturn(subdomain + ".example.com");
+        return request;
+    }
+
+}
@@ -15,6 +15,10 @@ import java.util.List;
 import java.util.Map;
 
 import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.commons.config.DirigibleConfig;
+import org.eclipse.dirigible.components.base.batch.BatchWriter;
+import org.eclipse.dirigible.components.base.batch.BatchWriter.OverflowPolicy;
+import org.eclipse.dirigible.components.tracing.TaskStateWriter.Pending;
 import org.javers.core.Javers;
 import org.javers.core.JaversBuilder;
 import org.javers.core.diff.Diff;
@@ -22,8 +26,11 @@ import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.annotation.PreDestroy;
+
 /**
  * The Class TaskStateService.
  */
@@ -34,9 +41,28 @@ public class TaskStateService {
     /** The Constant DIRIGIBLE_TRACING_TASK_ENABLED. */
     static final String DIRIGIBLE_TRACING_TASK_ENABLED = "DIRIGIBLE_TRACING_TASK_ENABLED";
 
+    /** The max number of queued task state changes. */
+    static final String DIRIGIBLE_TRACING_TASK_QUEUE_CAPACITY = "DIRIGIBLE_TRACING_TASK_QUEUE_CAPACITY";
+
+    /** The max number of task states written in a batch. */
+    static final String DIRIGIBLE_TRACING_TASK_BATCH_SIZE = "DIRIGIBLE_TRACING_TASK_BATCH_SIZE";
+
+    /** The interval in millis between the writes of the queued changes. */
+    static final String DIRIGIBLE_TRACING_TASK_FLUSH_INTERVAL = "DIRIGIBLE_TRACING_TASK_FLUSH_INTERVAL";
+
+    /** What to do when the queue is full - DROP or BLOCK. */
+    static final String DIRIGIBLE_TRACING_TASK_OVERFLOW_POLICY = "DIRIGIBLE_TRACING_TASK_OVERFLOW_POLICY";
+
+    /** The Javers instance, which is thread safe and expensive to build. */
+    private static final Javers JAVERS = JaversBuilder.javers()
+                                                      .build();
+
     /** The repository. */
     private TaskStateRepository repository;
 
+    /** The background writer. */
+    private final BatchWriter<Pending> writer;
+
     /**
      * Instantiates a new task state service.
      *
@@ -44,6 +70,11 @@ public class TaskStateService {
      */
     public TaskStateService(TaskStateRepository repository) {
         this.repository = repository;
+        this.writer = new BatchWriter<>("dirigible-task-state-writer", new TaskStateWriter(repository),
+                Configuration.getAsInt(DIRIGIBLE_TRACING_TASK_QUEUE_CAPACITY, 10_000),
+                Configuration.getAsInt(DIRIGIBLE_TRACING_TASK_BATCH_SIZE, 200),
+                Configuration.getAsInt(DIRIGIBLE_TRACING_TASK_FLUSH_INTERVAL, 1_000),
+                BatchWriter.parseOverflowPolicy(Configuration.get(DIRIGIBLE_TRACING_TASK_OVERFLOW_POLICY), OverflowPolicy.DROP));
     }
 
     /**
@@ -81,9 +112,64 @@ public class TaskStateService {
      * @return the taskState
      */
     private TaskState save(TaskState taskState) {
+        if (isAsync()) {
+            writer.enqueue(TaskStateWriter.pending(taskState));
+            return taskState;
+        }
         return getRepository().saveAndFlush(taskState);
     }
 
+    /**
+     * Checks if the task states are written in the background.
+     *
+     * @return true, if is async
+     */
+    private static boolean isAsync() {
+        return DirigibleConfig.TRACING_TASK_ASYNC.getBooleanValue();
+    }
+
+    /**
+     * Writes the queued task state changes in the current thread.
+     */
+    public void flush() {
+        writer.flush();
+    }
+
+    /**
+     * Gets the number of the task state changes dropped because the queue was full.
+     *
+     * @return the dropped count
+     */
+    public long getDroppedCount() {
+        return writer.getDroppedCount();
+    }
+
+    /**
+     * Gets the number of the task state changes written by the background writer.
+     *
+     * @return the written count
+     */
+    public long getWrittenCount() {
+        return writer.getWrittenCount();
+    }
+
+    /**
+     * Gets the number of the task state changes the background writer failed to write.
+     *
+     * @return the failed count
+     */
+    public long getFailedCount() {
+        return writer.getFailedCount();
+    }
+
+    /**
+     * Stops the background writer, writing the queued changes.
+     */
+    @PreDestroy
+    void close() {
+        writer.close();
+    }
+
     /**
      * Delete.
      *
@@ -112,9 +198,7 @@ public class TaskStateService {
                                                      this.getClass() + ": missing task state with [" + id + "]"));
 
         if (!TaskStatus.STARTED.equals(taskState.getStatus())) {
-            Javers javers = JaversBuilder.javers()
-                                         .build();
-            Diff diff = javers.compare(taskState.getInput(), taskState.getOutput());
+            Diff diff = JAVERS.compare(taskState.getInput(), taskState.getOutput());
             // TODO to be extracted and printed even prettier
             taskState.setDiff(diff.prettyPrint());
         }
@@ -143,6 +227,7 @@ public class TaskStateService {
      * @param input the input
      * @return the task state
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TaskState taskStarted(TaskType taskType, String execution, String step, Map<String, String> input) {
         if (!isTracingEnabled()) {
             return null;
@@ -170,6 +255,7 @@ public class TaskStateService {
      * @param taskState the task state
      * @param output the output
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void taskSuccessful(TaskState taskState, Map<String, String> output) {
         if (!isTracingEnabled()) {
             return;
@@ -194,6 +280,7 @@ public class TaskStateService {
      * @param output the output
      * @param error the error
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void taskFailed(TaskState taskState, Map<String, String> output, String error) {
         if (!isTracingEnabled()) {
             return;
@@ -218,7 +305,7 @@ public class TaskStateService {
      * @return true, if is tracing enabled
      */
     public boolean isTracingEnabled() {
-        return Boolean.parseBoolean(Configuration.get(TaskStateService.DIRIGIBLE_TRACING_TASK_ENABLED, "false"));
+        return DirigibleConfig.TRACING_TASK_ENABLED.getBooleanValue();
     }
 
     /**
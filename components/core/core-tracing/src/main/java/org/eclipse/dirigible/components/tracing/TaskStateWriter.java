@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.tracing;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Writes the batches of task state changes queued by the {@link TaskStateService}. The changes are
+ * queued as snapshots taken on the calling thread, so tracing a step costs a copy and an enqueue.
+ * The changes of the same task state within a batch are coalesced, e.g. a step started and finished
+ * between two flushes is inserted once with its final state.
+ */
+class TaskStateWriter implements Consumer<List<TaskStateWriter.Pending>> {
+
+    /** The repository. */
+    private final TaskStateRepository repository;
+
+    /**
+     * Instantiates a new task state writer.
+     *
+     * @param repository the repository
+     */
+    TaskStateWriter(TaskStateRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Takes a snapshot of the task state to be queued.
+     *
+     * @param taskState the task state
+     * @return the pending change
+     */
+    static Pending pending(TaskState taskState) {
+        return new Pending(taskState, snapshot(taskState));
+    }
+
+    /**
+     * Writes a batch, keeping only the latest snapshot of each task state.
+     *
+     * @param batch the batch
+     */
+    @Override
+    public void accept(List<Pending> batch) {
+        Map<TaskState, TaskState> latest = new IdentityHashMap<>();
+        List<TaskState> order = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            if (latest.put(pending.taskState(), pending.snapshot()) == null) {
+                order.add(pending.taskState());
+            }
+        }
+        List<TaskState> entities = new ArrayList<>(order.size());
+        for (TaskState taskState : order) {
+            TaskState entity = latest.get(taskState);
+            entity.setId(taskState.getId());
+            entities.add(entity);
+        }
+        List<TaskState> saved = repository.saveAll(entities);
+        for (int i = 0; i < order.size(); i++) {
+            order.get(i)
+                 .setId(saved.get(i)
+                             .getId());
+        }
+    }
+
+    /**
+     * Takes a snapshot of the task state.
+     *
+     * @param taskState the task state
+     * @return the snapshot
+     */
+    private static TaskState snapshot(TaskState taskState) {
+        TaskState snapshot = new TaskState();
+        snapshot.setType(taskState.getType());
+        snapshot.setExecution(taskState.getExecution());
+        snapshot.setStep(taskState.getStep());
+        snapshot.setDefinition(taskState.getDefinition());
+        snapshot.setInstance(taskState.getInstance());
+        snapshot.setTenant(taskState.getTenant());
+        snapshot.setThread(taskState.getThread());
+        snapshot.setStarted(taskState.getStarted());
+        snapshot.setEnded(taskState.getEnded());
+        snapshot.setStatus(taskState.getStatus());
+        snapshot.setError(taskState.getError());
+        snapshot.setInput(new TreeMap<>(taskState.getInput()));
+        snapshot.setOutput(new TreeMap<>(taskState.getOutput()));
+        return snapshot;
+    }
+
+    /**
+     * A queued change.
+     *
+     * @param taskState the task state returned to the caller
+     * @param snapshot the snapshot to be written
+     */
+    record Pending(TaskState taskState, TaskState snapshot) {
+    }
+
+}
@@ -14,6 +14,7 @@ import java.time.Instant;
 import java.util.Map;
 
 import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.commons.config.DirigibleConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
@@ -114,7 +115,7 @@ public class TracingFacade implements InitializingBean {
      * @return true, if is tracing enabled
      */
     public static boolean isTracingEnabled() {
-        return Boolean.parseBoolean(Configuration.get(TaskStateService.DIRIGIBLE_TRACING_TASK_ENABLED, "false"));
+        return DirigibleConfig.TRACING_TASK_ENABLED.getBooleanValue();
     }
 
     /**
@@ -13,10 +13,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
 import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.commons.config.DirigibleConfig;
 import org.eclipse.dirigible.components.base.endpoint.BaseEndpoint;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,6 +55,7 @@ public class TaskStateServiceTest {
     @BeforeEach
     public void setup() throws Exception {
         Configuration.set(TaskStateService.DIRIGIBLE_TRACING_TASK_ENABLED, "true");
+        Configuration.set(DirigibleConfig.TRACING_TASK_ASYNC.getKey(), "false");
 
         cleanup();
     }
@@ -146,6 +149,38 @@ public class TaskStateServiceTest {
 
     }
 
+    /**
+     * Start and finish written in the background, coalesced into a single row.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void startFinishAsync() throws Exception {
+        Configuration.set(DirigibleConfig.TRACING_TASK_ASYNC.getKey(), "true");
+        try {
+            Map<String, String> input = new TreeMap<String, String>();
+            input.put("var1", "val1");
+            Map<String, String> output = new TreeMap<String, String>();
+            output.put("var1", "val1_");
+
+            TaskState taskState = taskStateService.taskStarted(TaskType.BPM, "exec-async", "step1", input);
+            taskStateService.taskSuccessful(taskState, output);
+            taskStateService.flush();
+
+            List<TaskState> result = taskStateService.findByExecution("exec-async");
+            assertEquals(1, result.size());
+            assertEquals(TaskStatus.SUCCESSFUL, result.get(0)
+                                                      .getStatus());
+            assertEquals("val1_", result.get(0)
+                                        .getOutput()
+                                        .get("var1"));
+            assertEquals(taskState.getId(), result.get(0)
+                                                  .getId());
+        } finally {
+            Configuration.set(DirigibleConfig.TRACING_TASK_ASYNC.getKey(), "false");
+        }
+    }
+
     /**
      * The Class TestConfiguration.
      */
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * The Class TaskStateWriterTest.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskStateWriterTest {
+
+    /** The repository. */
+    @Mock
+    private TaskStateRepository repository;
+
+    /** The saved captor. */
+    @Captor
+    private ArgumentCaptor<List<TaskState>> savedCaptor;
+
+    /**
+     * Test that the changes of the same task state in a batch are coalesced.
+     */
+    @Test
+    void testCoalesce() {
+        mockSaveAll();
+        TaskStateWriter writer = new TaskStateWriter(repository);
+        TaskState first = taskState("exec1");
+        TaskState second = taskState("exec2");
+        TaskStateWriter.Pending started = TaskStateWriter.pending(first);
+        TaskStateWriter.Pending secondStarted = TaskStateWriter.pending(second);
+        first.setStatus(TaskStatus.SUCCESSFUL);
+        writer.accept(List.of(started, secondStarted, TaskStateWriter.pending(first)));
+
+        verify(repository).saveAll(savedCaptor.capture());
+        assertThat(savedCaptor.getValue()).extracting(TaskState::getExecution, TaskState::getStatus)
+                                          .containsExactly(tuple("exec1", TaskStatus.SUCCESSFUL), tuple("exec2", TaskStatus.STARTED));
+        assertThat(first.getId()).isEqualTo(100L);
+        assertThat(second.getId()).isEqualTo(101L);
+
+        first.setStatus(TaskStatus.FAILED);
+        writer.accept(List.of(TaskStateWriter.pending(first)));
+
+        verify(repository, times(2)).saveAll(savedCaptor.capture());
+        assertThat(savedCaptor.getValue()).singleElement()
+                                          .extracting(TaskState::getId)
+                                          .isEqualTo(100L);
+    }
+
+    /**
+     * Mock save all, assigning ids to the saved entities.
+     */
+    private void mockSaveAll() {
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<TaskState> entities = invocation.getArgument(0);
+            for (int i = 0; i < entities.size(); i++) {
+                entities.get(i)
+                        .setId(100L + i);
+            }
+            return entities;
+        });
+    }
+
+    /**
+     * Task state.
+     *
+     * @param execution the execution
+     * @return the task state
+     */
+    private static TaskState taskState(String execution) {
+        TaskState taskState = new TaskState();
+        taskState.setType(TaskType.BPM);
+        taskState.setExecution(execution);
+        taskState.setStep("step");
+        taskState.setStatus(TaskStatus.STARTED);
+        return taskState;
+    }
+
+}
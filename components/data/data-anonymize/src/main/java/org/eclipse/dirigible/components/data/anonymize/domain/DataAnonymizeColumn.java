@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.anonymize.domain;
+
+/**
+ * The Class DataAnonymizeColumn.
+ */
+public class DataAnonymizeColumn {
+
+    /** The column. */
+    private String column;
+
+    /** The type. */
+    private String type;
+
+    /**
+     * Instantiates a new data anonymize column.
+     */
+    public DataAnonymizeColumn() {}
+
+    /**
+     * Instantiates a new data anonymize column.
+     *
+     * @param column the column
+     * @param type the type
+     */
+    public DataAnonymizeColumn(String column, String type) {
+        this.column = column;
+        this.type = type;
+    }
+
+    /**
+     * Gets the column.
+     *
+     * @return the column
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * Sets the column.
+     *
+     * @param column the column to set
+     */
+    public void setColumn(String column) {
+        this.column = column;
+    }
+
+    /**
+     * Gets the type.
+     *
+     * @return the type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Sets the type.
+     *
+     * @param type the type to set
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+}
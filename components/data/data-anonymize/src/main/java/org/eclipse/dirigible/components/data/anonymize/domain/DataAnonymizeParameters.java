@@ -9,6 +9,8 @@
  */
 package org.eclipse.dirigible.components.data.anonymize.domain;
 
+import java.util.List;
+
 /**
  * The Class DataAnonymizeParameters.
  */
@@ -32,6 +34,12 @@ public class DataAnonymizeParameters {
     /** The type. */
     private String type;
 
+    /** The columns to be anonymized in a single pass, instead of the column and the type. */
+    private List<DataAnonymizeColumn> columns;
+
+    /** The seed of the generated values, which makes them repeatable, if set. */
+    private Long seed;
+
     /**
      * Gets the datasource.
      *
@@ -140,6 +148,41 @@ public class DataAnonymizeParameters {
         this.type = type;
     }
 
+    /**
+     * Gets the columns.
+     *
+     * @return the columns
+     */
+    public List<DataAnonymizeColumn> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Sets the columns.
+     *
+     * @param columns the columns to set
+     */
+    public void setColumns(List<DataAnonymizeColumn> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Gets the seed.
+     *
+     * @return the seed
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the seed.
+     *
+     * @param seed the seed to set
+     */
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
 
 
 }
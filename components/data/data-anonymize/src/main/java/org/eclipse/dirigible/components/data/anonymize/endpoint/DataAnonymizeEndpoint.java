@@ -12,8 +12,10 @@ package org.eclipse.dirigible.components.data.anonymize.endpoint;
 import static java.text.MessageFormat.format;
 
 import java.sql.SQLException;
+import java.util.List;
 
 import org.eclipse.dirigible.components.base.endpoint.BaseEndpoint;
+import org.eclipse.dirigible.components.data.anonymize.domain.DataAnonymizeColumn;
 import org.eclipse.dirigible.components.data.anonymize.domain.DataAnonymizeParameters;
 import org.eclipse.dirigible.components.data.anonymize.service.DataAnonymizeService;
 import org.eclipse.dirigible.components.data.management.service.DatabaseMetadataService;
@@ -75,7 +77,7 @@ public class DataAnonymizeEndpoint {
 
 
     /**
-     * Execute artifact export.
+     * Anonymize the column, or the columns in a single pass.
      *
      * @param content the content
      * @return the response
@@ -89,8 +91,12 @@ public class DataAnonymizeEndpoint {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, error);
         }
 
-        dataAnonymizeService.anonymizeColumn(content.getDatasource(), content.getSchema(), content.getTable(), content.getColumn(),
-                content.getPrimaryKey(), content.getType());
+        List<DataAnonymizeColumn> columns = content.getColumns();
+        if (columns == null || columns.isEmpty()) {
+            columns = List.of(new DataAnonymizeColumn(content.getColumn(), content.getType()));
+        }
+        dataAnonymizeService.anonymizeColumns(content.getDatasource(), content.getSchema(), content.getTable(), content.getPrimaryKey(),
+                columns, content.getSeed());
 
         return ResponseEntity.ok()
                              .build();
@@ -11,16 +11,18 @@ package org.eclipse.dirigible.components.data.anonymize.service;
 
 import java.sql.Connection;
 import java.sql.Date;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
 import java.util.StringTokenizer;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.base.helpers.JsonHelper;
+import org.eclipse.dirigible.components.data.anonymize.domain.DataAnonymizeColumn;
 import org.eclipse.dirigible.components.data.anonymize.domain.DataAnonymizeType;
 import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
 import org.eclipse.dirigible.database.sql.DatabaseType;
@@ -62,6 +64,21 @@ public class DataAnonymizeService {
     /** The Constant DEFAULT_BATCH_SIZE. */
     private static final int DEFAULT_BATCH_SIZE = 1000;
 
+    /** The Constant DIRIGIBLE_DATA_ANONYMIZE_WORKERS. */
+    private static final String DIRIGIBLE_DATA_ANONYMIZE_WORKERS = "DIRIGIBLE_DATA_ANONYMIZE_WORKERS";
+
+    /** The Constant DEFAULT_WORKERS. */
+    private static final int DEFAULT_WORKERS = 4;
+
+    /** The Constant DIRIGIBLE_DATA_ANONYMIZE_FETCH_SIZE. */
+    private static final String DIRIGIBLE_DATA_ANONYMIZE_FETCH_SIZE = "DIRIGIBLE_DATA_ANONYMIZE_FETCH_SIZE";
+
+    /** The Constant DIRIGIBLE_DATA_ANONYMIZE_COMMIT_INTERVAL. */
+    private static final String DIRIGIBLE_DATA_ANONYMIZE_COMMIT_INTERVAL = "DIRIGIBLE_DATA_ANONYMIZE_COMMIT_INTERVAL";
+
+    /** The Constant DEFAULT_COMMIT_INTERVAL. */
+    private static final int DEFAULT_COMMIT_INTERVAL = 10000;
+
     /**
      * Instantiates a new data source endpoint.
      *
@@ -73,7 +90,7 @@ public class DataAnonymizeService {
     }
 
     /**
-     * Export structure.
+     * Anonymize column.
      *
      * @param datasource the datasource
      * @param schema the schema
@@ -83,10 +100,26 @@ public class DataAnonymizeService {
      * @param type the type
      */
     public void anonymizeColumn(String datasource, String schema, String table, String column, String primaryKey, String type) {
+        anonymizeColumns(datasource, schema, table, primaryKey, List.of(new DataAnonymizeColumn(column, type)), null);
+    }
+
+    /**
+     * Anonymize columns. The columns of a relational table are anonymized in a single pass over
+     * partitions of the primary key processed in parallel, while the columns of a collection are
+     * anonymized one by one.
+     *
+     * @param datasource the datasource
+     * @param schema the schema
+     * @param table the table
+     * @param primaryKey the primary key
+     * @param columns the columns with their types
+     * @param seed the seed of the generated values, or null for random values
+     */
+    public void anonymizeColumns(String datasource, String schema, String table, String primaryKey, List<DataAnonymizeColumn> columns,
+            Long seed) {
         javax.sql.DataSource dataSource = datasourceManager.getDataSource(datasource);
         if (dataSource != null) {
 
-            Faker faker = new Faker();
             try {
                 BATCH_SIZE = Configuration.getAsInt(DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE, DEFAULT_BATCH_SIZE);
             } catch (NumberFormatException e1) {
@@ -95,15 +128,27 @@ public class DataAnonymizeService {
                 }
             }
 
-            DataAnonymizeType typeValue = DataAnonymizeType.valueOf(type);
+            List<String> names = columns.stream()
+                                        .map(DataAnonymizeColumn::getColumn)
+                                        .toList();
+            List<DataAnonymizeType> types = columns.stream()
+                                                   .map(c -> DataAnonymizeType.valueOf(c.getType()))
+                                                   .toList();
 
             try (Connection connection = dataSource.getConnection()) {
                 if (SqlFactory.deriveDialect(connection)
                               .getDatabaseType(connection)
                               .equals(DatabaseType.NOSQL.getName())) {
-                    anonymizeNoSQLColumn(schema, table, column, primaryKey, dataSource, faker, typeValue, connection);
+                    Faker faker = seed != null ? new Faker(new Random(seed)) : new Faker();
+                    for (int i = 0; i < names.size(); i++) {
+                        anonymizeNoSQLColumn(schema, table, names.get(i), primaryKey, dataSource, faker, types.get(i), connection);
+                    }
                 } else {
-                    anonymizeRDBMSColumn(schema, table, column, primaryKey, dataSource, faker, typeValue, connection);
+                    long updated = new RDBMSTableAnonymizer(dataSource, schema, table, primaryKey, names, types, seed,
+                            Configuration.getAsInt(DIRIGIBLE_DATA_ANONYMIZE_WORKERS, DEFAULT_WORKERS),
+                            Configuration.getAsInt(DIRIGIBLE_DATA_ANONYMIZE_FETCH_SIZE, BATCH_SIZE), BATCH_SIZE,
+                            Configuration.getAsInt(DIRIGIBLE_DATA_ANONYMIZE_COMMIT_INTERVAL, DEFAULT_COMMIT_INTERVAL)).anonymize();
+                    logger.info("Anonymized columns {} of {} records in [{}].[{}]", names, updated, schema, table);
                 }
             } catch (Exception e) {
                 logger.error(e.getMessage(), e);
@@ -111,149 +156,6 @@ public class DataAnonymizeService {
         }
     }
 
-    /**
-     * Anonymize RDBMS column.
-     *
-     * @param schema the schema
-     * @param table the table
-     * @param column the column
-     * @param primaryKey the primary key
-     * @param dataSource the data source
-     * @param faker the faker
-     * @param typeValue the type value
-     * @param connection the connection
-     * @throws SQLException the SQL exception
-     */
-    public void anonymizeRDBMSColumn(String schema, String table, String column, String primaryKey, javax.sql.DataSource dataSource,
-            Faker faker, DataAnonymizeType typeValue, Connection connection) throws SQLException {
-
-        String tableName = "\"" + schema + "\".\"" + table + "\"";
-        String columnName = "\"" + column + "\"";
-        String primaryKeyName = "\"" + primaryKey + "\"";
-        String select = "SELECT " + primaryKeyName + ", " + columnName + " FROM " + tableName;
-        String update = "UPDATE " + tableName + " SET " + columnName + " = ? WHERE " + primaryKeyName + " = ? ";
-
-        try (Statement statement = connection.createStatement()) {
-            int updatedRecords = 0;
-            try (PreparedStatement preparedStatement = connection.prepareStatement(update)) {
-                ResultSet rs = statement.executeQuery(select);
-                int size = rs.getMetaData()
-                             .getColumnDisplaySize(2);
-                while (rs.next()) {
-                    String value = rs.getString(2);
-                    int length = value != null ? value.length() : 0;
-                    switch (typeValue) {
-                        case FULL_NAME: {
-                            preparedStatement.setString(1, truncate(faker.name()
-                                                                         .fullName(),
-                                    size));
-                            break;
-                        }
-                        case FIRST_NAME: {
-                            preparedStatement.setString(1, truncate(faker.name()
-                                                                         .firstName(),
-                                    size));
-                            break;
-                        }
-                        case LAST_NAME: {
-                            preparedStatement.setString(1, truncate(faker.name()
-                                                                         .lastName(),
-                                    size));
-                            break;
-                        }
-                        case USER_NAME: {
-                            preparedStatement.setString(1, truncate(faker.internet()
-                                                                         .username(),
-                                    size));
-                            break;
-                        }
-                        case EMAIL: {
-                            preparedStatement.setString(1, truncate((faker.internet()
-                                                                          .username()
-                                    + "@acme.com"), size));
-                            break;
-                        }
-                        case PHONE: {
-                            if (value != null) {
-                                preparedStatement.setString(1, faker.examplify(value));
-                            } else {
-                                preparedStatement.setNull(1, Types.VARCHAR);
-                            }
-                            break;
-                        }
-                        case ADDRESS: {
-                            preparedStatement.setString(1, truncate(faker.address()
-                                                                         .streetAddress(),
-                                    size));
-                            break;
-                        }
-                        case CITY: {
-                            preparedStatement.setString(1, truncate(faker.address()
-                                                                         .city(),
-                                    size));
-                            break;
-                        }
-                        case COUNTRY: {
-                            preparedStatement.setString(1, truncate(faker.address()
-                                                                         .country(),
-                                    size));
-                            break;
-                        }
-                        case DATE: {
-                            Date date = rs.getDate(2);
-                            if (date != null) {
-                                java.util.Date past = faker.date()
-                                                           .past(10, TimeUnit.DAYS, new java.util.Date(date.getTime()));
-                                preparedStatement.setDate(1, new Date(past.getTime()));
-                            } else {
-                                preparedStatement.setNull(1, Types.DATE);
-                            }
-                            break;
-                        }
-                        case RANDOM: {
-                            if (value != null) {
-                                preparedStatement.setString(1, faker.examplify(value));
-                            } else {
-                                preparedStatement.setNull(1, Types.VARCHAR);
-                            }
-                            break;
-                        }
-                        case MASK: {
-                            preparedStatement.setString(1, "*".repeat(length));
-                            break;
-                        }
-                        case EMPTY: {
-                            preparedStatement.setString(1, "");
-                            break;
-                        }
-                        case NULL: {
-                            preparedStatement.setNull(1, Types.VARCHAR);
-                            break;
-                        }
-                        default:
-                            throw new IllegalArgumentException("Unexpected value: " + typeValue);
-                    }
-                    updatedRecords++;
-
-                    Object key = rs.getObject(1);
-                    if (key != null) {
-                        preparedStatement.setObject(2, key);
-                        preparedStatement.addBatch();
-                        if (updatedRecords % BATCH_SIZE == 0) {
-                            preparedStatement.executeBatch();
-                        }
-                    } else {
-                        logger.error("Primary key cannot be null for the record: " + updatedRecords);
-                    }
-                }
-                if (updatedRecords % BATCH_SIZE != 0) {
-                    preparedStatement.executeBatch();
-                }
-            }
-        }
-
-    }
-
     /**
      * Anonymize no SQL column.
      *
@@ -335,13 +237,13 @@ public class DataAnonymizeService {
                         }
                         case USER_NAME: {
                             object.remove(name);
-                            object.addProperty(name, faker.internet()
+                            object.addProperty(name, faker.credentials()
                                                           .username());
                             break;
                         }
                         case EMAIL: {
                             object.remove(name);
-                            object.addProperty(name, faker.internet()
+                            object.addProperty(name, faker.credentials()
                                                           .username()
                                     + "@acme.com");
                             break;
@@ -372,10 +274,10 @@ public class DataAnonymizeService {
                         case DATE: {
                             Date date = rs.getDate(2);
                             if (date != null) {
-                                java.util.Date past = faker.date()
-                                                           .past(10, TimeUnit.DAYS, new java.util.Date(date.getTime()));
+                                Instant past = faker.timeAndDate()
+                                                    .past(10, TimeUnit.DAYS, Instant.ofEpochMilli(date.getTime()));
                                 object.remove(name);
-                                object.addProperty(name, past.getTime());
+                                object.addProperty(name, past.toEpochMilli());
                             }
                             break;
                         }
@@ -443,20 +345,4 @@ public class DataAnonymizeService {
         return object;
     }
 
-    /**
-     * Truncate.
-     *
-     * @param value the value
-     * @param size the size
-     * @return the string
-     */
-    String truncate(String value, int size) {
-        if (value != null) {
-            if (value.length() > size) {
-                return value.substring(0, size);
-            }
-        }
-        return value;
-    }
-
 }
@@ -0,0 +1,523 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.anonymize.service;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.eclipse.dirigible.components.data.anonymize.domain.DataAnonymizeType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import net.datafaker.Faker;
+
+/**
+ * Anonymizes several columns of a relational table in a single pass. The table is split into ranges
+ * of its primary key, which are processed in parallel, each by a worker with its own connections
+ * and commit interval, and with its own faker, seeded from the partition if a seed is given, so the
+ * same table is anonymized with the same values. Every worker holds two connections, so the number
+ * of workers is bound by the maximum size of the connection pool, if known, leaving one connection
+ * to the other users of the pool.
+ */
+public class RDBMSTableAnonymizer {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(RDBMSTableAnonymizer.class);
+
+    /** The data source. */
+    private final DataSource dataSource;
+
+    /** The quoted table name. */
+    private final String tableName;
+
+    /** The quoted primary key name. */
+    private final String primaryKeyName;
+
+    /** The quoted column names. */
+    private final List<String> columnNames;
+
+    /** The types of the columns. */
+    private final List<DataAnonymizeType> types;
+
+    /** The seed, or null for random values. */
+    private final Long seed;
+
+    /** The maximum number of workers. */
+    private final int workers;
+
+    /** The fetch size. */
+    private final int fetchSize;
+
+    /** The batch size. */
+    private final int batchSize;
+
+    /** The number of rows after which a worker commits. */
+    private final int commitInterval;
+
+    /**
+     * Instantiates a new RDBMS table anonymizer.
+     *
+     * @param dataSource the data source
+     * @param schema the schema
+     * @param table the table
+     * @param primaryKey the primary key
+     * @param columns the columns
+     * @param types the types of the columns
+     * @param seed the seed, or null for random values
+     * @param workers the maximum number of workers
+     * @param fetchSize the fetch size
+     * @param batchSize the batch size
+     * @param commitInterval the number of rows after which a worker commits
+     */
+    public RDBMSTableAnonymizer(DataSource dataSource, String schema, String table, String primaryKey, List<String> columns,
+            List<DataAnonymizeType> types, Long seed, int workers, int fetchSize, int batchSize, int commitInterval) {
+        this.dataSource = dataSource;
+        this.tableName = "\"" + schema + "\".\"" + table + "\"";
+        this.primaryKeyName = "\"" + primaryKey + "\"";
+        this.columnNames = columns.stream()
+                                  .map(column -> "\"" + column + "\"")
+                                  .toList();
+        this.types = types;
+        this.seed = seed;
+        this.workers = boundByPoolSize(dataSource, Math.max(workers, 1));
+        this.fetchSize = Math.max(fetchSize, 1);
+        this.batchSize = Math.max(batchSize, 1);
+        this.commitInterval = Math.max(commitInterval, 1);
+    }
+
+    /**
+     * Bounds the number of workers by the connection pool size, as every worker holds two connections.
+     *
+     * @param dataSource the data source
+     * @param workers the workers
+     * @return the number of workers the pool can serve, at least one
+     */
+    static int boundByPoolSize(DataSource dataSource, int workers) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                int poolSize = dataSource.unwrap(HikariDataSource.class)
+                                         .getMaximumPoolSize();
+                int bound = Math.max((poolSize - 1) / 2, 1);
+                if (bound < workers) {
+                    logger.debug("Limiting the anonymization workers to {} for a connection pool of {}", bound, poolSize);
+                    return bound;
+                }
+            }
+        } catch (SQLException e) {
+            logger.warn("Failed to read the connection pool size, using {} workers", workers, e);
+        }
+        return workers;
+    }
+
+    /**
+     * Anonymizes the columns.
+     *
+     * @return the number of the updated rows
+     * @throws SQLException the SQL exception
+     */
+    public long anonymize() throws SQLException {
+        List<KeyRange> ranges = computeRanges();
+        if (ranges.size() == 1) {
+            return anonymizeRange(ranges.get(0), 0);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(ranges.size());
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < ranges.size(); i++) {
+                KeyRange range = ranges.get(i);
+                int partition = i;
+                futures.add(executor.submit((Callable<Long>) () -> anonymizeRange(range, partition)));
+            }
+            long updated = 0;
+            SQLException failure = null;
+            for (Future<Long> future : futures) {
+                try {
+                    updated += future.get();
+                } catch (ExecutionException e) {
+                    SQLException cause = e.getCause() instanceof SQLException sqlException ? sqlException
+                            : new SQLException(e.getCause()
+                                                .getMessage(),
+                                    e.getCause());
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return updated;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new SQLException("Interrupted while anonymizing " + tableName, e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Splits the table into ranges of the primary key of about the same number of rows. An integer key
+     * is split arithmetically, any other by sampling the ordered keys.
+     *
+     * @return the ranges
+     * @throws SQLException the SQL exception
+     */
+    List<KeyRange> computeRanges() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            long count;
+            boolean integer;
+            long min;
+            long max;
+            try (Statement statement = connection.createStatement();
+                    ResultSet rs = statement.executeQuery(
+                            "SELECT COUNT(*), MIN(" + primaryKeyName + "), MAX(" + primaryKeyName + ") FROM " + tableName)) {
+                rs.next();
+                count = rs.getLong(1);
+                integer = isInteger(rs.getMetaData()
+                                      .getColumnType(2));
+                min = integer ? rs.getLong(2) : 0;
+                max = integer ? rs.getLong(3) : 0;
+            }
+            int partitions = (int) Math.min(workers, Math.max(count / batchSize, 1));
+            if (partitions == 1) {
+                return List.of(new KeyRange(null, null));
+            }
+            List<Object> boundaries = integer ? splitIntegerKeys(min, max, partitions) : sampleKeys(connection, count, partitions);
+            List<KeyRange> ranges = new ArrayList<>();
+            Object lower = null;
+            for (Object boundary : boundaries) {
+                ranges.add(new KeyRange(lower, boundary));
+                lower = boundary;
+            }
+            ranges.add(new KeyRange(lower, null));
+            logger.debug("Anonymizing {} in {} partitions starting at {}", tableName, ranges.size(), boundaries);
+            return ranges;
+        }
+    }
+
+    /**
+     * Checks if is integer.
+     *
+     * @param sqlType the SQL type
+     * @return true, if is integer
+     */
+    private static boolean isInteger(int sqlType) {
+        return sqlType == Types.INTEGER || sqlType == Types.BIGINT || sqlType == Types.SMALLINT || sqlType == Types.TINYINT;
+    }
+
+    /**
+     * Splits the integer keys between the minimum and the maximum.
+     *
+     * @param min the min
+     * @param max the max
+     * @param partitions the partitions
+     * @return the lower boundaries of all the partitions except the first
+     */
+    private static List<Object> splitIntegerKeys(long min, long max, int partitions) {
+        long step = Math.max((max - min) / partitions, 1);
+        List<Object> boundaries = new ArrayList<>();
+        for (int i = 1; i < partitions && min + i * step <= max; i++) {
+            boundaries.add(min + i * step);
+        }
+        return boundaries;
+    }
+
+    /**
+     * Samples the ordered keys, so every partition gets the same number of rows.
+     *
+     * @param connection the connection
+     * @param count the count of the rows
+     * @param partitions the partitions
+     * @return the lower boundaries of all the partitions except the first
+     * @throws SQLException the SQL exception
+     */
+    private List<Object> sampleKeys(Connection connection, long count, int partitions) throws SQLException {
+        long step = count / partitions;
+        List<Object> boundaries = new ArrayList<>();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.setFetchSize(fetchSize);
+            try (ResultSet rs = statement.executeQuery("SELECT " + primaryKeyName + " FROM " + tableName + " ORDER BY " + primaryKeyName)) {
+                long row = 0;
+                while (rs.next() && boundaries.size() < partitions - 1) {
+                    row++;
+                    if (row > 1 && (row - 1) % step == 0) {
+                        boundaries.add(rs.getObject(1));
+                    }
+                }
+            }
+        } finally {
+            connection.commit();
+            connection.setAutoCommit(autoCommit);
+        }
+        return boundaries;
+    }
+
+    /**
+     * Anonymizes the rows of a range. The rows are streamed over one connection and updated in batches
+     * over another, as a commit would close the streamed cursor on some databases.
+     *
+     * @param range the range
+     * @param partition the partition
+     * @return the number of the updated rows
+     * @throws SQLException the SQL exception
+     */
+    long anonymizeRange(KeyRange range, int partition) throws SQLException {
+        Faker faker = seed != null ? new Faker(new Random(seed + partition)) : new Faker();
+        // ordered, so that a seeded faker gives every row the same values on every run
+        String select = "SELECT " + primaryKeyName + ", " + String.join(", ", columnNames) + " FROM " + tableName
+                + range.toWhere(primaryKeyName) + " ORDER BY " + primaryKeyName;
+        String update = "UPDATE " + tableName + " SET " + columnNames.stream()
+                                                                     .map(column -> column + " = ?")
+                                                                     .collect(Collectors.joining(", "))
+                + " WHERE " + primaryKeyName + " = ?";
+
+        try (Connection reader = dataSource.getConnection(); Connection writer = dataSource.getConnection()) {
+            reader.setAutoCommit(false);
+            writer.setAutoCommit(false);
+            long updatedRecords = 0;
+            try (PreparedStatement selectStatement =
+                    reader.prepareStatement(select, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    PreparedStatement updateStatement = writer.prepareStatement(update)) {
+                selectStatement.setFetchSize(fetchSize);
+                range.bind(selectStatement);
+                try (ResultSet rs = selectStatement.executeQuery()) {
+                    ResultSetMetaData metaData = rs.getMetaData();
+                    int[] sizes = new int[columnNames.size()];
+                    for (int i = 0; i < sizes.length; i++) {
+                        sizes[i] = metaData.getColumnDisplaySize(i + 2);
+                    }
+                    int pending = 0;
+                    while (rs.next()) {
+                        Object key = rs.getObject(1);
+                        if (key == null) {
+                            logger.error("Primary key cannot be null for the record: " + (updatedRecords + 1));
+                            continue;
+                        }
+                        for (int i = 0; i < sizes.length; i++) {
+                            setAnonymizedValue(updateStatement, i + 1, rs, i + 2, types.get(i), sizes[i], faker);
+                        }
+                        updateStatement.setObject(sizes.length + 1, key);
+                        updateStatement.addBatch();
+                        pending++;
+                        updatedRecords++;
+                        if (pending % batchSize == 0 || updatedRecords % commitInterval == 0) {
+                            updateStatement.executeBatch();
+                            pending = 0;
+                        }
+                        if (updatedRecords % commitInterval == 0) {
+                            writer.commit();
+                        }
+                    }
+                    if (pending > 0) {
+                        updateStatement.executeBatch();
+                    }
+                    writer.commit();
+                }
+            } catch (SQLException | RuntimeException e) {
+                writer.rollback();
+                throw e;
+            } finally {
+                reader.commit();
+            }
+            logger.debug("Anonymized {} rows of {} in partition {}", updatedRecords, tableName, partition);
+            return updatedRecords;
+        }
+    }
+
+    /**
+     * Sets the anonymized value of a column.
+     *
+     * @param preparedStatement the prepared statement
+     * @param parameterIndex the parameter index
+     * @param rs the result set with the current value
+     * @param columnIndex the column index in the result set
+     * @param typeValue the type value
+     * @param size the display size of the column
+     * @param faker the faker
+     * @throws SQLException the SQL exception
+     */
+    static void setAnonymizedValue(PreparedStatement preparedStatement, int parameterIndex, ResultSet rs, int columnIndex,
+            DataAnonymizeType typeValue, int size, Faker faker) throws SQLException {
+        switch (typeValue) {
+            case FULL_NAME: {
+                preparedStatement.setString(parameterIndex, truncate(faker.name()
+                                                                          .fullName(),
+                        size));
+                break;
+            }
+            case FIRST_NAME: {
+                preparedStatement.setString(parameterIndex, truncate(faker.name()
+                                                                          .firstName(),
+                        size));
+                break;
+            }
+            case LAST_NAME: {
+                preparedStatement.setString(parameterIndex, truncate(faker.name()
+                                                                          .lastName(),
+                        size));
+                break;
+            }
+            case USER_NAME: {
+                preparedStatement.setString(parameterIndex, truncate(faker.credentials()
+                                                                          .username(),
+                        size));
+                break;
+            }
+            case EMAIL: {
+                preparedStatement.setString(parameterIndex, truncate((faker.credentials()
+                                                                           .username()
+                        + "@acme.com"), size));
+                break;
+            }
+            case PHONE:
+            case RANDOM: {
+                String value = rs.getString(columnIndex);
+                if (value != null) {
+                    preparedStatement.setString(parameterIndex, faker.examplify(value));
+                } else {
+                    preparedStatement.setNull(parameterIndex, Types.VARCHAR);
+                }
+                break;
+            }
+            case ADDRESS: {
+                preparedStatement.setString(parameterIndex, truncate(faker.address()
+                                                                          .streetAddress(),
+                        size));
+                break;
+            }
+            case CITY: {
+                preparedStatement.setString(parameterIndex, truncate(faker.address()
+                                                                          .city(),
+                        size));
+                break;
+            }
+            case COUNTRY: {
+                preparedStatement.setString(parameterIndex, truncate(faker.address()
+                                                                          .country(),
+                        size));
+                break;
+            }
+            case DATE: {
+                Date date = rs.getDate(columnIndex);
+                if (date != null) {
+                    Instant past = faker.timeAndDate()
+                                        .past(10, TimeUnit.DAYS, Instant.ofEpochMilli(date.getTime()));
+                    preparedStatement.setDate(parameterIndex, new Date(past.toEpochMilli()));
+                } else {
+                    preparedStatement.setNull(parameterIndex, Types.DATE);
+                }
+                break;
+            }
+            case MASK: {
+                String value = rs.getString(columnIndex);
+                preparedStatement.setString(parameterIndex, "*".repeat(value != null ? value.length() : 0));
+                break;
+            }
+            case EMPTY: {
+                preparedStatement.setString(parameterIndex, "");
+                break;
+            }
+            case NULL: {
+                preparedStatement.setNull(parameterIndex, Types.VARCHAR);
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unexpected value: " + typeValue);
+        }
+    }
+
+    /**
+     * Truncate.
+     *
+     * @param value the value
+     * @param size the size
+     * @return the string
+     */
+    static String truncate(String value, int size) {
+        if (value != null) {
+            if (value.length() > size) {
+                return value.substring(0, size);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * A range of the primary key, with an inclusive lower and an exclusive upper boundary, where null
+     * means unbounded.
+     *
+     * @param lower the lower
+     * @param upper the upper
+     */
+    record KeyRange(Object lower, Object upper) {
+
+        /**
+         * Creates the where clause.
+         *
+         * @param primaryKeyName the quoted primary key name
+         * @return the where clause
+         */
+        String toWhere(String primaryKeyName) {
+            if (lower == null && upper == null) {
+                return "";
+            }
+            if (lower == null) {
+                return " WHERE " + primaryKeyName + " < ?";
+            }
+            if (upper == null) {
+                return " WHERE " + primaryKeyName + " >= ?";
+            }
+            return " WHERE " + primaryKeyName + " >= ? AND " + primaryKeyName + " < ?";
+        }
+
+        /**
+         * Binds the boundaries.
+         *
+         * @param statement the statement
+         * @throws SQLException the SQL exception
+         */
+        void bind(PreparedStatement statement) throws SQLException {
+            int index = 1;
+            if (lower != null) {
+                statement.setObject(index++, lower);
+            }
+            if (upper != null) {
+                statement.setObject(index, upper);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.anonymize.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.dirigible.components.data.anonymize.domain.DataAnonymizeType;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * The Class RDBMSTableAnonymizerTest.
+ */
+public class RDBMSTableAnonymizerTest {
+
+    /** The Constant ROWS. */
+    private static final int ROWS = 1000;
+
+    /** The data source. */
+    private JdbcDataSource dataSource;
+
+    /**
+     * Creates a table with integer and a table with string primary keys.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @BeforeEach
+    public void setUp() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:anonymize;DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS \"TEST\" CASCADE");
+            statement.execute("CREATE SCHEMA \"TEST\"");
+            statement.execute("CREATE TABLE \"TEST\".\"PEOPLE\" (\"ID\" INTEGER PRIMARY KEY, \"NAME\" VARCHAR(100), "
+                    + "\"EMAIL\" VARCHAR(100), \"SECRET\" VARCHAR(20))");
+            statement.execute("CREATE TABLE \"TEST\".\"CODES\" (\"CODE\" VARCHAR(20) PRIMARY KEY, \"NAME\" VARCHAR(100))");
+            try (PreparedStatement people = connection.prepareStatement("INSERT INTO \"TEST\".\"PEOPLE\" VALUES (?, ?, ?, ?)");
+                    PreparedStatement codes = connection.prepareStatement("INSERT INTO \"TEST\".\"CODES\" VALUES (?, ?)")) {
+                for (int i = 0; i < ROWS; i++) {
+                    people.setInt(1, i * 3);
+                    people.setString(2, "Name " + i);
+                    people.setString(3, "name" + i + "@example.com");
+                    people.setString(4, "secret" + i);
+                    people.addBatch();
+                    codes.setString(1, String.format("C%05d", i));
+                    codes.setString(2, "Name " + i);
+                    codes.addBatch();
+                }
+                people.executeBatch();
+                codes.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * Test that several columns are anonymized in partitions of an integer key.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void testIntegerKey() throws SQLException {
+        RDBMSTableAnonymizer anonymizer = anonymizer("PEOPLE", "ID", List.of("NAME", "EMAIL", "SECRET"),
+                List.of(DataAnonymizeType.FULL_NAME, DataAnonymizeType.EMAIL, DataAnonymizeType.NULL), 42L);
+
+        assertEquals(4, anonymizer.computeRanges()
+                                  .size());
+        assertEquals(ROWS, anonymizer.anonymize());
+
+        List<List<String>> rows = select("SELECT \"NAME\", \"EMAIL\", \"SECRET\" FROM \"TEST\".\"PEOPLE\" ORDER BY \"ID\"");
+        assertEquals(ROWS, rows.size());
+        for (int i = 0; i < ROWS; i++) {
+            assertNotEquals("Name " + i, rows.get(i)
+                                             .get(0));
+            assertTrue(rows.get(i)
+                           .get(1)
+                           .endsWith("@acme.com"));
+            assertNull(rows.get(i)
+                           .get(2));
+        }
+    }
+
+    /**
+     * Test that a string key is partitioned by sampling, and that the same seed gives the same values.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void testStringKeyWithSeed() throws SQLException {
+        RDBMSTableAnonymizer anonymizer = anonymizer("CODES", "CODE", List.of("NAME"), List.of(DataAnonymizeType.FIRST_NAME), 7L);
+
+        List<RDBMSTableAnonymizer.KeyRange> ranges = anonymizer.computeRanges();
+        assertEquals(4, ranges.size());
+        assertEquals("C00250", ranges.get(1)
+                                     .lower());
+        assertEquals(ROWS, anonymizer.anonymize());
+        List<List<String>> first = select("SELECT \"NAME\" FROM \"TEST\".\"CODES\" ORDER BY \"CODE\"");
+
+        assertEquals(ROWS, anonymizer.anonymize());
+        List<List<String>> second = select("SELECT \"NAME\" FROM \"TEST\".\"CODES\" ORDER BY \"CODE\"");
+
+        assertEquals(first, second);
+    }
+
+    /**
+     * Test that the workers are bound by the connection pool, as each of them holds two connections.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void testWorkersBoundByPoolSize() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setDataSource(dataSource);
+        config.setMaximumPoolSize(5);
+        try (HikariDataSource pool = new HikariDataSource(config)) {
+            assertEquals(2, RDBMSTableAnonymizer.boundByPoolSize(pool, 4));
+            assertEquals(1, RDBMSTableAnonymizer.boundByPoolSize(pool, 1));
+
+            RDBMSTableAnonymizer anonymizer = new RDBMSTableAnonymizer(pool, "TEST", "PEOPLE", "ID", List.of("NAME"),
+                    List.of(DataAnonymizeType.FULL_NAME), null, 4, 50, 100, 300);
+            assertEquals(2, anonymizer.computeRanges()
+                                      .size());
+            assertEquals(ROWS, anonymizer.anonymize());
+        }
+        assertEquals(4, RDBMSTableAnonymizer.boundByPoolSize(dataSource, 4));
+    }
+
+    /**
+     * Creates an anonymizer with 4 workers and small batches.
+     *
+     * @param table the table
+     * @param primaryKey the primary key
+     * @param columns the columns
+     * @param types the types
+     * @param seed the seed
+     * @return the RDBMS table anonymizer
+     */
+    private RDBMSTableAnonymizer anonymizer(String table, String primaryKey, List<String> columns, List<DataAnonymizeType> types,
+            Long seed) {
+        return new RDBMSTableAnonymizer(dataSource, "TEST", table, primaryKey, columns, types, seed, 4, 50, 100, 300);
+    }
+
+    /**
+     * Selects the rows as strings.
+     *
+     * @param sql the sql
+     * @return the rows
+     * @throws SQLException the SQL exception
+     */
+    private List<List<String>> select(String sql) throws SQLException {
+        List<List<String>> rows = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery(sql)) {
+            int columns = rs.getMetaData()
+                            .getColumnCount();
+            while (rs.next()) {
+                List<String> row = new ArrayList<>();
+                for (int i = 1; i <= columns; i++) {
+                    row.add(rs.getString(i));
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.processes.schema;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.base.tenant.Tenant;
+import org.eclipse.dirigible.components.base.tenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Executes an action for tables, which do not depend on each other, in parallel on behalf of the
+ * current tenant.
+ */
+@Component
+public class TablesExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TablesExecutor.class);
+
+    private static final String DIRIGIBLE_DATA_PROCESSES_SCHEMA_PARALLELISM = "DIRIGIBLE_DATA_PROCESSES_SCHEMA_PARALLELISM";
+
+    private static final int DEFAULT_PARALLELISM = 4;
+
+    private final TenantContext tenantContext;
+
+    TablesExecutor(TenantContext tenantContext) {
+        this.tenantContext = tenantContext;
+    }
+
+    public void execute(List<String> tables, Consumer<String> action) {
+        int parallelism = Math.min(Configuration.getAsInt(DIRIGIBLE_DATA_PROCESSES_SCHEMA_PARALLELISM, DEFAULT_PARALLELISM), tables.size());
+        if (parallelism <= 1) {
+            tables.forEach(action);
+            return;
+        }
+
+        LOGGER.debug("Processing tables {} with [{}] threads", tables, parallelism);
+        Tenant tenant = tenantContext.getCurrentTenant();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<?>> futures = new ArrayList<>(tables.size());
+            for (String table : tables) {
+                futures.add(executor.submit(() -> tenantContext.execute(tenant, () -> {
+                    action.accept(table);
+                    return null;
+                })));
+            }
+            awaitAll(futures);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void awaitAll(List<Future<?>> futures) {
+        RuntimeException failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException ex) {
+                RuntimeException cause = ex.getCause() instanceof RuntimeException runtimeException ? runtimeException
+                        : new IllegalStateException(ex.getCause());
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread()
+                      .interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the tables to be processed", ex);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+}
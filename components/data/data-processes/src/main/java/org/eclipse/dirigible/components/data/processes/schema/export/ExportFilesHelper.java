@@ -9,8 +9,18 @@
  */
 package org.eclipse.dirigible.components.data.processes.schema.export;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
 public class ExportFilesHelper {
 
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
     public static String createExportTopologyFilePath(String fileFolderPath) {
         return fileFolderPath + "/" + getExportTopologyFilename();
     }
@@ -26,4 +36,28 @@ public class ExportFilesHelper {
     public static String createTableDataFilename(String table) {
         return table + ".csv";
     }
+
+    public static String createTableDataFilename(String table, boolean compressed) {
+        return compressed ? createCompressedTableDataFilename(table) : createTableDataFilename(table);
+    }
+
+    public static String createCompressedTableDataFilename(String table) {
+        return createTableDataFilename(table) + ".gz";
+    }
+
+    public static String createExportManifestFilePath(String fileFolderPath) {
+        return fileFolderPath + "/" + getExportManifestFilename();
+    }
+
+    public static String getExportManifestFilename() {
+        return "export-manifest.json";
+    }
+
+    public static OutputStream openTableDataOutputStream(OutputStream out, boolean compressed) throws IOException {
+        return compressed ? new GZIPOutputStream(out, GZIP_BUFFER_SIZE) : new BufferedOutputStream(out);
+    }
+
+    public static InputStream openTableDataInputStream(InputStream in, boolean compressed) throws IOException {
+        return compressed ? new BufferedInputStream(new GZIPInputStream(in, GZIP_BUFFER_SIZE)) : new BufferedInputStream(in);
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2010-2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.processes.schema.export;
+
+import com.google.gson.annotations.Expose;
+
+import java.util.List;
+
+/**
+ * Describes how an export is stored. The tables are grouped in levels, where a table depends only
+ * on tables from the previous levels, so the tables of a level can be imported in parallel.
+ */
+public class ExportManifest {
+
+    @Expose
+    private List<List<String>> levels;
+
+    @Expose
+    private boolean compressed;
+
+    public ExportManifest() {}
+
+    public ExportManifest(List<List<String>> levels, boolean compressed) {
+        this.levels = levels;
+        this.compressed = compressed;
+    }
+
+    public List<List<String>> getLevels() {
+        return levels;
+    }
+
+    public void setLevels(List<List<String>> levels) {
+        this.levels = levels;
+    }
+
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    public void setCompressed(boolean compressed) {
+        this.compressed = compressed;
+    }
+}
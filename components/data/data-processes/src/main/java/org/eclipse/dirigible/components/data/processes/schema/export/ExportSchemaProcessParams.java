@@ -17,14 +17,16 @@ public class ExportSchemaProcessParams {
     private final String exportPath;
     private final Set<String> includedTables;
     private final Set<String> excludedTables;
+    private final boolean compressed;
 
     public ExportSchemaProcessParams(String dataSource, String schema, String exportPath, Set<String> includedTables,
-            Set<String> excludedTables) {
+            Set<String> excludedTables, boolean compressed) {
         this.dataSource = dataSource;
         this.schema = schema;
         this.exportPath = exportPath;
         this.includedTables = includedTables;
         this.excludedTables = excludedTables;
+        this.compressed = compressed;
     }
 
     public String getDataSource() {
@@ -46,4 +48,8 @@ public class ExportSchemaProcessParams {
     public Set<String> getExcludedTables() {
         return excludedTables;
     }
+
+    public boolean isCompressed() {
+        return compressed;
+    }
 }
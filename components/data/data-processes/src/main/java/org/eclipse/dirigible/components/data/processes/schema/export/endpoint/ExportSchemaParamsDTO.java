@@ -29,6 +29,8 @@ class ExportSchemaParamsDTO {
 
     private Set<String> excludedTables;
 
+    private boolean compressed;
+
     public String getDataSource() {
         return dataSource;
     }
@@ -68,4 +70,12 @@ class ExportSchemaParamsDTO {
     public void setExcludedTables(Set<String> excludedTables) {
         this.excludedTables = excludedTables;
     }
+
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    public void setCompressed(boolean compressed) {
+        this.compressed = compressed;
+    }
 }
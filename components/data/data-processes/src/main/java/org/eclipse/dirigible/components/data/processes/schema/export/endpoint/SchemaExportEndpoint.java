@@ -50,8 +50,9 @@ class SchemaExportEndpoint {
         String exportPath = paramsDTO.getExportPath();
         Set<String> includedTables = paramsDTO.getIncludedTables();
         Set<String> excludedTables = paramsDTO.getExcludedTables();
+        boolean compressed = paramsDTO.isCompressed();
 
-        return new ExportSchemaProcessParams(dataSource, schema, exportPath, includedTables, excludedTables);
+        return new ExportSchemaProcessParams(dataSource, schema, exportPath, includedTables, excludedTables, compressed);
     }
 
 }
@@ -12,15 +12,19 @@ package org.eclipse.dirigible.components.data.processes.schema.export.tasks;
 import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
 import org.eclipse.dirigible.components.data.transfer.service.DataTransferSchemaTopologyService;
 import org.eclipse.dirigible.components.database.DirigibleDataSource;
+import org.eclipse.dirigible.database.persistence.model.PersistenceTableRelationModel;
 import org.eclipse.dirigible.database.persistence.utils.DatabaseMetadataUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Component("BuildExportTopologyTask_ExportSchemaProcess") // used in the bpmn process
@@ -64,6 +68,10 @@ public class BuildExportTopologyTask extends BaseExportTask {
             LOGGER.debug("Determined export topology {}", exportTopology);
             context.setExportTopology(exportTopology);
 
+            List<List<String>> exportLevels = buildExportLevels(dataSource, schema, exportTopology);
+            LOGGER.debug("Determined export levels {}", exportLevels);
+            context.setExportLevels(exportLevels);
+
         } catch (SQLException | RuntimeException ex) {
             throw new SchemaExportException("Failed to export topology of schema [" + schema + "] in datasource [" + dataSource + "]", ex);
         }
@@ -84,4 +92,46 @@ public class BuildExportTopologyTask extends BaseExportTask {
         return targetTables;
     }
 
+    private List<List<String>> buildExportLevels(DirigibleDataSource dataSource, String schema, List<String> exportTopology)
+            throws SQLException {
+        Map<String, List<String>> tableDependencies = new HashMap<>();
+        for (String table : exportTopology) {
+            List<PersistenceTableRelationModel> relations = DatabaseMetadataUtil.getTableMetadata(table, schema, dataSource)
+                                                                                .getRelations();
+            List<String> dependencies = new ArrayList<>();
+            if (null != relations) {
+                for (PersistenceTableRelationModel relation : relations) {
+                    dependencies.add(relation.getToTableName());
+                }
+            }
+            tableDependencies.put(table, dependencies);
+        }
+        return buildExportLevels(exportTopology, tableDependencies);
+    }
+
+    /**
+     * Groups the sorted tables in levels. A table is placed in the level after the last level of its
+     * dependencies, so the tables of a level do not depend on each other.
+     */
+    static List<List<String>> buildExportLevels(List<String> exportTopology, Map<String, List<String>> tableDependencies) {
+        Map<String, Integer> tableLevels = new HashMap<>();
+        List<List<String>> levels = new ArrayList<>();
+        for (String table : exportTopology) {
+            int level = 0;
+            for (String dependency : tableDependencies.getOrDefault(table, List.of())) {
+                Integer dependencyLevel = tableLevels.get(dependency);
+                if (null != dependencyLevel && !table.equals(dependency)) {
+                    level = Math.max(level, dependencyLevel + 1);
+                }
+            }
+            tableLevels.put(table, level);
+            if (level == levels.size()) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(level)
+                  .add(table);
+        }
+        return levels;
+    }
+
 }
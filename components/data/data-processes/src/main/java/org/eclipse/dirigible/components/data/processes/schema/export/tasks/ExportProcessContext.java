@@ -14,10 +14,12 @@ import org.eclipse.dirigible.components.data.processes.schema.export.ExportSchem
 import org.eclipse.dirigible.components.engine.bpm.flowable.delegate.JsonProcessVariablesBuilder;
 import org.eclipse.dirigible.components.engine.bpm.flowable.delegate.TaskExecution;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 public class ExportProcessContext {
 
@@ -26,10 +28,13 @@ public class ExportProcessContext {
     private static final String DATA_SOURCE_CTX_PARAM = "dataSource";
     private static final String SCHEMA_CTX_PARAM = "schema";
     private static final String EXPORT_PATH_CTX_PARAM = "exportPath";
+    private static final String COMPRESSED_CTX_PARAM = "compressed";
+    private static final String EXPORT_TOPOLOGY_CTX_PARAM = "exportTopology";
+    private static final String EXPORT_LEVELS_CTX_PARAM = "exportLevels";
 
     // caution: these values are used in the BPMN process definition
-    private static final String TARGET_TABLE_CTX_PARAM = "targetTable";
-    private static final String EXPORT_TOPOLOGY_CTX_PARAM = "exportTopology";
+    private static final String EXPORT_LEVEL_INDEXES_CTX_PARAM = "exportLevelIndexes";
+    private static final String EXPORT_LEVEL_CTX_PARAM = "exportLevel";
 
     private final TaskExecution execution;
 
@@ -72,6 +77,7 @@ public class ExportProcessContext {
                                .addVariable(DATA_SOURCE_CTX_PARAM, params.getDataSource())
                                .addVariable(SCHEMA_CTX_PARAM, params.getSchema())
                                .addVariable(EXPORT_PATH_CTX_PARAM, params.getExportPath())
+                               .addVariable(COMPRESSED_CTX_PARAM, params.isCompressed())
                                .build();
     }
 
@@ -85,7 +91,28 @@ public class ExportProcessContext {
         execution.setVariable(EXPORT_TOPOLOGY_CTX_PARAM, exportTopology);
     }
 
-    public String getCurrentTable() {
-        return execution.getMandatoryVariable(TARGET_TABLE_CTX_PARAM, String.class);
+    public boolean isCompressed() {
+        return execution.getVariable(COMPRESSED_CTX_PARAM, Boolean.class)
+                        .orElse(Boolean.FALSE);
+    }
+
+    public List<List<String>> getExportLevels() {
+        TypeToken<List<List<String>>> typeToken = new TypeToken<>() {};
+
+        return execution.getMandatoryVariable(EXPORT_LEVELS_CTX_PARAM, typeToken);
+    }
+
+    public void setExportLevels(List<List<String>> exportLevels) {
+        execution.setVariable(EXPORT_LEVELS_CTX_PARAM, exportLevels);
+        // the levels are iterated by index, since only flat collections are kept as collection variables
+        List<Integer> levelIndexes = IntStream.range(0, exportLevels.size())
+                                              .boxed()
+                                              .toList();
+        execution.setVariable(EXPORT_LEVEL_INDEXES_CTX_PARAM, new ArrayList<>(levelIndexes));
+    }
+
+    public List<String> getCurrentTables() {
+        int level = execution.getMandatoryVariable(EXPORT_LEVEL_CTX_PARAM, Integer.class);
+        return getExportLevels().get(level);
     }
 }
@@ -10,6 +10,7 @@
 package org.eclipse.dirigible.components.data.processes.schema.export.tasks;
 
 import org.eclipse.dirigible.components.data.export.service.DatabaseExportService;
+import org.eclipse.dirigible.components.data.processes.schema.TablesExecutor;
 import org.eclipse.dirigible.components.data.processes.schema.export.ExportFilesHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,30 +25,45 @@ class ExportTableDataTask extends BaseExportTask {
 
     private static final String CSV_MEDIA_TYPE = "text/csv";
 
+    private static final String GZIP_MEDIA_TYPE = "application/gzip";
+
     private final DatabaseExportService databaseExportService;
+    private final TablesExecutor tablesExecutor;
 
-    ExportTableDataTask(DatabaseExportService databaseExportService) {
+    ExportTableDataTask(DatabaseExportService databaseExportService, TablesExecutor tablesExecutor) {
         this.databaseExportService = databaseExportService;
+        this.tablesExecutor = tablesExecutor;
     }
 
     @Override
     protected void execute(ExportProcessContext context) {
-        String table = context.getCurrentTable();
+        // the process variables are read here, since the tables are exported by other threads
+        String schema = context.getSchema();
+        String dataSourceName = context.getDataSource();
+        String exportFolder = context.getExportPath();
+        boolean compressed = context.isCompressed();
+
+        tablesExecutor.execute(context.getCurrentTables(),
+                table -> exportTableData(dataSourceName, schema, table, exportFolder, compressed));
+    }
+
+    private void exportTableData(String dataSourceName, String schema, String table, String exportFolder, boolean compressed) {
+        String fileName = ExportFilesHelper.createTableDataFilename(table, compressed);
 
         // use temp file to prevent OOM
-        File tempFile = createTempFile(table);
+        File tempFile = createTempFile(table, fileName);
         LOGGER.debug("Created temp file [{}] for table [{}]", tempFile, table);
         try {
-            exportTableDataToFile(tempFile, context);
-            saveFileAsDocument(context, tempFile);
+            exportTableDataToFile(tempFile, dataSourceName, schema, table, compressed);
+            saveFileAsDocument(tempFile, fileName, exportFolder, compressed);
         } finally {
             tempFile.delete();
         }
     }
 
-    private File createTempFile(String table) {
+    private File createTempFile(String table, String fileName) {
         try {
-            File tempFile = File.createTempFile(table, ".csv");
+            File tempFile = File.createTempFile(table, fileName.substring(table.length()));
             tempFile.deleteOnExit();
 
             return tempFile;
@@ -56,14 +72,9 @@ class ExportTableDataTask extends BaseExportTask {
         }
     }
 
-    private void exportTableDataToFile(File tempFile, ExportProcessContext context) {
-        String table = context.getCurrentTable();
-
-        String schema = context.getSchema();
-        String dataSourceName = context.getDataSource();
-
+    private void exportTableDataToFile(File tempFile, String dataSourceName, String schema, String table, boolean compressed) {
         try {
-            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+            try (OutputStream out = ExportFilesHelper.openTableDataOutputStream(new FileOutputStream(tempFile), compressed)) {
                 databaseExportService.exportStructure(dataSourceName, schema, table, out);
             }
         } catch (IOException | RuntimeException ex) {
@@ -72,14 +83,10 @@ class ExportTableDataTask extends BaseExportTask {
         }
     }
 
-    private void saveFileAsDocument(ExportProcessContext context, File file) {
-        String table = context.getCurrentTable();
-        String exportFolder = context.getExportPath();
-        String fileName = ExportFilesHelper.createTableDataFilename(table);
-
+    private void saveFileAsDocument(File file, String fileName, String exportFolder, boolean compressed) {
         try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
             long contentLength = file.length();
-            saveDocument(in, contentLength, fileName, CSV_MEDIA_TYPE, exportFolder);
+            saveDocument(in, contentLength, fileName, compressed ? GZIP_MEDIA_TYPE : CSV_MEDIA_TYPE, exportFolder);
 
         } catch (IOException | RuntimeException ex) {
             throw new SchemaExportException(
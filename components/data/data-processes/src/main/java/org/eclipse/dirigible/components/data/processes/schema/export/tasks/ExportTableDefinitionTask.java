@@ -10,6 +10,7 @@
 package org.eclipse.dirigible.components.data.processes.schema.export.tasks;
 
 import org.eclipse.dirigible.components.data.management.load.DataSourceMetadataLoader;
+import org.eclipse.dirigible.components.data.processes.schema.TablesExecutor;
 import org.eclipse.dirigible.components.data.processes.schema.export.ExportFilesHelper;
 import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
 import org.eclipse.dirigible.components.data.structures.domain.Table;
@@ -23,26 +24,32 @@ class ExportTableDefinitionTask extends BaseExportTask {
 
     private final DataSourcesManager datasourceManager;
     private final DataSourceMetadataLoader dataSourceMetadataLoader;
+    private final TablesExecutor tablesExecutor;
 
-    ExportTableDefinitionTask(DataSourcesManager datasourceManager, DataSourceMetadataLoader dataSourceMetadataLoader) {
+    ExportTableDefinitionTask(DataSourcesManager datasourceManager, DataSourceMetadataLoader dataSourceMetadataLoader,
+            TablesExecutor tablesExecutor) {
         this.datasourceManager = datasourceManager;
         this.dataSourceMetadataLoader = dataSourceMetadataLoader;
+        this.tablesExecutor = tablesExecutor;
     }
 
     @Override
     protected void execute(ExportProcessContext context) {
-        String table = context.getCurrentTable();
+        // the process variables are read here, since the tables are exported by other threads
+        String schema = context.getSchema();
+        String dataSourceName = context.getDataSource();
         String exportPath = context.getExportPath();
 
-        Table tableDefinition = loadTableDefinition(context, table);
+        tablesExecutor.execute(context.getCurrentTables(), table -> exportTableDefinition(dataSourceName, schema, table, exportPath));
+    }
+
+    private void exportTableDefinition(String dataSourceName, String schema, String table, String exportPath) {
+        Table tableDefinition = loadTableDefinition(dataSourceName, schema, table);
         String fileName = ExportFilesHelper.createTableDefinitionFilename(table);
         saveObjectAsJsonDocument(tableDefinition, fileName, exportPath);
     }
 
-    private Table loadTableDefinition(ExportProcessContext context, String tableName) {
-        String schema = context.getSchema();
-        String dataSourceName = context.getDataSource();
-
+    private Table loadTableDefinition(String dataSourceName, String schema, String tableName) {
         DirigibleDataSource dataSource = datasourceManager.getDataSource(dataSourceName);
 
         try {
@@ -10,6 +10,7 @@
 package org.eclipse.dirigible.components.data.processes.schema.export.tasks;
 
 import org.eclipse.dirigible.components.data.processes.schema.export.ExportFilesHelper;
+import org.eclipse.dirigible.components.data.processes.schema.export.ExportManifest;
 import org.eclipse.dirigible.components.engine.cms.CmisConstants;
 import org.eclipse.dirigible.components.engine.cms.CmisFolder;
 import org.eclipse.dirigible.components.engine.cms.CmisSession;
@@ -38,6 +39,9 @@ class SaveExportTopologyTask extends BaseExportTask {
             CmisFolder exportFolder = createExportFolder(cmisSession, exportPath);
             String topologyFilename = ExportFilesHelper.getExportTopologyFilename();
             saveObjectAsJsonDocument(exportTopology, topologyFilename, exportFolder);
+
+            ExportManifest manifest = new ExportManifest(context.getExportLevels(), context.isCompressed());
+            saveObjectAsJsonDocument(manifest, ExportFilesHelper.getExportManifestFilename(), exportFolder);
         } catch (IOException ex) {
             throw new SchemaExportException("Failed to save export topology file", ex);
         }
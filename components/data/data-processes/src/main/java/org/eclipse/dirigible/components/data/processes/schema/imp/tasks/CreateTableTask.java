@@ -10,6 +10,7 @@
 package org.eclipse.dirigible.components.data.processes.schema.imp.tasks;
 
 import org.eclipse.dirigible.components.base.helpers.JsonHelper;
+import org.eclipse.dirigible.components.data.processes.schema.TablesExecutor;
 import org.eclipse.dirigible.components.data.processes.schema.export.ExportFilesHelper;
 import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
 import org.eclipse.dirigible.components.data.structures.domain.Table;
@@ -22,6 +23,9 @@ import org.springframework.stereotype.Component;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component("CreateTableTask_ImportSchemaProcess") // used in the bpmn process
 class CreateTableTask extends BaseImportTask {
@@ -29,26 +33,34 @@ class CreateTableTask extends BaseImportTask {
     private static final Logger LOGGER = LoggerFactory.getLogger(CreateTableTask.class);
 
     private final DataSourcesManager datasourceManager;
+    private final TablesExecutor tablesExecutor;
 
-    CreateTableTask(DataSourcesManager datasourceManager) {
+    CreateTableTask(DataSourcesManager datasourceManager, TablesExecutor tablesExecutor) {
         this.datasourceManager = datasourceManager;
+        this.tablesExecutor = tablesExecutor;
     }
 
     @Override
     protected void execute(ImportProcessContext context) {
-        Table table = loadTableDefinition(context);
+        // the process variables are read here, since the tables are created by other threads
+        String dataSourceName = context.getDataSource();
+        String exportPath = context.getExportPath();
 
-        table.setIndexes(Collections.emptyList());
+        Map<String, String> tableSchemas = new ConcurrentHashMap<>();
+        tablesExecutor.execute(context.getCurrentTables(), tableName -> {
+            Table table = loadTableDefinition(exportPath, tableName);
 
-        String dataSourceName = context.getDataSource();
-        createTable(dataSourceName, table);
+            table.setIndexes(Collections.emptyList());
+
+            createTable(dataSourceName, table);
 
-        context.setTableSchema(table.getSchema());
+            tableSchemas.put(tableName, table.getSchema());
+        });
+        context.setTableSchemas(new HashMap<>(tableSchemas));
     }
 
-    private Table loadTableDefinition(ImportProcessContext context) {
-        String tableName = context.getTable();
-        String tableDefinitionFilePath = context.getExportPath() + "/" + ExportFilesHelper.createTableDefinitionFilename(tableName);
+    private Table loadTableDefinition(String exportPath, String tableName) {
+        String tableDefinitionFilePath = exportPath + "/" + ExportFilesHelper.createTableDefinitionFilename(tableName);
         String tableDefinition = loadDocumentContent(tableDefinitionFilePath);
 
         return JsonHelper.fromJson(tableDefinition, Table.class);
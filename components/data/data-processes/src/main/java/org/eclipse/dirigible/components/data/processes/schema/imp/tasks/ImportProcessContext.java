@@ -9,22 +9,27 @@
  */
 package org.eclipse.dirigible.components.data.processes.schema.imp.tasks;
 
+import com.google.gson.reflect.TypeToken;
 import org.eclipse.dirigible.components.data.processes.schema.imp.ImportSchemaProcessParams;
 import org.eclipse.dirigible.components.engine.bpm.flowable.delegate.JsonProcessVariablesBuilder;
 import org.eclipse.dirigible.components.engine.bpm.flowable.delegate.TaskExecution;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 public class ImportProcessContext {
 
     private static final String DATA_SOURCE_CTX_PARAM = "dataSource";
     private static final String EXPORT_PATH_CTX_PARAM = "exportPath";
-    private static final String TABLE_SCHEMA_CTX_PARAM = "tableSchema";
+    private static final String TABLE_SCHEMAS_CTX_PARAM = "tableSchemas";
+    private static final String TABLE_LEVELS_CTX_PARAM = "tableLevels";
+    private static final String COMPRESSED_CTX_PARAM = "compressed";
 
     // caution: these values are used in the BPMN process definition
-    private static final String TABLES_CTX_PARAM = "tables";
-    private static final String TABLE_CTX_PARAM = "table";
+    private static final String TABLE_LEVEL_INDEXES_CTX_PARAM = "tableLevelIndexes";
+    private static final String TABLE_LEVEL_CTX_PARAM = "tableLevel";
 
     private final TaskExecution execution;
 
@@ -49,19 +54,39 @@ public class ImportProcessContext {
                                .build();
     }
 
-    public void setTables(List<String> tables) {
-        execution.setVariable(TABLES_CTX_PARAM, tables);
+    public void setTableLevels(List<List<String>> tableLevels) {
+        execution.setVariable(TABLE_LEVELS_CTX_PARAM, tableLevels);
+        // the levels are iterated by index, since only flat collections are kept as collection variables
+        List<Integer> levelIndexes = IntStream.range(0, tableLevels.size())
+                                              .boxed()
+                                              .toList();
+        execution.setVariable(TABLE_LEVEL_INDEXES_CTX_PARAM, new ArrayList<>(levelIndexes));
     }
 
-    public String getTable() {
-        return execution.getMandatoryVariable(TABLE_CTX_PARAM, String.class);
+    public List<String> getCurrentTables() {
+        TypeToken<List<List<String>>> typeToken = new TypeToken<>() {};
+
+        int level = execution.getMandatoryVariable(TABLE_LEVEL_CTX_PARAM, Integer.class);
+        return execution.getMandatoryVariable(TABLE_LEVELS_CTX_PARAM, typeToken)
+                        .get(level);
+    }
+
+    public boolean isCompressed() {
+        return execution.getVariable(COMPRESSED_CTX_PARAM, Boolean.class)
+                        .orElse(Boolean.FALSE);
     }
 
-    public String getTableSchema() {
-        return execution.getMandatoryVariable(TABLE_SCHEMA_CTX_PARAM, String.class);
+    public void setCompressed(boolean compressed) {
+        execution.setVariable(COMPRESSED_CTX_PARAM, compressed);
+    }
+
+    public Map<String, String> getTableSchemas() {
+        TypeToken<Map<String, String>> typeToken = new TypeToken<>() {};
+
+        return execution.getMandatoryVariable(TABLE_SCHEMAS_CTX_PARAM, typeToken);
     }
 
-    public void setTableSchema(String schema) {
-        execution.setVariable(TABLE_SCHEMA_CTX_PARAM, schema);
+    public void setTableSchemas(Map<String, String> tableSchemas) {
+        execution.setVariable(TABLE_SCHEMAS_CTX_PARAM, tableSchemas);
     }
 }
@@ -12,29 +12,40 @@ package org.eclipse.dirigible.components.data.processes.schema.imp.tasks;
 import org.eclipse.dirigible.components.data.export.service.DataImportService;
 import org.eclipse.dirigible.components.data.export.service.ImportConfig;
 import org.eclipse.dirigible.components.data.export.service.ImportConfigBuilder;
+import org.eclipse.dirigible.components.data.processes.schema.TablesExecutor;
 import org.eclipse.dirigible.components.data.processes.schema.export.ExportFilesHelper;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
 
 @Component("ImportTableDataTask_ImportSchemaProcess") // used in the bpmn process
 class ImportTableDataTask extends BaseImportTask {
 
     private final DataImportService dataImportService;
+    private final TablesExecutor tablesExecutor;
 
-    ImportTableDataTask(DataImportService dataImportService) {
+    ImportTableDataTask(DataImportService dataImportService, TablesExecutor tablesExecutor) {
         this.dataImportService = dataImportService;
+        this.tablesExecutor = tablesExecutor;
     }
 
     @Override
     protected void execute(ImportProcessContext context) {
-        String table = context.getTable();
+        // the process variables are read here, since the tables are imported by other threads
         String dataSource = context.getDataSource();
-        String schema = context.getTableSchema();
+        String exportPath = context.getExportPath();
+        Map<String, String> tableSchemas = context.getTableSchemas();
+        boolean compressed = context.isCompressed();
 
-        String tableDataFilePath = context.getExportPath() + "/" + ExportFilesHelper.createTableDataFilename(table);
-        try (InputStream inputStream = new BufferedInputStream(loadDocumentContentAsStream(tableDataFilePath))) {
+        tablesExecutor.execute(context.getCurrentTables(),
+                table -> importTableData(dataSource, tableSchemas.get(table), table, exportPath, compressed));
+    }
+
+    private void importTableData(String dataSource, String schema, String table, String exportPath, boolean compressed) {
+        String tableDataFilePath = exportPath + "/" + ExportFilesHelper.createTableDataFilename(table, compressed);
+        try (InputStream inputStream = openTableData(tableDataFilePath, compressed)) {
             ImportConfig importConfig = new ImportConfigBuilder().setDistinguishEmptyFromNull(true)
                                                                  .build();
             dataImportService.importData(dataSource, schema, table, importConfig, inputStream);
@@ -44,4 +55,14 @@ class ImportTableDataTask extends BaseImportTask {
         }
     }
 
+    private InputStream openTableData(String tableDataFilePath, boolean compressed) throws IOException {
+        InputStream inputStream = loadDocumentContentAsStream(tableDataFilePath);
+        try {
+            return ExportFilesHelper.openTableDataInputStream(inputStream, compressed);
+        } catch (IOException ex) {
+            inputStream.close();
+            throw ex;
+        }
+    }
+
 }
@@ -12,6 +12,9 @@ package org.eclipse.dirigible.components.data.processes.schema.imp.tasks;
 import com.google.gson.reflect.TypeToken;
 import org.eclipse.dirigible.components.base.helpers.JsonHelper;
 import org.eclipse.dirigible.components.data.processes.schema.export.ExportFilesHelper;
+import org.eclipse.dirigible.components.data.processes.schema.export.ExportManifest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -19,12 +22,30 @@ import java.util.List;
 @Component("LoadTopologyTask_ImportSchemaProcess") // used in the bpmn process
 class LoadTopologyTask extends BaseImportTask {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadTopologyTask.class);
+
     @Override
     protected void execute(ImportProcessContext context) {
         String exportPath = context.getExportPath();
-        List<String> tables = loadImportTables(exportPath);
+        ExportManifest manifest = loadExportManifest(exportPath);
+
+        context.setTableLevels(manifest.getLevels());
+        context.setCompressed(manifest.isCompressed());
+    }
 
-        context.setTables(tables);
+    private ExportManifest loadExportManifest(String exportPath) {
+        String manifestFilePath = ExportFilesHelper.createExportManifestFilePath(exportPath);
+        try {
+            String fileContent = loadDocumentContent(manifestFilePath);
+            return JsonHelper.fromJson(fileContent, ExportManifest.class);
+        } catch (SchemaImportException ex) {
+            // exports without a manifest are imported one table at a time
+            LOGGER.debug("Missing export manifest [{}], the tables will be imported sequentially", manifestFilePath, ex);
+            List<List<String>> levels = loadImportTables(exportPath).stream()
+                                                                    .map(List::of)
+                                                                    .toList();
+            return new ExportManifest(levels, false);
+        }
     }
 
     private List<String> loadImportTables(String exportPath) {
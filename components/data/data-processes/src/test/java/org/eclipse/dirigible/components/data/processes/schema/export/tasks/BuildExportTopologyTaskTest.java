@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.processes.schema.export.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class BuildExportTopologyTaskTest.
+ */
+public class BuildExportTopologyTaskTest {
+
+    /**
+     * Test that each table of a chain is placed in its own level.
+     */
+    @Test
+    public void testChain() {
+        List<List<String>> levels =
+                BuildExportTopologyTask.buildExportLevels(List.of("A", "B", "C"), Map.of("B", List.of("A"), "C", List.of("B")));
+
+        assertEquals(List.of(List.of("A"), List.of("B"), List.of("C")), levels);
+    }
+
+    /**
+     * Test that the independent tables of a diamond share a level and that the last table waits for
+     * both of them.
+     */
+    @Test
+    public void testDiamond() {
+        List<List<String>> levels = BuildExportTopologyTask.buildExportLevels(List.of("A", "B", "C", "D"),
+                Map.of("B", List.of("A"), "C", List.of("A"), "D", List.of("B", "C")));
+
+        assertEquals(List.of(List.of("A"), List.of("B", "C"), List.of("D")), levels);
+    }
+
+    /**
+     * Test that a table referencing itself does not get a level of its own.
+     */
+    @Test
+    public void testSelfReference() {
+        List<List<String>> levels =
+                BuildExportTopologyTask.buildExportLevels(List.of("A", "B"), Map.of("A", List.of("A"), "B", List.of("B", "A")));
+
+        assertEquals(List.of(List.of("A"), List.of("B")), levels);
+    }
+
+    /**
+     * Test that the tables without dependencies are placed in one level.
+     */
+    @Test
+    public void testIndependentTables() {
+        List<List<String>> levels = BuildExportTopologyTask.buildExportLevels(List.of("A", "B", "C"), Map.of());
+
+        assertEquals(List.of(List.of("A", "B", "C")), levels);
+    }
+
+}
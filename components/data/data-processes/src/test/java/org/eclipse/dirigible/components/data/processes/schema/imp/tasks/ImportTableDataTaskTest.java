@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.processes.schema.imp.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.eclipse.dirigible.components.data.export.service.DataImportService;
+import org.eclipse.dirigible.components.data.processes.schema.TablesExecutor;
+import org.eclipse.dirigible.components.data.processes.schema.export.ExportFilesHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class ImportTableDataTaskTest.
+ */
+public class ImportTableDataTaskTest {
+
+    /** The export path. */
+    private static final String EXPORT_PATH = "/exports/schema";
+
+    /** The table data. */
+    private static final String DATA = "ID,NAME\n1,first\n2,second\n";
+
+    /** The documents by path. */
+    private final Map<String, byte[]> documents = new HashMap<>();
+
+    /** The imported data by table. */
+    private final Map<String, String> imported = new HashMap<>();
+
+    /** The task. */
+    private ImportTableDataTask task;
+
+    /**
+     * Sets the up.
+     *
+     * @throws Exception the exception
+     */
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        DataImportService dataImportService = mock(DataImportService.class);
+        doAnswer(invocation -> {
+            InputStream in = invocation.getArgument(4);
+            imported.put(invocation.getArgument(2), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            return null;
+        }).when(dataImportService)
+          .importData(eq("DefaultDB"), eq("PUBLIC"), any(), any(), any());
+
+        TablesExecutor tablesExecutor = mock(TablesExecutor.class);
+        doAnswer(invocation -> {
+            List<String> tables = invocation.getArgument(0);
+            tables.forEach(invocation.getArgument(1, Consumer.class));
+            return null;
+        }).when(tablesExecutor)
+          .execute(anyList(), any());
+
+        task = new ImportTableDataTask(dataImportService, tablesExecutor) {
+            @Override
+            protected InputStream loadDocumentContentAsStream(String path) {
+                byte[] content = documents.get(path);
+                if (content == null) {
+                    throw new SchemaImportException("Missing document " + path);
+                }
+                return new ByteArrayInputStream(content);
+            }
+        };
+    }
+
+    /**
+     * Test that compressed table data is stored in gzip files and imported as it was exported.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testCompressedRoundTrip() throws IOException {
+        byte[] exported = export("A", true);
+        export("B", true);
+        assertNotEquals(DATA, new String(exported, StandardCharsets.UTF_8));
+        assertArrayEquals(new byte[] {(byte) 0x1f, (byte) 0x8b}, new byte[] {exported[0], exported[1]});
+
+        task.execute(context(true));
+
+        assertEquals(Map.of("A", DATA, "B", DATA), imported);
+    }
+
+    /**
+     * Test that uncompressed table data is imported as it was exported.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testUncompressedRoundTrip() throws IOException {
+        byte[] exported = export("A", false);
+        export("B", false);
+        assertEquals(DATA, new String(exported, StandardCharsets.UTF_8));
+
+        task.execute(context(false));
+
+        assertEquals(Map.of("A", DATA, "B", DATA), imported);
+    }
+
+    /**
+     * Exports the data of a table the way the export task writes it.
+     *
+     * @param table the table
+     * @param compressed whether compressed
+     * @return the stored content
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private byte[] export(String table, boolean compressed) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = ExportFilesHelper.openTableDataOutputStream(bytes, compressed)) {
+            out.write(DATA.getBytes(StandardCharsets.UTF_8));
+        }
+        documents.put(EXPORT_PATH + "/" + ExportFilesHelper.createTableDataFilename(table, compressed), bytes.toByteArray());
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Context.
+     *
+     * @param compressed whether compressed
+     * @return the import process context
+     */
+    private static ImportProcessContext context(boolean compressed) {
+        ImportProcessContext context = mock(ImportProcessContext.class);
+        when(context.getDataSource()).thenReturn("DefaultDB");
+        when(context.getExportPath()).thenReturn(EXPORT_PATH);
+        when(context.getTableSchemas()).thenReturn(Map.of("A", "PUBLIC", "B", "PUBLIC"));
+        when(context.isCompressed()).thenReturn(compressed);
+        when(context.getCurrentTables()).thenReturn(List.of("A", "B"));
+        return context;
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.processes.schema.imp.tasks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.dirigible.components.base.helpers.JsonHelper;
+import org.eclipse.dirigible.components.data.processes.schema.export.ExportFilesHelper;
+import org.eclipse.dirigible.components.data.processes.schema.export.ExportManifest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class LoadTopologyTaskTest.
+ */
+public class LoadTopologyTaskTest {
+
+    /** The export path. */
+    private static final String EXPORT_PATH = "/exports/schema";
+
+    /** The documents by path. */
+    private final Map<String, String> documents = new HashMap<>();
+
+    /** The task. */
+    private final LoadTopologyTask task = new LoadTopologyTask() {
+        @Override
+        protected String loadDocumentContent(String path) {
+            String content = documents.get(path);
+            if (content == null) {
+                throw new SchemaImportException("Missing document " + path);
+            }
+            return content;
+        }
+    };
+
+    /**
+     * Test that the levels and the compression are loaded from the manifest.
+     */
+    @Test
+    public void testManifest() {
+        documents.put(ExportFilesHelper.createExportManifestFilePath(EXPORT_PATH),
+                JsonHelper.toJson(new ExportManifest(List.of(List.of("A"), List.of("B", "C")), true)));
+        ImportProcessContext context = context();
+
+        task.execute(context);
+
+        verify(context).setTableLevels(List.of(List.of("A"), List.of("B", "C")));
+        verify(context).setCompressed(true);
+    }
+
+    /**
+     * Test that an export without a manifest is imported one table at a time, in the order of its
+     * topology, from uncompressed files.
+     */
+    @Test
+    public void testLegacyExportWithoutManifest() {
+        documents.put(ExportFilesHelper.createExportTopologyFilePath(EXPORT_PATH), JsonHelper.toJson(List.of("A", "B", "C")));
+        ImportProcessContext context = context();
+
+        task.execute(context);
+
+        verify(context).setTableLevels(List.of(List.of("A"), List.of("B"), List.of("C")));
+        verify(context).setCompressed(false);
+    }
+
+    /**
+     * Context.
+     *
+     * @return the import process context
+     */
+    private static ImportProcessContext context() {
+        ImportProcessContext context = mock(ImportProcessContext.class);
+        when(context.getExportPath()).thenReturn(EXPORT_PATH);
+        return context;
+    }
+
+}
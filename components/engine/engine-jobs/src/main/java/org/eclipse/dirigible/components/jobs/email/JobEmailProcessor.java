@@ -9,11 +9,11 @@
  */
 package org.eclipse.dirigible.components.jobs.email;
 
-import jakarta.mail.MessagingException;
 import org.apache.commons.validator.routines.EmailValidator;
 import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.api.mail.MailFacade;
+import org.eclipse.dirigible.components.api.mail.MailMessage;
 import org.eclipse.dirigible.components.engine.template.TemplateEngine;
 import org.eclipse.dirigible.components.engine.template.TemplateEnginesManager;
 import org.eclipse.dirigible.components.jobs.domain.Job;
@@ -48,8 +48,6 @@ public class JobEmailProcessor {
     public static final String EMAIL_TEMPLATE_DISABLE = "/job/templates/template-disable.txt";
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(JobEmailProcessor.class);
-    /** The Constant DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD. */
-    private static final String DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD = "DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD";
     /** The Constant DIRIGIBLE_SCHEDULER_EMAIL_SENDER. */
     private static final String DIRIGIBLE_SCHEDULER_EMAIL_SENDER = "DIRIGIBLE_SCHEDULER_EMAIL_SENDER";
     /** The Constant DIRIGIBLE_SCHEDULER_EMAIL_RECIPIENTS. */
@@ -100,8 +98,6 @@ public class JobEmailProcessor {
     public static String emailTemplateEnable = null;
     /** The email template disable. */
     public static String emailTemplateDisable = null;
-    /** The logs retantion in hours. */
-    private static int logsRetantionInHours = 24 * 7;
     /** The email sender. */
     private static String emailSender = null;
     /** The email recipients line. */
@@ -116,16 +112,6 @@ public class JobEmailProcessor {
     private static String emailUrlPort = null;
 
     static {
-        try {
-            logsRetantionInHours = Configuration.getAsInt(DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD, logsRetantionInHours);
-        } catch (Throwable e) {
-            if (logger.isWarnEnabled()) {
-                logger.warn(DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD
-                        + " is not correctly set, so it will be backed up to a week timeframe (24x7)");
-            }
-            logsRetantionInHours = 24 * 7;
-        }
-
         emailSender = Configuration.get(DIRIGIBLE_SCHEDULER_EMAIL_SENDER);
 
         emailRecipientsLine = Configuration.get(DIRIGIBLE_SCHEDULER_EMAIL_RECIPIENTS);
@@ -210,35 +196,29 @@ public class JobEmailProcessor {
      * @param emailContent the email content
      */
     public void sendEmail(Job job, String emailSubject, String emailContent) {
-        try {
-            List<JobEmail> emailArtefacts = jobEmailService.findAllByJobName(job.getName());
-            String[] emails = emailArtefacts.stream()
-                                            .map(JobEmail::getEmail)
-                                            .toArray(String[]::new);
-
-            if (emailSender != null && ((emailRecipients != null && emailRecipients.length > 0) || emails.length > 0)) {
-
-                List<Map> parts = new ArrayList<Map>();
-                Map<String, String> map = new HashMap<>();
-                map.put("contentType", ContentTypeHelper.TEXT_PLAIN);
-                map.put("type", "text");
-                map.put("text", emailContent);
-                parts.add(map);
-                MailFacade.getInstance()
-                          .send(emailSender, emails.length > 0 ? emails : emailRecipients, null, null,
-                                  String.format(emailSubject, job.getName()), parts);
-                // String from, String[] to, String[] cc, String[] bcc, String subject, List<Map> parts
-            } else {
-                if (emailRecipientsLine != null) {
-                    if (logger.isErrorEnabled()) {
-                        logger.error("DIRIGIBLE_SCHEDULER_EMAIL_* environment variables are not set correctly");
-                    }
+        List<JobEmail> emailArtefacts = jobEmailService.findAllByJobName(job.getName());
+        String[] emails = emailArtefacts.stream()
+                                        .map(JobEmail::getEmail)
+                                        .toArray(String[]::new);
+
+        if (emailSender != null && ((emailRecipients != null && emailRecipients.length > 0) || emails.length > 0)) {
+
+            List<Map> parts = new ArrayList<Map>();
+            Map<String, String> map = new HashMap<>();
+            map.put("contentType", ContentTypeHelper.TEXT_PLAIN);
+            map.put("type", "text");
+            map.put("text", emailContent);
+            parts.add(map);
+            // sent asynchronously over the connections of the outbox, which logs the failures
+            MailFacade.getOutbox()
+                      .offer(new MailMessage(emailSender, emails.length > 0 ? emails : emailRecipients, null, null,
+                              String.format(emailSubject, job.getName()), parts));
+        } else {
+            if (emailRecipientsLine != null) {
+                if (logger.isErrorEnabled()) {
+                    logger.error("DIRIGIBLE_SCHEDULER_EMAIL_* environment variables are not set correctly");
                 }
             }
-        } catch (MessagingException e) {
-            if (logger.isErrorEnabled()) {
-                logger.error("Sending an e-mail failed with: " + e.getMessage(), e);
-            }
         }
     }
 
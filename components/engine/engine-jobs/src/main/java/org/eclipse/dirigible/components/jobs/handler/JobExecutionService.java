@@ -23,7 +23,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.nio.file.Path;
-import java.util.Date;
 
 @Service
 public class JobExecutionService {
@@ -107,8 +106,7 @@ public class JobExecutionService {
      */
     private void registeredFinished(String name, String module, JobLog triggered) {
         try {
-            jobLogService.jobFinished(name, module, triggered.getId(), new Date(triggered.getTriggeredAt()
-                                                                                         .getTime()));
+            jobLogService.jobFinished(name, module, triggered);
         } catch (Exception e) {
             LOGGER.error("Failed to register job [{}] as FINISHED.", name, e);
         }
@@ -124,9 +122,7 @@ public class JobExecutionService {
      */
     private void registeredFailed(String name, String module, JobLog triggered, Exception ex) {
         try {
-            jobLogService.jobFailed(name, module, triggered.getId(), new Date(triggered.getTriggeredAt()
-                                                                                       .getTime()),
-                    ex.getMessage());
+            jobLogService.jobFailed(name, module, triggered, ex.getMessage());
         } catch (Exception se) {
             LOGGER.error("Failed to register job [{}] as FAILED. The job failed with [{}]", name, ex, se);
         }
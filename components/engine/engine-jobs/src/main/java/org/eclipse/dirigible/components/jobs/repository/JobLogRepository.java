@@ -9,8 +9,12 @@
  */
 package org.eclipse.dirigible.components.jobs.repository;
 
+import java.sql.Timestamp;
+import java.util.List;
+
 import org.eclipse.dirigible.components.base.artefact.ArtefactRepository;
 import org.eclipse.dirigible.components.jobs.domain.JobLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -33,4 +37,57 @@ public interface JobLogRepository extends ArtefactRepository<JobLog, Long> {
     @Transactional
     @Query(value = "UPDATE JobLog SET running = :running")
     void setRunningToAll(@Param("running") boolean running);
+
+    /**
+     * Delete all the logs of a job.
+     *
+     * @param jobName the job name
+     * @return the number of the deleted logs
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM JobLog WHERE jobName = :jobName")
+    int deleteAllByJobName(@Param("jobName") String jobName);
+
+    /**
+     * Delete the logs triggered before the threshold.
+     *
+     * @param threshold the threshold
+     * @return the number of the deleted logs
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM JobLog WHERE triggeredAt < :threshold")
+    int deleteAllTriggeredBefore(@Param("threshold") Timestamp threshold);
+
+    /**
+     * Find the names of the jobs with more logs than the max rows.
+     *
+     * @param maxRows the max rows
+     * @return the job names
+     */
+    @Query(value = "SELECT jobName FROM JobLog GROUP BY jobName HAVING COUNT(id) > :maxRows")
+    List<String> findJobNamesWithMoreLogsThan(@Param("maxRows") long maxRows);
+
+    /**
+     * Find the ids of the logs of a job, the latest first.
+     *
+     * @param jobName the job name
+     * @param pageable the pageable
+     * @return the ids
+     */
+    @Query(value = "SELECT id FROM JobLog WHERE jobName = :jobName ORDER BY id DESC")
+    List<Long> findIdsByJobName(@Param("jobName") String jobName, Pageable pageable);
+
+    /**
+     * Delete the logs of a job up to and including the id.
+     *
+     * @param jobName the job name
+     * @param id the id
+     * @return the number of the deleted logs
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM JobLog WHERE jobName = :jobName AND id <= :id")
+    int deleteAllByJobNameUpTo(@Param("jobName") String jobName, @Param("id") Long id);
 }
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.jobs.service;
+
+import org.eclipse.dirigible.components.base.tenant.Tenant;
+import org.eclipse.dirigible.components.jobs.domain.JobLog;
+
+/**
+ * A job log queued to be written.
+ *
+ * @param jobLog the job log to be written
+ * @param triggered the triggered job log, whose id is set as triggered id once written, or null
+ * @param tenant the tenant the job log has been created for, or null
+ */
+record JobLogEntry(JobLog jobLog, JobLog triggered, Tenant tenant) {
+}
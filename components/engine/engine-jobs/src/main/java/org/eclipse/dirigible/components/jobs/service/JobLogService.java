@@ -9,7 +9,11 @@
  */
 package org.eclipse.dirigible.components.jobs.service;
 
+import jakarta.annotation.PreDestroy;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.base.artefact.BaseArtefactService;
+import org.eclipse.dirigible.components.base.batch.BatchWriter;
+import org.eclipse.dirigible.components.base.batch.BatchWriter.OverflowPolicy;
 import org.eclipse.dirigible.components.base.tenant.DefaultTenant;
 import org.eclipse.dirigible.components.base.tenant.Tenant;
 import org.eclipse.dirigible.components.base.tenant.TenantContext;
@@ -18,22 +22,69 @@ import org.eclipse.dirigible.components.jobs.domain.JobLog;
 import org.eclipse.dirigible.components.jobs.domain.JobStatus;
 import org.eclipse.dirigible.components.jobs.email.JobEmailProcessor;
 import org.eclipse.dirigible.components.jobs.repository.JobLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
- * The Class JobLogService.
+ * The Class JobLogService. The job logs are written in the background in batches, together with the
+ * resulting job status changes, and the status change e-mails are sent from a separate thread, so
+ * the scheduler threads only enqueue. The logs older than the retention period and the logs
+ * exceeding the max rows per job are deleted periodically.
  */
 @Service
 @Transactional
 public class JobLogService extends BaseArtefactService<JobLog, Long> {
 
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobLogService.class);
+
+    /** The Constant DIRIGIBLE_SCHEDULER_LOGS_ASYNC. */
+    private static final String DIRIGIBLE_SCHEDULER_LOGS_ASYNC = "DIRIGIBLE_SCHEDULER_LOGS_ASYNC";
+
+    /** The Constant DIRIGIBLE_SCHEDULER_LOGS_QUEUE_CAPACITY. */
+    private static final String DIRIGIBLE_SCHEDULER_LOGS_QUEUE_CAPACITY = "DIRIGIBLE_SCHEDULER_LOGS_QUEUE_CAPACITY";
+
+    /** The Constant DIRIGIBLE_SCHEDULER_LOGS_BATCH_SIZE. */
+    private static final String DIRIGIBLE_SCHEDULER_LOGS_BATCH_SIZE = "DIRIGIBLE_SCHEDULER_LOGS_BATCH_SIZE";
+
+    /** The Constant DIRIGIBLE_SCHEDULER_LOGS_FLUSH_INTERVAL. */
+    private static final String DIRIGIBLE_SCHEDULER_LOGS_FLUSH_INTERVAL = "DIRIGIBLE_SCHEDULER_LOGS_FLUSH_INTERVAL";
+
+    /** The Constant DIRIGIBLE_SCHEDULER_LOGS_OVERFLOW_POLICY. */
+    private static final String DIRIGIBLE_SCHEDULER_LOGS_OVERFLOW_POLICY = "DIRIGIBLE_SCHEDULER_LOGS_OVERFLOW_POLICY";
+
+    /** The Constant DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD in hours. */
+    private static final String DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD = "DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD";
+
+    /** The Constant DIRIGIBLE_SCHEDULER_LOGS_MAX_ROWS per job. */
+    private static final String DIRIGIBLE_SCHEDULER_LOGS_MAX_ROWS = "DIRIGIBLE_SCHEDULER_LOGS_MAX_ROWS";
+
+    /** The Constant DEFAULT_RETENTION_PERIOD, a week. */
+    private static final int DEFAULT_RETENTION_PERIOD = 24 * 7;
+
+    /** The Constant DEFAULT_MAX_ROWS. */
+    private static final int DEFAULT_MAX_ROWS = 1_000;
+
     /** The date format. */
     private final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
 
@@ -49,6 +100,18 @@ public class JobLogService extends BaseArtefactService<JobLog, Long> {
     /** The default tenant. */
     private final Tenant defaultTenant;
 
+    /** The job log repository. */
+    private final JobLogRepository jobLogRepository;
+
+    /** The transaction template. */
+    private final TransactionTemplate transactionTemplate;
+
+    /** The writer, or null if the logs are written synchronously. */
+    private final BatchWriter<JobLogEntry> writer;
+
+    /** The e-mail executor. */
+    private final ExecutorService emailExecutor;
+
     /**
      * Instantiates a new job log service.
      *
@@ -57,14 +120,33 @@ public class JobLogService extends BaseArtefactService<JobLog, Long> {
      * @param jobService the job service
      * @param tenantContext the tenant context
      * @param defaultTenant the default tenant
+     * @param transactionManager the transaction manager
      */
     public JobLogService(JobLogRepository repository, JobEmailProcessor jobEmailProcessor, JobService jobService,
-            TenantContext tenantContext, @DefaultTenant Tenant defaultTenant) {
+            TenantContext tenantContext, @DefaultTenant Tenant defaultTenant, PlatformTransactionManager transactionManager) {
         super(repository);
+        this.jobLogRepository = repository;
         this.jobEmailProcessor = jobEmailProcessor;
         this.jobService = jobService;
         this.tenantContext = tenantContext;
         this.defaultTenant = defaultTenant;
+        // the logs are committed on their own, so that the e-mails are sent only for committed changes
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.emailExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "dirigible-job-email-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (Boolean.parseBoolean(Configuration.get(DIRIGIBLE_SCHEDULER_LOGS_ASYNC, "true"))) {
+            this.writer = new BatchWriter<>("dirigible-job-log-writer", this::write,
+                    Configuration.getAsInt(DIRIGIBLE_SCHEDULER_LOGS_QUEUE_CAPACITY, 10_000),
+                    Configuration.getAsInt(DIRIGIBLE_SCHEDULER_LOGS_BATCH_SIZE, 100),
+                    Configuration.getAsInt(DIRIGIBLE_SCHEDULER_LOGS_FLUSH_INTERVAL, 1_000),
+                    BatchWriter.parseOverflowPolicy(Configuration.get(DIRIGIBLE_SCHEDULER_LOGS_OVERFLOW_POLICY), OverflowPolicy.BLOCK));
+        } else {
+            this.writer = null;
+        }
     }
 
     /**
@@ -83,7 +165,7 @@ public class JobLogService extends BaseArtefactService<JobLog, Long> {
         jobLog.setTriggeredAt(new Timestamp(new Date().getTime()));
         jobLog.setLocation(new SimpleDateFormat(DATE_FORMAT).format(new Date()));
         jobLog.updateKey();
-        save(jobLog);
+        enqueue(jobLog, null);
         return jobLog;
     }
 
@@ -132,7 +214,7 @@ public class JobLogService extends BaseArtefactService<JobLog, Long> {
         jobLog.setTriggeredAt(new Timestamp(new Date().getTime()));
         jobLog.setLocation(new SimpleDateFormat(DATE_FORMAT).format(new Date()));
         jobLog.updateKey();
-        save(jobLog);
+        enqueue(jobLog, null);
         return jobLog;
     }
 
@@ -182,27 +264,24 @@ public class JobLogService extends BaseArtefactService<JobLog, Long> {
      * @return the job log definition
      */
     public JobLog jobFinished(String name, String handler, long triggeredId, Date triggeredAt) {
-        JobLog jobLog = createJobLog();
-        jobLog.setName(name);
-        jobLog.setJobName(name);
-        jobLog.setHandler(handler);
-        jobLog.setStatus(JobStatus.FINISHED);
+        JobLog jobLog = createJobLog(name, handler, JobStatus.FINISHED, triggeredAt, null);
         jobLog.setTriggeredId(triggeredId);
-        jobLog.setTriggeredAt(new Timestamp(triggeredAt.getTime()));
-        jobLog.setFinishedAt(new Timestamp(new Date().getTime()));
-        jobLog.setLocation(new SimpleDateFormat(DATE_FORMAT).format(new Date()));
-        jobLog.updateKey();
-        save(jobLog);
-        Job job = jobService.findByName(name);
-        boolean statusChanged = job.getStatus() != JobStatus.FINISHED;
-        job.setStatus(JobStatus.FINISHED);
-        job.setMessage("");
-        job.setExecutedAt(jobLog.getFinishedAt());
-        if (statusChanged) {
-            String content =
-                    jobEmailProcessor.prepareEmail(job, JobEmailProcessor.emailTemplateNormal, JobEmailProcessor.EMAIL_TEMPLATE_NORMAL);
-            jobEmailProcessor.sendEmail(job, JobEmailProcessor.emailSubjectNormal, content);
-        }
+        enqueue(jobLog, null);
+        return jobLog;
+    }
+
+    /**
+     * Job finished. The triggered id is resolved when the logs are written, so the triggered job log
+     * does not have to be written yet.
+     *
+     * @param name the name
+     * @param handler the handler
+     * @param triggered the triggered job log
+     * @return the job log definition
+     */
+    public JobLog jobFinished(String name, String handler, JobLog triggered) {
+        JobLog jobLog = createJobLog(name, handler, JobStatus.FINISHED, triggered.getTriggeredAt(), null);
+        enqueue(jobLog, triggered);
         return jobLog;
     }
 
@@ -217,29 +296,262 @@ public class JobLogService extends BaseArtefactService<JobLog, Long> {
      * @return the job log definition
      */
     public JobLog jobFailed(String name, String handler, long triggeredId, Date triggeredAt, String message) {
+        JobLog jobLog = createJobLog(name, handler, JobStatus.FAILED, triggeredAt, message);
+        jobLog.setTriggeredId(triggeredId);
+        enqueue(jobLog, null);
+        return jobLog;
+    }
+
+    /**
+     * Job failed. The triggered id is resolved when the logs are written, so the triggered job log does
+     * not have to be written yet.
+     *
+     * @param name the name
+     * @param handler the handler
+     * @param triggered the triggered job log
+     * @param message the message
+     * @return the job log definition
+     */
+    public JobLog jobFailed(String name, String handler, JobLog triggered, String message) {
+        JobLog jobLog = createJobLog(name, handler, JobStatus.FAILED, triggered.getTriggeredAt(), message);
+        enqueue(jobLog, triggered);
+        return jobLog;
+    }
+
+    /**
+     * Creates the job log of a finished or failed execution.
+     *
+     * @param name the name
+     * @param handler the handler
+     * @param status the status
+     * @param triggeredAt the triggered at
+     * @param message the message
+     * @return the job log
+     */
+    private JobLog createJobLog(String name, String handler, JobStatus status, Date triggeredAt, String message) {
         JobLog jobLog = createJobLog();
         jobLog.setName(name);
         jobLog.setJobName(name);
         jobLog.setHandler(handler);
-        jobLog.setStatus(JobStatus.FAILED);
-        jobLog.setTriggeredId(triggeredId);
+        jobLog.setStatus(status);
         jobLog.setTriggeredAt(new Timestamp(triggeredAt.getTime()));
         jobLog.setFinishedAt(new Timestamp(new Date().getTime()));
         jobLog.setMessage(message);
         jobLog.setLocation(new SimpleDateFormat(DATE_FORMAT).format(new Date()));
         jobLog.updateKey();
-        save(jobLog);
-        Job job = jobService.findByName(name);
-        boolean statusChanged = job.getStatus() != JobStatus.FAILED;
-        job.setStatus(JobStatus.FAILED);
-        job.setMessage(message);
-        job.setExecutedAt(jobLog.getFinishedAt());
-        if (statusChanged) {
+        return jobLog;
+    }
+
+    /**
+     * Enqueue the job log, or write it in the current thread if the logs are written synchronously.
+     *
+     * @param jobLog the job log
+     * @param triggered the triggered job log or null
+     */
+    private void enqueue(JobLog jobLog, JobLog triggered) {
+        Tenant tenant = tenantContext.isInitialized() ? tenantContext.getCurrentTenant() : null;
+        JobLogEntry entry = new JobLogEntry(jobLog, triggered, tenant);
+        if (writer != null) {
+            writer.enqueue(entry);
+        } else {
+            write(List.of(entry));
+        }
+    }
+
+    /**
+     * Writes a batch of job logs and the resulting job status changes in a new transaction, and sends
+     * the status change e-mails once committed.
+     *
+     * @param entries the entries
+     */
+    private void write(List<JobLogEntry> entries) {
+        List<StatusChange> changes;
+        try {
+            changes = transactionTemplate.execute(status -> persist(entries));
+        } catch (RuntimeException e) {
+            // the ids assigned by the rolled back inserts are not valid anymore
+            for (JobLogEntry entry : entries) {
+                entry.jobLog()
+                     .setId(null);
+            }
+            throw e;
+        }
+        for (StatusChange change : changes) {
+            emailExecutor.execute(() -> sendEmail(change));
+        }
+    }
+
+    /**
+     * Persists the job logs and updates the status of the finished and failed jobs.
+     *
+     * @param entries the entries
+     * @return the status changes
+     */
+    private List<StatusChange> persist(List<JobLogEntry> entries) {
+        Map<String, Job> jobs = new HashMap<>();
+        List<StatusChange> changes = new ArrayList<>();
+        for (JobLogEntry entry : entries) {
+            JobLog jobLog = entry.jobLog();
+            if (entry.triggered() != null) {
+                jobLog.setTriggeredId(entry.triggered()
+                                           .getId());
+            }
+            jobLogRepository.save(jobLog);
+            JobStatus status = jobLog.getStatus();
+            if (status != JobStatus.FINISHED && status != JobStatus.FAILED) {
+                continue;
+            }
+            Job job = jobs.computeIfAbsent(jobLog.getJobName(), jobService::findByName);
+            boolean statusChanged = job.getStatus() != status;
+            String message = status == JobStatus.FINISHED ? "" : jobLog.getMessage();
+            job.setStatus(status);
+            job.setMessage(message);
+            job.setExecutedAt(jobLog.getFinishedAt());
+            if (statusChanged) {
+                changes.add(new StatusChange(job.getName(), message, status, entry.tenant()));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Sends the status change e-mail.
+     *
+     * @param change the status change
+     */
+    private void sendEmail(StatusChange change) {
+        Job job = new Job();
+        job.setName(change.jobName());
+        job.setMessage(change.message());
+        try {
+            if (change.tenant() != null) {
+                tenantContext.execute(change.tenant(), () -> {
+                    sendEmail(job, change.status());
+                    return null;
+                });
+            } else {
+                sendEmail(job, change.status());
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to send the status change e-mail of job [{}]", change.jobName(), e);
+        }
+    }
+
+    /**
+     * Sends the status change e-mail.
+     *
+     * @param job the job
+     * @param status the new status
+     */
+    private void sendEmail(Job job, JobStatus status) {
+        if (status == JobStatus.FINISHED) {
+            String content =
+                    jobEmailProcessor.prepareEmail(job, JobEmailProcessor.emailTemplateNormal, JobEmailProcessor.EMAIL_TEMPLATE_NORMAL);
+            jobEmailProcessor.sendEmail(job, JobEmailProcessor.emailSubjectNormal, content);
+        } else {
             String content =
                     jobEmailProcessor.prepareEmail(job, JobEmailProcessor.emailTemplateError, JobEmailProcessor.EMAIL_TEMPLATE_ERROR);
             jobEmailProcessor.sendEmail(job, JobEmailProcessor.emailSubjectError, content);
         }
-        return jobLog;
+    }
+
+    /**
+     * Writes the queued job logs in the current thread.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void flush() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Gets the number of the dropped job logs.
+     *
+     * @return the dropped count
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long getDroppedCount() {
+        return writer != null ? writer.getDroppedCount() : 0;
+    }
+
+    /**
+     * Gets the number of the job logs written in the background.
+     *
+     * @return the written count
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long getWrittenCount() {
+        return writer != null ? writer.getWrittenCount() : 0;
+    }
+
+    /**
+     * Gets the number of the job logs failed to be written in the background.
+     *
+     * @return the failed count
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long getFailedCount() {
+        return writer != null ? writer.getFailedCount() : 0;
+    }
+
+    /**
+     * Deletes the logs older than the retention period and the oldest logs of the jobs with more logs
+     * than the max rows.
+     */
+    @Scheduled(initialDelay = 60_000, fixedDelay = 600_000)
+    public void enforceRetention() {
+        int retentionPeriod = Configuration.getAsInt(DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD, DEFAULT_RETENTION_PERIOD);
+        int maxRows = Configuration.getAsInt(DIRIGIBLE_SCHEDULER_LOGS_MAX_ROWS, DEFAULT_MAX_ROWS);
+        enforceRetention(retentionPeriod, maxRows);
+    }
+
+    /**
+     * Deletes the logs older than the retention period and the oldest logs of the jobs with more logs
+     * than the max rows.
+     *
+     * @param retentionPeriod the retention period in hours, zero or less to keep the logs regardless of
+     *        their age
+     * @param maxRows the max rows per job, zero or less to keep the logs regardless of their count
+     * @return the number of the deleted logs
+     */
+    public int enforceRetention(int retentionPeriod, int maxRows) {
+        int deleted = 0;
+        if (retentionPeriod > 0) {
+            long threshold = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(retentionPeriod);
+            deleted += jobLogRepository.deleteAllTriggeredBefore(new Timestamp(threshold));
+        }
+        if (maxRows > 0) {
+            for (String jobName : jobLogRepository.findJobNamesWithMoreLogsThan(maxRows)) {
+                List<Long> ids = jobLogRepository.findIdsByJobName(jobName, PageRequest.of(maxRows, 1));
+                if (!ids.isEmpty()) {
+                    deleted += jobLogRepository.deleteAllByJobNameUpTo(jobName, ids.get(0));
+                }
+            }
+        }
+        if (deleted > 0) {
+            LOGGER.debug("Deleted [{}] job logs exceeding the retention of [{}] hours and [{}] rows per job", deleted, retentionPeriod,
+                    maxRows);
+        }
+        return deleted;
+    }
+
+    /**
+     * Writes the queued job logs and stops the background threads.
+     */
+    @PreDestroy
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void close() {
+        if (writer != null) {
+            writer.close();
+        }
+        emailExecutor.shutdown();
+        try {
+            emailExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
     }
 
     /**
@@ -248,16 +560,15 @@ public class JobLogService extends BaseArtefactService<JobLog, Long> {
      * @param jobName the job name
      */
     public void deleteAllByJobName(String jobName) {
-        // createJobLog() if we want only logs for the current tenant otherwise new JobLog()
-        JobLog filter = new JobLog();
+        // set-based delete for all the tenants
         if (jobName != null && jobName.startsWith("/")) {
             jobName = jobName.substring(1);
         }
-        filter.setJobName(jobName);
-        Example<JobLog> example = Example.of(filter);
-        List<JobLog> jobLogs = getRepo().findAll(example);
-        getRepo().deleteAll(jobLogs);
-
+        // the queued logs are written in their own transactions, not in the current one
+        if (writer != null) {
+            writer.flush();
+        }
+        jobLogRepository.deleteAllByJobName(jobName);
     }
 
     /**
@@ -278,4 +589,15 @@ public class JobLogService extends BaseArtefactService<JobLog, Long> {
         Example<JobLog> example = Example.of(filter);
         return getRepo().findAll(example);
     }
+
+    /**
+     * The status change of a job.
+     *
+     * @param jobName the job name
+     * @param message the job message
+     * @param status the new status
+     * @param tenant the tenant or null
+     */
+    private record StatusChange(String jobName, String message, JobStatus status, Tenant tenant) {
+    }
 }
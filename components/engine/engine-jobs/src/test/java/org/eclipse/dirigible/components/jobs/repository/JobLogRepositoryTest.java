@@ -20,10 +20,12 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -150,4 +152,38 @@ public class JobLogRepositoryTest {
         assertNotNull(extension);
         assertNotNull(extension.getLocation());
     }
+
+    /**
+     * Test the set-based deletes of the logs triggered before a threshold.
+     */
+    @Test
+    public void deleteAllTriggeredBefore() {
+        assertEquals(2, jobLogRepository.deleteAllTriggeredBefore(new Timestamp(1667667800)));
+        assertEquals(List.of("job3"), jobLogRepository.findAll()
+                                                      .stream()
+                                                      .map(JobLog::getJobName)
+                                                      .toList());
+    }
+
+    /**
+     * Test the set-based deletes of the oldest logs of the jobs with more logs than the max rows.
+     */
+    @Test
+    public void deleteAllByJobNameUpTo() {
+        for (int i = 0; i < 5; i++) {
+            createJobLog(jobLogRepository, "/a/b/c/jobLog1.jobLog", "jobLog1-" + i, "description", null, "job1", "test-handler.js",
+                    new Timestamp(1667667600), 1L, new Timestamp(1667667660), JobStatus.LOGGED, "job logged " + i);
+        }
+        assertEquals(List.of("job1"), jobLogRepository.findJobNamesWithMoreLogsThan(3));
+
+        List<Long> ids = jobLogRepository.findIdsByJobName("job1", PageRequest.of(3, 1));
+        assertEquals(3, jobLogRepository.deleteAllByJobNameUpTo("job1", ids.get(0)));
+        assertEquals(List.of("job logged 2", "job logged 3", "job logged 4"), jobLogRepository.findAll()
+                                                                                              .stream()
+                                                                                              .filter(l -> "job1".equals(l.getJobName()))
+                                                                                              .map(JobLog::getMessage)
+                                                                                              .toList());
+        assertEquals(List.of(), jobLogRepository.findJobNamesWithMoreLogsThan(3));
+        assertEquals(1, jobLogRepository.deleteAllByJobName("job2"));
+    }
 }
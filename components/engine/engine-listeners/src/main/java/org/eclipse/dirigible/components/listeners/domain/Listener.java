@@ -42,6 +42,21 @@ public class Listener extends Artefact {
     @Expose
     private ListenerKind kind;
 
+    /** The min number of concurrent consumers of a queue listener. */
+    @Column(name = "LISTENER_MIN_CONSUMERS", nullable = true)
+    @Expose
+    private Integer minConsumers;
+
+    /** The max number of concurrent consumers of a queue listener. */
+    @Column(name = "LISTENER_MAX_CONSUMERS", nullable = true)
+    @Expose
+    private Integer maxConsumers;
+
+    /** The number of messages prefetched by each consumer. */
+    @Column(name = "LISTENER_PREFETCH", nullable = true)
+    @Expose
+    private Integer prefetch;
+
     /**
      * Instantiates a new listener.
      *
@@ -116,6 +131,60 @@ public class Listener extends Artefact {
         this.kind = kind;
     }
 
+    /**
+     * Gets the min consumers.
+     *
+     * @return the min consumers
+     */
+    public Integer getMinConsumers() {
+        return minConsumers;
+    }
+
+    /**
+     * Sets the min consumers.
+     *
+     * @param minConsumers the new min consumers
+     */
+    public void setMinConsumers(Integer minConsumers) {
+        this.minConsumers = minConsumers;
+    }
+
+    /**
+     * Gets the max consumers.
+     *
+     * @return the max consumers
+     */
+    public Integer getMaxConsumers() {
+        return maxConsumers;
+    }
+
+    /**
+     * Sets the max consumers.
+     *
+     * @param maxConsumers the new max consumers
+     */
+    public void setMaxConsumers(Integer maxConsumers) {
+        this.maxConsumers = maxConsumers;
+    }
+
+    /**
+     * Gets the prefetch.
+     *
+     * @return the prefetch
+     */
+    public Integer getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Sets the prefetch.
+     *
+     * @param prefetch the new prefetch
+     */
+    public void setPrefetch(Integer prefetch) {
+        this.prefetch = prefetch;
+    }
+
     /**
      * To string.
      *
@@ -123,9 +192,10 @@ public class Listener extends Artefact {
      */
     @Override
     public String toString() {
-        return "Listener{" + "id=" + id + ", handler='" + handler + '\'' + ", kind='" + kind + '\'' + ", location='" + location + '\''
-                + ", name='" + name + '\'' + ", type='" + type + '\'' + ", description='" + description + '\'' + ", key='" + key + '\''
-                + ", dependencies='" + dependencies + '\'' + ", createdBy=" + createdBy + ", createdAt=" + createdAt + ", updatedBy="
-                + updatedBy + ", updatedAt=" + updatedAt + '}';
+        return "Listener{" + "id=" + id + ", handler='" + handler + '\'' + ", kind='" + kind + '\'' + ", minConsumers=" + minConsumers
+                + ", maxConsumers=" + maxConsumers + ", prefetch=" + prefetch + ", location='" + location + '\'' + ", name='" + name + '\''
+                + ", type='" + type + '\'' + ", description='" + description + '\'' + ", key='" + key + '\'' + ", dependencies='"
+                + dependencies + '\'' + ", createdBy=" + createdBy + ", createdAt=" + createdAt + ", updatedBy=" + updatedBy
+                + ", updatedAt=" + updatedAt + '}';
     }
 }
@@ -17,6 +17,9 @@ public class ListenerMetadata {
     private String className;
     private String name;
     private String kind;
+    private Integer minConsumers;
+    private Integer maxConsumers;
+    private Integer prefetch;
 
     public String getClassName() {
         return className;
@@ -42,8 +45,33 @@ public class ListenerMetadata {
         this.kind = kind;
     }
 
+    public Integer getMinConsumers() {
+        return minConsumers;
+    }
+
+    public void setMinConsumers(Integer minConsumers) {
+        this.minConsumers = minConsumers;
+    }
+
+    public Integer getMaxConsumers() {
+        return maxConsumers;
+    }
+
+    public void setMaxConsumers(Integer maxConsumers) {
+        this.maxConsumers = maxConsumers;
+    }
+
+    public Integer getPrefetch() {
+        return prefetch;
+    }
+
+    public void setPrefetch(Integer prefetch) {
+        this.prefetch = prefetch;
+    }
+
     @Override
     public String toString() {
-        return "ListenerMetadata{" + "className='" + className + '\'' + ", name='" + name + '\'' + ", kind='" + kind + '\'' + '}';
+        return "ListenerMetadata{" + "className='" + className + '\'' + ", name='" + name + '\'' + ", kind='" + kind + '\''
+                + ", minConsumers=" + minConsumers + ", maxConsumers=" + maxConsumers + ", prefetch=" + prefetch + '}';
     }
 }
@@ -89,6 +89,9 @@ public class ListenerParser {
                 // Extract decorator parameters
                 metadata.setName(extractValue(argText, "name"));
                 metadata.setKind(extractValue(argText, "kind"));
+                metadata.setMinConsumers(extractIntValue(argText, "minConsumers"));
+                metadata.setMaxConsumers(extractIntValue(argText, "maxConsumers"));
+                metadata.setPrefetch(extractIntValue(argText, "prefetch"));
             }
         }
 
@@ -109,6 +112,18 @@ public class ListenerParser {
             return null;
         }
 
+        private Integer extractIntValue(String source, String key) {
+            String value = extractValue(source, key);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Integer.valueOf(value);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
         private String extractValue(String source, String key) {
             String pattern = key + ":";
             if (source.contains(pattern)) {
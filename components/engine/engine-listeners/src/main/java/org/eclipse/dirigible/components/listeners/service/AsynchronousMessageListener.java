@@ -11,6 +11,7 @@ package org.eclipse.dirigible.components.listeners.service;
 
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.dirigible.components.base.tenant.TenantContext;
 import org.eclipse.dirigible.components.tracing.TaskState;
@@ -21,6 +22,8 @@ import org.eclipse.dirigible.graalium.core.javascript.modules.Module;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.opentelemetry.api.common.Attributes;
+
 import jakarta.jms.JMSException;
 import jakarta.jms.Message;
 import jakarta.jms.MessageListener;
@@ -47,18 +50,40 @@ class AsynchronousMessageListener implements MessageListener {
     /** The tenant context. */
     private final TenantContext tenantContext;
 
+    /** The metrics. */
+    private final ListenerMetrics metrics;
+
+    /** The metrics attributes. */
+    private final Attributes attributes;
+
+    /** The number of messages being processed at the moment. */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
     /**
      * Instantiates a new asynchronous message listener.
      *
      * @param listenerDescriptor the listener
      * @param tenantPropertyManager the tenant property manager
      * @param tenantContext the tenant context
+     * @param metrics the metrics
      */
     AsynchronousMessageListener(ListenerDescriptor listenerDescriptor, TenantPropertyManager tenantPropertyManager,
-            TenantContext tenantContext) {
+            TenantContext tenantContext, ListenerMetrics metrics) {
         this.listenerDescriptor = listenerDescriptor;
         this.tenantPropertyManager = tenantPropertyManager;
         this.tenantContext = tenantContext;
+        this.metrics = metrics;
+        this.attributes = ListenerMetrics.attributes(listenerDescriptor);
+    }
+
+    /**
+     * Gets the number of messages being processed at the moment. The listener is shared by all the
+     * consumers of the destination, so this is the number of the busy consumers.
+     *
+     * @return the in flight messages count
+     */
+    int getInFlight() {
+        return inFlight.get();
     }
 
     /**
@@ -68,6 +93,40 @@ class AsynchronousMessageListener implements MessageListener {
      */
     @Override
     public void onMessage(Message message) {
+        inFlight.incrementAndGet();
+        long start = System.currentTimeMillis();
+        try {
+            recordLag(message, start);
+            processMessage(message);
+        } finally {
+            metrics.recordProcessingDuration(System.currentTimeMillis() - start, attributes);
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Record the time the message waited before it was dispatched.
+     *
+     * @param message the message
+     * @param now the current time
+     */
+    private void recordLag(Message message, long now) {
+        try {
+            long timestamp = message.getJMSTimestamp();
+            if (timestamp > 0) {
+                metrics.recordLag(now - timestamp, attributes);
+            }
+        } catch (JMSException ex) {
+            LOGGER.debug("Failed to get the timestamp of message [{}]", message, ex);
+        }
+    }
+
+    /**
+     * Process message.
+     *
+     * @param message the message
+     */
+    private void processMessage(Message message) {
         LOGGER.trace("Start processing a received message in [{}] by [{}] ...", listenerDescriptor.getDestination(),
                 listenerDescriptor.getHandlerPath());
         if (!(message instanceof TextMessage textMsg)) {
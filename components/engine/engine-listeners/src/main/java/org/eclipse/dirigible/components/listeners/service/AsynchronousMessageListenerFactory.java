@@ -12,6 +12,8 @@ package org.eclipse.dirigible.components.listeners.service;
 import org.eclipse.dirigible.components.base.tenant.TenantContext;
 import org.springframework.stereotype.Component;
 
+import io.opentelemetry.api.OpenTelemetry;
+
 /**
  * A factory for creating AsynchronousMessageListener objects.
  */
@@ -24,15 +26,21 @@ class AsynchronousMessageListenerFactory {
     /** The tenant context. */
     private final TenantContext tenantContext;
 
+    /** The metrics. */
+    private final ListenerMetrics metrics;
+
     /**
      * Instantiates a new asynchronous message listener factory.
      *
      * @param tenantPropertyManager the tenant property manager
      * @param tenantContext the tenant context
+     * @param openTelemetry the open telemetry
      */
-    AsynchronousMessageListenerFactory(TenantPropertyManager tenantPropertyManager, TenantContext tenantContext) {
+    AsynchronousMessageListenerFactory(TenantPropertyManager tenantPropertyManager, TenantContext tenantContext,
+            OpenTelemetry openTelemetry) {
         this.tenantPropertyManager = tenantPropertyManager;
         this.tenantContext = tenantContext;
+        this.metrics = new ListenerMetrics(openTelemetry);
     }
 
     /**
@@ -42,6 +50,6 @@ class AsynchronousMessageListenerFactory {
      * @return the asynchronous message listener
      */
     AsynchronousMessageListener create(ListenerDescriptor listenerDescriptor) {
-        return new AsynchronousMessageListener(listenerDescriptor, tenantPropertyManager, tenantContext);
+        return new AsynchronousMessageListener(listenerDescriptor, tenantPropertyManager, tenantContext, metrics);
     }
 }
@@ -45,13 +45,44 @@ public class ConnectionArtifacts {
         this.messageConsumer = messageConsumer;
     }
 
+    /**
+     * Instantiates connection artifacts of an additional consumer, which share the connection of
+     * another consumer. Closing them leaves the connection open.
+     *
+     * @param session the session
+     * @param messageConsumer the message consumer
+     */
+    public ConnectionArtifacts(Session session, MessageConsumer messageConsumer) {
+        this(null, session, messageConsumer);
+    }
+
+    /**
+     * Gets the connection.
+     *
+     * @return the connection
+     */
+    public Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Gets the message consumer.
+     *
+     * @return the message consumer
+     */
+    public MessageConsumer getMessageConsumer() {
+        return messageConsumer;
+    }
+
     /**
      * Close all.
      */
     public void closeAll() {
         close(messageConsumer);
         close(session);
-        close(connection);
+        if (null != connection) {
+            close(connection);
+        }
     }
 
     /**
@@ -10,6 +10,8 @@
 package org.eclipse.dirigible.components.listeners.service;
 
 import org.eclipse.dirigible.components.listeners.domain.ListenerKind;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 /**
@@ -18,6 +20,9 @@ import org.springframework.stereotype.Component;
 @Component
 class ListenerCreator {
 
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ListenerCreator.class);
+
     /** The destination name manager. */
     private final DestinationNameManager destinationNameManager;
 
@@ -40,7 +45,28 @@ class ListenerCreator {
         ListenerType type = fromEntityType(entity.getKind());
 
         String destination = destinationNameManager.toTenantName(entity.getName());
-        return new ListenerDescriptor(type, destination, entity.getHandler());
+        int minConsumers = Math.max(1, valueOrDefault(entity.getMinConsumers(), 1));
+        int maxConsumers = Math.max(minConsumers, valueOrDefault(entity.getMaxConsumers(), minConsumers));
+        if (type == ListenerType.TOPIC && maxConsumers > 1) {
+            // every consumer of a topic receives every message, so concurrent consumers would duplicate the
+            // processing
+            LOGGER.warn("Concurrent consumers are not supported for topic listener [{}], a single consumer will be used", entity.getName());
+            minConsumers = 1;
+            maxConsumers = 1;
+        }
+        int prefetch = Math.max(0, valueOrDefault(entity.getPrefetch(), 0));
+        return new ListenerDescriptor(type, destination, entity.getHandler(), minConsumers, maxConsumers, prefetch);
+    }
+
+    /**
+     * Value or default.
+     *
+     * @param value the value
+     * @param defaultValue the default value
+     * @return the int
+     */
+    private static int valueOrDefault(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
     }
 
     /**
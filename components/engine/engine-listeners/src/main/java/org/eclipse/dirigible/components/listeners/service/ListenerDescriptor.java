@@ -25,17 +25,43 @@ class ListenerDescriptor {
     /** The handler path. */
     private final String handlerPath;
 
+    /** The min consumers. */
+    private final int minConsumers;
+
+    /** The max consumers. */
+    private final int maxConsumers;
+
+    /** The prefetch, 0 for the connection default. */
+    private final int prefetch;
+
     /**
-     * Instantiates a new listener descriptor.
+     * Instantiates a new listener descriptor with a single consumer.
      *
      * @param type the type
      * @param destination the destination
      * @param handlerPath the handler path
      */
     ListenerDescriptor(ListenerType type, String destination, String handlerPath) {
+        this(type, destination, handlerPath, 1, 1, 0);
+    }
+
+    /**
+     * Instantiates a new listener descriptor.
+     *
+     * @param type the type
+     * @param destination the destination
+     * @param handlerPath the handler path
+     * @param minConsumers the min consumers
+     * @param maxConsumers the max consumers
+     * @param prefetch the prefetch, 0 for the connection default
+     */
+    ListenerDescriptor(ListenerType type, String destination, String handlerPath, int minConsumers, int maxConsumers, int prefetch) {
         this.type = type;
         this.destination = destination;
         this.handlerPath = handlerPath;
+        this.minConsumers = minConsumers;
+        this.maxConsumers = maxConsumers;
+        this.prefetch = prefetch;
     }
 
     /**
@@ -65,6 +91,33 @@ class ListenerDescriptor {
         return handlerPath;
     }
 
+    /**
+     * Gets the min consumers.
+     *
+     * @return the min consumers
+     */
+    int getMinConsumers() {
+        return minConsumers;
+    }
+
+    /**
+     * Gets the max consumers.
+     *
+     * @return the max consumers
+     */
+    int getMaxConsumers() {
+        return maxConsumers;
+    }
+
+    /**
+     * Gets the prefetch.
+     *
+     * @return the prefetch, 0 for the connection default
+     */
+    int getPrefetch() {
+        return prefetch;
+    }
+
     /**
      * To string.
      *
@@ -72,11 +125,13 @@ class ListenerDescriptor {
      */
     @Override
     public String toString() {
-        return "Listener{" + "type=" + type + ", destination='" + destination + '\'' + ", handlerPath='" + handlerPath + '\'' + '}';
+        return "Listener{" + "type=" + type + ", destination='" + destination + '\'' + ", handlerPath='" + handlerPath + '\''
+                + ", consumers=" + minConsumers + ".." + maxConsumers + ", prefetch=" + prefetch + '}';
     }
 
     /**
-     * Equals.
+     * Equals. The concurrency settings are not part of the identity of the listener, so that a running
+     * listener can be found and stopped after its settings have been changed.
      *
      * @param o the o
      * @return true, if successful
@@ -12,6 +12,7 @@ package org.eclipse.dirigible.components.listeners.service;
 import jakarta.jms.MessageConsumer;
 import jakarta.jms.*;
 import org.apache.activemq.ActiveMQConnection;
+import org.apache.activemq.ActiveMQMessageConsumer;
 import org.apache.activemq.RedeliveryPolicy;
 import org.apache.activemq.broker.region.policy.RedeliveryPolicyMap;
 import org.apache.activemq.command.ActiveMQDestination;
@@ -20,6 +21,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.IllegalStateException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 /**
  * The Class BackgroundListenerManager.
@@ -50,6 +53,12 @@ public class ListenerManager {
     /** The connection artifacts. */
     private ConnectionArtifacts connectionArtifacts;
 
+    /** The artifacts of the consumers added to the first one, sharing its connection. */
+    private final Deque<ConnectionArtifacts> additionalConsumers = new ArrayDeque<>();
+
+    /** The message listener, shared by all the consumers. */
+    private AsynchronousMessageListener messageListener;
+
     /**
      * Instantiates a new background listener manager.
      *
@@ -80,6 +89,7 @@ public class ListenerManager {
             ListenerExceptionHandler exceptionListener = new ListenerExceptionHandler(handlerPath);
 
             Connection connection = connectionArtifactsFactory.createConnection(exceptionListener);
+            configurePrefetch(connection);
             Session session = connectionArtifactsFactory.createSession(connection);
 
             Destination destination = createDestination(session);
@@ -87,15 +97,112 @@ public class ListenerManager {
 
             MessageConsumer consumer = session.createConsumer(destination);
 
-            AsynchronousMessageListener messageListener = asynchronousMessageListenerFactory.create(listenerDescriptor);
+            messageListener = asynchronousMessageListenerFactory.create(listenerDescriptor);
             consumer.setMessageListener(messageListener);
 
             connectionArtifacts = new ConnectionArtifacts(connection, session, consumer);
+
+            for (int i = 1; i < listenerDescriptor.getMinConsumers(); i++) {
+                addConsumer();
+            }
         } catch (JMSException ex) {
             throw new IllegalStateException("Failed to start listener for " + listenerDescriptor, ex);
         }
     }
 
+    /**
+     * Adjusts the number of the consumers of a queue listener between its min and max consumers. A
+     * consumer is added when all the consumers are busy and there are messages waiting in their
+     * prefetch buffers, and one is removed when there are idle consumers and nothing is waiting. Once
+     * the max consumers are reached the broker keeps the backlog, as no consumer accepts more than its
+     * prefetch.
+     */
+    public synchronized void scale() {
+        if (null == connectionArtifacts || listenerDescriptor.getMaxConsumers() <= listenerDescriptor.getMinConsumers()) {
+            return;
+        }
+        int consumers = getConsumersCount();
+        int busy = messageListener.getInFlight();
+        int pending = getPendingMessages();
+        try {
+            if (pending > 0 && busy >= consumers && consumers < listenerDescriptor.getMaxConsumers()) {
+                addConsumer();
+                LOGGER.debug("Scaled up listener [{}] to [{}] consumers, pending messages [{}]", listenerDescriptor, consumers + 1,
+                        pending);
+            } else if (pending == 0 && busy < consumers - 1 && consumers > listenerDescriptor.getMinConsumers()) {
+                additionalConsumers.removeLast()
+                                   .closeAll();
+                LOGGER.debug("Scaled down listener [{}] to [{}] consumers", listenerDescriptor, consumers - 1);
+            }
+        } catch (JMSException | RuntimeException ex) {
+            LOGGER.warn("Failed to scale listener [{}]", listenerDescriptor, ex);
+        }
+    }
+
+    /**
+     * Gets the consumers count.
+     *
+     * @return the consumers count
+     */
+    synchronized int getConsumersCount() {
+        return null == connectionArtifacts ? 0 : 1 + additionalConsumers.size();
+    }
+
+    /**
+     * Adds a consumer with its own session on the connection of the listener.
+     *
+     * @throws JMSException the JMS exception
+     */
+    private void addConsumer() throws JMSException {
+        Session session = connectionArtifactsFactory.createSession(connectionArtifacts.getConnection());
+        try {
+            MessageConsumer consumer = session.createConsumer(createDestination(session));
+            consumer.setMessageListener(messageListener);
+            additionalConsumers.addLast(new ConnectionArtifacts(session, consumer));
+        } catch (JMSException | RuntimeException ex) {
+            session.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Gets the number of the messages dispatched to the consumers, which are waiting to be processed.
+     *
+     * @return the pending messages
+     */
+    private int getPendingMessages() {
+        int pending = pendingMessages(connectionArtifacts);
+        for (ConnectionArtifacts artifacts : additionalConsumers) {
+            pending += pendingMessages(artifacts);
+        }
+        return pending;
+    }
+
+    /**
+     * Pending messages.
+     *
+     * @param artifacts the artifacts
+     * @return the pending messages
+     */
+    private static int pendingMessages(ConnectionArtifacts artifacts) {
+        return artifacts.getMessageConsumer() instanceof ActiveMQMessageConsumer amqConsumer ? amqConsumer.getMessageSize() : 0;
+    }
+
+    /**
+     * Configure the number of messages dispatched in advance to each consumer.
+     *
+     * @param connection the connection
+     */
+    private void configurePrefetch(Connection connection) {
+        int prefetch = listenerDescriptor.getPrefetch();
+        if (prefetch > 0 && connection instanceof ActiveMQConnection amqConnection) {
+            amqConnection.getPrefetchPolicy()
+                         .setQueuePrefetch(prefetch);
+            amqConnection.getPrefetchPolicy()
+                         .setTopicPrefetch(prefetch);
+        }
+    }
+
     /**
      * Create destination.
      *
@@ -155,8 +262,13 @@ public class ListenerManager {
             return;
         }
         LOGGER.info("Stopping message listener for {} ...", listenerDescriptor);
+        while (!additionalConsumers.isEmpty()) {
+            additionalConsumers.removeLast()
+                               .closeAll();
+        }
         connectionArtifacts.closeAll();
         connectionArtifacts = null;
+        messageListener = null;
         LOGGER.info("Stopped message listener for {}", listenerDescriptor);
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.listeners.service;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * The per listener metrics - the time a message waited in the destination before it was dispatched
+ * to the listener and the time it took the handler to process it.
+ */
+class ListenerMetrics {
+
+    /** The Constant DESTINATION_KEY. */
+    private static final AttributeKey<String> DESTINATION_KEY = AttributeKey.stringKey("destination");
+
+    /** The Constant HANDLER_KEY. */
+    private static final AttributeKey<String> HANDLER_KEY = AttributeKey.stringKey("handler");
+
+    /** The lag. */
+    private final LongHistogram lag;
+
+    /** The processing duration. */
+    private final LongHistogram processingDuration;
+
+    /**
+     * Instantiates a new listener metrics.
+     *
+     * @param openTelemetry the open telemetry
+     */
+    ListenerMetrics(OpenTelemetry openTelemetry) {
+        Meter meter = openTelemetry.getMeter("dirigible_listeners");
+        this.lag = meter.histogramBuilder("listener_lag")
+                        .setDescription("Time between sending a message and its dispatching to the listener")
+                        .setUnit("ms")
+                        .ofLongs()
+                        .build();
+        this.processingDuration = meter.histogramBuilder("listener_processing_duration")
+                                       .setDescription("Duration of processing a message by the listener handler")
+                                       .setUnit("ms")
+                                       .ofLongs()
+                                       .build();
+    }
+
+    /**
+     * Creates the attributes of the listener.
+     *
+     * @param listenerDescriptor the listener descriptor
+     * @return the attributes
+     */
+    static Attributes attributes(ListenerDescriptor listenerDescriptor) {
+        String destination = listenerDescriptor.getDestination();
+        String handler = listenerDescriptor.getHandlerPath();
+        return Attributes.of(DESTINATION_KEY, destination != null ? destination : "", HANDLER_KEY, handler != null ? handler : "");
+    }
+
+    /**
+     * Record lag.
+     *
+     * @param millis the millis
+     * @param attributes the listener attributes
+     */
+    void recordLag(long millis, Attributes attributes) {
+        lag.record(Math.max(0, millis), attributes);
+    }
+
+    /**
+     * Record processing duration.
+     *
+     * @param millis the millis
+     * @param attributes the listener attributes
+     */
+    void recordProcessingDuration(long millis, Attributes attributes) {
+        processingDuration.record(millis, attributes);
+    }
+
+}
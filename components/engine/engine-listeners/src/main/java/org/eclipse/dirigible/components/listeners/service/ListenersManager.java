@@ -15,10 +15,13 @@ import org.eclipse.dirigible.repository.api.IResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -91,6 +94,20 @@ public class ListenersManager {
         return !resource.exists();
     }
 
+    /**
+     * Scale the consumers of the running listeners to their backlog.
+     */
+    @Scheduled(fixedDelay = 2_000)
+    public void scaleListeners() {
+        List<ListenerManager> managers;
+        synchronized (LISTENERS) {
+            managers = new ArrayList<>(LISTENERS.values());
+        }
+        for (ListenerManager manager : managers) {
+            manager.scale();
+        }
+    }
+
     /**
      * Stop listeners.
      */
@@ -9,15 +9,32 @@
  */
 package org.eclipse.dirigible.components.listeners.service;
 
-import jakarta.jms.*;
+import java.util.List;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.listeners.service.ProducerSessionPool.PooledSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import jakarta.annotation.PreDestroy;
+import jakarta.jms.Connection;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+
 /**
- * The Class MessageProducer.
+ * The Class MessageProducer. The messages are sent through pooled sessions, so the producer can be
+ * used concurrently by many threads.
  */
 @Component
 public class MessageProducer {
@@ -25,8 +42,26 @@ public class MessageProducer {
     /** The Constant LOGGER. */
     private static final Logger LOGGER = LoggerFactory.getLogger(MessageProducer.class);
 
-    /** The session. */
-    private final Session session;
+    /** The max idle producer sessions kept for reuse. */
+    private static final String DIRIGIBLE_MESSAGING_PRODUCER_POOL_MAX_IDLE = "DIRIGIBLE_MESSAGING_PRODUCER_POOL_MAX_IDLE";
+
+    /** The Constant GROUP_ID_PROPERTY. */
+    private static final String GROUP_ID_PROPERTY = "JMSXGroupID";
+
+    /** The Constant DESTINATION_TYPE_KEY. */
+    private static final AttributeKey<String> DESTINATION_TYPE_KEY = AttributeKey.stringKey("destination_type");
+
+    /** The Constant QUEUE_ATTRIBUTES. */
+    private static final Attributes QUEUE_ATTRIBUTES = Attributes.of(DESTINATION_TYPE_KEY, "queue");
+
+    /** The Constant TOPIC_ATTRIBUTES. */
+    private static final Attributes TOPIC_ATTRIBUTES = Attributes.of(DESTINATION_TYPE_KEY, "topic");
+
+    /** The sessions for single message sends. */
+    private final ProducerSessionPool sessions;
+
+    /** The transacted sessions for batch sends. */
+    private final ProducerSessionPool transactedSessions;
 
     /** The destination name manager. */
     private final DestinationNameManager destinationNameManager;
@@ -34,19 +69,38 @@ public class MessageProducer {
     /** The tenant property manager. */
     private final TenantPropertyManager tenantPropertyManager;
 
+    /** The send duration. */
+    private final LongHistogram sendDuration;
+
+    /** The sent messages. */
+    private final LongCounter sentMessages;
+
     /**
      * Instantiates a new message producer.
      *
-     * @param session the session
+     * @param connection the connection
      * @param destinationNameManager the destination name manager
      * @param tenantPropertyManager the tenant property manager
+     * @param openTelemetry the open telemetry
      */
     @Autowired
-    MessageProducer(@Qualifier("ActiveMQSession") Session session, DestinationNameManager destinationNameManager,
-            TenantPropertyManager tenantPropertyManager) {
-        this.session = session;
+    MessageProducer(@Qualifier("ActiveMQConnection") Connection connection, DestinationNameManager destinationNameManager,
+            TenantPropertyManager tenantPropertyManager, OpenTelemetry openTelemetry) {
+        int maxIdle = Configuration.getAsInt(DIRIGIBLE_MESSAGING_PRODUCER_POOL_MAX_IDLE, 16);
+        this.sessions = new ProducerSessionPool(connection, false, maxIdle);
+        this.transactedSessions = new ProducerSessionPool(connection, true, maxIdle);
         this.destinationNameManager = destinationNameManager;
         this.tenantPropertyManager = tenantPropertyManager;
+
+        Meter meter = openTelemetry.getMeter("dirigible_messaging");
+        this.sendDuration = meter.histogramBuilder("messaging_send_duration")
+                                 .setDescription("Duration of sending a message or a batch of messages")
+                                 .setUnit("us")
+                                 .ofLongs()
+                                 .build();
+        this.sentMessages = meter.counterBuilder("messaging_sent_messages")
+                                 .setDescription("Count of the sent messages")
+                                 .build();
     }
 
     /**
@@ -57,41 +111,139 @@ public class MessageProducer {
      * @throws JMSException the JMS exception
      */
     public void sendMessageToTopic(String topic, String message) throws JMSException {
-        String destinationName = destinationNameManager.toTenantName(topic);
-        Destination destination = session.createTopic(destinationName);
-        sendMessage(message, destination);
+        sendMessages(topic, List.of(message), false, false, null);
     }
 
     /**
-     * Send message.
+     * Send message to queue.
      *
+     * @param queue the queue
      * @param message the message
-     * @param destination the destination
      * @throws JMSException the JMS exception
      */
-    private void sendMessage(String message, Destination destination) throws JMSException {
-        try (jakarta.jms.MessageProducer producer = session.createProducer(destination)) {
-            producer.setDeliveryMode(DeliveryMode.PERSISTENT);
+    public void sendMessageToQueue(String queue, String message) throws JMSException {
+        sendMessages(queue, List.of(message), true, false, null);
+    }
 
-            TextMessage textMessage = session.createTextMessage(message);
-            tenantPropertyManager.setCurrentTenant(textMessage);
+    /**
+     * Send message to queue with an ordering key. The messages with the same ordering key are processed
+     * one after another in the order they were sent, even if the queue listener has several concurrent
+     * consumers.
+     *
+     * @param queue the queue
+     * @param message the message
+     * @param orderingKey the ordering key
+     * @throws JMSException the JMS exception
+     */
+    public void sendMessageToQueue(String queue, String message, String orderingKey) throws JMSException {
+        sendMessages(queue, List.of(message), true, false, orderingKey);
+    }
 
-            producer.send(textMessage);
-            LOGGER.trace("Message sent in [{}]", destination);
-        }
+    /**
+     * Send messages to topic in a single transaction - either all or none of them are sent.
+     *
+     * @param topic the topic
+     * @param messages the messages
+     * @throws JMSException the JMS exception
+     */
+    public void sendMessagesToTopic(String topic, List<String> messages) throws JMSException {
+        sendMessages(topic, messages, false, true, null);
     }
 
     /**
-     * Send message to queue.
+     * Send messages to queue in a single transaction - either all or none of them are sent.
      *
      * @param queue the queue
-     * @param message the message
+     * @param messages the messages
      * @throws JMSException the JMS exception
      */
-    public void sendMessageToQueue(String queue, String message) throws JMSException {
-        String destinationName = destinationNameManager.toTenantName(queue);
-        Destination destination = session.createQueue(destinationName);
-        sendMessage(message, destination);
+    public void sendMessagesToQueue(String queue, List<String> messages) throws JMSException {
+        sendMessages(queue, messages, true, true, null);
+    }
+
+    /**
+     * Send messages to queue with an ordering key in a single transaction - either all or none of them
+     * are sent.
+     *
+     * @param queue the queue
+     * @param messages the messages
+     * @param orderingKey the ordering key
+     * @throws JMSException the JMS exception
+     */
+    public void sendMessagesToQueue(String queue, List<String> messages, String orderingKey) throws JMSException {
+        sendMessages(queue, messages, true, true, orderingKey);
+    }
+
+    /**
+     * Send messages.
+     *
+     * @param name the destination name
+     * @param messages the messages
+     * @param queue whether the destination is a queue or a topic
+     * @param transacted whether to send the messages in a transaction
+     * @param orderingKey the ordering key or null
+     * @throws JMSException the JMS exception
+     */
+    private void sendMessages(String name, List<String> messages, boolean queue, boolean transacted, String orderingKey)
+            throws JMSException {
+        if (messages.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        String destinationName = destinationNameManager.toTenantName(name);
+        ProducerSessionPool pool = transacted ? transactedSessions : sessions;
+        PooledSession pooled = pool.borrow();
+        try {
+            Session session = pooled.session();
+            Destination destination = queue ? session.createQueue(destinationName) : session.createTopic(destinationName);
+            for (String message : messages) {
+                TextMessage textMessage = session.createTextMessage(message);
+                tenantPropertyManager.setCurrentTenant(textMessage);
+                if (null != orderingKey) {
+                    // the broker dispatches all the messages of a group to the same consumer
+                    textMessage.setStringProperty(GROUP_ID_PROPERTY, orderingKey);
+                }
+                pooled.producer()
+                      .send(destination, textMessage);
+            }
+            if (transacted) {
+                session.commit();
+            }
+            LOGGER.trace("[{}] message(s) sent in [{}]", messages.size(), destination);
+        } catch (JMSException | RuntimeException ex) {
+            if (transacted) {
+                rollbackQuietly(pooled.session());
+            }
+            pool.invalidate(pooled);
+            throw ex;
+        }
+        pool.release(pooled);
+
+        Attributes attributes = queue ? QUEUE_ATTRIBUTES : TOPIC_ATTRIBUTES;
+        sendDuration.record((System.nanoTime() - start) / 1_000, attributes);
+        sentMessages.add(messages.size(), attributes);
+    }
+
+    /**
+     * Rollback quietly.
+     *
+     * @param session the session
+     */
+    private static void rollbackQuietly(Session session) {
+        try {
+            session.rollback();
+        } catch (JMSException | RuntimeException ex) {
+            LOGGER.warn("Failed to rollback producer session [{}]", session, ex);
+        }
+    }
+
+    /**
+     * Close the idle producer sessions.
+     */
+    @PreDestroy
+    void close() {
+        sessions.close();
+        transactedSessions.close();
     }
 
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.listeners.service;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.jms.Connection;
+import jakarta.jms.DeliveryMode;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+
+/**
+ * Pool of JMS sessions with an anonymous producer each. JMS sessions must not be used by more than
+ * one thread at a time, so every send borrows a session for its exclusive use and returns it
+ * afterwards. Sessions are created on demand and up to <code>maxIdle</code> of them are kept open
+ * for reuse.
+ */
+class ProducerSessionPool implements AutoCloseable {
+
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProducerSessionPool.class);
+
+    /** The connection. */
+    private final Connection connection;
+
+    /** Whether the sessions are transacted. */
+    private final boolean transacted;
+
+    /** The max idle sessions. */
+    private final int maxIdle;
+
+    /** The idle sessions. */
+    private final Deque<PooledSession> idle = new ConcurrentLinkedDeque<>();
+
+    /** The idle sessions count. */
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    /**
+     * Instantiates a new producer session pool.
+     *
+     * @param connection the connection
+     * @param transacted whether the sessions are transacted
+     * @param maxIdle the max idle sessions
+     */
+    ProducerSessionPool(Connection connection, boolean transacted, int maxIdle) {
+        this.connection = connection;
+        this.transacted = transacted;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Borrows a session, creating a new one if there is no idle session.
+     *
+     * @return the pooled session
+     * @throws JMSException the JMS exception
+     */
+    PooledSession borrow() throws JMSException {
+        PooledSession pooled = idle.pollFirst();
+        if (pooled != null) {
+            idleCount.decrementAndGet();
+            return pooled;
+        }
+        Session session = transacted ? connection.createSession(true, Session.SESSION_TRANSACTED)
+                : connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        try {
+            MessageProducer producer = session.createProducer(null);
+            producer.setDeliveryMode(DeliveryMode.PERSISTENT);
+            return new PooledSession(session, producer);
+        } catch (JMSException | RuntimeException ex) {
+            closeQuietly(session);
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns a borrowed session to the pool.
+     *
+     * @param pooled the pooled session
+     */
+    void release(PooledSession pooled) {
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offerFirst(pooled);
+        } else {
+            idleCount.decrementAndGet();
+            invalidate(pooled);
+        }
+    }
+
+    /**
+     * Closes a borrowed session which must not be reused, e.g. after a failure.
+     *
+     * @param pooled the pooled session
+     */
+    void invalidate(PooledSession pooled) {
+        closeQuietly(pooled.session());
+    }
+
+    /**
+     * Closes the idle sessions.
+     */
+    @Override
+    public void close() {
+        PooledSession pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            invalidate(pooled);
+        }
+    }
+
+    /**
+     * Close quietly.
+     *
+     * @param session the session
+     */
+    private static void closeQuietly(Session session) {
+        try {
+            session.close();
+        } catch (JMSException | RuntimeException ex) {
+            LOGGER.warn("Failed to close producer session [{}]", session, ex);
+        }
+    }
+
+    /**
+     * A session with its anonymous producer.
+     *
+     * @param session the session
+     * @param producer the producer
+     */
+    record PooledSession(Session session, MessageProducer producer) {
+    }
+
+}
@@ -99,6 +99,9 @@ public class ListenerSynchronizer extends MultitenantBaseSynchronizer<Listener,
             listener = new Listener();
             listener.setName(metadata.getName());
             listener.setKind(resolveListenerKind(metadata.getKind()));
+            listener.setMinConsumers(metadata.getMinConsumers());
+            listener.setMaxConsumers(metadata.getMaxConsumers());
+            listener.setPrefetch(metadata.getPrefetch());
             String handler = location;
             if (handler.startsWith(IRepositoryStructure.SEPARATOR)) {
                 handler = handler.substring(1);
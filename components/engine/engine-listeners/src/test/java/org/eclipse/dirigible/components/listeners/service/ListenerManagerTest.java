@@ -11,6 +11,7 @@ package org.eclipse.dirigible.components.listeners.service;
 
 import jakarta.jms.MessageConsumer;
 import jakarta.jms.*;
+import org.apache.activemq.ActiveMQMessageConsumer;
 import org.eclipse.dirigible.components.listeners.config.ActiveMQConnectionArtifactsFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -145,6 +146,41 @@ class ListenerManagerTest {
         verify(connectionArtifactsFactory).createSession(connection);
     }
 
+    /**
+     * Test that the consumers of a queue listener are scaled to the backlog.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testScaleQueueListener() throws JMSException {
+        mockConnectionAndSession();
+        when(listenerDescriptor.getType()).thenReturn(ListenerType.QUEUE);
+        when(listenerDescriptor.getDestination()).thenReturn(QUEUE);
+        when(listenerDescriptor.getMinConsumers()).thenReturn(1);
+        when(listenerDescriptor.getMaxConsumers()).thenReturn(2);
+
+        ActiveMQMessageConsumer amqConsumer = mock(ActiveMQMessageConsumer.class);
+        when(session.createQueue(QUEUE)).thenReturn(queue);
+        when(session.createConsumer(queue)).thenReturn(amqConsumer);
+
+        manager.startListener();
+        assertThat(manager.getConsumersCount()).isEqualTo(1);
+
+        when(amqConsumer.getMessageSize()).thenReturn(5);
+        when(asynchronousMessageListener.getInFlight()).thenReturn(1);
+        manager.scale();
+        manager.scale();
+        assertThat(manager.getConsumersCount()).isEqualTo(2);
+        verify(amqConsumer, times(2)).setMessageListener(asynchronousMessageListener);
+
+        when(amqConsumer.getMessageSize()).thenReturn(0);
+        when(asynchronousMessageListener.getInFlight()).thenReturn(0);
+        manager.scale();
+        assertThat(manager.getConsumersCount()).isEqualTo(1);
+        verify(amqConsumer).close();
+        verify(connection, never()).close();
+    }
+
     /**
      * Mock connection and session.
      *
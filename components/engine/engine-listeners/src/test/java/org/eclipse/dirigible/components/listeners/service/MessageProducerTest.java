@@ -10,12 +10,19 @@
 package org.eclipse.dirigible.components.listeners.service;
 
 import jakarta.jms.*;
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,8 +49,10 @@ class MessageProducerTest {
     private static final String TENANT_TOPIC = "1e7252b1-3bca-4285-bd4e-60e19886d063###test-topic";
 
     /** The producer. */
-    @InjectMocks
     private MessageProducer producer;
+    /** The connection. */
+    @Mock
+    private Connection connection;
     /** The session. */
     @Mock
     private Session session;
@@ -68,6 +77,14 @@ class MessageProducerTest {
     @Mock
     private TenantPropertyManager tenantPropertyManager;
 
+    /**
+     * Sets the up.
+     */
+    @BeforeEach
+    void setUp() {
+        producer = new MessageProducer(connection, destinationNameManager, tenantPropertyManager, OpenTelemetry.noop());
+    }
+
     /**
      * Test send message to topic.
      *
@@ -75,14 +92,15 @@ class MessageProducerTest {
      */
     @Test
     void testSendMessageToTopic() throws JMSException {
+        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
+        when(session.createProducer(null)).thenReturn(jsmProducer);
         when(destinationNameManager.toTenantName(TOPIC)).thenReturn(TENANT_TOPIC);
         when(session.createTopic(TENANT_TOPIC)).thenReturn(topic);
-        when(session.createProducer(topic)).thenReturn(jsmProducer);
         when(session.createTextMessage(MESSAGE)).thenReturn(txtMessage);
 
         producer.sendMessageToTopic(TOPIC, MESSAGE);
 
-        verify(jsmProducer).send(txtMessage);
+        verify(jsmProducer).send(topic, txtMessage);
         verify(tenantPropertyManager).setCurrentTenant(txtMessage);
     }
 
@@ -93,15 +111,97 @@ class MessageProducerTest {
      */
     @Test
     void testSendMessageToQueue() throws JMSException {
+        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
+        when(session.createProducer(null)).thenReturn(jsmProducer);
         when(destinationNameManager.toTenantName(QUEUE)).thenReturn(TENANT_QUEUE);
         when(session.createQueue(TENANT_QUEUE)).thenReturn(queue);
-        when(session.createProducer(queue)).thenReturn(jsmProducer);
         when(session.createTextMessage(MESSAGE)).thenReturn(txtMessage);
 
         producer.sendMessageToQueue(QUEUE, MESSAGE);
 
-        verify(jsmProducer).send(txtMessage);
+        verify(jsmProducer).send(queue, txtMessage);
         verify(tenantPropertyManager).setCurrentTenant(txtMessage);
     }
 
+    /**
+     * Test send message to queue with an ordering key.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testSendMessageToQueueWithOrderingKey() throws JMSException {
+        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
+        when(session.createProducer(null)).thenReturn(jsmProducer);
+        when(destinationNameManager.toTenantName(QUEUE)).thenReturn(TENANT_QUEUE);
+        when(session.createQueue(TENANT_QUEUE)).thenReturn(queue);
+        when(session.createTextMessage(MESSAGE)).thenReturn(txtMessage);
+
+        producer.sendMessageToQueue(QUEUE, MESSAGE, "order-42");
+
+        verify(txtMessage).setStringProperty("JMSXGroupID", "order-42");
+        verify(jsmProducer).send(queue, txtMessage);
+    }
+
+    /**
+     * Test that the session and the producer are reused between sends.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testSessionIsReused() throws JMSException {
+        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
+        when(session.createProducer(null)).thenReturn(jsmProducer);
+        when(destinationNameManager.toTenantName(QUEUE)).thenReturn(TENANT_QUEUE);
+        when(session.createQueue(TENANT_QUEUE)).thenReturn(queue);
+        when(session.createTextMessage(MESSAGE)).thenReturn(txtMessage);
+
+        producer.sendMessageToQueue(QUEUE, MESSAGE);
+        producer.sendMessageToQueue(QUEUE, MESSAGE);
+
+        verify(connection).createSession(false, Session.AUTO_ACKNOWLEDGE);
+        verify(jsmProducer, times(2)).send(queue, txtMessage);
+        verify(session, never()).close();
+    }
+
+    /**
+     * Test send messages to queue in a transaction.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testSendMessagesToQueue() throws JMSException {
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(session.createProducer(null)).thenReturn(jsmProducer);
+        when(destinationNameManager.toTenantName(QUEUE)).thenReturn(TENANT_QUEUE);
+        when(session.createQueue(TENANT_QUEUE)).thenReturn(queue);
+        when(session.createTextMessage(MESSAGE)).thenReturn(txtMessage);
+
+        producer.sendMessagesToQueue(QUEUE, List.of(MESSAGE, MESSAGE, MESSAGE));
+
+        verify(jsmProducer, times(3)).send(queue, txtMessage);
+        verify(session).commit();
+    }
+
+    /**
+     * Test that a failed batch is rolled back and its session is discarded.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testSendMessagesToTopicFailure() throws JMSException {
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(session.createProducer(null)).thenReturn(jsmProducer);
+        when(destinationNameManager.toTenantName(TOPIC)).thenReturn(TENANT_TOPIC);
+        when(session.createTopic(TENANT_TOPIC)).thenReturn(topic);
+        when(session.createTextMessage(MESSAGE)).thenReturn(txtMessage);
+        doThrow(JMSException.class).when(jsmProducer)
+                                   .send(topic, txtMessage);
+
+        assertThrows(JMSException.class, () -> producer.sendMessagesToTopic(TOPIC, List.of(MESSAGE, MESSAGE)));
+
+        verify(session, never()).commit();
+        verify(session).rollback();
+        verify(session).close();
+    }
+
 }
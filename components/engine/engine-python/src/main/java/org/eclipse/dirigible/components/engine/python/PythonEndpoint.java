@@ -11,9 +11,13 @@ package org.eclipse.dirigible.components.engine.python;
 
 import static org.eclipse.dirigible.graalium.core.graal.ValueTransformer.transformValue;
 import java.io.File;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.base.endpoint.BaseEndpoint;
 import org.eclipse.dirigible.components.engine.python.graalium.GraalPyCodeRunner;
+import org.eclipse.dirigible.components.engine.python.graalium.GraalPyContextPool;
+import org.eclipse.dirigible.graalium.core.graal.ValueTransformer;
 import org.eclipse.dirigible.graalium.core.modules.DirigibleSourceProvider;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
@@ -39,6 +43,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
+import jakarta.annotation.PreDestroy;
 
 /**
  * The Class PythonEndpoint.
@@ -56,9 +61,30 @@ public class PythonEndpoint extends BaseEndpoint {
     /** The Constant HTTP_PATH_MATCHER. */
     private static final String HTTP_PATH_MATCHER = "/{projectName}/{*projectFilePath}";
 
+    /** The Constant DIRIGIBLE_PYTHON_CONTEXT_POOL_SIZE. */
+    private static final String DIRIGIBLE_PYTHON_CONTEXT_POOL_SIZE = "DIRIGIBLE_PYTHON_CONTEXT_POOL_SIZE";
+
+    /** The Constant DIRIGIBLE_PYTHON_CONTEXT_POOL_TIMEOUT. */
+    private static final String DIRIGIBLE_PYTHON_CONTEXT_POOL_TIMEOUT = "DIRIGIBLE_PYTHON_CONTEXT_POOL_TIMEOUT";
+
+    /** The Constant DIRIGIBLE_PYTHON_CONTEXT_RESET. */
+    private static final String DIRIGIBLE_PYTHON_CONTEXT_RESET = "DIRIGIBLE_PYTHON_CONTEXT_RESET";
+
+    /** The Constant DIRIGIBLE_PYTHON_CONTEXT_MAX_USES. */
+    private static final String DIRIGIBLE_PYTHON_CONTEXT_MAX_USES = "DIRIGIBLE_PYTHON_CONTEXT_MAX_USES";
+
+    /** The Constant DIRIGIBLE_PYTHON_CONTEXT_IDLE_TIMEOUT. */
+    private static final String DIRIGIBLE_PYTHON_CONTEXT_IDLE_TIMEOUT = "DIRIGIBLE_PYTHON_CONTEXT_IDLE_TIMEOUT";
+
     /** The repository. */
     private final IRepository repository;
 
+    /** The source provider. */
+    private final DirigibleSourceProvider sourceProvider = new DirigibleSourceProvider();
+
+    /** The pool of the contexts, which are not used for debugging. */
+    private final GraalPyContextPool contextPool;
+
     /**
      * Instantiates a new python endpoint.
      *
@@ -67,6 +93,20 @@ public class PythonEndpoint extends BaseEndpoint {
     @Autowired
     public PythonEndpoint(IRepository repository) {
         this.repository = repository;
+        this.contextPool = new GraalPyContextPool(Configuration.getAsInt(DIRIGIBLE_PYTHON_CONTEXT_POOL_SIZE, Runtime.getRuntime()
+                                                                                                                    .availableProcessors()),
+                Configuration.getAsInt(DIRIGIBLE_PYTHON_CONTEXT_POOL_TIMEOUT, 30000),
+                GraalPyContextPool.parseResetMode(Configuration.get(DIRIGIBLE_PYTHON_CONTEXT_RESET), GraalPyContextPool.ResetMode.GLOBALS),
+                Configuration.getAsInt(DIRIGIBLE_PYTHON_CONTEXT_MAX_USES, 1000),
+                Configuration.getAsInt(DIRIGIBLE_PYTHON_CONTEXT_IDLE_TIMEOUT, 300000));
+    }
+
+    /**
+     * Closes the pooled contexts.
+     */
+    @PreDestroy
+    public void closeContextPool() {
+        contextPool.close();
     }
 
     /**
@@ -244,7 +284,8 @@ public class PythonEndpoint extends BaseEndpoint {
     }
 
     /**
-     * Handle request.
+     * Handle request. The debug requests run in a dedicated context of the debuggable engine, while the
+     * rest share the pooled contexts of the project.
      *
      * @param projectName the project name
      * @param projectFilePath the project file path
@@ -258,7 +299,10 @@ public class PythonEndpoint extends BaseEndpoint {
         Path projectDir = workingDir.resolve(projectName);
         Path pythonMods = getDirigiblePythonModulesDirectory();
 
-        try (var runner = new GraalPyCodeRunner(workingDir, projectDir, pythonMods, debug)) {
+        if (!debug) {
+            return contextPool.run(workingDir, projectDir, pythonMods, absoluteSourcePath, ValueTransformer::transformValue);
+        }
+        try (var runner = new GraalPyCodeRunner(workingDir, projectDir, pythonMods, true)) {
             Source source = runner.prepareSource(absoluteSourcePath);
             Value value = runner.run(source);
             return transformValue(value);
@@ -266,14 +310,19 @@ public class PythonEndpoint extends BaseEndpoint {
     }
 
     /**
-     * Gets the absolute path if valid project file.
+     * Gets the absolute path if valid project file. A published Python file is checked directly in the
+     * file system, while the rest are looked up by the source provider, which also unpacks the bundled
+     * files.
      *
      * @param projectName the project name
      * @param projectFilePath the project file path
      * @return the absolute path if valid project file
      */
-    private static Path getAbsolutePathIfValidProjectFile(String projectName, String projectFilePath) {
-        var sourceProvider = new DirigibleSourceProvider();
+    private Path getAbsolutePathIfValidProjectFile(String projectName, String projectFilePath) {
+        Path absoluteSourcePath = sourceProvider.getAbsoluteSourcePath(projectName, projectFilePath);
+        if (projectFilePath.endsWith(".py") && Files.isRegularFile(absoluteSourcePath)) {
+            return absoluteSourcePath;
+        }
         String sourceFilePath = Path.of(projectName, projectFilePath)
                                     .toString();
         String maybePythonCode = sourceProvider.getSource(sourceFilePath);
@@ -282,7 +331,7 @@ public class PythonEndpoint extends BaseEndpoint {
                     + "' could not be found, consider publishing it.");
         }
 
-        return sourceProvider.getAbsoluteSourcePath(projectName, projectFilePath);
+        return absoluteSourcePath;
     }
 
     /**
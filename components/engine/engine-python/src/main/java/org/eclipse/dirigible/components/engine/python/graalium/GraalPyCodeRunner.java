@@ -22,8 +22,51 @@ import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 
 public class GraalPyCodeRunner implements CodeRunner<Source, Value>, PythonCodeRunner {
+
+    /**
+     * Defines a function, which records the globals of the main module and of the builtins, the module
+     * search path and the loaded modules, and returns a function, which restores them. The modules
+     * loaded since, or loaded from the reloaded path, are unloaded, except the ones from the kept path.
+     */
+    private static final String RESET_FUNCTION_FACTORY = """
+            def __dirigible_reset_function(reloaded, kept):
+                import sys, builtins
+                missing = object()
+                main = sys.modules['__main__'].__dict__
+                main_baseline = dict(main)
+                builtins_baseline = dict(builtins.__dict__)
+                path_baseline = list(sys.path)
+                modules_baseline = dict(sys.modules)
+                def restore(namespace, baseline):
+                    for name in [n for n in namespace if n not in baseline]:
+                        del namespace[name]
+                    for name, value in baseline.items():
+                        if namespace.get(name, missing) is not value:
+                            namespace[name] = value
+                def reloadable(module):
+                    file = getattr(module, '__file__', None) or ''
+                    return file.startswith(reloaded) and not file.startswith(kept)
+                def kept_loaded(module):
+                    file = getattr(module, '__file__', None) or ''
+                    return file.startswith(kept)
+                def reset():
+                    restore(main, main_baseline)
+                    restore(builtins.__dict__, builtins_baseline)
+                    sys.path[:] = path_baseline
+                    for name, module in list(sys.modules.items()):
+                        if reloadable(module) or (name not in modules_baseline and not kept_loaded(module)):
+                            del sys.modules[name]
+                    for name, module in modules_baseline.items():
+                        if not reloadable(module) and sys.modules.get(name, missing) is not module:
+                            sys.modules[name] = module
+                return reset
+            """;
+
     private final Context context;
 
+    /** The reset function, if the baseline has been recorded. */
+    private Value resetFunction;
+
     public GraalPyCodeRunner(Path workingDirectoryPath, Path projectDirectoryPath, Path pythonModulesPath, boolean debug) {
         var engine = debug ? EngineCreator.getOrCreateDebuggableEngine() : EngineCreator.getOrCreateEngine();
         var fs = new GraalPyFileSystem(workingDirectoryPath, FileSystems.getDefault());
@@ -45,6 +88,32 @@ public class GraalPyCodeRunner implements CodeRunner<Source, Value>, PythonCodeR
         return context.eval(codeSource);
     }
 
+    /**
+     * Records the current globals, module search path and modules as the baseline to be restored by
+     * {@link #reset()}.
+     *
+     * @param reloadedModulesPath the path of the modules to be unloaded on reset, so that they are
+     *        imported again with their latest content
+     * @param keptModulesPath the path of the modules to be kept loaded on reset, within the reloaded
+     *        path
+     */
+    public void recordBaseline(Path reloadedModulesPath, Path keptModulesPath) {
+        context.eval("python", RESET_FUNCTION_FACTORY);
+        resetFunction = context.getBindings("python")
+                               .getMember("__dirigible_reset_function")
+                               .execute(reloadedModulesPath.toString(), keptModulesPath.toString());
+    }
+
+    /**
+     * Restores the globals, the module search path and the modules recorded by
+     * {@link #recordBaseline(Path, Path)} and unloads the reloaded modules.
+     */
+    public void reset() {
+        if (resetFunction != null) {
+            resetFunction.executeVoid();
+        }
+    }
+
     @Override
     public void close() {
         context.close();
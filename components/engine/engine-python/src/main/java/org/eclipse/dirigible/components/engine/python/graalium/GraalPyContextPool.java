@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.python.graalium;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The pool of GraalPy contexts per project. A context is created with the shared engine, used by a
+ * single request at a time and kept for the next requests of the same project, so the interpreter
+ * initialization and the imports of the installed packages are paid only once per context. The
+ * contexts idle for longer than the idle timeout are closed, together with the pools of the
+ * projects left without contexts.
+ */
+public class GraalPyContextPool implements AutoCloseable {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(GraalPyContextPool.class);
+
+    /**
+     * The reset of a context between the requests.
+     */
+    public enum ResetMode {
+
+        /** The context is reused as is, so the globals and the imported project modules are kept. */
+        NONE,
+
+        /**
+         * The globals of the main module and of the builtins and the module search path are restored, and
+         * the modules imported since the context has been created, except the installed packages, are
+         * unloaded, so they are imported again with their latest content. The state changed inside the
+         * modules kept loaded, e.g. the standard library, is not restored.
+         */
+        GLOBALS,
+
+        /** The context is closed after each request, so only the concurrency is bounded. */
+        CLOSE
+    }
+
+    /** The pools by project directory. */
+    private final Map<Path, ProjectPool> pools = new ConcurrentHashMap<>();
+
+    /** The evictor of the idle contexts. */
+    private final ScheduledExecutorService evictor;
+
+    /** The sources by path. */
+    private final Map<Path, CachedSource> sources = new ConcurrentHashMap<>();
+
+    /** The maximum number of contexts per project. */
+    private final int maxSize;
+
+    /** The timeout for a context in milliseconds. */
+    private final long timeout;
+
+    /** The reset mode. */
+    private final ResetMode resetMode;
+
+    /** The number of requests after which a context is replaced, or 0 for no limit. */
+    private final int maxUses;
+
+    /** The time in milliseconds after which an idle context is closed, or 0 for no limit. */
+    private final long idleTimeout;
+
+    /** Whether the pool is closed. */
+    private volatile boolean closed;
+
+    /**
+     * Instantiates a new graal py context pool.
+     *
+     * @param maxSize the maximum number of contexts per project
+     * @param timeout the timeout for a context in milliseconds
+     * @param resetMode the reset mode
+     * @param maxUses the number of requests after which a context is replaced, or 0 for no limit
+     * @param idleTimeout the time in milliseconds after which an idle context is closed, or 0 for no
+     *        limit
+     */
+    public GraalPyContextPool(int maxSize, long timeout, ResetMode resetMode, int maxUses, long idleTimeout) {
+        this.maxSize = Math.max(maxSize, 1);
+        this.timeout = timeout;
+        this.resetMode = resetMode;
+        this.maxUses = maxUses;
+        this.idleTimeout = idleTimeout;
+        if (idleTimeout > 0) {
+            evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "dirigible-python-context-evictor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = Math.max(idleTimeout / 2, 1);
+            evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+        } else {
+            evictor = null;
+        }
+    }
+
+    /**
+     * Parses the reset mode.
+     *
+     * @param value the value, or null
+     * @param defaultValue the default value, used if the value is missing or not a valid mode
+     * @return the reset mode
+     */
+    public static ResetMode parseResetMode(String value, ResetMode defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        for (ResetMode mode : ResetMode.values()) {
+            if (mode.name()
+                    .equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        logger.warn("Invalid Python context reset mode [{}], [{}] will be used", value, defaultValue);
+        return defaultValue;
+    }
+
+    /**
+     * Runs a source file with a pooled context of the project.
+     *
+     * @param <T> the type of the result
+     * @param workingDirectoryPath the working directory path
+     * @param projectDirectoryPath the project directory path
+     * @param pythonModulesPath the python modules path
+     * @param sourcePath the source path
+     * @param transformer the transformer of the value, called before the context is released
+     * @return the result
+     */
+    public <T> T run(Path workingDirectoryPath, Path projectDirectoryPath, Path pythonModulesPath, Path sourcePath,
+            Function<Value, T> transformer) {
+        if (closed) {
+            throw new IllegalStateException("The Python context pool is closed");
+        }
+        ProjectPool pool = pools.compute(projectDirectoryPath, (path, existing) -> {
+            ProjectPool target = existing != null ? existing : new ProjectPool();
+            target.users++;
+            return target;
+        });
+        try {
+            PooledContext pooled = pool.borrow(workingDirectoryPath, projectDirectoryPath, pythonModulesPath);
+            boolean reusable = false;
+            try {
+                T result = transformer.apply(pooled.runner.run(getSource(sourcePath)));
+                reusable = true;
+                return result;
+            } catch (PolyglotException e) {
+                reusable = !(e.isExit() || e.isCancelled() || e.isInternalError() || e.isResourceExhausted());
+                throw e;
+            } finally {
+                pool.release(pooled, reusable);
+            }
+        } finally {
+            pools.computeIfPresent(projectDirectoryPath, (path, existing) -> {
+                existing.users--;
+                return existing;
+            });
+        }
+    }
+
+    /**
+     * Gets the number of the idle contexts of a project.
+     *
+     * @param projectDirectoryPath the project directory path
+     * @return the number of the idle contexts
+     */
+    int getIdleCount(Path projectDirectoryPath) {
+        ProjectPool pool = pools.get(projectDirectoryPath);
+        return pool != null ? pool.idle.size() : 0;
+    }
+
+    /**
+     * Gets the number of the projects with a pool.
+     *
+     * @return the number of the projects
+     */
+    int getProjectCount() {
+        return pools.size();
+    }
+
+    /**
+     * Closes the contexts idle for longer than the idle timeout and removes the pools of the projects,
+     * which are not used and have no idle contexts left.
+     */
+    void evictIdle() {
+        long expired = System.currentTimeMillis() - idleTimeout;
+        for (Path project : pools.keySet()) {
+            ProjectPool pool = pools.get(project);
+            if (pool != null) {
+                pool.evictIdle(expired);
+            }
+            pools.computeIfPresent(project, (path, existing) -> existing.users == 0 && existing.idle.isEmpty() ? null : existing);
+        }
+    }
+
+    /**
+     * Gets the source, which is read again only if the file has been modified.
+     *
+     * @param sourcePath the source path
+     * @return the source
+     */
+    private Source getSource(Path sourcePath) {
+        try {
+            long lastModified = Files.getLastModifiedTime(sourcePath)
+                                     .toMillis();
+            CachedSource cached = sources.get(sourcePath);
+            if (cached == null || cached.lastModified != lastModified) {
+                cached = new CachedSource(lastModified, Source.newBuilder("python", sourcePath.toFile())
+                                                              .build());
+                sources.put(sourcePath, cached);
+            }
+            return cached.source;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Closes all the idle contexts. The contexts in use are closed when released, and no context can be
+     * borrowed anymore.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (evictor != null) {
+            evictor.shutdownNow();
+        }
+        pools.values()
+             .forEach(ProjectPool::close);
+        pools.clear();
+        sources.clear();
+    }
+
+    /**
+     * The pool of the contexts of a project.
+     */
+    private class ProjectPool {
+
+        /** The idle contexts. */
+        private final BlockingQueue<PooledContext> idle = new LinkedBlockingQueue<>();
+
+        /** The permits for the contexts in use. */
+        private final Semaphore permits = new Semaphore(maxSize);
+
+        /** The number of the requests using the pool, guarded by the pools map. */
+        private int users;
+
+        /**
+         * Borrows an idle context or creates a new one.
+         *
+         * @param workingDirectoryPath the working directory path
+         * @param projectDirectoryPath the project directory path
+         * @param pythonModulesPath the python modules path
+         * @return the pooled context
+         */
+        PooledContext borrow(Path workingDirectoryPath, Path projectDirectoryPath, Path pythonModulesPath) {
+            try {
+                if (!permits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                    throw new IllegalStateException(
+                            "No Python context for [" + projectDirectoryPath + "] has become available in [" + timeout + "] ms");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a Python context for [" + projectDirectoryPath + "]", e);
+            }
+            PooledContext pooled = idle.poll();
+            if (pooled != null) {
+                return pooled;
+            }
+            if (closed) {
+                permits.release();
+                throw new IllegalStateException("The Python context pool is closed");
+            }
+            GraalPyCodeRunner runner = null;
+            try {
+                runner = new GraalPyCodeRunner(workingDirectoryPath, projectDirectoryPath, pythonModulesPath, false);
+                if (resetMode == ResetMode.GLOBALS) {
+                    runner.recordBaseline(workingDirectoryPath, pythonModulesPath);
+                }
+                logger.debug("Created Python context for [{}]", projectDirectoryPath);
+                return new PooledContext(runner);
+            } catch (RuntimeException e) {
+                if (runner != null) {
+                    runner.close();
+                }
+                permits.release();
+                throw e;
+            }
+        }
+
+        /**
+         * Returns a context to the pool after it has been reset, or closes it.
+         *
+         * @param pooled the pooled context
+         * @param reusable whether the context can be reused
+         */
+        void release(PooledContext pooled, boolean reusable) {
+            try {
+                pooled.uses++;
+                if (!closed && reusable && resetMode != ResetMode.CLOSE && (maxUses <= 0 || pooled.uses < maxUses) && reset(pooled)) {
+                    pooled.lastUsed = System.currentTimeMillis();
+                    idle.offer(pooled);
+                    if (closed) {
+                        // closed meanwhile, after the idle contexts have been closed
+                        close();
+                    }
+                } else {
+                    pooled.runner.close();
+                }
+            } finally {
+                permits.release();
+            }
+        }
+
+        /**
+         * Resets the context.
+         *
+         * @param pooled the pooled context
+         * @return true, if the context can be reused
+         */
+        private boolean reset(PooledContext pooled) {
+            try {
+                pooled.runner.reset();
+                return true;
+            } catch (RuntimeException e) {
+                logger.warn("Discarding Python context, which could not be reset", e);
+                return false;
+            }
+        }
+
+        /**
+         * Closes the contexts, which have been idle since before the expiry time.
+         *
+         * @param expired the expiry time
+         */
+        void evictIdle(long expired) {
+            for (PooledContext pooled : idle) {
+                if (pooled.lastUsed < expired && idle.remove(pooled)) {
+                    pooled.runner.close();
+                    logger.debug("Closed idle Python context");
+                }
+            }
+        }
+
+        /**
+         * Closes the idle contexts.
+         */
+        void close() {
+            PooledContext pooled;
+            while ((pooled = idle.poll()) != null) {
+                pooled.runner.close();
+            }
+        }
+    }
+
+    /**
+     * A pooled context.
+     */
+    private static class PooledContext {
+
+        /** The runner. */
+        private final GraalPyCodeRunner runner;
+
+        /** The number of the requests served. */
+        private int uses;
+
+        /** The time of the last release. */
+        private volatile long lastUsed;
+
+        /**
+         * Instantiates a new pooled context.
+         *
+         * @param runner the runner
+         */
+        PooledContext(GraalPyCodeRunner runner) {
+            this.runner = runner;
+        }
+    }
+
+    /**
+     * A source with the last modified time of its file.
+     *
+     * @param lastModified the last modified time
+     * @param source the source
+     */
+    private record CachedSource(long lastModified, Source source) {
+    }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.python.graalium;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.dirigible.components.engine.python.graalium.GraalPyContextPool.ResetMode;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Value;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The Class GraalPyContextPoolTest.
+ */
+public class GraalPyContextPoolTest {
+
+    /** The working directory. */
+    @TempDir
+    Path workingDirectory;
+
+    /** The project directory. */
+    private Path projectDirectory;
+
+    /** The python modules directory. */
+    private Path pythonModules;
+
+    /** The pool. */
+    private GraalPyContextPool pool;
+
+    /**
+     * Creates the project with its scripts.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        projectDirectory = Files.createDirectories(workingDirectory.resolve("project"));
+        pythonModules = Files.createDirectories(workingDirectory.resolve("python-modules"));
+        Files.writeString(projectDirectory.resolve("counter.py"), """
+                counter = globals().get('counter', 0) + 1
+                counter
+                """);
+        Files.writeString(projectDirectory.resolve("helper.py"), """
+                value = 'helper'
+                """);
+        Files.writeString(projectDirectory.resolve("isolation.py"), """
+                import sys, builtins
+                state = str([globals().get('leaked'), __doc__, list(sys.path), 'helper' in sys.modules,
+                        getattr(builtins, 'leaked', None), type(sys.modules.get('json'))])
+                leaked = True
+                __doc__ = 'rebound'
+                sys.path.append('/leaked')
+                import helper
+                builtins.leaked = True
+                sys.modules['json'] = None
+                state
+                """);
+        Files.writeString(projectDirectory.resolve("exit.py"), """
+                import sys
+                sys.exit(3)
+                """);
+    }
+
+    /**
+     * Closes the pool.
+     */
+    @AfterEach
+    public void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    /**
+     * Test that a context is reused by the next requests of the project.
+     */
+    @Test
+    public void testReuse() {
+        pool = new GraalPyContextPool(2, 30000, ResetMode.NONE, 0, 0);
+        assertEquals(1, count());
+        assertEquals(2, count());
+        assertEquals(3, count());
+        assertEquals(1, pool.getIdleCount(projectDirectory));
+    }
+
+    /**
+     * Test that the globals, the builtins, the module search path and the modules are restored between
+     * the requests.
+     */
+    @Test
+    public void testResetIsolation() {
+        pool = new GraalPyContextPool(1, 30000, ResetMode.GLOBALS, 0, 0);
+        String first = run("isolation.py");
+        String second = run("isolation.py");
+        assertEquals(first, second);
+        assertEquals(1, count());
+        assertEquals(1, count());
+    }
+
+    /**
+     * Test that a context is replaced after the maximum number of uses.
+     */
+    @Test
+    public void testMaxUsesReplacement() {
+        pool = new GraalPyContextPool(1, 30000, ResetMode.NONE, 2, 0);
+        assertEquals(1, count());
+        assertEquals(2, count());
+        assertEquals(0, pool.getIdleCount(projectDirectory));
+        assertEquals(1, count());
+    }
+
+    /**
+     * Test that a context is discarded when the script exits.
+     */
+    @Test
+    public void testDiscardOnExit() {
+        pool = new GraalPyContextPool(1, 30000, ResetMode.NONE, 0, 0);
+        assertEquals(1, count());
+        assertEquals(2, count());
+        PolyglotException exception = assertThrows(PolyglotException.class, () -> run("exit.py"));
+        assertEquals(true, exception.isExit());
+        assertEquals(0, pool.getIdleCount(projectDirectory));
+        assertEquals(1, count());
+    }
+
+    /**
+     * Test that the idle contexts and the unused project pools are evicted.
+     *
+     * @throws InterruptedException the interrupted exception
+     */
+    @Test
+    public void testEvictIdle() throws InterruptedException {
+        pool = new GraalPyContextPool(1, 30000, ResetMode.NONE, 0, 0);
+        assertEquals(1, count());
+        assertEquals(1, pool.getProjectCount());
+        Thread.sleep(10);
+        pool.evictIdle();
+        assertEquals(0, pool.getProjectCount());
+        assertEquals(1, count());
+    }
+
+    /**
+     * Test that a context released after the close of the pool is closed, and that the pool can not be
+     * used anymore.
+     */
+    @Test
+    public void testClose() {
+        pool = new GraalPyContextPool(1, 30000, ResetMode.NONE, 0, 0);
+        int counter = pool.run(workingDirectory, projectDirectory, pythonModules, projectDirectory.resolve("counter.py"), value -> {
+            pool.close();
+            return value.asInt();
+        });
+        assertEquals(1, counter);
+        assertEquals(0, pool.getIdleCount(projectDirectory));
+        assertThrows(IllegalStateException.class, this::count);
+    }
+
+    /**
+     * Test the parsing of the reset mode.
+     */
+    @Test
+    public void testParseResetMode() {
+        assertEquals(ResetMode.CLOSE, GraalPyContextPool.parseResetMode(" close ", ResetMode.GLOBALS));
+        assertEquals(ResetMode.GLOBALS, GraalPyContextPool.parseResetMode("unknown", ResetMode.GLOBALS));
+        assertEquals(ResetMode.GLOBALS, GraalPyContextPool.parseResetMode(null, ResetMode.GLOBALS));
+    }
+
+    /**
+     * Runs the counter script.
+     *
+     * @return the counter
+     */
+    private int count() {
+        return pool.run(workingDirectory, projectDirectory, pythonModules, projectDirectory.resolve("counter.py"), Value::asInt);
+    }
+
+    /**
+     * Runs a script.
+     *
+     * @param script the script
+     * @return the result as string
+     */
+    private String run(String script) {
+        return pool.run(workingDirectory, projectDirectory, pythonModules, projectDirectory.resolve(script), Value::asString);
+    }
+
+}
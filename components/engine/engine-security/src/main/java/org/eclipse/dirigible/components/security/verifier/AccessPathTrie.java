@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.security.verifier;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.dirigible.components.security.domain.Access;
+import org.springframework.util.StringUtils;
+
+/**
+ * Path-segment trie of compiled access patterns. The trie follows the matching rules of
+ * {@link org.springframework.util.AntPathMatcher} with its default settings - <code>**</code>
+ * matches zero or more segments, while <code>*</code>, <code>?</code> and <code>{variable}</code>
+ * match within a single segment - and returns the most specific (longest) matching patterns.
+ * Instances are populated once and are read-only afterwards, so they can be shared between threads.
+ */
+final class AccessPathTrie {
+
+    /** The path separator. */
+    private static final String SEPARATOR = "/";
+
+    /** The multi segments wildcard. */
+    private static final String MULTI_SEGMENTS_WILDCARD = "**";
+
+    /** The single segment wildcard. */
+    private static final String SINGLE_SEGMENT_WILDCARD = "*";
+
+    /** The glob pattern, the same as in AntPathMatcher. */
+    private static final Pattern GLOB_PATTERN = Pattern.compile("\\?|\\*|\\{((?:\\{[^/]+?\\}|[^/{}]|\\\\[{}])+?)\\}");
+
+    /** The default variable pattern, the same as in AntPathMatcher. */
+    private static final String DEFAULT_VARIABLE_PATTERN = "((?s).*)";
+
+    /** The root of the patterns starting with a separator. */
+    private final Node absoluteRoot = new Node(null);
+
+    /** The root of the patterns not starting with a separator. */
+    private final Node relativeRoot = new Node(null);
+
+    /** The number of the added rules. */
+    private int size;
+
+    /**
+     * Adds the access to the trie. The order in which the accesses are added is preserved in the
+     * matching results.
+     *
+     * @param access the access
+     */
+    void add(Access access) {
+        String pattern = access.getPath();
+        Node node = pattern.startsWith(SEPARATOR) ? absoluteRoot : relativeRoot;
+        boolean multiSegment = false;
+        boolean endsWithMultiSegments = false;
+        for (String segment : tokenize(pattern)) {
+            endsWithMultiSegments = MULTI_SEGMENTS_WILDCARD.equals(segment);
+            if (endsWithMultiSegments) {
+                multiSegment = true;
+                if (node.multiSegments == null) {
+                    node.multiSegments = new Node(null);
+                }
+                node = node.multiSegments;
+            } else if (SINGLE_SEGMENT_WILDCARD.equals(segment)) {
+                if (node.singleSegment == null) {
+                    node.singleSegment = new Node(null);
+                }
+                node = node.singleSegment;
+            } else if (GLOB_PATTERN.matcher(segment)
+                                   .find()) {
+                node = node.patternChild(segment);
+            } else {
+                node = node.literals.computeIfAbsent(segment, k -> new Node(null));
+            }
+        }
+        node.rules.add(new Rule(access, size++, pattern.length(), pattern.endsWith(SEPARATOR), multiSegment, endsWithMultiSegments));
+    }
+
+    /**
+     * Size.
+     *
+     * @return the number of the added accesses
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the most specific accesses matching the path.
+     *
+     * @param path the path
+     * @return the matching accesses with the longest pattern, in the order they were added
+     */
+    List<Access> match(String path) {
+        Node root = path.startsWith(SEPARATOR) ? absoluteRoot : relativeRoot;
+        if (root.isEmpty()) {
+            return List.of();
+        }
+        Collector collector = new Collector();
+        collect(root, tokenize(path), 0, path.endsWith(SEPARATOR), collector);
+        return collector.result();
+    }
+
+    /**
+     * Walks the trie collecting the rules matching the remaining segments.
+     *
+     * @param node the current node
+     * @param segments the path segments
+     * @param index the index of the first unmatched segment
+     * @param trailingSeparator whether the path ends with a separator
+     * @param collector the collector
+     */
+    private static void collect(Node node, String[] segments, int index, boolean trailingSeparator, Collector collector) {
+        if (index == segments.length) {
+            for (Rule rule : node.rules) {
+                if (rule.endsWithMultiSegments() || rule.trailingSeparator() == trailingSeparator) {
+                    collector.offer(rule);
+                }
+            }
+            // AntPathMatcher lets a trailing '*' match the empty segment after a trailing separator
+            if (trailingSeparator && node.singleSegment != null) {
+                for (Rule rule : node.singleSegment.rules) {
+                    if (!rule.multiSegment()) {
+                        collector.offer(rule);
+                    }
+                }
+            }
+        } else {
+            String segment = segments[index];
+            Node literal = node.literals.get(segment);
+            if (literal != null) {
+                collect(literal, segments, index + 1, trailingSeparator, collector);
+            }
+            if (node.singleSegment != null) {
+                collect(node.singleSegment, segments, index + 1, trailingSeparator, collector);
+            }
+            for (Node child : node.patterns) {
+                if (child.matches(segment)) {
+                    collect(child, segments, index + 1, trailingSeparator, collector);
+                }
+            }
+        }
+        if (node.multiSegments != null) {
+            for (int next = index; next <= segments.length; next++) {
+                collect(node.multiSegments, segments, next, trailingSeparator, collector);
+            }
+        }
+    }
+
+    /**
+     * Tokenize the path the same way as AntPathMatcher does.
+     *
+     * @param path the path
+     * @return the segments
+     */
+    private static String[] tokenize(String path) {
+        return StringUtils.tokenizeToStringArray(path, SEPARATOR, false, true);
+    }
+
+    /**
+     * Compile a segment pattern to a regular expression the same way as AntPathMatcher does.
+     *
+     * @param segment the segment pattern
+     * @return the regular expression
+     */
+    private static Pattern compile(String segment) {
+        StringBuilder regex = new StringBuilder();
+        Matcher matcher = GLOB_PATTERN.matcher(segment);
+        int end = 0;
+        while (matcher.find()) {
+            if (end < matcher.start()) {
+                regex.append(Pattern.quote(segment.substring(end, matcher.start())));
+            }
+            String match = matcher.group();
+            if ("?".equals(match)) {
+                regex.append('.');
+            } else if ("*".equals(match)) {
+                regex.append(".*");
+            } else {
+                int colon = match.indexOf(':');
+                if (colon == -1) {
+                    regex.append(DEFAULT_VARIABLE_PATTERN);
+                } else {
+                    regex.append('(')
+                         .append(match, colon + 1, match.length() - 1)
+                         .append(')');
+                }
+            }
+            end = matcher.end();
+        }
+        if (end < segment.length()) {
+            regex.append(Pattern.quote(segment.substring(end)));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    /**
+     * The trie node.
+     */
+    private static final class Node {
+
+        /** The literal segment children. */
+        private final Map<String, Node> literals = new HashMap<>();
+
+        /** The children of segments containing wildcards or variables. */
+        private final List<Node> patterns = new ArrayList<>();
+
+        /** The rules ending at this node. */
+        private final List<Rule> rules = new ArrayList<>();
+
+        /** The segment pattern, if this node is a pattern child. */
+        private final String segment;
+
+        /** The compiled segment pattern, if this node is a pattern child. */
+        private final Pattern compiled;
+
+        /** The <code>*</code> child. */
+        private Node singleSegment;
+
+        /** The <code>**</code> child. */
+        private Node multiSegments;
+
+        /**
+         * Instantiates a new node.
+         *
+         * @param segment the segment pattern or null
+         */
+        Node(String segment) {
+            this.segment = segment;
+            this.compiled = segment != null ? compile(segment) : null;
+        }
+
+        /**
+         * Gets or creates the pattern child.
+         *
+         * @param pattern the segment pattern
+         * @return the child
+         */
+        Node patternChild(String pattern) {
+            for (Node child : patterns) {
+                if (child.segment.equals(pattern)) {
+                    return child;
+                }
+            }
+            Node child = new Node(pattern);
+            patterns.add(child);
+            return child;
+        }
+
+        /**
+         * Whether the segment pattern matches the path segment.
+         *
+         * @param pathSegment the path segment
+         * @return true, if successful
+         */
+        boolean matches(String pathSegment) {
+            return compiled.matcher(pathSegment)
+                           .matches();
+        }
+
+        /**
+         * Checks if is empty.
+         *
+         * @return true, if is empty
+         */
+        boolean isEmpty() {
+            return rules.isEmpty() && literals.isEmpty() && patterns.isEmpty() && singleSegment == null && multiSegments == null;
+        }
+    }
+
+    /**
+     * The compiled access rule.
+     *
+     * @param access the access
+     * @param order the insertion order
+     * @param length the pattern length
+     * @param trailingSeparator whether the pattern ends with a separator
+     * @param multiSegment whether the pattern contains <code>**</code>
+     * @param endsWithMultiSegments whether the last pattern segment is <code>**</code>, so a trailing
+     *        separator of the path does not have to match the pattern
+     */
+    private record Rule(Access access, int order, int length, boolean trailingSeparator, boolean multiSegment,
+            boolean endsWithMultiSegments) {
+    }
+
+    /**
+     * Collects the rules with the longest pattern.
+     */
+    private static final class Collector {
+
+        /** The best rules so far. */
+        private final List<Rule> best = new ArrayList<>(2);
+
+        /** The best length so far. */
+        private int bestLength = -1;
+
+        /**
+         * Offer a matching rule.
+         *
+         * @param rule the rule
+         */
+        void offer(Rule rule) {
+            if (rule.length() > bestLength) {
+                best.clear();
+                best.add(rule);
+                bestLength = rule.length();
+            } else if (rule.length() == bestLength && !best.contains(rule)) {
+                best.add(rule);
+            }
+        }
+
+        /**
+         * Result.
+         *
+         * @return the accesses
+         */
+        List<Access> result() {
+            if (best.isEmpty()) {
+                return List.of();
+            }
+            if (best.size() > 1) {
+                best.sort(Comparator.comparingInt(Rule::order));
+            }
+            List<Access> result = new ArrayList<>(best.size());
+            for (Rule rule : best) {
+                result.add(rule.access());
+            }
+            return result;
+        }
+    }
+
+}
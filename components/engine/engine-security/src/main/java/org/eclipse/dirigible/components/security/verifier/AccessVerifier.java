@@ -12,8 +12,8 @@ package org.eclipse.dirigible.components.security.verifier;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
 
 import org.eclipse.dirigible.components.base.synchronizer.SynchronizationWatcher;
 import org.eclipse.dirigible.components.security.domain.Access;
@@ -22,8 +22,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.LongHistogram;
 import jakarta.annotation.PostConstruct;
 
 /**
@@ -38,17 +39,26 @@ public class AccessVerifier {
      */
     private static final Logger logger = LoggerFactory.getLogger(AccessVerifier.class);
 
-    private final AntPathMatcher antPathMatcher;
-    private volatile Map<String, Map<String, List<Access>>> cache = Map.of();
+    /** The wildcard HTTP method. */
+    private static final String WILDCARD_METHOD = "*";
+
+    private volatile Map<String, Map<String, AccessPathTrie>> cache = Map.of();
     private final AtomicBoolean modified;
 
     private final AccessService accessService;
     private final SynchronizationWatcher synchronizationWatcher;
 
-    AccessVerifier(AccessService accessService, SynchronizationWatcher synchronizationWatcher) {
+    private final LongHistogram matchDuration;
+
+    AccessVerifier(AccessService accessService, SynchronizationWatcher synchronizationWatcher, OpenTelemetry openTelemetry) {
         this.accessService = accessService;
         this.synchronizationWatcher = synchronizationWatcher;
-        this.antPathMatcher = new AntPathMatcher();
+        this.matchDuration = openTelemetry.getMeter("dirigible_security")
+                                          .histogramBuilder("access_verifier_match_duration")
+                                          .setDescription("Duration of matching a request against the access constraints")
+                                          .setUnit("us")
+                                          .ofLongs()
+                                          .build();
         this.modified = new AtomicBoolean(false);
         refreshCache(true);
     }
@@ -66,14 +76,9 @@ public class AccessVerifier {
             }
         }
         List<Access> all = accessService.getAll();
-        Map<String, Map<String, List<Access>>> newCache = all.stream()
-                                                             .collect(Collectors.groupingBy(a -> a.getScope()
-                                                                                                  .toLowerCase(),
-                                                                     Collectors.groupingBy(a -> a.getMethod()
-                                                                                                 .toUpperCase())));
-        this.cache = newCache;
+        this.cache = compile(all);
         setModified(false);
-        logger.debug("Access constraints reloaded");
+        logger.debug("Access constraints reloaded - [{}] definitions compiled", all.size());
     }
 
     @PostConstruct
@@ -112,59 +117,64 @@ public class AccessVerifier {
      * @return all the most specific security access entry matching the URI if any
      */
     public List<Access> getMatchingSecurityAccesses(String scope, String path, String method) {
+        long start = System.nanoTime();
+        try {
+            Map<String, AccessPathTrie> methodMap = this.cache.get(scope);
+            if (methodMap == null) {
+                return List.of();
+            }
 
-        Map<String, Map<String, List<Access>>> localCache = this.cache;
-
-        Map<String, List<Access>> methodMap = localCache.get(scope.toLowerCase());
-
-        if (methodMap == null) {
-            return List.of();
-        }
-
-        List<Access> candidates = new ArrayList<>();
-
-        List<Access> specificMethod = methodMap.get(method.toUpperCase());
-        List<Access> wildcardMethod = methodMap.get("*");
-
-        if (specificMethod != null) {
-            candidates.addAll(specificMethod);
-        }
-
-        if (wildcardMethod != null) {
-            candidates.addAll(wildcardMethod);
-        }
-
-        if (candidates.isEmpty()) {
-            return List.of();
-        }
-
-        Access currentSecurityAccess = null;
-        List<Access> result = new ArrayList<>();
-
-        for (Access securityAccess : candidates) {
-
-            if (antPathMatcher.match(securityAccess.getPath(), path)) {
-                logger.debug("Path [{}] and HTTP method [{}] is secured by definition [{}]", path, method, securityAccess.getLocation());
-                if (currentSecurityAccess == null || securityAccess.getPath()
-                                                                   .length() > currentSecurityAccess.getPath()
-                                                                                                    .length()) {
+            AccessPathTrie trie = methodMap.get(method);
+            if (trie == null) {
+                trie = methodMap.get(WILDCARD_METHOD);
+            }
+            if (trie == null) {
+                return List.of();
+            }
 
-                    currentSecurityAccess = securityAccess;
-                    result.clear();
-                    result.add(securityAccess);
-                } else if (securityAccess.getPath()
-                                         .length() == currentSecurityAccess.getPath()
-                                                                           .length()) {
-                    result.add(securityAccess);
-                }
+            List<Access> result = trie.match(path);
+            if (result.isEmpty()) {
+                logger.trace("URI [{}] with HTTP method {}] is NOT secured", path, method);
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("Path [{}] and HTTP method [{}] is secured by definitions [{}]", path, method, result.stream()
+                                                                                                                  .map(Access::getLocation)
+                                                                                                                  .toList());
             }
+            return result;
+        } finally {
+            matchDuration.record((System.nanoTime() - start) / 1_000);
         }
+    }
 
-        if (result.isEmpty()) {
-            logger.trace("URI [{}] with HTTP method {}] is NOT secured", path, method);
+    /**
+     * Compiles the accesses to path tries grouped by scope and method. The scope and method lookups are
+     * case insensitive and the trie of each method contains the wildcard method accesses as well.
+     *
+     * @param accesses the accesses
+     * @return the compiled tries
+     */
+    static Map<String, Map<String, AccessPathTrie>> compile(List<Access> accesses) {
+        Map<String, Map<String, List<Access>>> grouped = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Access access : accesses) {
+            grouped.computeIfAbsent(access.getScope(), k -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER))
+                   .computeIfAbsent(access.getMethod(), k -> new ArrayList<>())
+                   .add(access);
         }
-
-        return result;
+        Map<String, Map<String, AccessPathTrie>> compiled = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        grouped.forEach((scope, methods) -> {
+            List<Access> wildcard = methods.getOrDefault(WILDCARD_METHOD, List.of());
+            Map<String, AccessPathTrie> tries = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            methods.forEach((method, specific) -> {
+                AccessPathTrie trie = new AccessPathTrie();
+                specific.forEach(trie::add);
+                if (!WILDCARD_METHOD.equals(method)) {
+                    wildcard.forEach(trie::add);
+                }
+                tries.put(method, trie);
+            });
+            compiled.put(scope, tries);
+        });
+        return compiled;
     }
 
 }
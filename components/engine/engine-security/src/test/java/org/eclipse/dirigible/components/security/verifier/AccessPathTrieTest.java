@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.security.verifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.dirigible.components.security.domain.Access;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * The Class AccessPathTrieTest.
+ */
+class AccessPathTrieTest {
+
+    /** The segments used for the generated rules and paths. */
+    private static final String[] SEGMENTS =
+            {"services", "js", "ts", "web", "project1", "project2", "api", "v1", "v2", "index.html", "util.js", "data", ""};
+
+    /** The pattern segments used for the generated rules. */
+    private static final String[] PATTERN_SEGMENTS = {"*", "**", "*.js", "?s", "{id}", "{id:[0-9]+}", "v?", "project*"};
+
+    /** The matcher, used as a reference. */
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    /**
+     * Test literal, wildcard and variable patterns.
+     */
+    @Test
+    void testPatterns() {
+        Access exact = access("/services/web/project/index.html", "GET");
+        Access anySegment = access("/services/web/*/index.html", "GET");
+        Access anySegments = access("/services/web/**", "GET");
+        Access variable = access("/services/js/project/{id:[0-9]+}", "GET");
+        AccessPathTrie trie = trie(exact, anySegment, anySegments, variable);
+
+        assertThat(trie.match("/services/web/project/index.html")).containsExactly(exact);
+        assertThat(trie.match("/services/web/other/index.html")).containsExactly(anySegment);
+        assertThat(trie.match("/services/web/other/style.css")).containsExactly(anySegments);
+        assertThat(trie.match("/services/web")).containsExactly(anySegments);
+        assertThat(trie.match("/services/js/project/123")).containsExactly(variable);
+        assertThat(trie.match("/services/js/project/abc")).isEmpty();
+        assertThat(trie.match("services/web/project/index.html")).isEmpty();
+    }
+
+    /**
+     * Test that all the accesses with the longest pattern are returned in order.
+     */
+    @Test
+    void testLongestMatches() {
+        Access first = access("/a/b/c/test.txt", "GET");
+        Access second = access("/a/b/c/test.txt", "GET");
+        Access shorter = access("/a/**", "GET");
+        AccessPathTrie trie = trie(shorter, first, second);
+
+        assertThat(trie.match("/a/b/c/test.txt")).containsExactly(first, second);
+        assertThat(trie.match("/a/b/c")).containsExactly(shorter);
+    }
+
+    /**
+     * Test the case insensitive grouping by scope and method.
+     */
+    @Test
+    void testCompile() {
+        Access get = access("/a/b", "GET");
+        Access any = access("/**", "*");
+        Map<String, Map<String, AccessPathTrie>> compiled = AccessVerifier.compile(List.of(get, any));
+
+        assertThat(compiled.get("http")
+                           .get("get")
+                           .match("/a/b")).containsExactly(get);
+        assertThat(compiled.get("HTTP")
+                           .get("GET")
+                           .match("/a/c")).containsExactly(any);
+        assertThat(compiled.get("HTTP")
+                           .get("*")
+                           .match("/a/b")).containsExactly(any);
+    }
+
+    /**
+     * Test that the trie returns the same matches as the AntPathMatcher for 1,000 generated rules.
+     */
+    @Test
+    void testSameAsAntPathMatcher() {
+        Random random = new Random(42);
+        List<Access> accesses = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            accesses.add(access(randomPath(random, true), "GET"));
+        }
+        AccessPathTrie trie = trie(accesses.toArray(new Access[0]));
+        assertThat(trie.size()).isEqualTo(1_000);
+
+        for (int i = 0; i < 5_000; i++) {
+            String path = randomPath(random, false);
+            assertThat(trie.match(path)).as(path)
+                                        .containsExactlyElementsOf(linearMatch(accesses, path));
+        }
+    }
+
+    /**
+     * The reference linear matching.
+     *
+     * @param accesses the accesses
+     * @param path the path
+     * @return the matching accesses
+     */
+    private List<Access> linearMatch(List<Access> accesses, String path) {
+        List<Access> result = new ArrayList<>();
+        int longest = -1;
+        for (Access access : accesses) {
+            if (antPathMatcher.match(access.getPath(), path)) {
+                if (access.getPath()
+                          .length() > longest) {
+                    longest = access.getPath()
+                                    .length();
+                    result.clear();
+                    result.add(access);
+                } else if (access.getPath()
+                                 .length() == longest) {
+                    result.add(access);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Random path or pattern.
+     *
+     * @param random the random
+     * @param pattern whether to generate a pattern
+     * @return the path
+     */
+    private static String randomPath(Random random, boolean pattern) {
+        StringBuilder path = new StringBuilder();
+        if (random.nextInt(10) > 0) {
+            path.append('/');
+        }
+        int segments = 1 + random.nextInt(5);
+        for (int i = 0; i < segments; i++) {
+            if (i > 0) {
+                path.append('/');
+            }
+            if (pattern && random.nextInt(3) == 0) {
+                path.append(PATTERN_SEGMENTS[random.nextInt(PATTERN_SEGMENTS.length)]);
+            } else if (!pattern && random.nextInt(10) == 0) {
+                path.append(random.nextInt(1000));
+            } else {
+                path.append(SEGMENTS[random.nextInt(SEGMENTS.length)]);
+            }
+        }
+        return path.toString();
+    }
+
+    /**
+     * Trie.
+     *
+     * @param accesses the accesses
+     * @return the access path trie
+     */
+    private static AccessPathTrie trie(Access... accesses) {
+        AccessPathTrie trie = new AccessPathTrie();
+        for (Access access : accesses) {
+            trie.add(access);
+        }
+        return trie;
+    }
+
+    /**
+     * Access.
+     *
+     * @param path the path
+     * @param method the method
+     * @return the access
+     */
+    private static Access access(String path, String method) {
+        return new Access("/test/test.access", path, "description", "HTTP", path, method, "role");
+    }
+
+}
@@ -16,11 +16,16 @@ import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
+import org.eclipse.dirigible.components.engine.template.TemplateCache;
 import org.eclipse.dirigible.components.engine.template.TemplateEngine;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.github.mustachejava.DefaultMustacheFactory;
@@ -45,6 +50,29 @@ public class MustacheGenerationEngine implements TemplateEngine {
     /** The Constant MUSTACHE_DEFAULT_END_SYMBOL. */
     private static final String MUSTACHE_DEFAULT_END_SYMBOL = "}}";
 
+    /** The mustache factory. */
+    private final DefaultMustacheFactory mustacheFactory = new DefaultMustacheFactory();
+
+    /** The compiled templates cache. */
+    private final TemplateCache templateCache;
+
+    /**
+     * Instantiates a new mustache generation engine.
+     *
+     * @param templateCache the compiled templates cache
+     */
+    @Autowired
+    public MustacheGenerationEngine(TemplateCache templateCache) {
+        this.templateCache = templateCache;
+    }
+
+    /**
+     * Instantiates a new mustache generation engine with its own cache.
+     */
+    public MustacheGenerationEngine() {
+        this(new TemplateCache());
+    }
+
     /**
      * Gets the name.
      *
@@ -82,45 +110,100 @@ public class MustacheGenerationEngine implements TemplateEngine {
      */
     @Override
     public byte[] generate(Map<String, Object> parameters, String location, byte[] input, String sm, String em) throws IOException {
-        sm = sm == null ? MUSTACHE_DEFAULT_START_SYMBOL : sm;
-        em = em == null ? MUSTACHE_DEFAULT_END_SYMBOL : em;
-        decorateParameters(parameters);
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         Writer writer = new OutputStreamWriter(baos, StandardCharsets.UTF_8);
-        DefaultMustacheFactory defaultMustacheFactory = new DefaultMustacheFactory();
-        Mustache mustache = defaultMustacheFactory.compile(new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.UTF_8),
-                location, sm, em);
-        mustache.execute(writer, parameters);
+        generate(parameters, location, input, sm, em, writer);
         writer.flush();
         return baos.toByteArray();
     }
 
     /**
-     * Decorate parameters.
+     * Generate into the writer. The compiled template is taken from the cache, and the parameters are
+     * decorated in a copy, so the same template can be rendered from several threads at once.
+     *
+     * @param parameters the parameters
+     * @param location the location
+     * @param input the input
+     * @param sm the sm
+     * @param em the em
+     * @param writer the writer
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Override
+    public void generate(Map<String, Object> parameters, String location, byte[] input, String sm, String em, Writer writer)
+            throws IOException {
+        String start = sm == null ? MUSTACHE_DEFAULT_START_SYMBOL : sm;
+        String end = em == null ? MUSTACHE_DEFAULT_END_SYMBOL : em;
+        Mustache mustache = templateCache.get(ENGINE_NAME, input, start, end,
+                () -> mustacheFactory.compile(new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.UTF_8), location,
+                        start, end));
+        mustache.execute(writer, decorateParameters(parameters));
+        writer.flush();
+    }
+
+    /**
+     * Checks if is concurrent.
+     *
+     * @return true, if is concurrent
+     */
+    @Override
+    public boolean isConcurrent() {
+        return true;
+    }
+
+    /**
+     * Adds the decorated collections of the parameters, with suffix <code>_</code>, to a copy of the
+     * parameters. The values keep their types, except for the maps and the collections of maps, which
+     * are replaced by copies of the same kind holding the decorated maps.
      *
      * @param parameters the parameters
+     * @return the decorated parameters
      */
-    private void decorateParameters(Map<String, Object> parameters) {
-        if (parameters != null) {
-            Map<String, Object> newParameters = new HashMap<String, Object>();
-            for (Map.Entry<String, Object> entry : parameters.entrySet()) {
-                if (entry.getValue() != null && entry.getValue() instanceof Map) {
-                    decorateParameters((Map) entry.getValue());
-                } else if (entry.getValue() != null && entry.getValue() instanceof Collection) {
-                    if (entry.getValue() != null && entry.getValue() instanceof DecoratedCollection) {
-                        newParameters.put(entry.getKey() + DECORATION, (Collection) entry.getValue());
-                    } else {
-                        newParameters.put(entry.getKey() + DECORATION, new DecoratedCollection<>((Collection) entry.getValue()));
-                    }
-                    for (Object item : (Collection) entry.getValue()) {
-                        if (item != null && item instanceof Map) {
-                            decorateParameters((Map) item);
-                        }
-                    }
-                }
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Map decorateParameters(Map parameters) {
+        if (parameters == null) {
+            return null;
+        }
+        Map decorated = new LinkedHashMap(parameters);
+        for (Object next : parameters.entrySet()) {
+            Map.Entry entry = (Map.Entry) next;
+            if (entry.getValue() instanceof Map map) {
+                decorated.put(entry.getKey(), decorateParameters(map));
+            } else if (entry.getValue() instanceof DecoratedCollection collection) {
+                decorated.put(entry.getKey() + DECORATION, collection);
+            } else if (entry.getValue() instanceof Collection collection) {
+                Collection items = decorateItems(collection);
+                decorated.put(entry.getKey(), items);
+                decorated.put(entry.getKey() + DECORATION, new DecoratedCollection<>(items));
+            }
+        }
+        return decorated;
+    }
+
+    /**
+     * Decorates the maps in a collection.
+     *
+     * @param collection the collection
+     * @return the collection itself, if it does not contain maps, otherwise a list or a set with the
+     *         decorated maps
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Collection decorateItems(Collection collection) {
+        boolean containsMaps = false;
+        for (Object item : collection) {
+            if (item instanceof Map) {
+                containsMaps = true;
+                break;
             }
-            parameters.putAll(newParameters);
         }
+        if (!containsMaps) {
+            return collection;
+        }
+        Collection items = collection instanceof Set ? new LinkedHashSet(collection.size()) : new ArrayList(collection.size());
+        for (Object item : collection) {
+            items.add(item instanceof Map map ? decorateParameters(map) : item);
+        }
+        return items;
     }
 
 }
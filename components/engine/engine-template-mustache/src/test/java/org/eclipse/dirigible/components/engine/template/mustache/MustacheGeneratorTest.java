@@ -12,10 +12,14 @@ package org.eclipse.dirigible.components.engine.template.mustache;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.eclipse.dirigible.components.engine.template.TemplateCache;
 import org.eclipse.dirigible.components.engine.template.TemplateEngine;
 import org.junit.jupiter.api.Test;
 
@@ -163,4 +167,74 @@ public class MustacheGeneratorTest {
                 "{{", "}}");
         assertEquals("test table1, table2", new String(result));
     }
+
+    /**
+     * Generate with the cached template into a writer.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void generateCached() throws IOException {
+        TemplateCache templateCache = new TemplateCache(10);
+        TemplateEngine generationEngine = new MustacheGenerationEngine(templateCache);
+        byte[] template = "test {{#elements_}}{{value}}{{^last}}, {{/last}}{{/elements_}}".getBytes();
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> parameters = new HashMap<String, Object>();
+            parameters.put("elements", Arrays.asList("a" + i, "b" + i));
+            StringWriter writer = new StringWriter();
+            generationEngine.generate(parameters, "/location", template, null, null, writer);
+            assertEquals("test a" + i + ", b" + i, writer.toString());
+            assertEquals(1, parameters.size());
+        }
+        assertEquals(1, templateCache.size());
+        assertEquals(2, templateCache.getHits());
+    }
+
+    /**
+     * Generate with a collection of a custom type, which is seen by the template as it is.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void generateCustomCollection() throws IOException {
+        TemplateEngine generationEngine = new MustacheGenerationEngine(new TemplateCache(10));
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("elements", new LabelledList("elements", Arrays.asList("a", "b")));
+        StringWriter writer = new StringWriter();
+        generationEngine.generate(parameters, "/location",
+                "{{elements.label}}: {{#elements_}}{{value}}{{^last}}, {{/last}}{{/elements_}}".getBytes(), null, null, writer);
+        assertEquals("elements: a, b", writer.toString());
+    }
+
+    /**
+     * A list with a label.
+     */
+    public static class LabelledList extends ArrayList<String> {
+
+        /** The Constant serialVersionUID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The label. */
+        private final String label;
+
+        /**
+         * Instantiates a new labelled list.
+         *
+         * @param label the label
+         * @param elements the elements
+         */
+        public LabelledList(String label, List<String> elements) {
+            super(elements);
+            this.label = label;
+        }
+
+        /**
+         * Gets the label.
+         *
+         * @return the label
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
 }
@@ -9,10 +9,13 @@
  */
 package org.eclipse.dirigible.components.engine.template.velocity;
 
+import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
 import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.eclipse.dirigible.components.engine.template.TemplateCache;
 import org.eclipse.dirigible.components.engine.template.TemplateEngine;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.io.*;
@@ -30,13 +33,27 @@ public class VelocityGenerationEngine implements TemplateEngine {
     public static final String ENGINE_NAME = "velocity";
 
     /** The engine. */
-    private final VelocityEngine engine;
+    private final RuntimeInstance engine;
+
+    /** The compiled templates cache. */
+    private final TemplateCache templateCache;
 
     /**
-     * Instantiates a new velocity generation engine.
+     * Instantiates a new velocity generation engine with its own cache.
      */
     public VelocityGenerationEngine() {
-        engine = new VelocityEngine();
+        this(new TemplateCache());
+    }
+
+    /**
+     * Instantiates a new velocity generation engine.
+     *
+     * @param templateCache the compiled templates cache
+     */
+    @Autowired
+    public VelocityGenerationEngine(TemplateCache templateCache) {
+        this.templateCache = templateCache;
+        engine = new RuntimeInstance();
         try {
             engine.setProperty(RuntimeConstants.VM_PERM_ALLOW_INLINE_REPLACE_GLOBAL, true);
             engine.init();
@@ -85,24 +102,70 @@ public class VelocityGenerationEngine implements TemplateEngine {
     public byte[] generate(Map<String, Object> parameters, String location, byte[] input, String sm, String em) throws IOException {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         Writer writer = new OutputStreamWriter(baos, StandardCharsets.UTF_8);
-        ByteArrayInputStream in = new ByteArrayInputStream(input);
+        generate(parameters, location, input, sm, em, writer);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Generate into the writer, using the cached parsed template.
+     *
+     * @param parameters the parameters
+     * @param location the location
+     * @param input the input
+     * @param sm the sm
+     * @param em the em
+     * @param writer the writer
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Override
+    public void generate(Map<String, Object> parameters, String location, byte[] input, String sm, String em, Writer writer)
+            throws IOException {
         try {
+            Template template = templateCache.get(ENGINE_NAME, input, null, null, () -> compile(location, input));
             final VelocityContext context = new VelocityContext();
             prepareContextData(parameters, context);
-            engine.evaluate(context, writer, location, new InputStreamReader(in, StandardCharsets.UTF_8));
+            template.merge(context, writer);
             writer.flush();
-            return baos.toByteArray();
+        } catch (IOException ex) {
+            throw ex;
         } catch (Exception ex) {
             throw new IOException("Could not evaluate template by Velocity [" + location + "]: " + ex.getMessage(), ex);
-        } finally {
-            try {
-                in.close();
-            } catch (IOException e) {
-                // do nothing
-            }
         }
     }
 
+    /**
+     * Parses the template. The parsed template is immutable and can be merged concurrently.
+     *
+     * @param location the location
+     * @param input the input
+     * @return the template
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private Template compile(String location, byte[] input) throws IOException {
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.UTF_8)) {
+            Template template = new Template();
+            template.setName(location);
+            template.setRuntimeServices(engine);
+            template.setData(engine.parse(reader, template));
+            template.initDocument();
+            return template;
+        } catch (IOException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IOException("Could not parse template by Velocity [" + location + "]: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Checks if is concurrent.
+     *
+     * @return true, if is concurrent
+     */
+    @Override
+    public boolean isConcurrent() {
+        return true;
+    }
+
     /**
      * Put the input parameters to the Velocity Context for processing.
      *
@@ -12,9 +12,11 @@ package org.eclipse.dirigible.components.engine.template.velocity;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.dirigible.components.engine.template.TemplateCache;
 import org.eclipse.dirigible.components.engine.template.TemplateEngine;
 import org.junit.jupiter.api.Test;
 
@@ -37,4 +39,23 @@ public class VelocityGeneratorTest {
         assertEquals("test testValue", new String(result));
     }
 
+    /**
+     * Generate with the cached template, including a macro.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void generateCached() throws IOException {
+        TemplateCache templateCache = new TemplateCache(10);
+        TemplateEngine generationEngine = new VelocityGenerationEngine(templateCache);
+        byte[] template = "#macro(item $v)[$v]#end#foreach($e in $elements)#item($e)#end".getBytes();
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> parameters = new HashMap<String, Object>();
+            parameters.put("elements", Arrays.asList("a" + i, "b" + i));
+            byte[] result = generationEngine.generate(parameters, "/location", template, null, null);
+            assertEquals("[a" + i + "][b" + i + "]", new String(result));
+        }
+        assertEquals(1, templateCache.size());
+        assertEquals(2, templateCache.getHits());
+    }
 }
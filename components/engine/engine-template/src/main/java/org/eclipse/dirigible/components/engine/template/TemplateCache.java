@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.template;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of compiled templates shared by the template engines. The templates are keyed by the
+ * engine, the hash of their content and the delimiters, so a template is compiled once no matter
+ * how many locations it is rendered from, and a changed template is compiled again. The least
+ * recently used templates are evicted when the cache exceeds its max size.
+ */
+@Component
+public class TemplateCache {
+
+    /** The max number of cached templates. */
+    public static final String DIRIGIBLE_TEMPLATE_CACHE_SIZE = "DIRIGIBLE_TEMPLATE_CACHE_SIZE";
+
+    /** The Constant DEFAULT_MAX_SIZE. */
+    private static final int DEFAULT_MAX_SIZE = 256;
+
+    /** The templates. */
+    private final Map<Key, Object> templates;
+
+    /** The hits. */
+    private final AtomicLong hits = new AtomicLong();
+
+    /** The misses. */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Instantiates a new template cache with the configured max size.
+     */
+    @Autowired
+    public TemplateCache() {
+        this(Configuration.getAsInt(DIRIGIBLE_TEMPLATE_CACHE_SIZE, DEFAULT_MAX_SIZE));
+    }
+
+    /**
+     * Instantiates a new template cache.
+     *
+     * @param maxSize the max number of cached templates
+     */
+    public TemplateCache(int maxSize) {
+        this.templates = new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the compiled template, compiling and caching it if it is not cached yet. The compilation
+     * runs outside of the cache lock, so a template may be compiled more than once by concurrent
+     * callers, but only one of the results is cached.
+     *
+     * @param <T> the compiled template type
+     * @param engine the engine name
+     * @param input the template content
+     * @param sm the start delimiter
+     * @param em the end delimiter
+     * @param compiler the compiler
+     * @return the compiled template
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String engine, byte[] input, String sm, String em, TemplateCompiler<T> compiler) throws IOException {
+        Key key = new Key(engine, hash(input), sm, em);
+        synchronized (templates) {
+            Object template = templates.get(key);
+            if (template != null) {
+                hits.incrementAndGet();
+                return (T) template;
+            }
+        }
+        misses.incrementAndGet();
+        T compiled = compiler.compile();
+        synchronized (templates) {
+            Object existing = templates.putIfAbsent(key, compiled);
+            return existing != null ? (T) existing : compiled;
+        }
+    }
+
+    /**
+     * Size.
+     *
+     * @return the number of cached templates
+     */
+    public int size() {
+        synchronized (templates) {
+            return templates.size();
+        }
+    }
+
+    /**
+     * Gets the hits.
+     *
+     * @return the hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the misses.
+     *
+     * @return the misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Clear.
+     */
+    public void clear() {
+        synchronized (templates) {
+            templates.clear();
+        }
+    }
+
+    /**
+     * Hash.
+     *
+     * @param input the input
+     * @return the SHA-256 hash as hex
+     */
+    private static String hash(byte[] input) {
+        try {
+            return HexFormat.of()
+                            .formatHex(MessageDigest.getInstance("SHA-256")
+                                                    .digest(input));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * @param <T> the compiled template type
+     */
+    @FunctionalInterface
+    public interface TemplateCompiler<T> {
+
+        /**
+         * Compile.
+         *
+         * @return the compiled template
+         * @throws IOException Signals that an I/O exception has occurred.
+         */
+        T compile() throws IOException;
+    }
+
+    /**
+     * The cache key.
+     *
+     * @param engine the engine
+     * @param hash the content hash
+     * @param sm the start delimiter
+     * @param em the end delimiter
+     */
+    private record Key(String engine, String hash, String sm, String em) {
+    }
+
+}
@@ -10,6 +10,8 @@
 package org.eclipse.dirigible.components.engine.template;
 
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 /**
@@ -51,4 +53,29 @@ public interface TemplateEngine {
      */
     public byte[] generate(Map<String, Object> parameters, String location, byte[] input, String sm, String em) throws IOException;
 
+    /**
+     * Generate into the writer, without buffering the whole output.
+     *
+     * @param parameters the parameters
+     * @param location the location
+     * @param input the input
+     * @param sm the sm
+     * @param em the em
+     * @param writer the writer
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public default void generate(Map<String, Object> parameters, String location, byte[] input, String sm, String em, Writer writer)
+            throws IOException {
+        writer.write(new String(generate(parameters, location, input, sm, em), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Whether the engine can render templates from several threads at the same time.
+     *
+     * @return true, if successful
+     */
+    public default boolean isConcurrent() {
+        return false;
+    }
+
 }
@@ -23,14 +23,28 @@ public class TemplateEnginesManager {
     /** The template engines. */
     private List<TemplateEngine> templateEngines;
 
+    /** The compiled templates cache. */
+    private final TemplateCache templateCache;
+
     /**
      * Instantiates a new template engines manager.
      *
      * @param templateEngines the template generation engines
+     * @param templateCache the compiled templates cache
      */
     @Autowired
-    public TemplateEnginesManager(List<TemplateEngine> templateEngines) {
+    public TemplateEnginesManager(List<TemplateEngine> templateEngines, TemplateCache templateCache) {
         this.templateEngines = templateEngines;
+        this.templateCache = templateCache;
+    }
+
+    /**
+     * Gets the compiled templates cache.
+     *
+     * @return the template cache
+     */
+    public TemplateCache getTemplateCache() {
+        return templateCache;
     }
 
     /**
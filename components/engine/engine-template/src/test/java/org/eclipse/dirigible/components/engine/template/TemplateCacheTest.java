@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.template;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class TemplateCacheTest.
+ */
+class TemplateCacheTest {
+
+    /**
+     * Test that a template is compiled once per content and delimiters.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    void testCompiledOnce() throws IOException {
+        TemplateCache cache = new TemplateCache(10);
+        AtomicInteger compilations = new AtomicInteger();
+        byte[] template = "Hello {{name}}".getBytes(StandardCharsets.UTF_8);
+
+        String first = cache.get("mustache", template, "{{", "}}", () -> "compiled-" + compilations.incrementAndGet());
+        String second = cache.get("mustache", template.clone(), "{{", "}}", () -> "compiled-" + compilations.incrementAndGet());
+        String otherDelimiters = cache.get("mustache", template, "[[", "]]", () -> "compiled-" + compilations.incrementAndGet());
+        String otherEngine = cache.get("velocity", template, "{{", "}}", () -> "compiled-" + compilations.incrementAndGet());
+
+        assertThat(first).isEqualTo("compiled-1")
+                         .isEqualTo(second);
+        assertThat(otherDelimiters).isEqualTo("compiled-2");
+        assertThat(otherEngine).isEqualTo("compiled-3");
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(3);
+    }
+
+    /**
+     * Test that the least recently used templates are evicted.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    void testEviction() throws IOException {
+        TemplateCache cache = new TemplateCache(2);
+        byte[] a = "a".getBytes(StandardCharsets.UTF_8);
+        byte[] b = "b".getBytes(StandardCharsets.UTF_8);
+        byte[] c = "c".getBytes(StandardCharsets.UTF_8);
+
+        cache.get("mustache", a, null, null, () -> "a");
+        cache.get("mustache", b, null, null, () -> "b");
+        cache.get("mustache", a, null, null, () -> "a");
+        cache.get("mustache", c, null, null, () -> "c");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("mustache", a, null, null, () -> "a-recompiled")).isEqualTo("a");
+        assertThat(cache.get("mustache", b, null, null, () -> "b-recompiled")).isEqualTo("b-recompiled");
+    }
+
+}
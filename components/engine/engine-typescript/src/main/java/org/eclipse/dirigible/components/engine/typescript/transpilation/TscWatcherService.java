@@ -50,6 +50,9 @@ public class TscWatcherService implements ApplicationListener<ApplicationReadyEv
     // These are stripped from tsc output to prevent log lines from disappearing or refreshing.
     private static final Pattern CONTROL_CHARS = Pattern.compile("[\\r\\u0007\\u001B\\[2J\\u001B\\[H]");
 
+    // Printed by tsc --watch at the end of every compilation, after the output files are written.
+    private static final String COMPILATION_DONE = "Watching for file changes";
+
     private static final String TS_CONFIG_CONTENT = """
             {
                 "compilerOptions": {
@@ -187,6 +190,9 @@ public class TscWatcherService implements ApplicationListener<ApplicationReadyEv
                     LOGGER.error("{}", escapedLine);
                 } else {
                     LOGGER.info("{}", escapedLine);
+                    if (escapedLine.contains(COMPILATION_DONE)) {
+                        registryChanged();
+                    }
                 }
             }
         } catch (IOException ex) {
@@ -194,6 +200,15 @@ public class TscWatcherService implements ApplicationListener<ApplicationReadyEv
         }
     }
 
+    private void registryChanged() {
+        // the output files are written directly on the file system, bypassing the repository
+        try {
+            repository.resourceChanged(IRepositoryStructure.PATH_REGISTRY_PUBLIC);
+        } catch (RuntimeException ex) {
+            LOGGER.error("Failed to refresh the registry indexes after a compilation", ex);
+        }
+    }
+
     private void createDir(Path path) {
         try {
             Files.createDirectories(path);
@@ -34,7 +34,8 @@ class TscWatcherServicePublisherHandler implements PublisherHandler {
         // This way the transpiled files are lost and tsc watch service needs to be restarted to transpile
         // the files again
 
-        if (metadata.isProjectMetadata()) { // reduce the restarts by ignoring events for files
+        // reduce the restarts by ignoring events for files and publishes which changed nothing
+        if (metadata.isProjectMetadata() && metadata.hasChanges()) {
             LOGGER.debug("Restarting tsc watcher service for metadata {}", metadata);
             tscWatcherService.restart();
         } else {
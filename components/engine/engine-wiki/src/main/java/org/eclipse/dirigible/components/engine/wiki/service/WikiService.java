@@ -10,8 +10,14 @@
 package org.eclipse.dirigible.components.engine.wiki.service;
 
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.dirigible.components.registry.accessor.RegistryAccessor;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
@@ -52,6 +58,36 @@ public class WikiService {
     @Autowired
     private RegistryAccessor registryAccessor;
 
+    /** The markdown parser, which is thread-safe. */
+    private final Parser markdownParser;
+
+    /** The markdown renderer, which is thread-safe. */
+    private final HtmlRenderer markdownRenderer;
+
+    /** The confluence parsers, one per thread, since the markup language keeps state while parsing. */
+    private final ThreadLocal<MarkupParser> confluenceParser = ThreadLocal.withInitial(() -> new MarkupParser(new ConfluenceLanguage()));
+
+    /** The rendered pages by path. */
+    private final Map<String, RenderedPage> renderedPages = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new wiki service.
+     */
+    public WikiService() {
+        MutableDataSet options = new MutableDataSet();
+
+        // uncomment to set optional extensions
+        options.set(Parser.EXTENSIONS, Arrays.asList(TablesExtension.create(), StrikethroughExtension.create()));
+
+        // uncomment to convert soft-breaks to hard breaks
+        options.set(HtmlRenderer.SOFT_BREAK, "<br />\n");
+
+        markdownParser = Parser.builder(options)
+                               .build();
+        markdownRenderer = HtmlRenderer.builder(options)
+                                       .build();
+    }
+
     /**
      * Exist resource.
      *
@@ -83,23 +119,35 @@ public class WikiService {
     }
 
     /**
-     * Render content.
+     * Render content. The rendered HTML is cached by path and served again as long as the content has
+     * the same hash.
      *
      * @param path the path
      * @param content the content
      * @return the string
      */
     public String renderContent(String path, String content) {
+        String hash = hash(content);
+        RenderedPage rendered = renderedPages.get(path);
+        if (rendered != null && rendered.hash()
+                                        .equals(hash)) {
+            return rendered.html();
+        }
         if (path.endsWith(FILE_EXTENSION_MD) || path.endsWith(FILE_EXTENSION_MARKDOWN)) {
-            return renderMarkdown(content);
+            String html = renderMarkdown(content);
+            renderedPages.put(path, new RenderedPage(hash, html));
+            return html;
         } else if (path.endsWith(FILE_EXTENSION_CONFLUENCE)) {
-            return renderConfluence(content);
+            String html = renderConfluence(content);
+            renderedPages.put(path, new RenderedPage(hash, html));
+            return html;
         }
         return "File extension is uknown for Wiki engine: " + path;
     }
 
     /**
-     * Render and store content.
+     * Render and store content. The rendered HTML is cached as well, so the first request for the page
+     * does not parse it again.
      *
      * @param path the path
      * @param content the content
@@ -116,23 +164,8 @@ public class WikiService {
      * @return the string
      */
     private String renderMarkdown(String content) {
-        MutableDataSet options = new MutableDataSet();
-
-        // uncomment to set optional extensions
-        options.set(Parser.EXTENSIONS, Arrays.asList(TablesExtension.create(), StrikethroughExtension.create()));
-
-        // uncomment to convert soft-breaks to hard breaks
-        options.set(HtmlRenderer.SOFT_BREAK, "<br />\n");
-
-        Parser parser = Parser.builder(options)
-                              .build();
-        HtmlRenderer renderer = HtmlRenderer.builder(options)
-                                            .build();
-
-        // You can re-use parser and renderer instances
-        Node document = parser.parse(content);
-        String html = renderer.render(document);
-        return html;
+        Node document = markdownParser.parse(content);
+        return markdownRenderer.render(document);
     }
 
     /**
@@ -145,12 +178,30 @@ public class WikiService {
         StringWriter writer = new StringWriter();
         HtmlDocumentBuilder builder = new HtmlDocumentBuilder(writer);
         builder.setEmitAsDocument(false);
-        MarkupParser markupParser = new MarkupParser();
+        MarkupParser markupParser = confluenceParser.get();
         markupParser.setBuilder(builder);
-        markupParser.setMarkupLanguage(new ConfluenceLanguage());
-        markupParser.parse(content);
-        String htmlContent = writer.toString();
-        return htmlContent;
+        try {
+            markupParser.parse(content);
+        } finally {
+            markupParser.setBuilder(null);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Hash.
+     *
+     * @param content the content
+     * @return the SHA-256 hash of the content
+     */
+    private static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of()
+                            .formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     /**
@@ -192,6 +243,7 @@ public class WikiService {
      * @param path the path
      */
     public void removeGenerated(String path) {
+        renderedPages.remove(path);
         String target = generatePath(path);
         IResource resource = registryAccessor.getRepository()
                                              .getResource(target);
@@ -200,4 +252,13 @@ public class WikiService {
         }
     }
 
+    /**
+     * A rendered page with the hash of its content.
+     *
+     * @param hash the hash
+     * @param html the html
+     */
+    private record RenderedPage(String hash, String html) {
+    }
+
 }
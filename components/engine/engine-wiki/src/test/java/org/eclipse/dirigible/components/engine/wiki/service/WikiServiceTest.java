@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.wiki.service;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class WikiServiceTest.
+ */
+public class WikiServiceTest {
+
+    /** The wiki service. */
+    private final WikiService wikiService = new WikiService();
+
+    /**
+     * Test that markdown is rendered once per content.
+     */
+    @Test
+    public void testRenderMarkdown() {
+        String html = wikiService.renderContent("/demo/hello.md", "Hello\n===\n\n| A | B |\n|---|---|\n| 1 | 2 |");
+        assertTrue(html.contains("<h1>Hello</h1>"), html);
+        assertTrue(html.contains("<table>"), html);
+
+        assertSame(html, wikiService.renderContent("/demo/hello.md", "Hello\n===\n\n| A | B |\n|---|---|\n| 1 | 2 |"));
+
+        String changed = wikiService.renderContent("/demo/hello.md", "Bye\n===");
+        assertNotSame(html, changed);
+        assertTrue(changed.contains("<h1>Bye</h1>"), changed);
+    }
+
+    /**
+     * Test that confluence is rendered with the reused parser.
+     */
+    @Test
+    public void testRenderConfluence() {
+        String html = wikiService.renderContent("/demo/hello.confluence", "h1. Hello");
+        assertTrue(html.contains("Hello</h1>"), html);
+
+        String changed = wikiService.renderContent("/demo/hello.confluence", "h2. Bye");
+        assertTrue(changed.contains("Bye</h2>"), changed);
+        assertSame(changed, wikiService.renderContent("/demo/hello.confluence", "h2. Bye"));
+    }
+
+}
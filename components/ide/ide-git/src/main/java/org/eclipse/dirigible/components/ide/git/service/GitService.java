@@ -140,7 +140,12 @@ public class GitService {
      * @throws GitConnectorException the git connector exception
      */
     public void clone(String workspace, GitCloneModel model) throws GitConnectorException {
-        cloneCommand.execute(getWorkspace(workspace), model);
+        Workspace workspaceApi = getWorkspace(workspace);
+        try {
+            cloneCommand.execute(workspaceApi, model);
+        } finally {
+            workspaceChanged(workspaceApi);
+        }
     }
 
     /**
@@ -151,7 +156,12 @@ public class GitService {
      * @throws GitConnectorException the git connector exception
      */
     public void pull(String workspace, GitPullModel model) throws GitConnectorException {
-        pullCommand.execute(getWorkspace(workspace), model);
+        Workspace workspaceApi = getWorkspace(workspace);
+        try {
+            pullCommand.execute(workspaceApi, model);
+        } finally {
+            workspaceChanged(workspaceApi);
+        }
     }
 
     /**
@@ -173,7 +183,11 @@ public class GitService {
      * @throws GitConnectorException the git connector exception
      */
     public void reset(String workspace, GitResetModel model) throws GitConnectorException {
-        resetCommand.execute(workspace, model.getProjects());
+        try {
+            resetCommand.execute(workspace, model.getProjects());
+        } finally {
+            workspaceChanged(getWorkspace(workspace));
+        }
     }
 
     /**
@@ -219,7 +233,11 @@ public class GitService {
     public void share(String workspace, GitShareModel model) throws GitConnectorException {
         Workspace workspaceApi = getWorkspace(workspace);
         Project project = getProject(workspaceApi, model.getProject());
-        shareCommand.execute(workspaceApi, project, model);
+        try {
+            shareCommand.execute(workspaceApi, project, model);
+        } finally {
+            workspaceChanged(workspaceApi);
+        }
     }
 
     /**
@@ -230,7 +248,12 @@ public class GitService {
      * @throws GitConnectorException the git connector exception
      */
     public void checkout(String workspace, GitCheckoutModel model) throws GitConnectorException {
-        checkoutCommand.execute(getWorkspace(workspace), model);
+        Workspace workspaceApi = getWorkspace(workspace);
+        try {
+            checkoutCommand.execute(workspaceApi, model);
+        } finally {
+            workspaceChanged(workspaceApi);
+        }
     }
 
     /**
@@ -254,7 +277,11 @@ public class GitService {
     public void updateDependencies(String workspace, GitUpdateDependenciesModel model) throws GitConnectorException {
         Workspace workspaceApi = getWorkspace(workspace);
         Project[] projects = getProjects(workspaceApi, model.getProjects());
-        updateDependenciesCommand.execute(workspaceApi, projects, model);
+        try {
+            updateDependenciesCommand.execute(workspaceApi, projects, model);
+        } finally {
+            workspaceChanged(workspaceApi);
+        }
     }
 
     /**
@@ -504,6 +531,8 @@ public class GitService {
             }
         } catch (Exception e) {
             throw new GitConnectorException(e);
+        } finally {
+            workspaceChanged(getWorkspace(workspace));
         }
     }
 
@@ -747,6 +776,17 @@ public class GitService {
         }
     }
 
+    /**
+     * Notifies the repository of the changes made by git in the projects of a workspace, as git writes
+     * to the linked project folders directly and not through the repository.
+     *
+     * @param workspace the workspace
+     */
+    private void workspaceChanged(Workspace workspace) {
+        workspace.getRepository()
+                 .resourceChanged(workspace.getPath());
+    }
+
     /**
      * Gets the git connector.
      *
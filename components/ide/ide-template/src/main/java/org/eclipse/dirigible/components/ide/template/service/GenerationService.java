@@ -14,6 +14,7 @@ import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
 import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.engine.template.GenerationException;
 import org.eclipse.dirigible.components.engine.template.TemplateEngine;
 import org.eclipse.dirigible.components.engine.template.TemplateEnginesManager;
@@ -35,13 +36,28 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PreDestroy;
+
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.text.MessageFormat.format;
 
@@ -63,6 +79,22 @@ public class GenerationService {
     /** The Constant GENERATION_ENGINE_DEFAULT. */
     public static final String GENERATION_ENGINE_DEFAULT = "mustache";
 
+    /** The number of threads rendering the files of a generation in parallel. */
+    private static final String DIRIGIBLE_GENERATION_THREADS = "DIRIGIBLE_GENERATION_THREADS";
+
+    /** The time after which an idle generation thread is stopped, in seconds. */
+    private static final long GENERATION_THREADS_KEEP_ALIVE = 60;
+
+    /** The counter of the generation threads. */
+    private static final AtomicInteger GENERATION_THREADS_COUNTER = new AtomicInteger();
+
+    /**
+     * The executor rendering the files in parallel. Its daemon threads are started on demand and
+     * stopped when idle.
+     */
+    private final ThreadPoolExecutor executor = createExecutor(Configuration.getAsInt(DIRIGIBLE_GENERATION_THREADS, Runtime.getRuntime()
+                                                                                                                           .availableProcessors()));
+
     /** The workspace service. */
     @Autowired
     private WorkspaceService workspaceService;
@@ -75,6 +107,24 @@ public class GenerationService {
     @Autowired
     private TemplateEnginesManager templateEnginesManager;
 
+    /**
+     * Creates the executor.
+     *
+     * @param threads the maximum number of threads
+     * @return the executor
+     */
+    private static ThreadPoolExecutor createExecutor(int threads) {
+        int size = Math.max(threads, 1);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(size, size, GENERATION_THREADS_KEEP_ALIVE, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "dirigible-generation-" + GENERATION_THREADS_COUNTER.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /**
      * Gets the workspace service.
      *
@@ -116,7 +166,7 @@ public class GenerationService {
             throws IOException {
         Workspace workspaceObject = getWorkspaceService().getWorkspace(workspace);
         Project projectObject = workspaceObject.getProject(project);
-        List<File> generatedFiles = new ArrayList<>();
+        List<GenerationTask> tasks = new ArrayList<>();
         if (parameters.getParameters()
                       .isEmpty()) {
             parameters.getParameters();
@@ -137,7 +187,7 @@ public class GenerationService {
                 if (logger.isTraceEnabled()) {
                     logger.trace("Generating using template from the Registry: " + sourcePath);
                 }
-                generateWithTemplateIterable(parameters, projectObject, generatedFiles, source, input);
+                generateWithTemplateIterable(parameters, tasks, source, input);
             } else {
                 InputStream in = GenerationService.class.getResourceAsStream("/META-INF/dirigible" + source.getLocation());
                 try {
@@ -146,7 +196,7 @@ public class GenerationService {
                         if (logger.isTraceEnabled()) {
                             logger.trace("Generating using built-in template: " + source.getLocation());
                         }
-                        generateWithTemplateIterable(parameters, projectObject, generatedFiles, source, input);
+                        generateWithTemplateIterable(parameters, tasks, source, input);
                     } else {
                         throw new IOException(
                                 format("Invalid source location of [{0}] in template definition file: [{1}] or the resource does not exist",
@@ -159,9 +209,91 @@ public class GenerationService {
                 }
             }
         }
+
+        List<File> generatedFiles = new ArrayList<>(tasks.size());
+        for (GeneratedContent content : generateAll(tasks)) {
+            String contentType = ContentTypeHelper.getContentType(ContentTypeHelper.getExtension(content.path()));
+            boolean isBinary = ContentTypeHelper.isBinary(contentType);
+            generatedFiles.add(projectObject.createFile(content.path(), content.content(), isBinary, contentType));
+        }
         return generatedFiles;
     }
 
+    /**
+     * Renders the files. The independent files rendered by engines supporting it are rendered in
+     * parallel, the rest - in the current thread. The results are in the order of the tasks.
+     *
+     * @param tasks the tasks
+     * @return the generated contents
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private List<GeneratedContent> generateAll(List<GenerationTask> tasks) throws IOException {
+        List<Future<GeneratedContent>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (GenerationTask task : tasks) {
+                if (tasks.size() > 1 && isConcurrent(task)) {
+                    futures.add(executor.submit(() -> generateWithTemplate(task)));
+                } else {
+                    futures.add(CompletableFuture.completedFuture(generateWithTemplate(task)));
+                }
+            }
+            List<GeneratedContent> contents = new ArrayList<>(tasks.size());
+            for (Future<GeneratedContent> future : futures) {
+                contents.add(future.get());
+            }
+            return contents;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new IOException("Interrupted while generating files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            for (Future<GeneratedContent> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Checks if the task can be rendered in parallel with the others.
+     *
+     * @param task the task
+     * @return true, if is concurrent
+     */
+    private boolean isConcurrent(GenerationTask task) {
+        if (!ACTION_GENERATE.equals(task.source()
+                                        .getAction())) {
+            return true;
+        }
+        TemplateEngine engine = templateEnginesManager.getTemplateEngine(getEngineName(task.source()));
+        return engine != null && engine.isConcurrent();
+    }
+
+    /**
+     * Gets the engine name.
+     *
+     * @param source the source
+     * @return the engine name
+     */
+    private static String getEngineName(GenerationTemplateMetadataSource source) {
+        return source.getEngine() != null ? source.getEngine() : GENERATION_ENGINE_DEFAULT;
+    }
+
+    /**
+     * Shutdown the executor.
+     */
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
     /**
      * Gets the template metadata.
      *
@@ -186,13 +318,12 @@ public class GenerationService {
      * Generate with template iterable.
      *
      * @param parameters the parameters
-     * @param projectObject the project object
-     * @param generatedFiles the generated files
+     * @param tasks the tasks to add the files to generate to
      * @param source the source
      * @param input the input
      * @throws IOException Signals that an I/O exception has occurred.
      */
-    private void generateWithTemplateIterable(GenerationTemplateParameters parameters, Project projectObject, List<File> generatedFiles,
+    private void generateWithTemplateIterable(GenerationTemplateParameters parameters, List<GenerationTask> tasks,
             GenerationTemplateMetadataSource source, byte[] input) throws IOException {
         if (source.getCollection() != null) {
             List<Map<String, Object>> elements = (List<Map<String, Object>>) parameters.getParameters()
@@ -204,25 +335,24 @@ public class GenerationService {
             }
             // addStandardParameters(workspace, project, path, elements);
             for (Map<String, Object> elementParameters : elements) {
-                generateWithTemplate(elementParameters, projectObject, generatedFiles, source, input);
+                tasks.add(new GenerationTask(new HashMap<>(elementParameters), source, input));
             }
         } else {
-            generateWithTemplate(parameters.getParameters(), projectObject, generatedFiles, source, input);
+            tasks.add(new GenerationTask(new HashMap<>(parameters.getParameters()), source, input));
         }
     }
 
     /**
      * Generate with template.
      *
-     * @param parameters the parameters
-     * @param projectObject the project object
-     * @param generatedFiles the generated files
-     * @param source the source
-     * @param input the input
+     * @param task the task
+     * @return the generated content
      * @throws IOException Signals that an I/O exception has occurred.
      */
-    private void generateWithTemplate(Map<String, Object> parameters, Project projectObject, List<File> generatedFiles,
-            GenerationTemplateMetadataSource source, byte[] input) throws IOException {
+    private GeneratedContent generateWithTemplate(GenerationTask task) throws IOException {
+        Map<String, Object> parameters = task.parameters();
+        GenerationTemplateMetadataSource source = task.source();
+        byte[] input = task.input();
         byte[] output = null;
         String action = source.getAction();
         parameters.put(GenerationParameters.PARAMETER_ENGINE, source.getEngine());
@@ -235,11 +365,7 @@ public class GenerationService {
                     sm = source.getStart();
                     em = source.getEnd();
                 }
-                String engine = GENERATION_ENGINE_DEFAULT;
-                if (source.getEngine() != null) {
-                    engine = source.getEngine();
-                }
-                output = generateContent(parameters, source.getLocation(), input, sm, em, engine);
+                output = generateContent(parameters, source.getLocation(), input, sm, em, getEngineName(source));
             } else if (ACTION_COPY.equals(action)) {
                 output = input;
             } else {
@@ -261,10 +387,7 @@ public class GenerationService {
                                                                          .toString())
                                                        .append(generatedFileName)
                                                        .build();
-        String contentType = ContentTypeHelper.getContentType(ContentTypeHelper.getExtension(generatedFileName));
-        boolean isBinary = ContentTypeHelper.isBinary(contentType);
-        File fileObject = projectObject.createFile(generatedFilePath, output, isBinary, contentType);
-        generatedFiles.add(fileObject);
+        return new GeneratedContent(generatedFilePath, output);
     }
 
     /**
@@ -308,7 +431,8 @@ public class GenerationService {
     }
 
     /**
-     * Generate content.
+     * Generate content. The template is rendered into a writer, so the engines reuse their compiled
+     * templates from the cache.
      *
      * @param parameters the parameters
      * @param location the location
@@ -321,14 +445,11 @@ public class GenerationService {
      */
     public byte[] generateContent(Map<String, Object> parameters, String location, byte[] input, String sm, String em, String engine)
             throws IOException {
-        List<TemplateEngine> generationEngines = templateEnginesManager.getTemplateEngines();
-        for (TemplateEngine next : generationEngines) {
-            if (next.getName()
-                    .equals(engine)) {
-                return next.generate(parameters, location, input, sm, em);
-            }
-        }
-        throw new GenerationException("Generation Engine not available: " + engine);
+        ByteArrayOutputStream output = new ByteArrayOutputStream(input.length);
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        getGenerationEngine(engine).generate(parameters, location, input, sm, em, writer);
+        writer.flush();
+        return output.toByteArray();
     }
 
     /**
@@ -341,14 +462,44 @@ public class GenerationService {
      * @throws IOException Signals that an I/O exception has occurred.
      */
     private String generateName(Map<String, Object> parameters, String location, String input) throws IOException {
-        List<TemplateEngine> generationEngines = templateEnginesManager.getTemplateEngines();
-        for (TemplateEngine next : generationEngines) {
-            if (next.getName()
-                    .equals(TemplateEngine.TEMPLATE_ENGINE_DEFAULT)) {
-                return new String(next.generate(parameters, location, input.getBytes()));
-            }
+        StringWriter writer = new StringWriter();
+        getGenerationEngine(TemplateEngine.TEMPLATE_ENGINE_DEFAULT).generate(parameters, location, input.getBytes(StandardCharsets.UTF_8),
+                null, null, writer);
+        return writer.toString();
+    }
+
+    /**
+     * Gets the generation engine.
+     *
+     * @param engine the engine type
+     * @return the generation engine
+     * @throws GenerationException if the engine is not available
+     */
+    private TemplateEngine getGenerationEngine(String engine) {
+        TemplateEngine generationEngine = templateEnginesManager.getTemplateEngine(engine);
+        if (generationEngine == null) {
+            throw new GenerationException("Generation Engine not available: " + engine);
         }
-        throw new GenerationException("Generation Engine not available: " + TemplateEngine.TEMPLATE_ENGINE_DEFAULT);
+        return generationEngine;
+    }
+
+    /**
+     * A file to generate.
+     *
+     * @param parameters the parameters, owned by the task
+     * @param source the source
+     * @param input the template
+     */
+    private record GenerationTask(Map<String, Object> parameters, GenerationTemplateMetadataSource source, byte[] input) {
+    }
+
+    /**
+     * A generated file.
+     *
+     * @param path the path
+     * @param content the content
+     */
+    private record GeneratedContent(String path, byte[] content) {
     }
 
 }
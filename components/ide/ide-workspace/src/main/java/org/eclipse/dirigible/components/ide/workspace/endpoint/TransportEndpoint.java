@@ -14,6 +14,7 @@ import org.apache.commons.io.IOUtils;
 import org.eclipse.dirigible.components.api.utils.UrlFacade;
 import org.eclipse.dirigible.components.base.endpoint.BaseEndpoint;
 import org.eclipse.dirigible.components.ide.workspace.service.TransportService;
+import org.eclipse.dirigible.repository.api.ICollection;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.RepositoryExportException;
 import org.eclipse.dirigible.repository.api.RepositoryImportException;
@@ -28,6 +29,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.annotation.security.RolesAllowed;
@@ -40,6 +42,8 @@ import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
+import static java.text.MessageFormat.format;
+
 /**
  * The Class TransportEndpoint.
  */
@@ -146,7 +150,7 @@ public class TransportEndpoint {
             relativePath = UrlFacade.decode(folder, null);
         }
 
-        transportService.importZipToPath(workspace, project, relativePath, file.getBytes(), true);
+        transportService.importZipToPath(workspace, project, relativePath, file.getInputStream(), true);
         return ResponseEntity.ok()
                              .build();
     }
@@ -167,21 +171,25 @@ public class TransportEndpoint {
             @PathVariable("folder") String folder) throws RepositoryExportException, UnsupportedEncodingException, DecoderException {
 
         SimpleDateFormat pattern = getDateFormat();
-        byte[] zip;
 
+        // resolved on the request thread, where the current user is known, the zip is streamed later
         if ("*".equals(project)) {
-            zip = transportService.exportWorkspace(workspace);
+            ICollection workspaceCollection = getExistingCollection(transportService.getWorkspaceToExport(workspace), workspace);
+            StreamingResponseBody zip = output -> transportService.exportZip(workspaceCollection, false, output);
 
             final HttpHeaders httpHeaders = new HttpHeaders();
             httpHeaders.setContentDisposition(
                     ContentDisposition.parse("attachment; filename=\"" + workspace + "-" + pattern.format(new Date()) + ".zip\""));
             return new ResponseEntity(zip, httpHeaders, HttpStatus.OK);
-        } else if (folder == null || folder.isEmpty() || folder.trim()
-                                                               .isEmpty()
+        }
+        ICollection collection;
+        if (folder == null || folder.isEmpty() || folder.trim()
+                                                        .isEmpty()
                 || folder.equals("/"))
-            zip = transportService.exportProject(workspace, project);
+            collection = getExistingCollection(transportService.getProjectToExport(workspace, project), project);
         else
-            zip = transportService.exportFolder(workspace, project, folder);
+            collection = getExistingCollection(transportService.getFolderToExport(workspace, project, folder), folder);
+        StreamingResponseBody zip = output -> transportService.exportZip(collection, true, output);
 
         final HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.setContentDisposition(
@@ -189,6 +197,21 @@ public class TransportEndpoint {
         return new ResponseEntity(zip, httpHeaders, HttpStatus.OK);
     }
 
+    /**
+     * Checks that the collection to export exists.
+     *
+     * @param collection the collection
+     * @param name the requested name
+     * @return the collection
+     */
+    private static ICollection getExistingCollection(ICollection collection, String name) {
+        if (!collection.exists()) {
+            String error = format("Path [{0}] does not exist", name);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, error);
+        }
+        return collection;
+    }
+
     /**
      * Import snapshot.
      *
@@ -201,7 +224,7 @@ public class TransportEndpoint {
     public ResponseEntity<?> importSnapshot(@Validated @RequestParam("file") MultipartFile file)
             throws RepositoryImportException, IOException {
 
-        transportService.importSnapshot(file.getBytes());
+        transportService.importSnapshot(file.getInputStream());
         return ResponseEntity.ok()
                              .build();
     }
@@ -216,7 +239,7 @@ public class TransportEndpoint {
     public ResponseEntity<?> exportSnapshot() throws RepositoryExportException {
 
         SimpleDateFormat pattern = getDateFormat();
-        byte[] zip = transportService.exportSnapshot();
+        StreamingResponseBody zip = output -> transportService.exportSnapshot(output);
         final HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.setContentDisposition(
                 ContentDisposition.parse("attachment; filename=\"repository-snapshot-" + pattern.format(new Date()) + ".zip\""));
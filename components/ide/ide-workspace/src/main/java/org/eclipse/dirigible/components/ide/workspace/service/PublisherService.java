@@ -18,7 +18,15 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * The Class PublisherService.
@@ -32,12 +40,24 @@ public class PublisherService {
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(PublisherService.class);
 
+    /** The Constant GIT_FOLDER. */
+    private static final String GIT_FOLDER = ".git";
+
     /** The publisher handlers. */
     private final List<PublisherHandler> publisherHandlers;
 
     /** The repository. */
     private final IRepository repository;
 
+    /**
+     * The files published by this service by registry path, with the workspace file they were published
+     * from and its modification time at that moment. A file whose workspace counterpart has not been
+     * modified since is not read again, and a file which has been removed from the workspace is deleted
+     * from the registry. Files in the registry which were not published by this service, e.g. the
+     * output of the transpilation, are never deleted.
+     */
+    private final NavigableMap<String, PublishedFile> publishedFiles = new ConcurrentSkipListMap<>();
+
     /**
      * Instantiates a new publisher service.
      *
@@ -120,26 +140,27 @@ public class PublisherService {
             }
         }
 
+        Set<String> changedPaths = new LinkedHashSet<>();
         ICollection sourceCollection = getRepository().getCollection(sourceLocation);
         if (sourceCollection.exists()) {
             // publish collection
             ICollection targetCollection = getRepository().getCollection(targetLocation);
             logger.info("Publishing collection: [{}] to [{}]", sourceCollection.getPath(), targetCollection.getPath());
             long currentMillis = System.currentTimeMillis();
-            sourceCollection.copyTo(targetCollection.getPath());
-            logger.info("Published collection: [{}] to [{}]. Copy took [{}] millis", sourceCollection.getPath(), targetCollection.getPath(),
+            Set<String> publishedPaths = new HashSet<>();
+            publishCollection(sourceCollection, targetCollection, publishedPaths, changedPaths);
+            deleteRemovedFiles(targetCollection.getPath(), publishedPaths, changedPaths);
+            logger.info("Published collection: [{}] to [{}]. Compared [{}] and changed [{}] files in [{}] millis",
+                    sourceCollection.getPath(), targetCollection.getPath(), publishedPaths.size(), changedPaths.size(),
                     (System.currentTimeMillis() - currentMillis));
         } else {
             // publish a single resource
             IResource sourceResource = getRepository().getResource(sourceLocation);
             IResource targetResource = getRepository().getResource(targetLocation);
-            if (targetResource.exists()) {
-                targetResource.setContent(sourceResource.getContent());
-            } else {
-                getRepository().createResource(targetLocation, sourceResource.getContent());
-            }
+            publishFile(sourceResource, targetResource, changedPaths);
             logger.info("Published resource: {} -> {}", sourceResource.getPath(), targetResource.getPath());
         }
+        afterPublishMetadata = afterPublishMetadata.withChangedPaths(Collections.unmodifiableSet(changedPaths));
 
         for (PublisherHandler next : publisherHandlers) {
             try {
@@ -152,6 +173,98 @@ public class PublisherService {
         }
     }
 
+    /**
+     * Publishes the files of a workspace collection which differ from the registry.
+     *
+     * @param sourceCollection the source collection
+     * @param targetCollection the target collection
+     * @param publishedPaths the registry paths of the published files
+     * @param changedPaths the registry paths which have been written
+     */
+    private void publishCollection(ICollection sourceCollection, ICollection targetCollection, Set<String> publishedPaths,
+            Set<String> changedPaths) {
+        if (!targetCollection.exists()) {
+            targetCollection.create();
+            changedPaths.add(targetCollection.getPath());
+        }
+        for (String name : sourceCollection.getResourcesNames()) {
+            if (GIT_FOLDER.equals(name)) {
+                continue;
+            }
+            IResource targetResource = targetCollection.getResource(name);
+            publishedPaths.add(targetResource.getPath());
+            publishFile(sourceCollection.getResource(name), targetResource, changedPaths);
+        }
+        for (String name : sourceCollection.getCollectionsNames()) {
+            if (GIT_FOLDER.equals(name)) {
+                continue;
+            }
+            publishCollection(sourceCollection.getCollection(name), targetCollection.getCollection(name), publishedPaths, changedPaths);
+        }
+    }
+
+    /**
+     * Publishes a workspace file, if it differs from the registry. The file is not read if it has not
+     * been modified since it was last published, and the registry file is not written if its content is
+     * the same.
+     *
+     * @param sourceResource the source resource
+     * @param targetResource the target resource
+     * @param changedPaths the registry paths which have been written
+     */
+    private void publishFile(IResource sourceResource, IResource targetResource, Set<String> changedPaths) {
+        String targetPath = targetResource.getPath();
+        Date modifiedAt = sourceResource.getInformation()
+                                        .getModifiedAt();
+        PublishedFile publishedFile = new PublishedFile(sourceResource.getPath(), modifiedAt != null ? modifiedAt.getTime() : 0);
+        boolean exists = targetResource.exists();
+        if (exists && publishedFile.modifiedAt() > 0 && publishedFile.equals(publishedFiles.get(targetPath))) {
+            return;
+        }
+        byte[] content = sourceResource.getContent();
+        if (!exists) {
+            getRepository().createResource(targetPath, content);
+            changedPaths.add(targetPath);
+        } else if (!Arrays.equals(content, targetResource.getContent())) {
+            targetResource.setContent(content);
+            changedPaths.add(targetPath);
+        }
+        publishedFiles.put(targetPath, publishedFile);
+    }
+
+    /**
+     * Deletes the files, which have been published under a registry collection before, but are not part
+     * of the workspace collection anymore.
+     *
+     * @param targetLocation the target location
+     * @param publishedPaths the registry paths of the files published now
+     * @param changedPaths the registry paths which have been deleted
+     */
+    private void deleteRemovedFiles(String targetLocation, Set<String> publishedPaths, Set<String> changedPaths) {
+        for (String path : getPublishedFiles(targetLocation).keySet()) {
+            if (!publishedPaths.contains(path)) {
+                IResource resource = getRepository().getResource(path);
+                if (resource.exists()) {
+                    resource.delete();
+                    changedPaths.add(path);
+                }
+                publishedFiles.remove(path);
+            }
+        }
+    }
+
+    /**
+     * Gets the files published under a registry collection.
+     *
+     * @param targetLocation the target location
+     * @return the published files
+     */
+    private NavigableMap<String, PublishedFile> getPublishedFiles(String targetLocation) {
+        String prefix =
+                targetLocation.endsWith(IRepositoryStructure.SEPARATOR) ? targetLocation : targetLocation + IRepositoryStructure.SEPARATOR;
+        return publishedFiles.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
     /**
      * Generate workspace path.
      *
@@ -207,6 +320,9 @@ public class PublisherService {
             }
         }
 
+        publishedFiles.remove(targetLocation);
+        getPublishedFiles(targetLocation).clear();
+
         ICollection targetCollection = getRepository().getCollection(targetLocation);
         if (targetCollection.exists()) {
             // unpublish collection
@@ -232,4 +348,13 @@ public class PublisherService {
         }
     }
 
+    /**
+     * A published file.
+     *
+     * @param sourcePath the workspace path
+     * @param modifiedAt the modification time of the workspace file when it was published
+     */
+    private record PublishedFile(String sourcePath, long modifiedAt) {
+    }
+
 }
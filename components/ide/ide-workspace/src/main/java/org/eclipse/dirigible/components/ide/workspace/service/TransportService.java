@@ -10,6 +10,7 @@
 package org.eclipse.dirigible.components.ide.workspace.service;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.util.zip.ZipInputStream;
 
@@ -86,6 +87,25 @@ public class TransportService {
         getRepository().importZip(content, importPath, override, false, null);
     }
 
+    /**
+     * Import files from a zip stream to folder, without buffering the zip in memory.
+     *
+     * @param workspaceName the workspace name
+     * @param projectName the project name
+     * @param pathInProject the path in project
+     * @param content the content
+     * @param override the override
+     */
+    public void importZipToPath(String workspaceName, String projectName, String pathInProject, InputStream content, Boolean override) {
+        if (override == null)
+            override = true;
+        Workspace workspace = getWorkspace(workspaceName);
+        String projectPath = workspace.getProject(projectName)
+                                      .getPath();
+        String importPath = projectPath + IRepositoryStructure.SEPARATOR + pathInProject;
+        getRepository().importZip(content, importPath, override, false, null);
+    }
+
     /**
      * Import project in path.
      *
@@ -139,6 +159,18 @@ public class TransportService {
         return getRepository().exportZip(projectApi.getPath(), true);
     }
 
+    /**
+     * Gets the project to export. The project is resolved for the current user, so it has to be called
+     * on the request thread, before the export is streamed.
+     *
+     * @param workspace the workspace
+     * @param project the project
+     * @return the project collection
+     */
+    public ICollection getProjectToExport(String workspace, String project) {
+        return getProject(getWorkspace(workspace), project);
+    }
+
     /**
      * Export workspace.
      *
@@ -150,6 +182,17 @@ public class TransportService {
         return getRepository().exportZip(workspaceApi.getPath(), false);
     }
 
+    /**
+     * Gets the workspace to export. The workspace is resolved for the current user, so it has to be
+     * called on the request thread, before the export is streamed.
+     *
+     * @param workspace the workspace
+     * @return the workspace collection
+     */
+    public ICollection getWorkspaceToExport(String workspace) {
+        return getWorkspace(workspace);
+    }
+
     /**
      * Export folder.
      *
@@ -167,6 +210,36 @@ public class TransportService {
         return getRepository().exportZip(projectApi.getPath() + IRepositoryStructure.SEPARATOR + decodedPath, true);
     }
 
+    /**
+     * Gets the folder to export. The folder is resolved for the current user, so it has to be called on
+     * the request thread, before the export is streamed.
+     *
+     * @param workspace the workspace
+     * @param project the project
+     * @param folder the folder (url encoded)
+     * @return the folder collection
+     * @throws UnsupportedEncodingException the unsupported encoding exception
+     * @throws DecoderException the decoder exception
+     */
+    public ICollection getFolderToExport(String workspace, String project, String folder)
+            throws UnsupportedEncodingException, DecoderException {
+        Workspace workspaceApi = getWorkspace(workspace);
+        Project projectApi = getProject(workspaceApi, project);
+        String decodedPath = UrlFacade.decode(folder, null);
+        return getRepository().getCollection(projectApi.getPath() + IRepositoryStructure.SEPARATOR + decodedPath);
+    }
+
+    /**
+     * Export an already resolved collection to an output stream.
+     *
+     * @param collection the collection
+     * @param includeRoot whether to include the collection itself as root folder
+     * @param output the output stream
+     */
+    public void exportZip(ICollection collection, boolean includeRoot, OutputStream output) {
+        getRepository().exportZip(collection.getPath(), includeRoot, output);
+    }
+
     /**
      * Gets the workspace.
      *
@@ -197,6 +270,15 @@ public class TransportService {
         getRepository().importZip(content, IRepositoryStructure.SEPARATOR, true, false, null);
     }
 
+    /**
+     * Import snapshot from a zip stream, without buffering the zip in memory.
+     *
+     * @param content the content
+     */
+    public void importSnapshot(InputStream content) {
+        getRepository().importZip(content, IRepositoryStructure.SEPARATOR, true, false, null);
+    }
+
     /**
      * Export snapshot.
      *
@@ -206,6 +288,15 @@ public class TransportService {
         return getRepository().exportZip(IRepositoryStructure.SEPARATOR, true);
     }
 
+    /**
+     * Export snapshot to an output stream.
+     *
+     * @param output the output stream
+     */
+    public void exportSnapshot(OutputStream output) {
+        getRepository().exportZip(IRepositoryStructure.SEPARATOR, true, output);
+    }
+
     /**
      * Import files to folder.
      *
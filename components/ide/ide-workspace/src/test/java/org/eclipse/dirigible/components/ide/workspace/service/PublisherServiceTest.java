@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.ide.workspace.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.dirigible.components.base.publisher.PublisherHandler;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.local.LocalRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class PublisherServiceTest.
+ */
+class PublisherServiceTest {
+
+    /** The workspace. */
+    private static final String WORKSPACE = "/users/tester/workspace/publisher-test";
+
+    /** The registry. */
+    private static final String REGISTRY = "/registry/public/publisher-test";
+
+    /** The repository. */
+    private IRepository repository;
+
+    /** The publisher service. */
+    private PublisherService publisherService;
+
+    /** The metadata passed to the handler. */
+    private final List<PublisherHandler.AfterPublishMetadata> published = new ArrayList<>();
+
+    /**
+     * Sets up the repository and the publisher service.
+     */
+    @BeforeEach
+    void setUp() {
+        repository = new LocalRepository("target/publisher");
+        PublisherHandler handler = new PublisherHandler() {
+            @Override
+            public void afterPublish(String workspaceLocation, String registryLocation, AfterPublishMetadata metadata) {
+                published.add(metadata);
+            }
+        };
+        publisherService = new PublisherService(repository, List.of(handler));
+    }
+
+    /**
+     * Cleans up the repository.
+     */
+    @AfterEach
+    void tearDown() {
+        repository.getCollection(WORKSPACE)
+                  .delete();
+        repository.getCollection(REGISTRY)
+                  .delete();
+    }
+
+    /**
+     * Test that only the changed files are published and reported.
+     */
+    @Test
+    void testDifferentialPublish() {
+        repository.createResource(WORKSPACE + "/a.txt", bytes("a"));
+        repository.createResource(WORKSPACE + "/folder/b.txt", bytes("b"));
+        repository.createResource(WORKSPACE + "/folder/c.txt", bytes("c"));
+
+        publisherService.publish("tester", "workspace", "publisher-test", "");
+        assertEquals(Set.of(REGISTRY + "/a.txt", REGISTRY + "/folder/b.txt", REGISTRY + "/folder/c.txt"), files(lastChanges()));
+        assertTrue(published.get(0)
+                            .hasChanges());
+
+        publisherService.publish("tester", "workspace", "publisher-test", "");
+        assertTrue(lastChanges().isEmpty());
+        assertFalse(published.get(1)
+                             .hasChanges());
+
+        repository.getResource(WORKSPACE + "/folder/b.txt")
+                  .setContent(bytes("b2"));
+        repository.getResource(WORKSPACE + "/folder/c.txt")
+                  .delete();
+        repository.createResource(REGISTRY + "/folder/c.js", bytes("transpiled"));
+
+        publisherService.publish("tester", "workspace", "publisher-test", "");
+        assertEquals(Set.of(REGISTRY + "/folder/b.txt", REGISTRY + "/folder/c.txt"), lastChanges());
+        assertArrayEquals(bytes("b2"), repository.getResource(REGISTRY + "/folder/b.txt")
+                                                 .getContent());
+        assertFalse(repository.getResource(REGISTRY + "/folder/c.txt")
+                              .exists());
+        assertTrue(repository.getResource(REGISTRY + "/folder/c.js")
+                             .exists());
+    }
+
+    /**
+     * Test that a single file with the same content is not written.
+     */
+    @Test
+    void testPublishUnchangedFile() {
+        repository.createResource(WORKSPACE + "/a.txt", bytes("a"));
+        repository.createResource(REGISTRY + "/a.txt", bytes("a"));
+
+        publisherService.publish("tester", "workspace", "publisher-test", "a.txt");
+        assertTrue(lastChanges().isEmpty());
+    }
+
+    /**
+     * Gets the changed paths of the last publish.
+     *
+     * @return the changed paths
+     */
+    private Set<String> lastChanges() {
+        return published.get(published.size() - 1)
+                        .changedPaths();
+    }
+
+    /**
+     * Filters the files from the changed paths.
+     *
+     * @param paths the paths
+     * @return the files
+     */
+    private static Set<String> files(Set<String> paths) {
+        Set<String> files = new HashSet<>(paths);
+        files.removeIf(path -> !path.endsWith(".txt"));
+        return files;
+    }
+
+    /**
+     * Bytes.
+     *
+     * @param content the content
+     * @return the bytes
+     */
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
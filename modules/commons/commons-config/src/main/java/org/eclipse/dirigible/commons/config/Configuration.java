@@ -62,6 +62,8 @@ public class Configuration {
     private static final Logger LOGGER = LoggerFactory.getLogger(Configuration.class);
     /** The loaded. */
     public static boolean LOADED = false;
+    /** The merged view of all the variables, rebuilt on every change. */
+    private static volatile Snapshot snapshot = new Snapshot(Map.of(), 0);
 
     static {
         reloadConfigurations();
@@ -83,6 +85,15 @@ public class Configuration {
         MODULE
     }
 
+    /**
+     * The immutable merged view of the variables.
+     *
+     * @param values the values by key, according to the precedence of the configuration types
+     * @param version the version, incremented on every change
+     */
+    private record Snapshot(Map<String, String> values, long version) {
+    }
+
     public static void reloadConfigurations() {
         RUNTIME_VARIABLES.clear();
         ENVIRONMENT_VARIABLES.clear();
@@ -91,9 +102,41 @@ public class Configuration {
 
         loadDeploymentConfig(CONFIG_FILE_PATH_DIRIGIBLE_COMMON_PROPERTIES, CONFIG_FILE_PATH_DIRIGIBLE_PROPERTIES_OVERRIDES);
         loadEnvironmentConfig();
+        refreshSnapshot();
         LOADED = true;
     }
 
+    /**
+     * Rebuilds the merged view after a change of any of the variables maps. The lookups read the
+     * published snapshot without locking, while the (rare) changes are serialized here.
+     */
+    private static synchronized void refreshSnapshot() {
+        Map<String, String> values = new HashMap<>();
+        synchronized (MODULE_VARIABLES) {
+            values.putAll(MODULE_VARIABLES);
+        }
+        synchronized (DEPLOYMENT_VARIABLES) {
+            values.putAll(DEPLOYMENT_VARIABLES);
+        }
+        synchronized (ENVIRONMENT_VARIABLES) {
+            values.putAll(ENVIRONMENT_VARIABLES);
+        }
+        synchronized (RUNTIME_VARIABLES) {
+            values.putAll(RUNTIME_VARIABLES);
+        }
+        snapshot = new Snapshot(Collections.unmodifiableMap(values), snapshot.version() + 1);
+    }
+
+    /**
+     * Gets the version of the configuration, which is incremented on every change. It can be used to
+     * cache values derived from the configuration.
+     *
+     * @return the version
+     */
+    public static long getVersion() {
+        return snapshot.version();
+    }
+
     /**
      * Load deployment config.
      *
@@ -249,6 +292,7 @@ public class Configuration {
                 "DIRIGIBLE_REPOSITORY_SEARCH_ROOT_FOLDER_IS_ABSOLUTE", //
                 "DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION", //
                 "DIRIGIBLE_REPOSITORY_VERSIONING_ENABLED", //
+                "DIRIGIBLE_REPOSITORY_PATH_INDEX_RECONCILE_INTERVAL", //
                 "DIRIGIBLE_DATABASE_PROVIDER", //
                 "DIRIGIBLE_DATABASE_DEFAULT_SET_AUTO_COMMIT", //
                 "DIRIGIBLE_DATABASE_DEFAULT_MAX_CONNECTIONS_COUNT", //
@@ -263,9 +307,15 @@ public class Configuration {
                 "DIRIGIBLE_DATABASE_H2_USERNAME", //
                 "DIRIGIBLE_DATABASE_H2_PASSWORD", //
                 "DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE", //
+                "DIRIGIBLE_DATA_ANONYMIZE_WORKERS", //
+                "DIRIGIBLE_DATA_ANONYMIZE_FETCH_SIZE", //
+                "DIRIGIBLE_DATA_ANONYMIZE_COMMIT_INTERVAL", //
+                "DIRIGIBLE_DATA_PROCESSES_SCHEMA_PARALLELISM", //
                 "DIRIGIBLE_PERSISTENCE_CREATE_TABLE_ON_USE", //
                 "DIRIGIBLE_MONGODB_CLIENT_URI", //
                 "DIRIGIBLE_MONGODB_DATABASE_DEFAULT", //
+                "DIRIGIBLE_MONGODB_MAX_POOL_SIZE", //
+                "DIRIGIBLE_MONGODB_MIN_POOL_SIZE", //
                 "DIRIGIBLE_SCHEDULER_MEMORY_STORE", //
                 "DIRIGIBLE_SCHEDULER_DATASOURCE_TYPE", //
                 "DIRIGIBLE_SCHEDULER_DATASOURCE_NAME", //
@@ -322,6 +372,10 @@ public class Configuration {
                 "DIRIGIBLE_KAFKA_VALUE_SERIALIZER", //
                 "DIRIGIBLE_KAFKA_AUTOCOMMIT_ENABLED", //
                 "DIRIGIBLE_KAFKA_AUTOCOMMIT_INTERVAL", //
+                "DIRIGIBLE_KAFKA_CONSUMER_CONCURRENCY", //
+                "DIRIGIBLE_KAFKA_CONSUMER_BATCH", //
+                "DIRIGIBLE_KAFKA_CONSUMER_RETRIES", //
+                "DIRIGIBLE_KAFKA_CONSUMER_RETRY_DELAY", //
                 "DIRIGIBLE_JAVASCRIPT_ENGINE_TYPE_DEFAULT", //
                 "DIRIGIBLE_JAVASCRIPT_GRAALVM_DEBUGGER_PORT", //
                 "DIRIGIBLE_JAVASCRIPT_GRAALVM_ALLOW_HOST_ACCESS", //
@@ -330,6 +384,11 @@ public class Configuration {
                 "DIRIGIBLE_JAVASCRIPT_GRAALVM_ALLOW_IO", //
                 "DIRIGIBLE_JAVASCRIPT_GRAALVM_COMPATIBILITY_MODE_NASHORN", //
                 "DIRIGIBLE_JAVASCRIPT_GRAALVM_COMPATIBILITY_MODE_MOZILLA", //
+                "DIRIGIBLE_PYTHON_CONTEXT_POOL_SIZE", //
+                "DIRIGIBLE_PYTHON_CONTEXT_POOL_TIMEOUT", //
+                "DIRIGIBLE_PYTHON_CONTEXT_RESET", //
+                "DIRIGIBLE_PYTHON_CONTEXT_MAX_USES", //
+                "DIRIGIBLE_PYTHON_CONTEXT_IDLE_TIMEOUT", //
                 "DIRIGIBLE_OPERATIONS_LOGS_ROOT_FOLDER_DEFAULT", //
                 "DIRIGIBLE_THEME_DEFAULT", //
                 "DIRIGIBLE_GENERATE_PRETTY_NAMES", //
@@ -363,6 +422,12 @@ public class Configuration {
                 "DIRIGIBLE_MAIL_SMTPS_PORT", //
                 "DIRIGIBLE_MAIL_SMTPS_AUTH", //
                 "DIRIGIBLE_MAIL_SMTP_AUTH", //
+                "DIRIGIBLE_MAIL_OUTBOX_CONNECTIONS", //
+                "DIRIGIBLE_MAIL_OUTBOX_CAPACITY", //
+                "DIRIGIBLE_MAIL_OUTBOX_RETRIES", //
+                "DIRIGIBLE_MAIL_OUTBOX_RETRY_DELAY", //
+                "DIRIGIBLE_MAIL_OUTBOX_IDLE_TIMEOUT", //
+                "DIRIGIBLE_MAIL_OUTBOX_SHUTDOWN_TIMEOUT", //
                 "DIRIGIBLE_KEYCLOAK_AUTH_SERVER_URL", //
                 "DIRIGIBLE_KEYCLOAK_CLIENT_ID", //
                 "DIRIGIBLE_CSV_DATA_MAX_COMPARE_SIZE", //
@@ -413,6 +478,7 @@ public class Configuration {
      */
     public static void loadModuleConfig(String path) {
         load(path, ConfigType.MODULE);
+        refreshSnapshot();
     }
 
     /**
@@ -450,16 +516,8 @@ public class Configuration {
      * @return the string
      */
     public static String get(String key, String defaultValue) {
-        String value = null;
-        if (RUNTIME_VARIABLES.containsKey(key)) {
-            value = RUNTIME_VARIABLES.get(key);
-        } else if (ENVIRONMENT_VARIABLES.containsKey(key)) {
-            value = ENVIRONMENT_VARIABLES.get(key);
-        } else if (DEPLOYMENT_VARIABLES.containsKey(key)) {
-            value = DEPLOYMENT_VARIABLES.get(key);
-        } else if (MODULE_VARIABLES.containsKey(key)) {
-            value = MODULE_VARIABLES.get(key);
-        }
+        String value = snapshot.values()
+                               .get(key);
         return (value != null) ? value : defaultValue;
     }
 
@@ -493,6 +551,7 @@ public class Configuration {
      */
     public static void set(String key, String value) {
         RUNTIME_VARIABLES.put(key, value);
+        refreshSnapshot();
     }
 
     /**
@@ -502,6 +561,7 @@ public class Configuration {
      */
     public static void remove(String key) {
         RUNTIME_VARIABLES.remove(key);
+        refreshSnapshot();
     }
 
     /**
@@ -523,6 +583,7 @@ public class Configuration {
      */
     public static void update() {
         loadEnvironmentConfig();
+        refreshSnapshot();
     }
 
     /**
@@ -73,6 +73,15 @@ public enum DirigibleConfig {
 
     TENANTS_PROVISIONING_FREQUENCY_SECONDS("DIRIGIBLE_TENANTS_PROVISIONING_FREQUENCY_SECONDS", "900"), // 15 minutes
 
+    /** The number of tenants provisioned in parallel. */
+    TENANTS_PROVISIONING_THREADS("DIRIGIBLE_TENANTS_PROVISIONING_THREADS", "4"),
+
+    /** The maximum number of subdomains in the tenants cache. */
+    TENANTS_CACHE_MAX_SIZE("DIRIGIBLE_TENANTS_CACHE_MAX_SIZE", "10000"),
+
+    /** The time after which a subdomain is resolved again from the database. */
+    TENANTS_CACHE_EXPIRE_SECONDS("DIRIGIBLE_TENANTS_CACHE_EXPIRE_SECONDS", "600"), // 10 minutes
+
     /** The cms internal root folder. */
     CMS_INTERNAL_ROOT_FOLDER("DIRIGIBLE_CMS_INTERNAL_ROOT_FOLDER", "target/dirigible/cms"),
 
@@ -109,7 +118,16 @@ public enum DirigibleConfig {
     BASIC_ADMIN_USERNAME("DIRIGIBLE_BASIC_USERNAME", toBase64("admin")),
 
     /** The basic admin pass. */
-    BASIC_ADMIN_PASS("DIRIGIBLE_BASIC_PASSWORD", toBase64("admin"));
+    BASIC_ADMIN_PASS("DIRIGIBLE_BASIC_PASSWORD", toBase64("admin")),
+
+    /** The tracing of the task states enabled. */
+    TRACING_TASK_ENABLED("DIRIGIBLE_TRACING_TASK_ENABLED", Boolean.FALSE.toString()),
+
+    /** The writing of the task states in the background enabled. */
+    TRACING_TASK_ASYNC("DIRIGIBLE_TRACING_TASK_ASYNC", Boolean.TRUE.toString()),
+
+    /** The debugging of the GraalJS code enabled. */
+    GRAALIUM_ENABLE_DEBUG("DIRIGIBLE_GRAALIUM_ENABLE_DEBUG", Boolean.FALSE.toString());
 
     /** The Constant LOGGER. */
     private static final Logger LOGGER = LoggerFactory.getLogger(DirigibleConfig.class);
@@ -120,6 +138,12 @@ public enum DirigibleConfig {
     /** The default value. */
     private final String defaultValue;
 
+    /** The cached boolean value, valid until the next configuration change. */
+    private volatile CachedValue<Boolean> booleanValue;
+
+    /** The cached int value, valid until the next configuration change. */
+    private volatile CachedValue<Integer> intValue;
+
     /**
      * Instantiates a new dirigible config.
      *
@@ -183,8 +207,13 @@ public enum DirigibleConfig {
      * @return the boolean value
      */
     public boolean getBooleanValue() {
-        String configValue = getStringValue();
-        return Boolean.valueOf(configValue);
+        long version = Configuration.getVersion();
+        CachedValue<Boolean> cached = booleanValue;
+        if (cached == null || cached.version() != version) {
+            cached = new CachedValue<>(Boolean.valueOf(getStringValue()), version);
+            booleanValue = cached;
+        }
+        return cached.value();
     }
 
     public void setBooleanValue(boolean value) {
@@ -210,6 +239,21 @@ public enum DirigibleConfig {
      * @return the int value
      */
     public int getIntValue() {
+        long version = Configuration.getVersion();
+        CachedValue<Integer> cached = intValue;
+        if (cached == null || cached.version() != version) {
+            cached = new CachedValue<>(parseIntValue(), version);
+            intValue = cached;
+        }
+        return cached.value();
+    }
+
+    /**
+     * Parses the int value.
+     *
+     * @return the int value
+     */
+    private int parseIntValue() {
         String stringValue = getStringValue();
         try {
             return Integer.parseInt(stringValue);
@@ -223,4 +267,14 @@ public enum DirigibleConfig {
     public void setIntValue(int value) {
         setStringValue(Integer.toString(value));
     }
+
+    /**
+     * A value parsed from the configuration with the configuration version it was parsed at.
+     *
+     * @param <T> the value type
+     * @param value the value
+     * @param version the configuration version
+     */
+    private record CachedValue<T>(T value, long version) {
+    }
 }
@@ -176,4 +176,26 @@ public class ConfigurationTest {
         assertEquals("my-test-project ${projectVersion} - Application View", o.s5);
     }
 
+    /**
+     * Typed config values are re-read after a change.
+     */
+    @Test
+    public void typedValuesChangeTest() {
+        long version = Configuration.getVersion();
+        DirigibleConfig.TRACING_TASK_ENABLED.setBooleanValue(true);
+        assertTrue(Configuration.getVersion() > version);
+        assertTrue(DirigibleConfig.TRACING_TASK_ENABLED.getBooleanValue());
+
+        Configuration.set(DirigibleConfig.TRACING_TASK_ENABLED.getKey(), "false");
+        assertFalse(DirigibleConfig.TRACING_TASK_ENABLED.getBooleanValue());
+
+        DirigibleConfig.CSV_DATA_BATCH_SIZE.setIntValue(50);
+        assertEquals(50, DirigibleConfig.CSV_DATA_BATCH_SIZE.getIntValue());
+
+        Configuration.remove(DirigibleConfig.CSV_DATA_BATCH_SIZE.getKey());
+        Configuration.remove(DirigibleConfig.TRACING_TASK_ENABLED.getKey());
+        assertEquals(1000, DirigibleConfig.CSV_DATA_BATCH_SIZE.getIntValue());
+        assertFalse(DirigibleConfig.TRACING_TASK_ENABLED.getBooleanValue());
+    }
+
 }
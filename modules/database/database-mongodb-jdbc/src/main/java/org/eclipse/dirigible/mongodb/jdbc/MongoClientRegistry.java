@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.mongodb.jdbc;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCredential;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.connection.ConnectionPoolSettings;
+
+/**
+ * The registry of the MongoDB clients shared by URL, credentials and pool settings. A MongoDB
+ * client holds its own pool of sockets and is meant to live as long as the application, so the JDBC
+ * connections and the facade calls lease the shared client instead of creating one each. A lease is
+ * released by closing it, and the client itself is closed when it has not been leased for the idle
+ * timeout.
+ */
+public final class MongoClientRegistry {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(MongoClientRegistry.class);
+
+    /** The property of the maximum number of pooled sockets per server. */
+    public static final String MAX_POOL_SIZE = "maxPoolSize";
+
+    /** The property of the minimum number of pooled sockets per server. */
+    public static final String MIN_POOL_SIZE = "minPoolSize";
+
+    /** The property of the maximum idle time of a pooled socket in milliseconds. */
+    public static final String MAX_CONNECTION_IDLE_TIME = "maxConnectionIdleTime";
+
+    /** The property of the maximum wait time for a pooled socket in milliseconds. */
+    public static final String MAX_WAIT_TIME = "maxWaitTime";
+
+    /**
+     * The property of the time in milliseconds after which a client, which is not leased, is closed.
+     */
+    public static final String CLIENT_IDLE_TIMEOUT = "clientIdleTimeout";
+
+    /** The Constant DEFAULT_CLIENT_IDLE_TIMEOUT. */
+    private static final long DEFAULT_CLIENT_IDLE_TIMEOUT = 60000;
+
+    /** The shared clients. */
+    private static final Map<ClientKey, SharedClient> CLIENTS = new HashMap<>();
+
+    /** The scheduler of the closing of the idle clients. */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "mongodb-client-registry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The factory of the clients, replaced by the tests. */
+    static volatile ClientFactory clientFactory = MongoClientRegistry::createMongoClient;
+
+    /**
+     * Instantiates a new mongo client registry.
+     */
+    private MongoClientRegistry() {}
+
+    /**
+     * Leases the shared client for the URL, the credentials and the pool settings.
+     *
+     * @param url the url
+     * @param user the user, used if the url does not contain one
+     * @param password the password, used if the url does not contain one
+     * @param properties the pool settings or null
+     * @return the lease of the client, which has to be closed when not needed anymore
+     */
+    public static MongoClient acquire(String url, String user, String password, Properties properties) {
+        PoolSettings poolSettings = PoolSettings.of(properties);
+        ClientKey key = new ClientKey(url, user, password, poolSettings);
+        SharedClient shared;
+        synchronized (CLIENTS) {
+            shared = CLIENTS.get(key);
+            if (shared == null) {
+                shared = new SharedClient(key, clientFactory.create(url, user, password, properties));
+                CLIENTS.put(key, shared);
+                logger.debug("Created a shared MongoDB client with [{}]", poolSettings);
+            }
+            shared.acquire();
+        }
+        return lease(shared);
+    }
+
+    /**
+     * Gets the number of the shared clients.
+     *
+     * @return the number of the shared clients
+     */
+    public static int size() {
+        synchronized (CLIENTS) {
+            return CLIENTS.size();
+        }
+    }
+
+    /**
+     * Closes all the shared clients, regardless of their leases.
+     */
+    public static void closeAll() {
+        synchronized (CLIENTS) {
+            CLIENTS.values()
+                   .forEach(SharedClient::close);
+            CLIENTS.clear();
+        }
+    }
+
+    /**
+     * Creates the mongo client.
+     *
+     * @param url the url
+     * @param user the user
+     * @param pass the pass
+     * @param properties the pool settings or null
+     * @return the mongo client
+     */
+    static MongoClient createMongoClient(String url, String user, String pass, Properties properties) {
+        PoolSettings poolSettings = PoolSettings.of(properties);
+        URI dbUri = URI.create(url);
+        String username;
+        String password;
+        if (dbUri.getUserInfo() != null && !dbUri.getUserInfo()
+                                                 .isEmpty()) {
+            username = dbUri.getUserInfo()
+                            .substring(0, dbUri.getUserInfo()
+                                               .indexOf(':'));
+            password = dbUri.getUserInfo()
+                            .substring(dbUri.getUserInfo()
+                                            .indexOf(':')
+                                    + 1);
+        } else {
+            username = user;
+            password = pass;
+        }
+        MongoClientSettings.Builder builder = MongoClientSettings.builder()
+                                                                 .applyConnectionString(new ConnectionString(url))
+                                                                 .applyToConnectionPoolSettings(poolSettings::apply);
+        if (username != null && password != null) {
+            builder.credential(MongoCredential.createCredential(username, "admin", password.toCharArray()));
+        }
+        return MongoClients.create(builder.build());
+    }
+
+    /**
+     * Creates a lease of a shared client, which delegates to the client, except for closing, which
+     * releases the lease once. A released lease can not be used anymore.
+     *
+     * @param shared the shared client
+     * @return the lease
+     */
+    private static MongoClient lease(SharedClient shared) {
+        AtomicBoolean released = new AtomicBoolean(false);
+        return (MongoClient) Proxy.newProxyInstance(MongoClient.class.getClassLoader(), new Class<?>[] {MongoClient.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        if (released.compareAndSet(false, true)) {
+                            release(shared);
+                        }
+                        return null;
+                    }
+                    if (released.get() && method.getDeclaringClass() != Object.class) {
+                        throw new IllegalStateException("The MongoDB client lease has been closed");
+                    }
+                    return invoke(shared.client, method, args);
+                });
+    }
+
+    /**
+     * Invokes a method of the client.
+     *
+     * @param client the client
+     * @param method the method
+     * @param args the args
+     * @return the result
+     * @throws Throwable the exception thrown by the method
+     */
+    private static Object invoke(MongoClient client, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(client, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Releases a lease of a shared client.
+     *
+     * @param shared the shared client
+     */
+    private static void release(SharedClient shared) {
+        synchronized (CLIENTS) {
+            if (shared.release() > 0 || CLIENTS.get(shared.key) != shared) {
+                return;
+            }
+            long timeout = shared.key.poolSettings()
+                                     .clientIdleTimeout();
+            if (timeout <= 0) {
+                CLIENTS.remove(shared.key);
+                shared.close();
+            } else {
+                shared.idleClose = SCHEDULER.schedule(() -> closeIdle(shared), timeout, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Closes a shared client, if it has not been leased again meanwhile.
+     *
+     * @param shared the shared client
+     */
+    private static void closeIdle(SharedClient shared) {
+        synchronized (CLIENTS) {
+            if (shared.leases == 0 && CLIENTS.get(shared.key) == shared) {
+                CLIENTS.remove(shared.key);
+                shared.close();
+                logger.debug("Closed the idle shared MongoDB client with [{}]", shared.key.poolSettings());
+            }
+        }
+    }
+
+    /**
+     * The factory of the clients.
+     */
+    @FunctionalInterface
+    interface ClientFactory {
+
+        /**
+         * Creates a client.
+         *
+         * @param url the url
+         * @param user the user
+         * @param password the password
+         * @param properties the pool settings or null
+         * @return the mongo client
+         */
+        MongoClient create(String url, String user, String password, Properties properties);
+    }
+
+    /**
+     * The key of a shared client.
+     *
+     * @param url the url
+     * @param user the user
+     * @param password the password
+     * @param poolSettings the pool settings
+     */
+    private record ClientKey(String url, String user, String password, PoolSettings poolSettings) {
+    }
+
+    /**
+     * A shared client with its number of leases. Guarded by the clients map.
+     */
+    private static class SharedClient {
+
+        /** The key. */
+        private final ClientKey key;
+
+        /** The client. */
+        private final MongoClient client;
+
+        /** The number of leases. */
+        private int leases;
+
+        /** The scheduled closing, if the client is idle. */
+        private ScheduledFuture<?> idleClose;
+
+        /**
+         * Instantiates a new shared client.
+         *
+         * @param key the key
+         * @param client the client
+         */
+        SharedClient(ClientKey key, MongoClient client) {
+            this.key = key;
+            this.client = client;
+        }
+
+        /**
+         * Acquire.
+         */
+        void acquire() {
+            leases++;
+            if (idleClose != null) {
+                idleClose.cancel(false);
+                idleClose = null;
+            }
+        }
+
+        /**
+         * Release.
+         *
+         * @return the remaining leases
+         */
+        int release() {
+            return --leases;
+        }
+
+        /**
+         * Close.
+         */
+        void close() {
+            if (idleClose != null) {
+                idleClose.cancel(false);
+                idleClose = null;
+            }
+            client.close();
+        }
+    }
+
+    /**
+     * The pool settings of a shared client. The settings, which are not set, are taken from the
+     * connection string or the driver defaults.
+     *
+     * @param maxPoolSize the max pool size
+     * @param minPoolSize the min pool size
+     * @param maxConnectionIdleTime the max connection idle time in milliseconds
+     * @param maxWaitTime the max wait time in milliseconds
+     * @param clientIdleTimeout the client idle timeout in milliseconds
+     */
+    private record PoolSettings(Integer maxPoolSize, Integer minPoolSize, Long maxConnectionIdleTime, Long maxWaitTime,
+            long clientIdleTimeout) {
+
+        /**
+         * Reads the pool settings from the properties.
+         *
+         * @param properties the properties or null
+         * @return the pool settings
+         */
+        static PoolSettings of(Properties properties) {
+            Properties props = properties != null ? properties : new Properties();
+            Long clientIdleTimeout = getLong(props, CLIENT_IDLE_TIMEOUT);
+            return new PoolSettings(getInteger(props, MAX_POOL_SIZE), getInteger(props, MIN_POOL_SIZE),
+                    getLong(props, MAX_CONNECTION_IDLE_TIME), getLong(props, MAX_WAIT_TIME),
+                    clientIdleTimeout != null ? clientIdleTimeout : DEFAULT_CLIENT_IDLE_TIMEOUT);
+        }
+
+        /**
+         * Applies the settings to the connection pool.
+         *
+         * @param pool the pool
+         */
+        void apply(ConnectionPoolSettings.Builder pool) {
+            if (maxPoolSize != null) {
+                pool.maxSize(maxPoolSize);
+            }
+            if (minPoolSize != null) {
+                pool.minSize(minPoolSize);
+            }
+            if (maxConnectionIdleTime != null) {
+                pool.maxConnectionIdleTime(maxConnectionIdleTime, TimeUnit.MILLISECONDS);
+            }
+            if (maxWaitTime != null) {
+                pool.maxWaitTime(maxWaitTime, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        /**
+         * Gets the integer.
+         *
+         * @param properties the properties
+         * @param name the name
+         * @return the integer or null
+         */
+        private static Integer getInteger(Properties properties, String name) {
+            Long value = getLong(properties, name);
+            return value != null ? value.intValue() : null;
+        }
+
+        /**
+         * Gets the long.
+         *
+         * @param properties the properties
+         * @param name the name
+         * @return the long or null
+         */
+        private static Long getLong(Properties properties, String name) {
+            String value = properties.getProperty(name);
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                return Long.valueOf(value.trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring the invalid MongoDB client setting [{}]: [{}]", name, value);
+                return null;
+            }
+        }
+    }
+
+}
@@ -9,7 +9,6 @@
  */
 package org.eclipse.dirigible.mongodb.jdbc;
 
-import java.net.URI;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.CallableStatement;
@@ -36,13 +35,9 @@ import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientOptions;
-import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoClientURI;
-import com.mongodb.MongoCredential;
 import com.mongodb.client.MongoClient;
-import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 
@@ -98,9 +93,9 @@ public class MongoDBConnection implements Connection {
      */
     public MongoDBConnection(String url, Properties info) {
         String dbUrl = url.replace("jdbc:", "");
-        String username = info.getProperty("user");
-        String password = info.getProperty("password");
-        this.client = createMongoClient(dbUrl, username, password);
+        String username = info != null ? info.getProperty("user") : null;
+        String password = info != null ? info.getProperty("password") : null;
+        this.client = MongoClientRegistry.acquire(dbUrl, username, password, info);
         this.clientUri = new MongoClientURI(dbUrl);
         this.dbName = this.clientUri.getDatabase() != null ? this.clientUri.getDatabase() : MONGODB_DEFAULT_DB;
         this.collectionName = this.clientUri.getCollection();
@@ -127,7 +122,8 @@ public class MongoDBConnection implements Connection {
     }
 
     /**
-     * Creates the mongo client.
+     * Creates a new mongo client, which is not shared. Use
+     * {@link MongoClientRegistry#acquire(String, String, String, Properties)} to lease a shared one.
      *
      * @param url the url
      * @param user the user
@@ -135,33 +131,7 @@ public class MongoDBConnection implements Connection {
      * @return the mongo client
      */
     public static MongoClient createMongoClient(String url, String user, String pass) {
-        URI dbUri = URI.create(url);
-        String username;
-        String password;
-        if (dbUri.getUserInfo() != null && !dbUri.getUserInfo()
-                                                 .isEmpty()) {
-            username = dbUri.getUserInfo()
-                            .substring(0, dbUri.getUserInfo()
-                                               .indexOf(':'));
-            password = dbUri.getUserInfo()
-                            .substring(dbUri.getUserInfo()
-                                            .indexOf(':')
-                                    + 1);
-        } else {
-            username = user;
-            password = pass;
-        }
-        MongoClient client;
-        if (username != null && password != null) {
-            MongoCredential credential = MongoCredential.createCredential(username, "admin", password.toCharArray());
-            client = MongoClients.create(MongoClientSettings.builder()
-                                                            .applyConnectionString(new ConnectionString(url))
-                                                            .credential(credential)
-                                                            .build());
-        } else {
-            client = MongoClients.create(new ConnectionString(url));
-        }
-        return client;
+        return MongoClientRegistry.createMongoClient(url, user, pass, null);
     }
 
     /**
@@ -468,7 +438,10 @@ public class MongoDBConnection implements Connection {
      */
     @Override
     public void close() throws SQLException {
-        this.client.close();
+        if (!this.isClosed) {
+            // releases the lease of the shared client
+            this.client.close();
+        }
         this.isClosed = true;
     }
 
@@ -904,7 +877,7 @@ public class MongoDBConnection implements Connection {
     /**
      * Gets the client.
      *
-     * @return the client
+     * @return the lease of the shared client, which is released on closing the connection
      */
     public MongoClient getClient() {
         return client;
@@ -11,9 +11,9 @@ package org.eclipse.dirigible.mongodb.jdbc;
 
 import java.io.PrintWriter;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
 import java.util.logging.Logger;
 import javax.sql.DataSource;
 import org.slf4j.LoggerFactory;
@@ -50,6 +50,9 @@ public class MongoDBDataSource implements DataSource {
     /** The login timeout. */
     private int loginTimeout;
 
+    /** The settings of the pool of the shared client. */
+    private final Properties poolProperties = new Properties();
+
     /**
      * Instantiates a new mongo DB data source.
      */
@@ -122,6 +125,42 @@ public class MongoDBDataSource implements DataSource {
         this.password = password;
     }
 
+    /**
+     * Sets the maximum number of pooled sockets per server of the shared client.
+     *
+     * @param maxPoolSize the new max pool size
+     */
+    public void setMaxPoolSize(int maxPoolSize) {
+        this.poolProperties.setProperty(MongoClientRegistry.MAX_POOL_SIZE, String.valueOf(maxPoolSize));
+    }
+
+    /**
+     * Sets the minimum number of pooled sockets per server of the shared client.
+     *
+     * @param minPoolSize the new min pool size
+     */
+    public void setMinPoolSize(int minPoolSize) {
+        this.poolProperties.setProperty(MongoClientRegistry.MIN_POOL_SIZE, String.valueOf(minPoolSize));
+    }
+
+    /**
+     * Sets the maximum idle time of a pooled socket of the shared client.
+     *
+     * @param maxConnectionIdleTime the new max connection idle time in milliseconds
+     */
+    public void setMaxConnectionIdleTime(long maxConnectionIdleTime) {
+        this.poolProperties.setProperty(MongoClientRegistry.MAX_CONNECTION_IDLE_TIME, String.valueOf(maxConnectionIdleTime));
+    }
+
+    /**
+     * Sets the maximum wait time for a pooled socket of the shared client.
+     *
+     * @param maxWaitTime the new max wait time in milliseconds
+     */
+    public void setMaxWaitTime(long maxWaitTime) {
+        this.poolProperties.setProperty(MongoClientRegistry.MAX_WAIT_TIME, String.valueOf(maxWaitTime));
+    }
+
     /**
      * Gets the log writer.
      *
@@ -218,7 +257,8 @@ public class MongoDBDataSource implements DataSource {
     }
 
     /**
-     * Gets the connection.
+     * Gets the connection. The connection leases the client shared by all the connections with the same
+     * url, credentials and pool settings, instead of going through the driver manager.
      *
      * @param username the username
      * @param password the password
@@ -227,7 +267,15 @@ public class MongoDBDataSource implements DataSource {
      */
     @Override
     public Connection getConnection(String username, String password) throws SQLException {
-        return DriverManager.getConnection(this.url, this.userName, this.password);
+        Properties info = new Properties();
+        info.putAll(poolProperties);
+        if (username != null) {
+            info.setProperty("user", username);
+        }
+        if (password != null) {
+            info.setProperty("password", password);
+        }
+        return new MongoDBConnection(url, info);
     }
 
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.mongodb.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mongodb.client.MongoClient;
+
+/**
+ * The Class MongoClientRegistryTest.
+ */
+public class MongoClientRegistryTest {
+
+    /** The Constant URL. */
+    private static final String URL = "mongodb://localhost:27017";
+
+    /** The clients created so far. */
+    private final List<FakeClient> created = new ArrayList<>();
+
+    /**
+     * Sets the up.
+     */
+    @Before
+    public void setUp() {
+        MongoClientRegistry.closeAll();
+        MongoClientRegistry.clientFactory = (url, user, password, properties) -> {
+            FakeClient client = new FakeClient();
+            created.add(client);
+            return client.proxy;
+        };
+    }
+
+    /**
+     * Tear down.
+     */
+    @After
+    public void tearDown() {
+        MongoClientRegistry.closeAll();
+        MongoClientRegistry.clientFactory = MongoClientRegistry::createMongoClient;
+    }
+
+    /**
+     * Test that the same URL and credentials share one client.
+     */
+    @Test
+    public void testSameCredentialsShareClient() {
+        MongoClient first = MongoClientRegistry.acquire(URL, "user", "pass", null);
+        MongoClient second = MongoClientRegistry.acquire(URL, "user", "pass", null);
+
+        assertEquals(1, created.size());
+        assertEquals(1, MongoClientRegistry.size());
+        first.getClusterDescription();
+        second.getClusterDescription();
+        assertEquals(2, created.get(0).calls);
+    }
+
+    /**
+     * Test that different credentials do not share a client.
+     */
+    @Test
+    public void testDifferentCredentialsDoNotShareClient() {
+        MongoClientRegistry.acquire(URL, "user", "pass", null);
+        MongoClientRegistry.acquire(URL, "other", "pass", null);
+        MongoClientRegistry.acquire(URL, "user", "other", null);
+
+        assertEquals(3, created.size());
+        assertEquals(3, MongoClientRegistry.size());
+    }
+
+    /**
+     * Test that closing a lease releases it once and the client is closed with the last lease.
+     */
+    @Test
+    public void testCloseReleasesLease() {
+        Properties properties = idleTimeout(0);
+        MongoClient first = MongoClientRegistry.acquire(URL, "user", "pass", properties);
+        MongoClient second = MongoClientRegistry.acquire(URL, "user", "pass", properties);
+
+        first.close();
+        first.close();
+        assertFalse(created.get(0).closed.get());
+        assertEquals(1, MongoClientRegistry.size());
+
+        second.close();
+        assertTrue(created.get(0).closed.get());
+        assertEquals(0, MongoClientRegistry.size());
+    }
+
+    /**
+     * Test that a client is closed only after the last release and the idle timeout, and that leasing
+     * it meanwhile keeps it open.
+     *
+     * @throws InterruptedException the interrupted exception
+     */
+    @Test
+    public void testIdleTimeout() throws InterruptedException {
+        Properties properties = idleTimeout(200);
+        MongoClient first = MongoClientRegistry.acquire(URL, "user", "pass", properties);
+        first.close();
+        Thread.sleep(50);
+        MongoClient second = MongoClientRegistry.acquire(URL, "user", "pass", properties);
+        Thread.sleep(300);
+        assertFalse(created.get(0).closed.get());
+        assertEquals(1, created.size());
+
+        second.close();
+        assertFalse(created.get(0).closed.get());
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!created.get(0).closed.get() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(created.get(0).closed.get());
+        assertEquals(0, MongoClientRegistry.size());
+    }
+
+    /**
+     * Test that a closed lease fails cleanly, without reaching the shared client.
+     */
+    @Test
+    public void testUseAfterClose() {
+        MongoClient lease = MongoClientRegistry.acquire(URL, "user", "pass", null);
+        MongoClient other = MongoClientRegistry.acquire(URL, "user", "pass", null);
+        lease.close();
+
+        assertThrows(IllegalStateException.class, lease::getClusterDescription);
+        assertEquals(0, created.get(0).calls);
+        other.getClusterDescription();
+        assertEquals(1, created.get(0).calls);
+    }
+
+    /**
+     * Pool settings with a client idle timeout.
+     *
+     * @param timeout the timeout in millis
+     * @return the properties
+     */
+    private static Properties idleTimeout(long timeout) {
+        Properties properties = new Properties();
+        properties.setProperty(MongoClientRegistry.CLIENT_IDLE_TIMEOUT, String.valueOf(timeout));
+        return properties;
+    }
+
+    /**
+     * A client, which records its calls and closing.
+     */
+    private static class FakeClient {
+
+        /** Whether closed. */
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        /** The number of the calls other than closing. */
+        private volatile int calls;
+
+        /** The proxy. */
+        private final MongoClient proxy = (MongoClient) Proxy.newProxyInstance(MongoClient.class.getClassLoader(),
+                new Class<?>[] {MongoClient.class}, (p, method, args) -> {
+                    if ("close".equals(method.getName())) {
+                        closed.set(true);
+                    } else if (method.getDeclaringClass() != Object.class) {
+                        calls++;
+                    }
+                    return null;
+                });
+    }
+
+}
@@ -12,12 +12,11 @@ package org.eclipse.dirigible.database.persistence;
 import static java.text.MessageFormat.format;
 
 import java.sql.Connection;
-import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.persistence.GenerationType;
 
@@ -34,6 +33,7 @@ import org.eclipse.dirigible.database.persistence.processors.sequence.Persistenc
 import org.eclipse.dirigible.database.persistence.processors.sequence.PersistenceDropSequenceProcessor;
 import org.eclipse.dirigible.database.persistence.processors.table.PersistenceCreateTableProcessor;
 import org.eclipse.dirigible.database.persistence.processors.table.PersistenceDropTableProcessor;
+import org.eclipse.dirigible.database.persistence.utils.ConnectionIdentityCache;
 import org.eclipse.dirigible.database.sql.ISqlDialect;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.slf4j.Logger;
@@ -58,11 +58,23 @@ public class PersistenceManager<T> {
     private static final String CONNECTION_ID_SEPARATOR = ":";
 
     /** The Constant EXISTING_TABLES_CACHE. */
-    private static final List<String> EXISTING_TABLES_CACHE = Collections.synchronizedList(new ArrayList<String>());
+    private static final Set<String> EXISTING_TABLES_CACHE = ConcurrentHashMap.newKeySet();
 
     /** The entity manager interceptor. */
     private IEntityManagerInterceptor entityManagerInterceptor;
 
+    /** The query processor, bound to the current interceptor. */
+    private volatile PersistenceQueryProcessor<T> queryProcessor = new PersistenceQueryProcessor<>(null);
+
+    /** The insert processor, bound to the current interceptor. */
+    private volatile PersistenceInsertProcessor<T> insertProcessor = new PersistenceInsertProcessor<>(null);
+
+    /** The update processor, bound to the current interceptor. */
+    private volatile PersistenceUpdateProcessor<T> updateProcessor = new PersistenceUpdateProcessor<>(null);
+
+    /** The delete processor, bound to the current interceptor. */
+    private volatile PersistenceDeleteProcessor<T> deleteProcessor = new PersistenceDeleteProcessor<>(null);
+
     /**
      * Create a table by a provided Class.
      *
@@ -194,10 +206,9 @@ public class PersistenceManager<T> {
      */
     private String getConnectionIdentity(Connection connection) {
         try {
-            String url = connection.getMetaData()
-                                   .getURL();
-            return url.hashCode() + "";
-        } catch (SQLException e) {
+            return ConnectionIdentityCache.get(connection)
+                                          .id();
+        } catch (PersistenceException e) {
             if (logger.isErrorEnabled()) {
                 logger.error(e.getMessage(), e);
             }
@@ -236,7 +247,6 @@ public class PersistenceManager<T> {
         }
         tableCheck(connection, pojo.getClass());
         PersistenceTableModel tableModel = PersistenceFactory.createModel(pojo);
-        PersistenceInsertProcessor<T> insertProcessor = new PersistenceInsertProcessor<>(getEntityManagerInterceptor());
         return insertProcessor.insert(connection, tableModel, pojo);
     }
 
@@ -254,7 +264,6 @@ public class PersistenceManager<T> {
         }
         tableCheck(connection, clazz);
         PersistenceTableModel tableModel = PersistenceFactory.createModel(clazz);
-        PersistenceQueryProcessor<T> queryProcessor = new PersistenceQueryProcessor<>(getEntityManagerInterceptor());
         return queryProcessor.find(connection, tableModel, clazz, id);
     }
 
@@ -272,7 +281,6 @@ public class PersistenceManager<T> {
         }
         tableCheck(connection, clazz);
         PersistenceTableModel tableModel = PersistenceFactory.createModel(clazz);
-        PersistenceQueryProcessor<T> queryProcessor = new PersistenceQueryProcessor<>(getEntityManagerInterceptor());
         return queryProcessor.lock(connection, tableModel, clazz, id);
     }
 
@@ -289,7 +297,6 @@ public class PersistenceManager<T> {
         }
         tableCheck(connection, clazz);
         PersistenceTableModel tableModel = PersistenceFactory.createModel(clazz);
-        PersistenceQueryProcessor<T> queryProcessor = new PersistenceQueryProcessor<>(getEntityManagerInterceptor());
         return queryProcessor.findAll(connection, tableModel, clazz);
     }
 
@@ -309,7 +316,6 @@ public class PersistenceManager<T> {
         }
         tableCheck(connection, clazz);
         PersistenceTableModel tableModel = PersistenceFactory.createModel(clazz);
-        PersistenceQueryProcessor<T> queryProcessor = new PersistenceQueryProcessor<>(getEntityManagerInterceptor());
         return queryProcessor.query(connection, tableModel, clazz, sql, values);
     }
 
@@ -369,7 +375,6 @@ public class PersistenceManager<T> {
         }
         tableCheck(connection, clazz);
         PersistenceTableModel tableModel = PersistenceFactory.createModel(clazz);
-        PersistenceDeleteProcessor<T> deleteProcessor = new PersistenceDeleteProcessor<>(getEntityManagerInterceptor());
         return deleteProcessor.delete(connection, tableModel, clazz, id);
     }
 
@@ -386,7 +391,6 @@ public class PersistenceManager<T> {
         }
         tableCheck(connection, clazz);
         PersistenceTableModel tableModel = PersistenceFactory.createModel(clazz);
-        PersistenceDeleteProcessor<T> deleteProcessor = new PersistenceDeleteProcessor<>(getEntityManagerInterceptor());
         return deleteProcessor.deleteAll(connection, tableModel, clazz);
     }
 
@@ -403,7 +407,6 @@ public class PersistenceManager<T> {
         }
         tableCheck(connection, pojo.getClass());
         PersistenceTableModel tableModel = PersistenceFactory.createModel(pojo);
-        PersistenceUpdateProcessor<T> updateProcessor = new PersistenceUpdateProcessor<>(getEntityManagerInterceptor());
         return updateProcessor.update(connection, tableModel, pojo);
     }
 
@@ -423,6 +426,10 @@ public class PersistenceManager<T> {
      */
     public void setEntityManagerInterceptor(IEntityManagerInterceptor entityManagerInterceptor) {
         this.entityManagerInterceptor = entityManagerInterceptor;
+        this.queryProcessor = new PersistenceQueryProcessor<>(entityManagerInterceptor);
+        this.insertProcessor = new PersistenceInsertProcessor<>(entityManagerInterceptor);
+        this.updateProcessor = new PersistenceUpdateProcessor<>(entityManagerInterceptor);
+        this.deleteProcessor = new PersistenceDeleteProcessor<>(entityManagerInterceptor);
     }
 
 }
@@ -13,7 +13,10 @@ import org.eclipse.dirigible.database.sql.ISqlKeywords;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * The Persistence Table Model transport object.
@@ -41,6 +44,9 @@ public class PersistenceTableModel {
     /** The relations. */
     private List<PersistenceTableIndexModel> indices = new ArrayList<>();
 
+    /** The generated statements, by dialect and kind. Not serialized. */
+    private transient volatile Map<String, String> statements;
+
     /**
      * Instantiates a new persistence table model.
      *
@@ -114,6 +120,7 @@ public class PersistenceTableModel {
      */
     public void setTableName(String tableName) {
         this.tableName = tableName;
+        this.statements = null;
     }
 
     /**
@@ -132,6 +139,7 @@ public class PersistenceTableModel {
      */
     public void setSchemaName(String schemaName) {
         this.schemaName = schemaName;
+        this.statements = null;
     }
 
     /**
@@ -150,6 +158,7 @@ public class PersistenceTableModel {
      */
     public void setColumns(List<PersistenceTableColumnModel> columns) {
         this.columns = columns;
+        this.statements = null;
     }
 
     /**
@@ -216,5 +225,26 @@ public class PersistenceTableModel {
         return Objects.hash(className, tableName, schemaName);
     }
 
+    /**
+     * Gets a generated statement, generating it on first use. The statements are kept with the model,
+     * which is cached per class, so that they are not generated on every call.
+     *
+     * @param key the key, which has to identify the dialect and the kind of the statement
+     * @param generator the generator
+     * @return the statement
+     */
+    public String getStatement(String key, Supplier<String> generator) {
+        Map<String, String> cache = statements;
+        if (cache == null) {
+            cache = new ConcurrentHashMap<>();
+            statements = cache;
+        }
+        String statement = cache.get(key);
+        if (statement == null) {
+            statement = generator.get();
+            cache.put(key, statement);
+        }
+        return statement;
+    }
 
 }
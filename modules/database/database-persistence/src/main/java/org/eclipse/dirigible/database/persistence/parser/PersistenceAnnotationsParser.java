@@ -16,10 +16,9 @@ import java.lang.reflect.Field;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.dirigible.database.persistence.PersistenceException;
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableColumnModel;
@@ -47,8 +46,7 @@ public class PersistenceAnnotationsParser {
     private static final Logger logger = LoggerFactory.getLogger(PersistenceAnnotationsParser.class);
 
     /** The Constant MODELS_CACHE. */
-    private static final Map<Class, PersistenceTableModel> MODELS_CACHE =
-            Collections.synchronizedMap(new HashMap<Class, PersistenceTableModel>());
+    private static final Map<Class, PersistenceTableModel> MODELS_CACHE = new ConcurrentHashMap<>();
 
     /**
      * Parses the pojo.
@@ -24,17 +24,17 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.apache.commons.io.IOUtils;
 import org.eclipse.dirigible.database.persistence.IEntityManagerInterceptor;
 import org.eclipse.dirigible.database.persistence.PersistenceException;
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableColumnModel;
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableModel;
-import org.eclipse.dirigible.database.persistence.parser.PersistenceAnnotationsParser;
 import org.eclipse.dirigible.database.persistence.parser.Serializer;
+import org.eclipse.dirigible.database.persistence.utils.ConnectionIdentityCache;
 import org.eclipse.dirigible.database.sql.DataTypeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -93,6 +93,7 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
             logger.trace("setValuesFromPojo -> tableModel: " + Serializer.serializeTableModel(tableModel) + ", pojo: "
                     + Serializer.serializePojo(pojo));
         }
+        PersistenceEntityDescriptor descriptor = PersistenceEntityDescriptor.of(pojo.getClass());
         int i = 1;
         for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
             if (!shouldSetColumnValue(columnModel)) {
@@ -101,16 +102,9 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
             if (columnModel.isIdentity()) {
                 continue;
             }
-            // Field field = pojo.getClass().getDeclaredField(columnModel.getField());
-            Field field = getFieldFromClass(pojo.getClass(), columnModel.getField());
             String dataType = columnModel.getType();
-            Object valueObject = null;
-            boolean oldAccessible = setAccessible(field);
-            try {
-                valueObject = field.get(pojo);
-            } finally {
-                resetAccessible(field, oldAccessible);
-            }
+            Object valueObject = descriptor.getAccessor(columnModel.getField())
+                                           .get(pojo);
             try {
                 if ((columnModel.getEnumerated() != null) && (valueObject != null)) {
                     if (EnumType.valueOf(columnModel.getEnumerated())
@@ -166,28 +160,6 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
         return true;
     }
 
-    /**
-     * Reset accessible.
-     *
-     * @param field the field
-     * @param oldAccessible the old accessible
-     */
-    private void resetAccessible(Field field, boolean oldAccessible) {
-        field.setAccessible(oldAccessible);
-    }
-
-    /**
-     * Sets the accessible.
-     *
-     * @param field the field
-     * @return true, if successful
-     */
-    private boolean setAccessible(Field field) {
-        boolean oldAccessible = field.isAccessible();
-        field.setAccessible(true);
-        return oldAccessible;
-    }
-
     /**
      * Sets the value primary key.
      *
@@ -356,52 +328,47 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
             logger.trace("setValueToPojo -> pojo: " + Serializer.serializePojo(pojo) + ", value: " + value + ", columnModel: "
                     + Serializer.serializeColumnModel(columnModel));
         }
-        Field field = getFieldFromClass(pojo.getClass(), columnModel.getField());
-        boolean oldAccessible = setAccessible(field);
-        try {
-            if (columnModel.getEnumerated() != null) {
-                if (EnumType.valueOf(columnModel.getEnumerated())
-                            .equals(EnumType.ORDINAL)
-                        && (value instanceof Integer)) {
-                    if (field.getType()
-                             .isEnum()) {
-                        value = field.getType()
-                                     .getEnumConstants()[(Integer) value];
-                    } else {
-                        throw new IllegalStateException(
-                                "The annotation @Enumerated is set to a field with a type, which is not an enum type.");
-                    }
-                } else if (EnumType.valueOf(columnModel.getEnumerated())
-                                   .equals(EnumType.STRING)
-                        && (value instanceof String)) {
-                    if (field.getType()
-                             .isEnum()) {
-                        value = Enum.valueOf((Class<Enum>) field.getType(), (String) value);
-                    } else {
-                        throw new IllegalStateException(
-                                "The annotation @Enumerated is set to a field with a type, which is not an enum type.");
-                    }
-                } else if (value != null) {
-                    throw new IllegalStateException("The annotation @Enumerated is misused, the value is unknown.");
+        PersistenceEntityDescriptor.FieldAccessor accessor = PersistenceEntityDescriptor.of(pojo.getClass())
+                                                                                        .getAccessor(columnModel.getField());
+        Field field = accessor.getField();
+        if (columnModel.getEnumerated() != null) {
+            if (EnumType.valueOf(columnModel.getEnumerated())
+                        .equals(EnumType.ORDINAL)
+                    && (value instanceof Integer)) {
+                if (field.getType()
+                         .isEnum()) {
+                    value = field.getType()
+                                 .getEnumConstants()[(Integer) value];
+                } else {
+                    throw new IllegalStateException("The annotation @Enumerated is set to a field with a type, which is not an enum type.");
                 }
+            } else if (EnumType.valueOf(columnModel.getEnumerated())
+                               .equals(EnumType.STRING)
+                    && (value instanceof String)) {
+                if (field.getType()
+                         .isEnum()) {
+                    value = Enum.valueOf((Class<Enum>) field.getType(), (String) value);
+                } else {
+                    throw new IllegalStateException("The annotation @Enumerated is set to a field with a type, which is not an enum type.");
+                }
+            } else if (value != null) {
+                throw new IllegalStateException("The annotation @Enumerated is misused, the value is unknown.");
             }
-            value = byteAdaptation(value, field);
-            value = intAdaptation(value, field);
-            value = blobAdaptation(value);
-            value = charAdaptation(value, field);
-            value = booleanAdaptation(value, field);
-            value = bigIntegerAdaptation(value, field);
-            value = shortAdaptation(value, field);
-            value = floatAdaptation(value, field);
-
-            if (getEntityManagerInterceptor() != null) {
-                value = getEntityManagerInterceptor().onSetValueAfterQuery(pojo, field, value);
-            }
+        }
+        value = byteAdaptation(value, field);
+        value = intAdaptation(value, field);
+        value = blobAdaptation(value);
+        value = charAdaptation(value, field);
+        value = booleanAdaptation(value, field);
+        value = bigIntegerAdaptation(value, field);
+        value = shortAdaptation(value, field);
+        value = floatAdaptation(value, field);
 
-            field.set(pojo, value);
-        } finally {
-            resetAccessible(field, oldAccessible);
+        if (getEntityManagerInterceptor() != null) {
+            value = getEntityManagerInterceptor().onSetValueAfterQuery(pojo, field, value);
         }
+
+        accessor.set(pojo, value);
     }
 
     /**
@@ -580,39 +547,71 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
             logger.trace("getValueFromPojo -> pojo: " + Serializer.serializePojo(pojo) + ", columnModel: "
                     + Serializer.serializeColumnModel(columnModel));
         }
-        // Field field = pojo.getClass().getDeclaredField(columnModel.getField());
-        Field field = getFieldFromClass(pojo.getClass(), columnModel.getField());
-        boolean oldAccessible = setAccessible(field);
-        try {
-            return field.get(pojo);
-        } finally {
-            resetAccessible(field, oldAccessible);
+        return PersistenceEntityDescriptor.of(pojo.getClass())
+                                          .getAccessor(columnModel.getField())
+                                          .get(pojo);
+    }
+
+    /**
+     * Gets a generated script, generating it only on first use for the given table model, dialect and
+     * kind.
+     *
+     * @param connection the connection
+     * @param tableModel the table model
+     * @param kind the kind of the script
+     * @param generator the generator
+     * @return the script
+     */
+    protected String getScript(Connection connection, PersistenceTableModel tableModel, String kind, Supplier<String> generator) {
+        String key = ConnectionIdentityCache.get(connection)
+                                            .dialect()
+                                            .getClass()
+                                            .getName()
+                + ":" + getClass().getName() + ":" + kind;
+        return tableModel.getStatement(key, generator);
+    }
+
+    /**
+     * Gets the indexes of the columns of the table model in the result set, so that the rows are read
+     * by index instead of by name.
+     *
+     * @param resultSet the result set
+     * @param tableModel the table model
+     * @return the column indexes, in the order of the columns of the table model
+     * @throws SQLException if a column is not present in the result set
+     */
+    protected int[] getColumnIndexes(ResultSet resultSet, PersistenceTableModel tableModel) throws SQLException {
+        List<PersistenceTableColumnModel> columns = tableModel.getColumns();
+        int[] indexes = new int[columns.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = resultSet.findColumn(columns.get(i)
+                                                     .getName());
         }
+        return indexes;
     }
 
     /**
-     * Gets the field from class.
+     * Creates a POJO from the current row of the result set.
      *
-     * @param clazz the clazz
-     * @param fieldName the field name
-     * @return the field from class
+     * @param <T> the generic type
+     * @param descriptor the descriptor of the POJO class
+     * @param resultSet the result set
+     * @param tableModel the table model
+     * @param columnIndexes the column indexes
+     * @return the POJO
      * @throws NoSuchFieldException the no such field exception
+     * @throws SQLException the SQL exception
+     * @throws IllegalAccessException the illegal access exception
+     * @throws IOException Signals that an I/O exception has occurred.
      */
-    private Field getFieldFromClass(Class clazz, String fieldName) throws NoSuchFieldException {
-        Field field = null;
-        List<Field> fields = Arrays.asList(PersistenceAnnotationsParser.collectFields(clazz));
-        for (Field next : fields) {
-            if (next.getName()
-                    .equals(fieldName)) {
-                field = next;
-                break;
-            }
-        }
-        if (field == null) {
-            throw new NoSuchFieldException(
-                    format("There is no a Field named [{0}] in the POJO of Class [{1}]", fieldName, clazz.getCanonicalName()));
+    protected <T> T toPojo(PersistenceEntityDescriptor descriptor, ResultSet resultSet, PersistenceTableModel tableModel,
+            int[] columnIndexes) throws NoSuchFieldException, SQLException, IllegalAccessException, IOException {
+        T pojo = descriptor.newInstance();
+        List<PersistenceTableColumnModel> columns = tableModel.getColumns();
+        for (int i = 0; i < columnIndexes.length; i++) {
+            setValueToPojo(pojo, resultSet.getObject(columnIndexes[i]), columns.get(i));
         }
-        return field;
+        return pojo;
     }
 
     /**
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.persistence.processors;
+
+import static java.text.MessageFormat.format;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.dirigible.database.persistence.PersistenceException;
+import org.eclipse.dirigible.database.persistence.parser.PersistenceAnnotationsParser;
+
+/**
+ * The compiled descriptor of a POJO class. It resolves the fields of the class once and holds
+ * method handles for reading and writing them and for instantiating the class, so that mapping a
+ * row does not have to look up the fields and toggle their accessibility. The descriptors are
+ * cached per class.
+ */
+public final class PersistenceEntityDescriptor {
+
+    /** The descriptors. */
+    private static final ClassValue<PersistenceEntityDescriptor> DESCRIPTORS = new ClassValue<>() {
+        @Override
+        protected PersistenceEntityDescriptor computeValue(Class<?> type) {
+            return new PersistenceEntityDescriptor(type);
+        }
+    };
+
+    /** The getter type. */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /** The setter type. */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /** The constructor type. */
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    /** The class. */
+    private final Class<?> clazz;
+
+    /** The accessors by field name. */
+    private final Map<String, FieldAccessor> accessors = new HashMap<>();
+
+    /** The no-arguments constructor, or null if there is no accessible one. */
+    private final MethodHandle constructor;
+
+    /**
+     * Instantiates a new persistence entity descriptor.
+     *
+     * @param clazz the class
+     */
+    private PersistenceEntityDescriptor(Class<?> clazz) {
+        this.clazz = clazz;
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (Field field : PersistenceAnnotationsParser.collectFields(clazz)) {
+            if (Modifier.isStatic(field.getModifiers()) || accessors.containsKey(field.getName())) {
+                // the first field with a given name wins, the same as in the annotations parser
+                continue;
+            }
+            try {
+                accessors.put(field.getName(), new FieldAccessor(lookup, field));
+            } catch (RuntimeException e) {
+                // e.g. a field of a class in a module which is not open, it cannot be mapped anyway
+            }
+        }
+        MethodHandle handle = null;
+        try {
+            handle = lookup.unreflectConstructor(clazz.getDeclaredConstructor())
+                           .asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+            // no accessible no-arguments constructor, newInstance will fail
+        }
+        this.constructor = handle;
+    }
+
+    /**
+     * Gets the descriptor of the class.
+     *
+     * @param clazz the class
+     * @return the descriptor
+     */
+    public static PersistenceEntityDescriptor of(Class<?> clazz) {
+        return DESCRIPTORS.get(clazz);
+    }
+
+    /**
+     * Gets the accessor of a field.
+     *
+     * @param fieldName the field name
+     * @return the accessor
+     * @throws NoSuchFieldException if there is no such field
+     */
+    public FieldAccessor getAccessor(String fieldName) throws NoSuchFieldException {
+        FieldAccessor accessor = accessors.get(fieldName);
+        if (accessor == null) {
+            throw new NoSuchFieldException(
+                    format("There is no a Field named [{0}] in the POJO of Class [{1}]", fieldName, clazz.getCanonicalName()));
+        }
+        return accessor;
+    }
+
+    /**
+     * Creates a new instance of the class.
+     *
+     * @param <T> the generic type
+     * @return the new instance
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T newInstance() {
+        if (constructor == null) {
+            throw new PersistenceException(format("There is no accessible constructor without arguments in Class [{0}]", clazz.getName()));
+        }
+        try {
+            return (T) constructor.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+    /**
+     * Reads and writes a field by method handles.
+     */
+    public static final class FieldAccessor {
+
+        /** The field. */
+        private final Field field;
+
+        /** The getter. */
+        private final MethodHandle getter;
+
+        /** The setter, or null if the field cannot be written, e.g. it is final. */
+        private final MethodHandle setter;
+
+        /**
+         * Instantiates a new field accessor.
+         *
+         * @param lookup the lookup
+         * @param field the field
+         */
+        private FieldAccessor(MethodHandles.Lookup lookup, Field field) {
+            this.field = field;
+            // the field is a copy owned by this accessor, so it stays accessible
+            field.setAccessible(true);
+            MethodHandle get = null;
+            MethodHandle set = null;
+            try {
+                get = lookup.unreflectGetter(field)
+                            .asType(GETTER_TYPE);
+                if (!Modifier.isFinal(field.getModifiers())) {
+                    set = lookup.unreflectSetter(field)
+                                .asType(SETTER_TYPE);
+                }
+            } catch (IllegalAccessException e) {
+                throw new PersistenceException(e);
+            }
+            this.getter = get;
+            this.setter = set;
+        }
+
+        /**
+         * Gets the field.
+         *
+         * @return the field
+         */
+        public Field getField() {
+            return field;
+        }
+
+        /**
+         * Gets the type of the field.
+         *
+         * @return the type
+         */
+        public Class<?> getType() {
+            return field.getType();
+        }
+
+        /**
+         * Gets the value of the field.
+         *
+         * @param pojo the pojo
+         * @return the value
+         */
+        public Object get(Object pojo) {
+            try {
+                return getter.invokeExact(pojo);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new PersistenceException(e);
+            }
+        }
+
+        /**
+         * Sets the value of the field.
+         *
+         * @param pojo the pojo
+         * @param value the value
+         * @throws IllegalAccessException if the field is final
+         */
+        public void set(Object pojo, Object value) throws IllegalAccessException {
+            if (setter == null) {
+                throw new IllegalAccessException(
+                        format("The Field [{0}] of Class [{1}] is final", field.getName(), field.getDeclaringClass()
+                                                                                                .getName()));
+            }
+            try {
+                setter.invokeExact(pojo, value);
+            } catch (ClassCastException | NullPointerException e) {
+                // keep the contract of Field.set for values of a wrong type
+                throw new IllegalArgumentException(format("Can not set [{0}] field [{1}] to [{2}]", field.getType()
+                                                                                                         .getName(),
+                        field.getName(), value == null ? "null"
+                                : value.getClass()
+                                       .getName()),
+                        e);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new PersistenceException(e);
+            }
+        }
+    }
+
+}
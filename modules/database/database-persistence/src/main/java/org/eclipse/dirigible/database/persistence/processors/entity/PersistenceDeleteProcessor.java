@@ -113,7 +113,7 @@ public class PersistenceDeleteProcessor<T> extends AbstractPersistenceProcessor
         String sql = null;
         PreparedStatement preparedStatement = null;
         try {
-            sql = generateScriptDelete(connection, tableModel);
+            sql = getScript(connection, tableModel, "delete", () -> generateScriptDelete(connection, tableModel));
             preparedStatement = openPreparedStatement(connection, sql);
             setValue(preparedStatement, 1, id);
             return preparedStatement.executeUpdate();
@@ -147,7 +147,7 @@ public class PersistenceDeleteProcessor<T> extends AbstractPersistenceProcessor
         String sql = null;
         PreparedStatement preparedStatement = null;
         try {
-            sql = generateScriptDeleteAll(connection, tableModel);
+            sql = getScript(connection, tableModel, "deleteAll", () -> generateScriptDeleteAll(connection, tableModel));
             preparedStatement = openPreparedStatement(connection, sql);
             return preparedStatement.executeUpdate();
         } catch (Exception e) {
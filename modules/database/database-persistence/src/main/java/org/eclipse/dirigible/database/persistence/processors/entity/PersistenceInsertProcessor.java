@@ -97,13 +97,13 @@ public class PersistenceInsertProcessor<T> extends AbstractPersistenceProcessor
         try {
             boolean identified = setGeneratedValues(connection, tableModel, pojo);
             if (identified) {
-                sql = generateScript(connection, tableModel);
+                sql = getScript(connection, tableModel, "insert", () -> generateScript(connection, tableModel));
                 preparedStatement = openPreparedStatement(connection, sql);
                 setValuesFromPojo(tableModel, pojo, preparedStatement);
                 preparedStatement.executeUpdate();
                 result = getPrimaryKeyValue(tableModel, pojo);
             } else {
-                sql = generateScript(connection, tableModel);
+                sql = getScript(connection, tableModel, "insert", () -> generateScript(connection, tableModel));
                 preparedStatement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
                 setValuesFromPojo(tableModel, pojo, preparedStatement);
                 int affectedRows = preparedStatement.executeUpdate();
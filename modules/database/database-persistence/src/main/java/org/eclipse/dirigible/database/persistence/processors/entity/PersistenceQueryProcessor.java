@@ -21,6 +21,7 @@ import org.eclipse.dirigible.database.persistence.model.PersistenceTableColumnMo
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableModel;
 import org.eclipse.dirigible.database.persistence.parser.Serializer;
 import org.eclipse.dirigible.database.persistence.processors.AbstractPersistenceProcessor;
+import org.eclipse.dirigible.database.persistence.processors.PersistenceEntityDescriptor;
 import org.eclipse.dirigible.database.sql.ISqlKeywords;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.eclipse.dirigible.database.sql.builders.records.SelectBuilder;
@@ -153,7 +154,7 @@ public class PersistenceQueryProcessor<T> extends AbstractPersistenceProcessor {
             logger.trace("find -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel)
                     + ", class: " + clazz.getCanonicalName() + ", id: " + id);
         }
-        String sql = generateScriptFind(connection, tableModel);
+        String sql = getScript(connection, tableModel, "find", () -> generateScriptFind(connection, tableModel));
         return get(connection, tableModel, clazz, id, sql);
     }
 
@@ -172,7 +173,7 @@ public class PersistenceQueryProcessor<T> extends AbstractPersistenceProcessor {
             logger.trace("lock -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel)
                     + ", class: " + clazz.getCanonicalName() + ", id: " + id);
         }
-        String sql = generateScriptLock(connection, tableModel);
+        String sql = getScript(connection, tableModel, "lock", () -> generateScriptLock(connection, tableModel));
         return get(connection, tableModel, clazz, id, sql);
     }
 
@@ -196,16 +197,13 @@ public class PersistenceQueryProcessor<T> extends AbstractPersistenceProcessor {
         T result = null;
         PreparedStatement preparedStatement = null;
         try {
-            result = clazz.newInstance();
             preparedStatement = openPreparedStatement(connection, sql);
             setValuePrimaryKey(tableModel, id, preparedStatement);
             ResultSet resultSet = null;
             try {
                 resultSet = preparedStatement.executeQuery();
                 if (resultSet.next()) {
-                    for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
-                        setValueToPojo(result, resultSet, columnModel);
-                    }
+                    result = toPojo(PersistenceEntityDescriptor.of(clazz), resultSet, tableModel, getColumnIndexes(resultSet, tableModel));
                 } else {
                     return null;
                 }
@@ -240,16 +238,18 @@ public class PersistenceQueryProcessor<T> extends AbstractPersistenceProcessor {
         String sql = null;
         PreparedStatement preparedStatement = null;
         try {
-            sql = generateScriptFindAll(connection, tableModel);
+            sql = getScript(connection, tableModel, "findAll", () -> generateScriptFindAll(connection, tableModel));
             preparedStatement = openPreparedStatement(connection, sql);
             ResultSet resultSet = null;
             try {
                 resultSet = preparedStatement.executeQuery();
+                PersistenceEntityDescriptor descriptor = PersistenceEntityDescriptor.of(clazz);
+                int[] columnIndexes = null;
                 while (resultSet.next()) {
-                    T pojo = clazz.newInstance();
-                    for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
-                        setValueToPojo(pojo, resultSet, columnModel);
+                    if (columnIndexes == null) {
+                        columnIndexes = getColumnIndexes(resultSet, tableModel);
                     }
+                    T pojo = toPojo(descriptor, resultSet, tableModel, columnIndexes);
                     result.add(pojo);
                 }
             } finally {
@@ -293,11 +293,13 @@ public class PersistenceQueryProcessor<T> extends AbstractPersistenceProcessor {
             ResultSet resultSet = null;
             try {
                 resultSet = preparedStatement.executeQuery();
+                PersistenceEntityDescriptor descriptor = PersistenceEntityDescriptor.of(clazz);
+                int[] columnIndexes = null;
                 while (resultSet.next()) {
-                    T pojo = clazz.newInstance();
-                    for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
-                        setValueToPojo(pojo, resultSet, columnModel);
+                    if (columnIndexes == null) {
+                        columnIndexes = getColumnIndexes(resultSet, tableModel);
                     }
+                    T pojo = toPojo(descriptor, resultSet, tableModel, columnIndexes);
                     result.add(pojo);
                 }
             } finally {
@@ -99,7 +99,7 @@ public class PersistenceUpdateProcessor<T> extends AbstractPersistenceProcessor
             if (id == null) {
                 throw new PersistenceException("The key for update cannot be null.");
             }
-            sql = generateScript(connection, tableModel);
+            sql = getScript(connection, tableModel, "update", () -> generateScript(connection, tableModel));
             preparedStatement = openPreparedStatement(connection, sql);
             setValuesFromPojo(tableModel, pojo, preparedStatement);
             setValue(preparedStatement, tableModel.getColumns()
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.persistence.utils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.eclipse.dirigible.database.persistence.PersistenceException;
+import org.eclipse.dirigible.database.sql.ISqlDialect;
+import org.eclipse.dirigible.database.sql.SqlFactory;
+
+/**
+ * Cache of the identity and the dialect of the database behind a connection, so that they are not
+ * derived from the connection metadata on every call. Pooled connections are wrappers created on
+ * every checkout, so the cache is keyed by the physical connection they wrap, which lives as long
+ * as the pool keeps it, and is weak so that closed physical connections are dropped.
+ */
+public final class ConnectionIdentityCache {
+
+    /** The cache. */
+    private static final Map<Connection, ConnectionIdentity> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Instantiates a new connection identity cache.
+     */
+    private ConnectionIdentityCache() {}
+
+    /**
+     * Gets the identity of the database behind the connection.
+     *
+     * @param connection the connection
+     * @return the connection identity
+     */
+    public static ConnectionIdentity get(Connection connection) {
+        Connection physical = unwrap(connection);
+        ConnectionIdentity identity = CACHE.get(physical);
+        if (identity == null) {
+            identity = create(connection);
+            CACHE.put(physical, identity);
+        }
+        return identity;
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    /**
+     * Creates the identity.
+     *
+     * @param connection the connection
+     * @return the connection identity
+     */
+    private static ConnectionIdentity create(Connection connection) {
+        try {
+            String url = connection.getMetaData()
+                                   .getURL();
+            return new ConnectionIdentity(url.hashCode() + "", SqlFactory.deriveDialect(connection));
+        } catch (SQLException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+    /**
+     * Unwraps the physical connection of a pooled connection.
+     *
+     * @param connection the connection
+     * @return the physical connection or the connection itself
+     */
+    private static Connection unwrap(Connection connection) {
+        try {
+            if (connection.isWrapperFor(Connection.class)) {
+                Connection physical = connection.unwrap(Connection.class);
+                if (physical != null) {
+                    return physical;
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            // not a wrapper
+        }
+        return connection;
+    }
+
+    /**
+     * The identity of the database behind a connection.
+     *
+     * @param id the id derived from the JDBC URL
+     * @param dialect the dialect
+     */
+    public record ConnectionIdentity(String id, ISqlDialect dialect) {
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.persistence.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.eclipse.dirigible.database.persistence.PersistenceException;
+import org.eclipse.dirigible.database.persistence.PersistenceManager;
+import org.eclipse.dirigible.database.persistence.processors.PersistenceEntityDescriptor;
+import org.junit.Test;
+
+/**
+ * The Class PersistenceEntityDescriptorTest.
+ */
+public class PersistenceEntityDescriptorTest extends AbstractPersistenceManagerTest {
+
+    /**
+     * Test that the descriptor reads and writes the fields, including the inherited ones.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void readAndWriteFields() throws Exception {
+        PersistenceEntityDescriptor descriptor = PersistenceEntityDescriptor.of(GoldCustomer.class);
+        assertSame(descriptor, PersistenceEntityDescriptor.of(GoldCustomer.class));
+
+        GoldCustomer customer = descriptor.newInstance();
+        assertNotNull(customer);
+        descriptor.getAccessor("id")
+                  .set(customer, 7);
+        descriptor.getAccessor("firstName")
+                  .set(customer, "John");
+
+        assertEquals(7, customer.getId());
+        assertEquals("John", descriptor.getAccessor("firstName")
+                                       .get(customer));
+        assertEquals(int.class, descriptor.getAccessor("age")
+                                          .getType());
+    }
+
+    /**
+     * Test that a missing field is reported.
+     *
+     * @throws Exception the exception
+     */
+    @Test(expected = NoSuchFieldException.class)
+    public void missingField() throws Exception {
+        PersistenceEntityDescriptor.of(Customer.class)
+                                   .getAccessor("missing");
+    }
+
+    /**
+     * Test that a value of a wrong type is rejected like by the reflection.
+     *
+     * @throws Exception the exception
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void wrongType() throws Exception {
+        PersistenceEntityDescriptor.of(Customer.class)
+                                   .getAccessor("age")
+                                   .set(new Customer(), "old");
+    }
+
+    /**
+     * Test that the columns are mapped by name regardless of their order in the result set, that the
+     * NULL values of the nullable columns are mapped to null and that the columns which are not mapped
+     * are ignored.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void readNullableAndUnmappedColumns() throws SQLException {
+        PersistenceManager<MultiOrder> persistenceManager = new PersistenceManager<MultiOrder>();
+        try (Connection connection = getDataSource().getConnection()) {
+            persistenceManager.tableCreate(connection, MultiOrder.class);
+            try {
+                MultiOrder empty = new MultiOrder();
+                empty.setSubject("Empty");
+                persistenceManager.insert(connection, empty);
+                MultiOrder full = new MultiOrder();
+                full.setSubject("Full");
+                full.setAmount(100L);
+                full.setDescription("Description");
+                persistenceManager.insert(connection, full);
+
+                List<MultiOrder> list = persistenceManager.query(connection, MultiOrder.class,
+                        "SELECT 'unmapped' AS UNMAPPED_COLUMN, ORDER_DESCRIPTION, ORDER_AMOUNT, ORDER_SUBJECT, ORDER_ID FROM ORDERS ORDER BY ORDER_ID");
+
+                assertEquals(2, list.size());
+                assertEquals("Empty", list.get(0)
+                                          .getSubject());
+                assertNull(list.get(0)
+                               .getAmount());
+                assertNull(list.get(0)
+                               .getDescription());
+                assertEquals("Full", list.get(1)
+                                         .getSubject());
+                assertEquals(Long.valueOf(100), list.get(1)
+                                                    .getAmount());
+                assertEquals("Description", list.get(1)
+                                                .getDescription());
+                assertTrue(list.get(0)
+                               .getId() < list.get(1)
+                                              .getId());
+            } finally {
+                persistenceManager.tableDrop(connection, MultiOrder.class);
+            }
+        }
+    }
+
+    /**
+     * Test that a result set without a mapped column is rejected.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void missingColumn() throws SQLException {
+        PersistenceManager<MultiOrder> persistenceManager = new PersistenceManager<MultiOrder>();
+        try (Connection connection = getDataSource().getConnection()) {
+            persistenceManager.tableCreate(connection, MultiOrder.class);
+            try {
+                MultiOrder order = new MultiOrder();
+                order.setSubject("Subject");
+                persistenceManager.insert(connection, order);
+
+                PersistenceException exception = assertThrows(PersistenceException.class,
+                        () -> persistenceManager.query(connection, MultiOrder.class, "SELECT ORDER_ID, ORDER_SUBJECT FROM ORDERS"));
+                assertTrue(exception.getCause() instanceof SQLException);
+            } finally {
+                persistenceManager.tableDrop(connection, MultiOrder.class);
+            }
+        }
+    }
+
+    /**
+     * Test that a NULL value of a column mapped to a primitive field is rejected like by the
+     * reflection.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void nullToPrimitive() throws SQLException {
+        PersistenceManager<Customer> persistenceManager = new PersistenceManager<Customer>();
+        try (Connection connection = getDataSource().getConnection()) {
+            persistenceManager.tableCreate(connection, Customer.class);
+            try {
+                Customer customer = new Customer();
+                customer.setId(1);
+                customer.setFirstName("John");
+                customer.setLastName("Smith");
+                persistenceManager.insert(connection, customer);
+
+                PersistenceException exception =
+                        assertThrows(PersistenceException.class, () -> persistenceManager.query(connection, Customer.class,
+                                "SELECT CUSTOMER_ID, CUSTOMER_FIRST_NAME, CUSTOMER_LAST_NAME, NULL AS CUSTOMER_AGE FROM CUSTOMERS"));
+                assertTrue(exception.getCause() instanceof IllegalArgumentException);
+            } finally {
+                persistenceManager.tableDrop(connection, Customer.class);
+            }
+        }
+    }
+
+}
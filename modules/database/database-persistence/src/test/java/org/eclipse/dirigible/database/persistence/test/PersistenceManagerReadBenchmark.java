@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.persistence.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.dirigible.database.persistence.PersistenceManager;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads 100k rows through the persistence manager, through a hand-written JDBC mapping and through
+ * a mapping by column names and reflective field access, which is how the rows were mapped before
+ * the entity descriptors, and logs the time per row of each. Only the results are asserted, the
+ * times depend on the machine. Run with the benchmarks profile.
+ */
+public class PersistenceManagerReadBenchmark extends AbstractPersistenceManagerTest {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(PersistenceManagerReadBenchmark.class);
+
+    /** The number of rows. */
+    private static final int ROWS = 100_000;
+
+    /** The number of measured rounds. */
+    private static final int ROUNDS = 3;
+
+    /** The select all script. */
+    private static final String SELECT = "SELECT * FROM CUSTOMERS";
+
+    /**
+     * Read 100k rows.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void read100kRows() throws Exception {
+        PersistenceManager<Customer> persistenceManager = new PersistenceManager<Customer>();
+        try (Connection connection = getDataSource().getConnection()) {
+            persistenceManager.tableCreate(connection, Customer.class);
+            try {
+                insertRows(connection);
+                // warm up
+                assertRows(persistenceManager.findAll(connection, Customer.class));
+                assertRows(readByHand(connection));
+                assertRows(readByReflection(connection));
+
+                long manager = 0;
+                long hand = 0;
+                long reflection = 0;
+                for (int i = 0; i < ROUNDS; i++) {
+                    long start = System.nanoTime();
+                    assertRows(persistenceManager.findAll(connection, Customer.class));
+                    manager += System.nanoTime() - start;
+                    start = System.nanoTime();
+                    assertRows(readByHand(connection));
+                    hand += System.nanoTime() - start;
+                    start = System.nanoTime();
+                    assertRows(readByReflection(connection));
+                    reflection += System.nanoTime() - start;
+                }
+                long reads = (long) ROUNDS * ROWS;
+                logger.info(
+                        "Read of [{}] rows in ns per row - persistence manager: [{}], hand-written JDBC: [{}], by column names and reflection: [{}]",
+                        ROWS, manager / reads, hand / reads, reflection / reads);
+            } finally {
+                persistenceManager.tableDrop(connection, Customer.class);
+            }
+        }
+    }
+
+    /**
+     * Insert the rows.
+     *
+     * @param connection the connection
+     * @throws SQLException the SQL exception
+     */
+    private static void insertRows(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO CUSTOMERS (CUSTOMER_ID, CUSTOMER_FIRST_NAME, CUSTOMER_LAST_NAME, CUSTOMER_AGE) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                statement.setInt(1, i);
+                statement.setString(2, "First" + i);
+                statement.setString(3, "Last" + i);
+                statement.setInt(4, i % 100);
+                statement.addBatch();
+                if (i % 1000 == 999) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Read the rows by a hand-written mapping.
+     *
+     * @param connection the connection
+     * @return the customers
+     * @throws SQLException the SQL exception
+     */
+    private static List<Customer> readByHand(Connection connection) throws SQLException {
+        List<Customer> result = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(SELECT); ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                Customer customer = new Customer();
+                customer.setId(resultSet.getInt(1));
+                customer.setFirstName(resultSet.getString(2));
+                customer.setLastName(resultSet.getString(3));
+                customer.setAge(resultSet.getInt(4));
+                result.add(customer);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Read the rows by column names and reflective field access.
+     *
+     * @param connection the connection
+     * @return the customers
+     * @throws Exception the exception
+     */
+    private static List<Customer> readByReflection(Connection connection) throws Exception {
+        String[][] mapping =
+                {{"CUSTOMER_ID", "id"}, {"CUSTOMER_FIRST_NAME", "firstName"}, {"CUSTOMER_LAST_NAME", "lastName"}, {"CUSTOMER_AGE", "age"}};
+        List<Customer> result = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(SELECT); ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                Customer customer = Customer.class.getDeclaredConstructor()
+                                                  .newInstance();
+                for (String[] column : mapping) {
+                    Field field = Customer.class.getDeclaredField(column[1]);
+                    boolean oldAccessible = field.canAccess(customer);
+                    try {
+                        field.setAccessible(true);
+                        field.set(customer, resultSet.getObject(column[0]));
+                    } finally {
+                        field.setAccessible(oldAccessible);
+                    }
+                }
+                result.add(customer);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Assert the rows.
+     *
+     * @param customers the customers
+     */
+    private static void assertRows(List<Customer> customers) {
+        assertEquals(ROWS, customers.size());
+        Customer last = customers.stream()
+                                 .filter(customer -> customer.getId() == ROWS - 1)
+                                 .findFirst()
+                                 .orElseThrow();
+        assertEquals("First" + (ROWS - 1), last.getFirstName());
+        assertEquals("Last" + (ROWS - 1), last.getLastName());
+        assertEquals((ROWS - 1) % 100, last.getAge());
+    }
+
+}
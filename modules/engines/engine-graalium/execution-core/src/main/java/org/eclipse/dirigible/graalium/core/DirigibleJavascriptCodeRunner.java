@@ -16,7 +16,7 @@ import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
-import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.commons.config.DirigibleConfig;
 import org.eclipse.dirigible.commons.config.StaticObjects;
 import org.eclipse.dirigible.components.base.spring.BeanProvider;
 import org.eclipse.dirigible.graalium.core.globals.DirigibleContextGlobalObject;
@@ -143,8 +143,7 @@ public class DirigibleJavascriptCodeRunner implements CodeRunner<Source, Value>
      * @return true, if successful
      */
     private static boolean shouldEnableDebug() {
-        return Configuration.get("DIRIGIBLE_GRAALIUM_ENABLE_DEBUG", Boolean.FALSE.toString())
-                            .equals(Boolean.TRUE.toString());
+        return DirigibleConfig.GRAALIUM_ENABLE_DEBUG.getBooleanValue();
     }
 
     /**
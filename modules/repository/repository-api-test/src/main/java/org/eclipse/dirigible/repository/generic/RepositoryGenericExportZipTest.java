@@ -10,6 +10,7 @@
 package org.eclipse.dirigible.repository.generic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.ByteArrayInputStream;
@@ -291,4 +292,33 @@ public class RepositoryGenericExportZipTest {
         }
 
     }
+
+    /**
+     * Test export to and import from streams.
+     */
+    @Test
+    public void testExportImportZipStream() {
+        if (repository == null) {
+            return;
+        }
+
+        try {
+            repository.createResource("/root1/stream/folder1/text1.txt", //$NON-NLS-1$
+                    "text1".getBytes()); //$NON-NLS-1$
+            repository.createResource("/root1/stream/folder2/text2.txt", //$NON-NLS-1$
+                    "text2".getBytes()); //$NON-NLS-1$
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            repository.exportZip("/root1/stream", false, output); //$NON-NLS-1$
+
+            repository.importZip(new ByteArrayInputStream(output.toByteArray()), "/root1/imported", true, false, null); //$NON-NLS-1$
+            assertTrue(repository.hasResource("/root1/imported/folder1/text1.txt")); //$NON-NLS-1$
+            assertEquals("text2", new String(repository.getResource("/root1/imported/folder2/text2.txt") //$NON-NLS-1$ //$NON-NLS-2$
+                                                       .getContent(),
+                    StandardCharsets.UTF_8));
+        } finally {
+            repository.removeCollection("/root1/stream/"); //$NON-NLS-1$
+            repository.removeCollection("/root1/imported/"); //$NON-NLS-1$
+        }
+    }
+
 }
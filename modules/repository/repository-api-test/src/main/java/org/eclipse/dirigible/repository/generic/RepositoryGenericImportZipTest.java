@@ -73,4 +73,30 @@ public class RepositoryGenericImportZipTest {
         }
     }
 
+    /**
+     * Test that the existing resources are overwritten on import, whether or not override is set.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testImportZipOverwrites() throws IOException {
+        if (repository == null) {
+            return;
+        }
+
+        ICollection collection = repository.getCollection("/root1/override"); //$NON-NLS-1$
+        if (collection.exists()) {
+            collection.delete();
+        }
+        for (boolean override : new boolean[] {false, true}) {
+            repository.createResource("/root1/override/folder1/text1.txt", "existing".getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+            try (InputStream in = RepositoryGenericImportZipTest.class.getResourceAsStream("/testImport.zip")) {
+                repository.importZip(new ZipInputStream(in), "/root1/override", override); //$NON-NLS-1$
+            }
+            IResource resource = repository.getResource("/root1/override/folder1/text1.txt"); //$NON-NLS-1$
+            assertEquals("text1", new String(resource.getContent(), StandardCharsets.UTF_8)); //$NON-NLS-1$
+            assertTrue(repository.hasResource("/root1/override/folder1/folder2/image1.png")); //$NON-NLS-1$
+        }
+    }
+
 }
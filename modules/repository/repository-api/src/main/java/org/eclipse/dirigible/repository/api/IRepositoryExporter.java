@@ -9,6 +9,7 @@
  */
 package org.eclipse.dirigible.repository.api;
 
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -38,4 +39,28 @@ public interface IRepositoryExporter {
      */
     public byte[] exportZip(String relativeRoot, boolean inclusive) throws RepositoryExportException;
 
+    /**
+     * Export all the content under the given path(s) with the target repository instance Include the
+     * last segment of the relative roots during the archiving. The archive is written directly to the
+     * output stream, which is not closed.
+     *
+     * @param relativeRoots the list of relative roots
+     * @param outputStream the output stream
+     * @throws RepositoryExportException in case the export cannot be performed
+     */
+    public void exportZip(List<String> relativeRoots, OutputStream outputStream) throws RepositoryExportException;
+
+    /**
+     * Export all the content under the given path with the target repository instance Include or NOT
+     * the last segment of the relative root during the archiving. The archive is written directly to
+     * the output stream, which is not closed.
+     *
+     * @param relativeRoot single root
+     * @param inclusive whether to include the last segment of the root or to pack its content directly
+     *        in the archive
+     * @param outputStream the output stream
+     * @throws RepositoryExportException in case the export cannot be performed
+     */
+    public void exportZip(String relativeRoot, boolean inclusive, OutputStream outputStream) throws RepositoryExportException;
+
 }
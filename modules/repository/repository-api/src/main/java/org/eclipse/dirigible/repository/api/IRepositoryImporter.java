@@ -9,6 +9,7 @@
  */
 package org.eclipse.dirigible.repository.api;
 
+import java.io.InputStream;
 import java.util.Map;
 import java.util.zip.ZipInputStream;
 
@@ -86,4 +87,19 @@ public interface IRepositoryImporter {
     public void importZip(byte[] data, String relativeRoot, boolean override, boolean excludeRootFolderName, Map<String, String> filter)
             throws RepositoryImportException;
 
+    /**
+     * Imports content from zip file to the repository, based on the relative root. The zip file is read
+     * from the input stream and its entries are written to the repository as they are read, without
+     * buffering them in memory. The input stream is closed at the end.
+     *
+     * @param inputStream the zip file as input stream
+     * @param relativeRoot the relative root
+     * @param override whether to override existing
+     * @param excludeRootFolderName the exclude root folder name
+     * @param filter a filter
+     * @throws RepositoryImportException in case the zip cannot be imported
+     */
+    public void importZip(InputStream inputStream, String relativeRoot, boolean override, boolean excludeRootFolderName,
+            Map<String, String> filter) throws RepositoryImportException;
+
 }
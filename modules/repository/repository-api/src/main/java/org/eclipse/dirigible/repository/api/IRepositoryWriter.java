@@ -111,6 +111,15 @@ public interface IRepositoryWriter {
      */
     public void dispose();
 
+    /**
+     * Notifies the repository that a resource or a collection has been created, changed or removed
+     * outside of the repository API, e.g. by an external process writing to the file system, so that
+     * the repository indexes follow the change.
+     *
+     * @param path the path of the resource or the collection
+     */
+    public void resourceChanged(String path);
+
     /**
      * Whether the Repository supports linking of external paths.
      *
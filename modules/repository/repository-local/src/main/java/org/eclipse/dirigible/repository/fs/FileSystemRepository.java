@@ -9,26 +9,21 @@
  */
 package org.eclipse.dirigible.repository.fs;
 
-import static org.apache.commons.io.IOCase.INSENSITIVE;
-import static org.apache.commons.io.IOCase.SENSITIVE;
-import static org.apache.commons.io.filefilter.TrueFileFilter.TRUE;
-
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.zip.ZipInputStream;
 
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.filefilter.WildcardFileFilter;
 import org.eclipse.dirigible.commons.api.helpers.FileSystemUtils;
 import org.eclipse.dirigible.repository.api.ICollection;
 import org.eclipse.dirigible.repository.api.IEntity;
@@ -92,6 +87,9 @@ public abstract class FileSystemRepository implements IRepository {
     /** The repository searcher. */
     private RepositorySearcher repositorySearcher;
 
+    /** The path index. */
+    private RepositoryPathIndex pathIndex;
+
     /** The versioned. */
     private boolean versioned = false;
 
@@ -179,6 +177,7 @@ public abstract class FileSystemRepository implements IRepository {
         }
         try {
             initializeRepository(root);
+            this.pathIndex = new RepositoryPathIndex(repositoryPath);
             this.repositorySearcher = new RepositorySearcher(this);
             this.setParameter(REPOSITORY_ROOT_FOLDER, this.repositorySearcher.getRoot() + IRepository.SEPARATOR + DIRIGIBLE_LOCAL_ROOT);
             this.setParameter(REPOSITORY_INDEX_FOLDER, this.repositorySearcher.getRoot());
@@ -539,7 +538,12 @@ public abstract class FileSystemRepository implements IRepository {
      */
     @Override
     public void dispose() {
-        // repositoryDAO.dispose();
+        if (pathIndex != null) {
+            pathIndex.close();
+        }
+        if (repositorySearcher != null) {
+            repositorySearcher.close();
+        }
     }
 
     /**
@@ -551,6 +555,28 @@ public abstract class FileSystemRepository implements IRepository {
         return repositoryDao;
     }
 
+    /**
+     * Notifies the path index and the search index that a resource or a collection has been created,
+     * changed, moved or removed, through the repository API or directly on the file system.
+     *
+     * @param path the path of the resource or the collection
+     */
+    @Override
+    public void resourceChanged(String path) {
+        String repositoryName = path;
+        if (repositoryName.startsWith(getRepositoryPath())) {
+            // the local entities pass their workspace paths
+            repositoryName = repositoryName.substring(getRepositoryPath().length())
+                                           .replace(File.separator, IRepository.SEPARATOR);
+        }
+        if (pathIndex != null) {
+            pathIndex.changed(repositoryName);
+        }
+        if (repositorySearcher != null) {
+            repositorySearcher.changed(repositoryName);
+        }
+    }
+
     /**
      * Import zip.
      *
@@ -683,6 +709,28 @@ public abstract class FileSystemRepository implements IRepository {
                 excludeRootFolderName, filter);
     }
 
+    /**
+     * Import zip.
+     *
+     * @param inputStream the input stream
+     * @param relativeRoot the relative root
+     * @param override the override
+     * @param excludeRootFolderName the exclude root folder name
+     * @param filter the filter
+     * @throws RepositoryImportException the repository import exception
+     */
+    @Override
+    public void importZip(InputStream inputStream, String relativeRoot, boolean override, boolean excludeRootFolderName,
+            Map<String, String> filter) throws RepositoryImportException {
+        if (inputStream == null) {
+            if (logger.isErrorEnabled()) {
+                logger.error("Provided Zip Input Stream cannot be null");
+            }
+            throw new RepositoryImportException("Provided Zip Input Stream cannot be null");
+        }
+        RepositoryZipImporter.importZip(this, inputStream, relativeRoot, override, excludeRootFolderName, filter);
+    }
+
     /**
      * Export zip.
      *
@@ -719,6 +767,31 @@ public abstract class FileSystemRepository implements IRepository {
         return RepositoryZipExporter.exportZip(this, relativeRoot, inclusive);
     }
 
+    /**
+     * Export zip.
+     *
+     * @param relativeRoots the relative roots
+     * @param outputStream the output stream
+     * @throws RepositoryExportException the repository export exception
+     */
+    @Override
+    public void exportZip(List<String> relativeRoots, OutputStream outputStream) throws RepositoryExportException {
+        RepositoryZipExporter.exportZip(this, relativeRoots, outputStream);
+    }
+
+    /**
+     * Export zip.
+     *
+     * @param relativeRoot the relative root
+     * @param inclusive the inclusive
+     * @param outputStream the output stream
+     * @throws RepositoryExportException the repository export exception
+     */
+    @Override
+    public void exportZip(String relativeRoot, boolean inclusive, OutputStream outputStream) throws RepositoryExportException {
+        RepositoryZipExporter.exportZip(this, relativeRoot, inclusive, outputStream);
+    }
+
     /**
      * Search name.
      *
@@ -754,36 +827,16 @@ public abstract class FileSystemRepository implements IRepository {
      */
     @Override
     public List<IEntity> searchName(String root, String parameter, boolean caseInsensitive) throws RepositorySearchException {
-        try {
-            String workspacePath = LocalWorkspaceMapper.getMappedName(this, root);
-
-            List<IEntity> entities = new ArrayList<IEntity>();
-
-            if ((parameter == null) || "".equals(parameter)) {
-                return entities;
-            }
-
-            String rootRepositoryPath = getRepositoryPath();
-            File dir = new File(workspacePath);
-            Iterator<File> foundFiles = FileUtils.iterateFiles(dir,
-                    new WildcardFileFilter("*" + parameter + "*", (caseInsensitive ? INSENSITIVE : SENSITIVE)), TRUE);
-            while (foundFiles.hasNext()) {
-                File foundFile = foundFiles.next();
-                String foundFilePath = foundFile.getAbsolutePath();
-                if (foundFilePath.length() <= rootRepositoryPath.length()) {
-                    throw new RepositorySearchException(
-                            String.format("The found file name [%s] is shorter than the repository root file name [%s]", foundFilePath,
-                                    rootRepositoryPath));
-                }
-                String repositoryName = foundFilePath.substring(rootRepositoryPath.length());
-                RepositoryPath localRepositoryPath = new RepositoryPath(repositoryName);
-                entities.add(new LocalResource(this, localRepositoryPath));
-            }
+        List<IEntity> entities = new ArrayList<IEntity>();
 
+        if ((parameter == null) || "".equals(parameter)) {
             return entities;
-        } catch (RepositoryWriteException e) {
-            throw new RepositorySearchException(e);
         }
+
+        for (String path : pathIndex.findFiles(root, "*" + parameter + "*", caseInsensitive)) {
+            entities.add(new LocalResource(this, new RepositoryPath(path)));
+        }
+        return entities;
     }
 
     /**
@@ -801,18 +854,10 @@ public abstract class FileSystemRepository implements IRepository {
      */
     @Override
     public List<IEntity> searchPath(String parameter, boolean caseInsensitive) throws RepositorySearchException {
-        String rootRepositoryPath = getRepositoryPath();
         List<IEntity> entities = new ArrayList<IEntity>();
-        Iterator<File> foundFiles = FileUtils.iterateFiles(new File(rootRepositoryPath),
-                new WildcardFileFilter("*" + parameter + "*", (caseInsensitive ? INSENSITIVE : SENSITIVE)), TRUE);
-        while (foundFiles.hasNext()) {
-            File foundFile = foundFiles.next();
-            String repositoryName = foundFile.getAbsolutePath()
-                                             .substring(getRepositoryPath().length());
-            RepositoryPath localRepositoryPath = new RepositoryPath(repositoryName);
-            entities.add(new LocalResource(this, localRepositoryPath));
+        for (String path : pathIndex.findFiles(IRepository.SEPARATOR, "*" + parameter + "*", caseInsensitive)) {
+            entities.add(new LocalResource(this, new RepositoryPath(path)));
         }
-
         return entities;
     }
 
@@ -861,17 +906,7 @@ public abstract class FileSystemRepository implements IRepository {
      */
     @Override
     public List<String> getAllResourcePaths() throws RepositoryReadException {
-        String rootRepositoryPath = getRepositoryPath();
-        List<String> paths = new ArrayList<String>();
-        Iterator<File> foundFiles = FileUtils.iterateFiles(new File(rootRepositoryPath), new WildcardFileFilter("*.*", INSENSITIVE), TRUE);
-        while (foundFiles.hasNext()) {
-            File foundFile = foundFiles.next();
-            String repositoryName = foundFile.getAbsolutePath()
-                                             .substring(getRepositoryPath().length());
-            RepositoryPath localRepositoryPath = new RepositoryPath(repositoryName);
-            paths.add(localRepositoryPath.toString());
-        }
-        return paths;
+        return pathIndex.getFiles(name -> name.indexOf('.') >= 0);
     }
 
     /**
@@ -935,6 +970,7 @@ public abstract class FileSystemRepository implements IRepository {
                                       .toAbsolutePath(),
                 Paths.get(filePath)
                      .toAbsolutePath());
+        resourceChanged(repositoryPath);
     }
 
     /**
@@ -949,6 +985,7 @@ public abstract class FileSystemRepository implements IRepository {
             String workspacePath = LocalWorkspaceMapper.getMappedName(this, repositoryPath);
             Path filePath = Paths.get(workspacePath);
             Files.delete(filePath);
+            resourceChanged(repositoryPath);
         }
     }
 
@@ -983,24 +1020,9 @@ public abstract class FileSystemRepository implements IRepository {
         try {
             ICollection collection = getCollection(path);
             if (collection.exists() && collection instanceof LocalCollection) {
-                List<String> list = FileSystemUtils.find(((LocalCollection) collection).getFolder()
-                                                                                       .getPath(),
-                        pattern);
-                int repositoryRootLength = ((LocalCollection) collection.getRepository()
-                                                                        .getRoot()).getFolder()
-                                                                                   .getPath()
-                                                                                   .length();
-                List<String> prepared = new ArrayList<String>();
-                list.forEach(item -> {
-                    String truncated = item.substring(repositoryRootLength);
-                    if (!IRepository.SEPARATOR.equals(File.separator)) {
-                        truncated = truncated.replace(File.separator, IRepository.SEPARATOR);
-                    }
-                    prepared.add(truncated);
-                });
-                return prepared;
+                return pathIndex.findByGlob(collection.getPath(), pattern);
             }
-        } catch (RepositoryReadException | IOException e) {
+        } catch (RepositoryReadException | IllegalArgumentException e) {
             throw new RepositorySearchException(e);
         }
         return new ArrayList<String>();
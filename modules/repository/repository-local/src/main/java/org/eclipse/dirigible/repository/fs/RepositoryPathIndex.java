@@ -0,0 +1,548 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.fs;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOCase;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An in-memory index of the paths of the files and the folders of a file system repository, so that
+ * the listing and the search by name do not have to walk the repository folder. The paths are kept
+ * sorted, so that the content of a folder is a range of the index, and are posted by name, so that
+ * a name pattern is matched once per distinct name.
+ *
+ * The index is built on the first query and belongs to its repository. It is updated on every
+ * change made through the repository API. The changes made directly on the file system, e.g. by git
+ * or by the TypeScript compiler, are picked up at once when their writers report them with
+ * {@link FileSystemRepository#resourceChanged(String)}, and the rest, e.g. the external edits in
+ * linked folders, when the index is reconciled with the file system periodically in the background.
+ */
+public final class RepositoryPathIndex {
+
+    /** The Constant DIRIGIBLE_REPOSITORY_PATH_INDEX_RECONCILE_INTERVAL. */
+    public static final String DIRIGIBLE_REPOSITORY_PATH_INDEX_RECONCILE_INTERVAL = "DIRIGIBLE_REPOSITORY_PATH_INDEX_RECONCILE_INTERVAL"; //$NON-NLS-1$
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryPathIndex.class);
+
+    /** The reconciler, shared by the indexes. */
+    private static final ScheduledExecutorService RECONCILER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "repository-path-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The repository folder. */
+    private final Path root;
+
+    /** The lock guarding the paths. */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** The files. */
+    private NavigableSet<String> files = new TreeSet<>();
+
+    /** The folders. */
+    private NavigableSet<String> folders = new TreeSet<>();
+
+    /** The paths of the files and the folders by name. */
+    private Map<String, Set<String>> names = new HashMap<>();
+
+    /** The paths changed during a rebuild, or null if there is no rebuild in progress. */
+    private Set<String> changedDuringRebuild;
+
+    /** Whether the index has been built. */
+    private volatile boolean built;
+
+    /** The interval of the reconciliation with the file system in seconds, 0 to disable it. */
+    private final long reconcileInterval;
+
+    /** The scheduled reconciliation, while the index is built. Guarded by this. */
+    private ScheduledFuture<?> reconciliation;
+
+    /**
+     * Instantiates a new repository path index.
+     *
+     * @param repositoryFolder the repository folder
+     */
+    public RepositoryPathIndex(String repositoryFolder) {
+        this.root = Paths.get(repositoryFolder)
+                         .toAbsolutePath()
+                         .normalize();
+        this.reconcileInterval = Configuration.getAsInt(DIRIGIBLE_REPOSITORY_PATH_INDEX_RECONCILE_INTERVAL, 60);
+    }
+
+    /**
+     * Updates the index for a path changed through the repository API, i.e. a file or a folder which
+     * has been created, modified, moved or removed. Nothing is done before the index is built, as the
+     * build will see the change.
+     *
+     * @param path the repository path
+     */
+    public void changed(String path) {
+        String normalized = normalize(path);
+        lock.writeLock()
+            .lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(normalized);
+            }
+            if (built) {
+                update(normalized);
+            }
+        } finally {
+            lock.writeLock()
+                .unlock();
+        }
+    }
+
+    /**
+     * Gets the paths of all files.
+     *
+     * @param filter the filter of the file names
+     * @return the paths
+     */
+    public List<String> getFiles(Predicate<String> filter) {
+        ensureBuilt();
+        lock.readLock()
+            .lock();
+        try {
+            List<String> result = new ArrayList<>(files.size());
+            for (String file : files) {
+                if (filter.test(getName(file))) {
+                    result.add(file);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock()
+                .unlock();
+        }
+    }
+
+    /**
+     * Finds the files with names matching a wildcard pattern under a folder.
+     *
+     * @param folder the folder
+     * @param wildcard the wildcard pattern with * and ?
+     * @param caseInsensitive whether the match is case insensitive
+     * @return the paths
+     */
+    public List<String> findFiles(String folder, String wildcard, boolean caseInsensitive) {
+        IOCase ioCase = caseInsensitive ? IOCase.INSENSITIVE : IOCase.SENSITIVE;
+        return find(folder, name -> FilenameUtils.wildcardMatch(name, wildcard, ioCase), false);
+    }
+
+    /**
+     * Finds the files and the folders with names matching a glob pattern under a folder, including the
+     * folder itself.
+     *
+     * @param folder the folder
+     * @param glob the glob pattern
+     * @return the paths
+     */
+    public List<String> findByGlob(String folder, String glob) {
+        PathMatcher matcher = FileSystems.getDefault()
+                                         .getPathMatcher("glob:" + glob);
+        return find(folder, name -> matcher.matches(Paths.get(name)), true);
+    }
+
+    /**
+     * Finds the paths with matching names under a folder.
+     *
+     * @param folder the folder
+     * @param nameFilter the name filter
+     * @param includeFolders whether the folders are included
+     * @return the sorted paths
+     */
+    private List<String> find(String folder, Predicate<String> nameFilter, boolean includeFolders) {
+        ensureBuilt();
+        String normalized = normalize(folder);
+        String prefix = IRepository.SEPARATOR.equals(normalized) ? normalized : normalized + IRepository.SEPARATOR;
+        TreeSet<String> result = new TreeSet<>();
+        lock.readLock()
+            .lock();
+        try {
+            if (includeFolders && folders.contains(normalized) && nameFilter.test(getName(normalized))) {
+                result.add(normalized);
+            }
+            if (IRepository.SEPARATOR.equals(normalized)) {
+                // match each distinct name once
+                for (Map.Entry<String, Set<String>> entry : names.entrySet()) {
+                    if (nameFilter.test(entry.getKey())) {
+                        for (String path : entry.getValue()) {
+                            if (includeFolders || files.contains(path)) {
+                                result.add(path);
+                            }
+                        }
+                    }
+                }
+            } else {
+                // the content of a folder is a range of the sorted paths
+                String end = prefix + Character.MAX_VALUE;
+                for (String path : files.subSet(prefix, true, end, false)) {
+                    if (nameFilter.test(getName(path))) {
+                        result.add(path);
+                    }
+                }
+                if (includeFolders) {
+                    for (String path : folders.subSet(prefix, true, end, false)) {
+                        if (nameFilter.test(getName(path))) {
+                            result.add(path);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock()
+                .unlock();
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * Gets the number of the indexed files and folders.
+     *
+     * @return the size
+     */
+    public int size() {
+        ensureBuilt();
+        lock.readLock()
+            .lock();
+        try {
+            return files.size() + folders.size();
+        } finally {
+            lock.readLock()
+                .unlock();
+        }
+    }
+
+    /**
+     * Builds the index on the first query.
+     */
+    private void ensureBuilt() {
+        if (!built) {
+            synchronized (this) {
+                if (!built) {
+                    rebuild();
+                    scheduleReconciliation();
+                }
+            }
+        }
+    }
+
+    /**
+     * Schedules the reconciliation of the built index. The scheduled task does not keep the index
+     * alive, so the index of a repository, which is dropped without dispose, is still collected.
+     */
+    private synchronized void scheduleReconciliation() {
+        if (reconcileInterval <= 0 || reconciliation != null) {
+            return;
+        }
+        WeakReference<RepositoryPathIndex> reference = new WeakReference<>(this);
+        ScheduledFuture<?>[] scheduled = new ScheduledFuture<?>[1];
+        scheduled[0] = RECONCILER.scheduleWithFixedDelay(() -> {
+            RepositoryPathIndex index = reference.get();
+            if (index != null) {
+                index.reconcile();
+            } else {
+                scheduled[0].cancel(false);
+            }
+        }, reconcileInterval, reconcileInterval, TimeUnit.SECONDS);
+        reconciliation = scheduled[0];
+    }
+
+    /**
+     * Reconciles the built index with the file system, to pick up the changes made directly on it.
+     */
+    private void reconcile() {
+        try {
+            synchronized (this) {
+                if (built) {
+                    rebuild();
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.error("Failed to reconcile the path index of [{}]", root, e);
+        }
+    }
+
+    /**
+     * Releases the indexed paths and stops the reconciliation. The index is built again on the next
+     * query.
+     */
+    public synchronized void close() {
+        if (reconciliation != null) {
+            reconciliation.cancel(false);
+            reconciliation = null;
+        }
+        lock.writeLock()
+            .lock();
+        try {
+            built = false;
+            files = new TreeSet<>();
+            folders = new TreeSet<>();
+            names = new HashMap<>();
+        } finally {
+            lock.writeLock()
+                .unlock();
+        }
+    }
+
+    /**
+     * Walks the repository folder and replaces the index. The changes made through the repository API
+     * during the walk are applied again on the new index, as the walk may have missed them.
+     */
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock()
+            .lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock()
+                .unlock();
+        }
+        NavigableSet<String> newFiles = new TreeSet<>();
+        NavigableSet<String> newFolders = new TreeSet<>();
+        Map<String, Set<String>> newNames = new HashMap<>();
+        try {
+            walk(root, newFiles, newFolders, newNames);
+        } finally {
+            lock.writeLock()
+                .lock();
+            try {
+                files = newFiles;
+                folders = newFolders;
+                names = newNames;
+                Set<String> changed = changedDuringRebuild;
+                changedDuringRebuild = null;
+                changed.forEach(this::update);
+                built = true;
+            } finally {
+                lock.writeLock()
+                    .unlock();
+            }
+        }
+        logger.debug("Indexed [{}] files and [{}] folders of [{}] in [{}] millis", newFiles.size(), newFolders.size(), root,
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Updates the index of a path from the file system. Must be called with the write lock.
+     *
+     * @param path the normalized repository path
+     */
+    private void update(String path) {
+        if (IRepository.SEPARATOR.equals(path)) {
+            NavigableSet<String> newFiles = new TreeSet<>();
+            NavigableSet<String> newFolders = new TreeSet<>();
+            Map<String, Set<String>> newNames = new HashMap<>();
+            walk(root, newFiles, newFolders, newNames);
+            files = newFiles;
+            folders = newFolders;
+            names = newNames;
+            return;
+        }
+        removeTree(path);
+        Path location = toLocation(path);
+        if (Files.isDirectory(location)) {
+            walk(location, files, folders, names);
+        } else if (Files.exists(location)) {
+            add(files, names, path);
+        } else {
+            return;
+        }
+        // the parent folders may have been created along with the path
+        String parent = getParent(path);
+        while (parent != null && !IRepository.SEPARATOR.equals(parent) && !folders.contains(parent)) {
+            add(folders, names, parent);
+            parent = getParent(parent);
+        }
+    }
+
+    /**
+     * Removes a path and everything under it. Must be called with the write lock.
+     *
+     * @param path the normalized repository path
+     */
+    private void removeTree(String path) {
+        remove(files, path);
+        remove(folders, path);
+        String prefix = path + IRepository.SEPARATOR;
+        for (NavigableSet<String> set : List.of(files, folders)) {
+            NavigableSet<String> subtree = set.subSet(prefix, true, prefix + Character.MAX_VALUE, false);
+            for (String child : new ArrayList<>(subtree)) {
+                remove(set, child);
+            }
+        }
+    }
+
+    /**
+     * Adds a path.
+     *
+     * @param set the files or the folders
+     * @param postings the postings by name
+     * @param path the path
+     */
+    private static void add(NavigableSet<String> set, Map<String, Set<String>> postings, String path) {
+        if (set.add(path)) {
+            postings.computeIfAbsent(getName(path), k -> new HashSet<>())
+                    .add(path);
+        }
+    }
+
+    /**
+     * Removes a path.
+     *
+     * @param set the files or the folders
+     * @param path the path
+     */
+    private void remove(NavigableSet<String> set, String path) {
+        if (set.remove(path)) {
+            String name = getName(path);
+            Set<String> paths = names.get(name);
+            if (paths != null) {
+                paths.remove(path);
+                if (paths.isEmpty()) {
+                    names.remove(name);
+                }
+            }
+        }
+    }
+
+    /**
+     * Walks a folder of the file system, following the links.
+     *
+     * @param start the folder
+     * @param targetFiles the files
+     * @param targetFolders the folders
+     * @param targetNames the postings by name
+     */
+    private void walk(Path start, NavigableSet<String> targetFiles, NavigableSet<String> targetFolders,
+            Map<String, Set<String>> targetNames) {
+        try {
+            Files.walkFileTree(start, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    if (!dir.equals(root)) {
+                        add(targetFolders, targetNames, toRepositoryPath(dir));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    add(targetFiles, targetNames, toRepositoryPath(file));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    // removed during the walk, not accessible, or a cycle of linked folders
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("Failed to index [{}]", start, e);
+        }
+    }
+
+    /**
+     * Converts a location of the file system to a repository path.
+     *
+     * @param location the location
+     * @return the repository path
+     */
+    private String toRepositoryPath(Path location) {
+        return IRepository.SEPARATOR + root.relativize(location)
+                                           .toString()
+                                           .replace(location.getFileSystem()
+                                                            .getSeparator(),
+                                                   IRepository.SEPARATOR);
+    }
+
+    /**
+     * Converts a repository path to a location of the file system.
+     *
+     * @param path the normalized repository path
+     * @return the location
+     */
+    private Path toLocation(String path) {
+        return root.resolve(path.substring(1));
+    }
+
+    /**
+     * Normalizes a repository path to start with and not end with a separator.
+     *
+     * @param path the path
+     * @return the normalized path
+     */
+    private static String normalize(String path) {
+        String normalized = path == null ? "" : path.replace('\\', '/');
+        while (normalized.endsWith(IRepository.SEPARATOR)) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return normalized.startsWith(IRepository.SEPARATOR) ? normalized : IRepository.SEPARATOR + normalized;
+    }
+
+    /**
+     * Gets the name.
+     *
+     * @param path the path
+     * @return the name
+     */
+    private static String getName(String path) {
+        return path.substring(path.lastIndexOf(IRepository.SEPARATOR) + 1);
+    }
+
+    /**
+     * Gets the parent.
+     *
+     * @param path the path
+     * @return the parent or null
+     */
+    private static String getParent(String path) {
+        int index = path.lastIndexOf(IRepository.SEPARATOR);
+        return index > 0 ? path.substring(0, index) : index == 0 ? IRepository.SEPARATOR : null;
+    }
+
+}
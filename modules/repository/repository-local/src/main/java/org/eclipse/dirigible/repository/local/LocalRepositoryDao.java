@@ -67,6 +67,7 @@ public class LocalRepositoryDao {
             String workspacePath = storeFile(path, content);
             cache.put(workspacePath, content);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            getRepository().resourceChanged(path);
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -108,8 +109,10 @@ public class LocalRepositoryDao {
 
     public void createFile(String path, InputStream contentInputStream) throws LocalRepositoryException {
         try {
-            storeFile(path, contentInputStream);
+            String workspacePath = storeFile(path, contentInputStream);
+            cache.remove(workspacePath);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            getRepository().resourceChanged(path);
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -135,6 +138,7 @@ public class LocalRepositoryDao {
             String workspacePath = storeFile(localFile.getPath(), content);
             cache.put(workspacePath, content);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            getRepository().resourceChanged(localFile.getPath());
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -187,6 +191,8 @@ public class LocalRepositoryDao {
             FileSystemUtils.moveFile(workspacePathOld, workspacePathNew);
             cache.remove(workspacePathOld);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            getRepository().resourceChanged(path);
+            getRepository().resourceChanged(newPath);
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -205,6 +211,7 @@ public class LocalRepositoryDao {
             FileSystemUtils.copyFile(workspacePathOld, workspacePathNew);
             cache.remove(workspacePathOld);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            getRepository().resourceChanged(newPath);
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -221,6 +228,7 @@ public class LocalRepositoryDao {
             FileSystemUtils.removeFile(workspacePath);
             cache.remove(workspacePath);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            getRepository().resourceChanged(path);
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -237,6 +245,7 @@ public class LocalRepositoryDao {
             FileSystemUtils.removeFile(workspacePath);
             cache.clear();
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            getRepository().resourceChanged(path);
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -252,6 +261,7 @@ public class LocalRepositoryDao {
             String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), normalizePath);
             FileSystemUtils.createFolder(workspacePath);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            getRepository().resourceChanged(normalizePath);
         } catch (RepositoryWriteException e) {
             throw new LocalRepositoryException(e);
         }
@@ -270,6 +280,8 @@ public class LocalRepositoryDao {
             FileSystemUtils.moveFile(workspacePathOld, workspacePathNew);
             cache.clear();
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            getRepository().resourceChanged(path);
+            getRepository().resourceChanged(newPath);
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -295,6 +307,7 @@ public class LocalRepositoryDao {
             });
             cache.clear();
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            getRepository().resourceChanged(newPath);
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.local;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.api.IEntity;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.fs.FileSystemRepository;
+import org.eclipse.dirigible.repository.fs.RepositoryPathIndex;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class LocalRepositoryPathIndexTest.
+ */
+public class LocalRepositoryPathIndexTest {
+
+    /** The repository. */
+    private IRepository repository;
+
+    /**
+     * Sets the up.
+     */
+    @Before
+    public void setUp() {
+        repository = new LocalRepository("target/test");
+        repository.createResource("/pathIndex/project/a.js", "a".getBytes());
+        repository.createResource("/pathIndex/project/nested/b.js", "b".getBytes());
+        repository.createResource("/pathIndex/project/nested/c.txt", "c".getBytes());
+    }
+
+    /**
+     * Tear down.
+     */
+    @After
+    public void tearDown() {
+        repository.removeCollection("/pathIndex");
+    }
+
+    /**
+     * Test that the index follows the changes made through the repository.
+     */
+    @Test
+    public void testChanges() {
+        assertEquals(List.of("/pathIndex/project/a.js", "/pathIndex/project/nested/b.js"),
+                paths(repository.searchName("/pathIndex", ".js", false)));
+
+        repository.createResource("/pathIndex/project/nested/d.js", "d".getBytes());
+        repository.removeResource("/pathIndex/project/a.js");
+        assertEquals(List.of("/pathIndex/project/nested/b.js", "/pathIndex/project/nested/d.js"),
+                paths(repository.searchName("/pathIndex", ".JS", true)));
+
+        repository.getCollection("/pathIndex/project/nested")
+                  .renameTo("renamed");
+        List<String> all = repository.getAllResourcePaths();
+        assertTrue(all.contains("/pathIndex/project/renamed/c.txt"));
+        assertFalse(all.contains("/pathIndex/project/nested/c.txt"));
+    }
+
+    /**
+     * Test that the changes made directly on the file system are picked up once reported.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testExternalChanges() throws Exception {
+        assertEquals(List.of("/pathIndex/project/nested/c.txt"), paths(repository.searchName("/pathIndex", ".txt", false)));
+
+        Path folder = Path.of(LocalWorkspaceMapper.getMappedName((FileSystemRepository) repository, "/pathIndex/project/external"));
+        Files.createDirectories(folder);
+        Files.writeString(folder.resolve("e.txt"), "e");
+        assertEquals(List.of("/pathIndex/project/nested/c.txt"), paths(repository.searchName("/pathIndex", ".txt", false)));
+
+        repository.resourceChanged("/pathIndex/project");
+        assertEquals(List.of("/pathIndex/project/external/e.txt", "/pathIndex/project/nested/c.txt"),
+                paths(repository.searchName("/pathIndex", ".txt", false)));
+    }
+
+    /**
+     * Test that the changes made directly on the file system, which are not reported, are picked up by
+     * the periodic reconciliation.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testReconcile() throws Exception {
+        Configuration.set(RepositoryPathIndex.DIRIGIBLE_REPOSITORY_PATH_INDEX_RECONCILE_INTERVAL, "1");
+        IRepository reconciled = new LocalRepository("target/test");
+        try {
+            assertEquals(List.of("/pathIndex/project/nested/c.txt"), paths(reconciled.searchName("/pathIndex", ".txt", false)));
+
+            Path folder = Path.of(LocalWorkspaceMapper.getMappedName((FileSystemRepository) reconciled, "/pathIndex/project/external"));
+            Files.createDirectories(folder);
+            Files.writeString(folder.resolve("e.txt"), "e");
+            List<String> expected = List.of("/pathIndex/project/external/e.txt", "/pathIndex/project/nested/c.txt");
+            long deadline = System.currentTimeMillis() + 10000;
+            while (!expected.equals(paths(reconciled.searchName("/pathIndex", ".txt", false))) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+            }
+            assertEquals(expected, paths(reconciled.searchName("/pathIndex", ".txt", false)));
+        } finally {
+            reconciled.dispose();
+            Configuration.remove(RepositoryPathIndex.DIRIGIBLE_REPOSITORY_PATH_INDEX_RECONCILE_INTERVAL);
+        }
+    }
+
+    /**
+     * Test that the index is released on dispose and built again on the next query.
+     */
+    @Test
+    public void testDispose() {
+        assertEquals(List.of("/pathIndex/project/nested/c.txt"), paths(repository.searchName("/pathIndex", ".txt", false)));
+        repository.dispose();
+        assertEquals(List.of("/pathIndex/project/nested/c.txt"), paths(repository.searchName("/pathIndex", ".txt", false)));
+    }
+
+    /**
+     * Test the glob search, which includes the folders.
+     */
+    @Test
+    public void testFind() {
+        assertEquals(List.of("/pathIndex/project/a.js", "/pathIndex/project/nested/b.js"), repository.find("/pathIndex", "*.js"));
+        assertEquals(List.of("/pathIndex/project/nested"), repository.find("/pathIndex", "nest*"));
+        assertTrue(repository.find("/pathIndex/project/nested", "*.js")
+                             .contains("/pathIndex/project/nested/b.js"));
+    }
+
+    /**
+     * Paths.
+     *
+     * @param entities the entities
+     * @return the paths
+     */
+    private static List<String> paths(List<IEntity> entities) {
+        return entities.stream()
+                       .map(IEntity::getPath)
+                       .collect(Collectors.toList());
+    }
+
+}
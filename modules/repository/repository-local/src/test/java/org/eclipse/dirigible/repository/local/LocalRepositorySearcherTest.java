@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.local;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.dirigible.repository.api.IEntity;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.RepositoryReadException;
+import org.eclipse.dirigible.repository.fs.FileSystemRepository;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * The Class LocalRepositorySearcherTest.
+ */
+public class LocalRepositorySearcherTest {
+
+    /** The repository. */
+    private IRepository repository = new LocalRepository("target");
+
+    /**
+     * Tear down.
+     */
+    @After
+    public void tearDown() {
+        if (repository.hasCollection("/searcher")) {
+            repository.removeCollection("/searcher");
+        }
+        repository.dispose();
+    }
+
+    /**
+     * Test that the changes are visible to the next search, without a refresh.
+     */
+    @Test
+    public void testNearRealTime() {
+        repository.createResource("/searcher/nrt1.txt", "nearrealtime one".getBytes());
+        assertEquals(List.of("/searcher/nrt1.txt"), paths(repository.searchText("nearrealtime")));
+
+        repository.createResource("/searcher/nrt2.txt", "nearrealtime two".getBytes());
+        repository.removeResource("/searcher/nrt1.txt");
+        assertEquals(List.of("/searcher/nrt2.txt"), paths(repository.searchText("nearrealtime")));
+    }
+
+    /**
+     * Test that closing a searcher keeps its pending changes and releases the shared index for the
+     * other searchers.
+     */
+    @Test
+    public void testClose() {
+        IRepository other = new LocalRepository("target");
+        try {
+            assertEquals(List.of(), paths(other.searchText("closedsearcher")));
+            repository.createResource("/searcher/closed.txt", "closedsearcher".getBytes());
+            repository.dispose();
+            assertThrows(RepositoryReadException.class, () -> repository.searchText("closedsearcher"));
+
+            assertEquals(List.of("/searcher/closed.txt"), paths(other.searchText("closedsearcher")));
+        } finally {
+            other.dispose();
+        }
+
+        repository = new LocalRepository("target");
+        assertEquals(List.of("/searcher/closed.txt"), paths(repository.searchText("closedsearcher")));
+    }
+
+    /**
+     * Test that the walk indexes the files written directly on the file system, which the repository
+     * listings do not see yet.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testExternalFiles() throws Exception {
+        repository.createResource("/searcher/internal.txt", "internalfile".getBytes());
+        repository.getAllResourcePaths();
+        Path file = Path.of(LocalWorkspaceMapper.getMappedName((FileSystemRepository) repository, "/searcher/external.txt"));
+        Files.writeString(file, "externalfile");
+
+        repository.searchRefresh();
+        assertEquals(List.of("/searcher/external.txt"), paths(repository.searchText("externalfile")));
+    }
+
+    /**
+     * Paths.
+     *
+     * @param entities the entities
+     * @return the paths
+     */
+    private static List<String> paths(List<IEntity> entities) {
+        return entities.stream()
+                       .map(IEntity::getPath)
+                       .sorted()
+                       .collect(Collectors.toList());
+    }
+
+}
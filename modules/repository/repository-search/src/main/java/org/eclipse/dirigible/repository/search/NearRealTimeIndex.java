@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.search;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An open Lucene index. It keeps one writer for the lifetime of the index and serves the searches
+ * from near-real-time readers of that writer, which a background thread reopens after changes:
+ * within the max staleness by default and within the min staleness when a search waits for a
+ * change. The searchers acquired through {@link #acquire()} see all the changes made before.
+ */
+public class NearRealTimeIndex implements Closeable {
+
+    /** The directory. */
+    private final Directory directory;
+
+    /** The writer. */
+    private final IndexWriter writer;
+
+    /** The searcher manager. */
+    private final SearcherManager searcherManager;
+
+    /** The reopen thread. */
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    /** The sequence number of the latest change. */
+    private final AtomicLong generation = new AtomicLong(-1);
+
+    /**
+     * Opens the index, creating it if missing.
+     *
+     * @param path the path
+     * @param threadName the name of the reopen thread
+     * @param maxStale the max staleness in millis
+     * @param minStale the min staleness in millis
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public NearRealTimeIndex(Path path, String threadName, int maxStale, int minStale) throws IOException {
+        this.directory = FSDirectory.open(path);
+        IndexWriterConfig iwc = new IndexWriterConfig(new StandardAnalyzer());
+        iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
+        this.writer = new IndexWriter(directory, iwc);
+        this.searcherManager = new SearcherManager(writer, null);
+        this.reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, maxStale / 1000.0, minStale / 1000.0);
+        this.reopenThread.setName(threadName);
+        this.reopenThread.setDaemon(true);
+        this.reopenThread.start();
+    }
+
+    /**
+     * Gets the writer.
+     *
+     * @return the writer
+     */
+    protected IndexWriter getWriter() {
+        return writer;
+    }
+
+    /**
+     * Adds or replaces the documents matching a term.
+     *
+     * @param term the term
+     * @param document the document
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public void update(Term term, Document document) throws IOException {
+        changed(writer.updateDocument(term, document));
+    }
+
+    /**
+     * Deletes the documents matching any of the queries.
+     *
+     * @param queries the queries
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public void delete(Query... queries) throws IOException {
+        changed(writer.deleteDocuments(queries));
+    }
+
+    /**
+     * Acquires a searcher, which sees all the changes made so far. It has to be released after use.
+     *
+     * @return the searcher
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public IndexSearcher acquire() throws IOException {
+        awaitChanges();
+        return searcherManager.acquire();
+    }
+
+    /**
+     * Releases a searcher.
+     *
+     * @param searcher the searcher
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public void release(IndexSearcher searcher) throws IOException {
+        searcherManager.release(searcher);
+    }
+
+    /**
+     * Commits the changes, if any.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public synchronized void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    /**
+     * Commits and closes the index.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Override
+    public void close() throws IOException {
+        reopenThread.close();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    /**
+     * Records a change.
+     *
+     * @param sequenceNumber the sequence number of the change
+     */
+    private void changed(long sequenceNumber) {
+        generation.accumulateAndGet(sequenceNumber, Math::max);
+    }
+
+    /**
+     * Waits until the searchers see the latest change.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void awaitChanges() throws IOException {
+        long latest = generation.get();
+        if (latest < 0) {
+            return;
+        }
+        try {
+            reopenThread.waitForGeneration(latest);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new IOException(e);
+        }
+    }
+
+}
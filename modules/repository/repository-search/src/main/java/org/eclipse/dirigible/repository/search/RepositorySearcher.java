@@ -13,18 +13,19 @@ import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.*;
 import org.apache.lucene.index.*;
-import org.apache.lucene.index.IndexWriterConfig.OpenMode;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.store.Directory;
-import org.apache.lucene.store.FSDirectory;
 import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.api.ICollection;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryPath;
 import org.eclipse.dirigible.repository.api.RepositoryReadException;
 import org.eclipse.dirigible.repository.api.RepositoryWriteException;
 import org.slf4j.Logger;
@@ -32,11 +33,28 @@ import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * The Class RepositorySearcher.
+ * The Class RepositorySearcher. It keeps the repository content in a Lucene index, which is shared
+ * by all the searchers using the same index location. The index has one long-lived writer and the
+ * searches are served from near-real-time readers of that writer, reopened by a background thread.
+ * The index is kept up to date by the change events of the repository, collected for a short delay
+ * and then indexed together or right before the next search, and by a rare incremental walk
+ * catching the files changed outside the repository API or while the index was not open. The shared
+ * index is closed when the last searcher using it is closed.
  */
 public class RepositorySearcher {
 
@@ -46,6 +64,12 @@ public class RepositorySearcher {
     public static final String DIRIGIBLE_REPOSITORY_SEARCH_ROOT_FOLDER_IS_ABSOLUTE = "DIRIGIBLE_REPOSITORY_SEARCH_ROOT_FOLDER_IS_ABSOLUTE";
     /** The Constant DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION. */
     public static final String DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION = "DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION"; //$NON-NLS-1$
+    /** The Constant DIRIGIBLE_REPOSITORY_SEARCH_INDEX_DELAY. */
+    public static final String DIRIGIBLE_REPOSITORY_SEARCH_INDEX_DELAY = "DIRIGIBLE_REPOSITORY_SEARCH_INDEX_DELAY"; //$NON-NLS-1$
+    /** The Constant DIRIGIBLE_REPOSITORY_SEARCH_RECONCILE_INTERVAL. */
+    public static final String DIRIGIBLE_REPOSITORY_SEARCH_RECONCILE_INTERVAL = "DIRIGIBLE_REPOSITORY_SEARCH_RECONCILE_INTERVAL"; //$NON-NLS-1$
+    /** The Constant DIRIGIBLE_REPOSITORY_SEARCH_MAX_STALE. */
+    public static final String DIRIGIBLE_REPOSITORY_SEARCH_MAX_STALE = "DIRIGIBLE_REPOSITORY_SEARCH_MAX_STALE"; //$NON-NLS-1$
     // $NON-NLS-1$
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(RepositorySearcher.class);
@@ -64,25 +88,38 @@ public class RepositorySearcher {
     /** The Constant FIELD_LOCATION. */
     private static final String FIELD_LOCATION = "location";
 
+    /** The Constant COMMIT_RECONCILED. */
+    private static final String COMMIT_RECONCILED = "reconciled:";
+
     /** The Constant MAX_RESULTS. */
     private static final int MAX_RESULTS = 1000;
 
+    /** The open shared indexes by location, also guarding their references. */
+    private static final Map<Path, SharedIndex> INDEXES = new HashMap<>();
+
     /** The repository. */
     private final IRepository repository;
     /** The index. */
     private final String index;
-    /** The timer. */
-    private final Timer timer;
-    /** The seconds. */
-    private final int seconds = 30;
+    /** The executor indexing the changes. */
+    private final ScheduledThreadPoolExecutor executor;
+    /** The delay of indexing the changes in millis. */
+    private final int delay;
+    /** The paths changed since the last indexing. */
+    private final Set<String> changes = ConcurrentHashMap.newKeySet();
+    /** Whether indexing the changes is scheduled. */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
     /** The root. */
     private String root;
+    /** The shared index, or null if not acquired yet or already released. */
+    private volatile SharedIndex sharedIndex;
+    /** Whether the searcher is closed. */
+    private final AtomicBoolean closed = new AtomicBoolean();
+    /** Whether the shared index is released, guarded by INDEXES. */
+    private boolean released;
     /** The last updated. */
     private Date lastUpdated = new Date(0);
 
-    /** The count updated. */
-    private volatile int countUpdated = 0;
-
     /**
      * Instantiates a new repository searcher.
      *
@@ -111,32 +148,40 @@ public class RepositorySearcher {
         }
 
         this.index = indexLocation;
+        this.delay = Configuration.getAsInt(DIRIGIBLE_REPOSITORY_SEARCH_INDEX_DELAY, 500);
 
-        timer = new Timer();
-        timer.schedule(new ReindexTask(), 30000, seconds * 1000L);
+        executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "dirigible-repository-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // on close the running task is completed, not interrupted in the middle of writing the index
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        // the first walk indexes the files changed while the index was not open
+        executor.schedule(this::reconcile, 30, TimeUnit.SECONDS);
+        int interval = Configuration.getAsInt(DIRIGIBLE_REPOSITORY_SEARCH_RECONCILE_INTERVAL, 600);
+        if (interval > 0) {
+            executor.scheduleWithFixedDelay(this::reconcile, interval, interval, TimeUnit.SECONDS);
+        }
     }
 
     /**
-     * The Class ReindexTask.
+     * Notifies the searcher that a resource or a collection has been created, changed, moved or
+     * removed. The change is indexed after a short delay together with the other changes made
+     * meanwhile.
+     *
+     * @param path the path of the resource or the collection
      */
-    class ReindexTask extends TimerTask {
-
-        /**
-         * Run.
-         */
-        @Override
-        public void run() {
-            synchronized (RepositorySearcher.class) {
-                if (countUpdated > 30) {
-                    countUpdated = 0;
-                    lastUpdated = new Date(0);
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("Full reindexing of the Repository Content...");
-                    }
-                }
-                reindex();
-                lastUpdated = new Date();
-                countUpdated++;
+    public void changed(String path) {
+        if (closed.get()) {
+            return;
+        }
+        changes.add(new RepositoryPath(path).toString());
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.schedule(this::indexChanges, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // closed meanwhile, the change is indexed by the walk after the next start
             }
         }
     }
@@ -150,14 +195,15 @@ public class RepositorySearcher {
      */
     public List<String> search(String term) throws RepositoryReadException {
         List<String> results = new ArrayList<String>();
-        String indexName = index;
 
         try {
-            Directory dir = FSDirectory.open(Paths.get(root + File.separator + indexName));
-            IndexReader reader = null;
+            if (!changes.isEmpty()) {
+                // the changes made so far become visible to this search, after an indexing in progress
+                indexChanges();
+            }
+            SharedIndex target = getSharedIndex();
+            IndexSearcher searcher = target.acquire();
             try {
-                reader = DirectoryReader.open(dir);
-                IndexSearcher searcher = new IndexSearcher(reader);
                 StoredFields storedFields = searcher.storedFields();
 
                 Analyzer analyzer = new StandardAnalyzer();
@@ -178,9 +224,7 @@ public class RepositorySearcher {
 
                 }
             } finally {
-                if (reader != null) {
-                    reader.close();
-                }
+                target.release(searcher);
             }
             return results;
         } catch (IOException | ParseException e) {
@@ -192,20 +236,35 @@ public class RepositorySearcher {
      * Force reindex.
      */
     public void forceReindex() {
-        synchronized (RepositorySearcher.class) {
+        synchronized (this) {
             this.lastUpdated = new Date(0);
-            this.countUpdated = 0;
             reindex();
         }
     }
 
+    /**
+     * Indexes the files changed since the last walk.
+     */
+    private void reconcile() {
+        try {
+            synchronized (this) {
+                if (lastUpdated.getTime() == 0) {
+                    lastUpdated = new Date(getSharedIndex().getReconciled(getReconciledKey()));
+                }
+                reindex();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Reindexing of the Repository Content failed", e);
+        }
+    }
+
     /**
      * Reindex.
      */
     private void reindex() {
-        synchronized (RepositorySearcher.class) {
+        synchronized (this) {
             long start = System.currentTimeMillis();
-            List<String> paths = repository.getAllResourcePaths();
+            List<String> paths = getResourcePathsModifiedAfter(lastUpdated.getTime());
             for (String path : paths) {
                 IResource resource = repository.getResource(path);
                 if ((resource != null) && (resource.getInformation() != null) && (resource.getInformation()
@@ -219,6 +278,8 @@ public class RepositorySearcher {
                     }
                 }
             }
+            lastUpdated = new Date(start);
+            commit(start);
             long end = System.currentTimeMillis();
             if (logger.isTraceEnabled()) {
                 logger.trace("Reindexing of the Repository Content finished in: " + (end - start) + "ms");
@@ -226,6 +287,128 @@ public class RepositorySearcher {
         }
     }
 
+    /**
+     * Walks the repository folder for the resources modified after a time. The file system is walked
+     * and not the listings of the repository, as they may not see the files changed outside of the
+     * repository API yet.
+     *
+     * @param time the time
+     * @return the repository paths
+     */
+    private List<String> getResourcePathsModifiedAfter(long time) {
+        Path rootFolder = Paths.get(repository.getRepositoryPath())
+                               .toAbsolutePath()
+                               .normalize();
+        List<String> paths = new ArrayList<>();
+        try {
+            Files.walkFileTree(rootFolder, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    String name = file.getFileName()
+                                      .toString();
+                    if (name.indexOf('.') >= 0 && attrs.lastModifiedTime()
+                                                       .toMillis() > time) {
+                        paths.add(IRepository.SEPARATOR + rootFolder.relativize(file)
+                                                                    .toString()
+                                                                    .replace(file.getFileSystem()
+                                                                                 .getSeparator(),
+                                                                            IRepository.SEPARATOR));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    // removed during the walk, not accessible, or a cycle of linked folders
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new RepositoryReadException(e);
+        }
+        return paths;
+    }
+
+    /**
+     * Indexes the changed paths: the existing resources are added, the existing collections are walked
+     * and the removed ones are deleted from the index together with their content. The indexing is
+     * serialized with the walks, as it is run by the searches as well as in the background, and a
+     * concurrent run could overwrite a document with an older content.
+     */
+    private synchronized void indexChanges() {
+        scheduled.set(false);
+        List<String> paths = new ArrayList<>(changes);
+        changes.removeAll(paths);
+        if (paths.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        for (String path : paths) {
+            try {
+                if (repository.hasResource(path)) {
+                    addResource(path, repository.getResource(path));
+                } else if (repository.hasCollection(path)) {
+                    addCollection(path, repository.getCollection(path));
+                } else {
+                    remove(path);
+                }
+            } catch (IOException | RuntimeException e) {
+                // e.g. removed meanwhile, then its removal is indexed next
+                logger.warn("Indexing of the changed repository path [{}] failed", path, e);
+            }
+        }
+        try {
+            getSharedIndex().commit();
+        } catch (IOException | RuntimeException e) {
+            logger.error("Committing of the repository index failed", e);
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace("Indexing of [{}] changed repository paths finished in: {}ms", paths.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Adds a resource.
+     *
+     * @param path the path
+     * @param resource the resource
+     */
+    private void addResource(String path, IResource resource) {
+        if ((resource.getInformation() != null) && (resource.getInformation()
+                                                            .getModifiedAt() != null)) {
+            add(path, resource.getContent(), resource.getInformation()
+                                                     .getModifiedAt()
+                                                     .getTime(),
+                    null);
+        }
+    }
+
+    /**
+     * Adds the resources of a collection and its sub-collections.
+     *
+     * @param path the path
+     * @param collection the collection
+     */
+    private void addCollection(String path, ICollection collection) {
+        for (String name : collection.getResourcesNames()) {
+            addResource(RepositoryPath.normalizePath(path, name), collection.getResource(name));
+        }
+        for (String name : collection.getCollectionsNames()) {
+            addCollection(RepositoryPath.normalizePath(path, name), collection.getCollection(name));
+        }
+    }
+
+    /**
+     * Removes a resource or all the resources under a collection from the index.
+     *
+     * @param path the path
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void remove(String path) throws IOException {
+        getSharedIndex().delete(new TermQuery(new Term(FIELD_LOCATION, path)),
+                new PrefixQuery(new Term(FIELD_LOCATION, path + IRepository.SEPARATOR)));
+    }
+
     /**
      * Adds the.
      *
@@ -236,38 +419,111 @@ public class RepositorySearcher {
      * @throws RepositoryWriteException the repository write exception
      */
     private void add(String location, byte[] contents, long lastModified, Map<String, String> parameters) throws RepositoryWriteException {
-        String indexName = index;
-
         try {
-            Directory dir = FSDirectory.open(Paths.get(root + File.separator + indexName));
-            Analyzer analyzer = new StandardAnalyzer();
-            IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
-            iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
-            IndexWriter writer = null;
-            try {
-                writer = new IndexWriter(dir, iwc);
-                Document doc = new Document();
-                Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
-                doc.add(pathField);
-                doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
-                if (parameters != null) {
-                    for (String key : parameters.keySet()) {
-                        doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
-                    }
-                }
-                doc.add(new TextField(FIELD_CONTENTS,
-                        new BufferedReader(new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
-                writer.updateDocument(new Term(FIELD_LOCATION, location), doc);
-            } finally {
-                if (writer != null) {
-                    writer.close();
+            Document doc = new Document();
+            Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
+            doc.add(pathField);
+            doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
+            if (parameters != null) {
+                for (String key : parameters.keySet()) {
+                    doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
                 }
             }
+            doc.add(new TextField(FIELD_CONTENTS,
+                    new BufferedReader(new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
+            getSharedIndex().update(new Term(FIELD_LOCATION, location), doc);
         } catch (IOException e) {
             throw new RepositoryWriteException(e);
         }
     }
 
+    /**
+     * Commits the index together with the time of the last walk.
+     *
+     * @param reconciled the time of the last walk
+     */
+    private void commit(long reconciled) {
+        try {
+            getSharedIndex().commit(getReconciledKey(), reconciled);
+        } catch (IOException e) {
+            throw new RepositoryWriteException(e);
+        }
+    }
+
+    /**
+     * Gets the key of the time of the last walk of this repository in the commit data.
+     *
+     * @return the key
+     */
+    private String getReconciledKey() {
+        return COMMIT_RECONCILED + repository.getRepositoryPath();
+    }
+
+    /**
+     * Gets the shared index, opening it on first use.
+     *
+     * @return the shared index
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private SharedIndex getSharedIndex() throws IOException {
+        SharedIndex target = sharedIndex;
+        if (target != null) {
+            return target;
+        }
+        synchronized (INDEXES) {
+            if (sharedIndex == null) {
+                if (released) {
+                    throw new IOException("The repository searcher is closed");
+                }
+                Path path = Paths.get(root + File.separator + index)
+                                 .toAbsolutePath()
+                                 .normalize();
+                target = INDEXES.get(path);
+                if (target == null) {
+                    target = new SharedIndex(path);
+                    INDEXES.put(path, target);
+                }
+                target.references++;
+                sharedIndex = target;
+            }
+            return sharedIndex;
+        }
+    }
+
+    /**
+     * Stops indexing the changes, indexes the pending ones and releases the shared index, which is
+     * closed when no other searcher uses it. The searches are not possible afterwards.
+     */
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+        synchronized (INDEXES) {
+            indexChanges();
+            released = true;
+            SharedIndex target = sharedIndex;
+            if (target == null) {
+                return;
+            }
+            sharedIndex = null;
+            if (--target.references == 0) {
+                INDEXES.remove(target.path);
+                try {
+                    target.close();
+                } catch (IOException | RuntimeException e) {
+                    logger.error("Closing of the repository index failed", e);
+                }
+            }
+        }
+    }
+
     /**
      * Gets the root.
      *
@@ -277,4 +533,66 @@ public class RepositorySearcher {
         return root;
     }
 
+    /**
+     * An index shared by the searchers using the same location, which is not allowed to have more than
+     * one writer. It is open while used by at least one searcher and also keeps the times of the last
+     * walks of the repositories in its commit data.
+     */
+    private static class SharedIndex extends NearRealTimeIndex {
+
+        /** The path. */
+        private final Path path;
+
+        /** The commit data. */
+        private final Map<String, String> commitData = new HashMap<>();
+
+        /** The number of the searchers using the index, guarded by INDEXES. */
+        private int references;
+
+        /**
+         * Opens the index.
+         *
+         * @param path the path
+         * @throws IOException Signals that an I/O exception has occurred.
+         */
+        SharedIndex(Path path) throws IOException {
+            super(path, "dirigible-repository-index-reopen", Configuration.getAsInt(DIRIGIBLE_REPOSITORY_SEARCH_MAX_STALE, 1000), 25);
+            this.path = path;
+            Iterable<Map.Entry<String, String>> liveCommitData = getWriter().getLiveCommitData();
+            if (liveCommitData != null) {
+                for (Map.Entry<String, String> entry : liveCommitData) {
+                    commitData.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        /**
+         * Gets the time of the last walk of a repository.
+         *
+         * @param key the key of the repository
+         * @return the time or 0 if never walked
+         */
+        synchronized long getReconciled(String key) {
+            String value = commitData.get(key);
+            try {
+                return value != null ? Long.parseLong(value) : 0;
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+
+        /**
+         * Commits the changes together with the time of the last walk of a repository.
+         *
+         * @param key the key of the repository walked
+         * @param reconciled the time of the walk
+         * @throws IOException Signals that an I/O exception has occurred.
+         */
+        synchronized void commit(String key, long reconciled) throws IOException {
+            commitData.put(key, Long.toString(reconciled));
+            getWriter().setLiveCommitData(new HashMap<>(commitData).entrySet());
+            commit();
+        }
+    }
+
 }
@@ -13,11 +13,15 @@ import static java.text.MessageFormat.format;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.repository.api.ICollection;
 import org.eclipse.dirigible.repository.api.IEntity;
 import org.eclipse.dirigible.repository.api.IRepository;
@@ -30,6 +34,9 @@ import org.eclipse.dirigible.repository.api.RepositoryReadException;
  */
 public class RepositoryZipExporter {
 
+    /** The Constant DIRIGIBLE_REPOSITORY_ZIP_COMPRESSION_LEVEL. */
+    public static final String DIRIGIBLE_REPOSITORY_ZIP_COMPRESSION_LEVEL = "DIRIGIBLE_REPOSITORY_ZIP_COMPRESSION_LEVEL"; //$NON-NLS-1$
+
     /**
      * Export all the content under the given path(s) with the target repository instance Include the
      * last segment of the relative roots during the archiving.
@@ -40,12 +47,27 @@ public class RepositoryZipExporter {
      * @throws RepositoryExportException in case the content cannot be exported
      */
     public static byte[] exportZip(IRepository repository, List<String> relativeRoots) throws RepositoryExportException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        exportZip(repository, relativeRoots, baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Export all the content under the given path(s) with the target repository instance Include the
+     * last segment of the relative roots during the archiving. The content of the resources is piped to
+     * the output stream, which is not closed.
+     *
+     * @param repository the target {@link IRepository} instance
+     * @param relativeRoots the relative roots
+     * @param outputStream the output stream
+     * @throws RepositoryExportException in case the content cannot be exported
+     */
+    public static void exportZip(IRepository repository, List<String> relativeRoots, OutputStream outputStream)
+            throws RepositoryExportException {
         try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ZipOutputStream zipOutputStream = null;
+            ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+            zipOutputStream.setLevel(getCompressionLevel());
             try {
-                zipOutputStream = new ZipOutputStream(baos);
-
                 for (String relativeRoot : relativeRoots) {
                     ICollection collection = repository.getCollection(relativeRoot);
                     if (collection.exists()) {
@@ -57,24 +79,17 @@ public class RepositoryZipExporter {
                             ZipEntry zipEntry = new ZipEntry(iResource.getPath()
                                                                       .substring(relativeRoot.length() - iResource.getName()
                                                                                                                   .length()));
-                            zipOutputStream.putNextEntry(zipEntry);
-                            zipOutputStream.write((iResource.getContent() == null ? new byte[] {} : iResource.getContent()));
-                            zipOutputStream.closeEntry();
+                            writeResource(zipOutputStream, zipEntry, iResource);
                         } else {
                             throw new IOException(format("Relative Root: {0} doesn't exist", relativeRoot));
                         }
                     }
                 }
             } finally {
-                if (zipOutputStream != null) {
-                    zipOutputStream.finish();
-                    zipOutputStream.flush();
-                    zipOutputStream.close();
-                }
+                // the caller owns the output stream, so the archive is finished but the stream not closed
+                zipOutputStream.finish();
+                zipOutputStream.flush();
             }
-
-            byte[] result = baos.toByteArray();
-            return result;
         } catch (RepositoryReadException | IOException e) {
             throw new RepositoryExportException(e);
         }
@@ -92,6 +107,40 @@ public class RepositoryZipExporter {
      * @throws RepositoryExportException in case the content cannot be exported
      */
     public static byte[] exportZip(IRepository repository, String relativeRoot, boolean inclusive) throws RepositoryExportException {
+        List<String> relativeRoots = getRelativeRoots(repository, relativeRoot, inclusive);
+        return exportZip(repository, relativeRoots);
+    }
+
+    /**
+     * Export all the content under the given path with the target repository instance Include or NOT
+     * the last segment of the relative root during the archiving. The content of the resources is piped
+     * to the output stream, which is not closed. Nothing is written if the root does not exist.
+     *
+     * @param repository the repository
+     * @param relativeRoot single root
+     * @param inclusive whether to include the last segment of the root or to pack its content directly
+     *        in the archive
+     * @param outputStream the output stream
+     * @throws RepositoryExportException in case the content cannot be exported
+     */
+    public static void exportZip(IRepository repository, String relativeRoot, boolean inclusive, OutputStream outputStream)
+            throws RepositoryExportException {
+        List<String> relativeRoots = getRelativeRoots(repository, relativeRoot, inclusive);
+        exportZip(repository, relativeRoots, outputStream);
+    }
+
+    /**
+     * Gets the relative roots to be exported for a root.
+     *
+     * @param repository the repository
+     * @param relativeRoot single root
+     * @param inclusive whether to include the last segment of the root or to pack its content directly
+     *        in the archive
+     * @return the relative roots
+     * @throws RepositoryExportException in case the root does not exist
+     */
+    private static List<String> getRelativeRoots(IRepository repository, String relativeRoot, boolean inclusive)
+            throws RepositoryExportException {
 
         List<String> relativeRoots = new ArrayList<String>();
 
@@ -106,12 +155,12 @@ public class RepositoryZipExporter {
                     relativeRoots.add(iEntity.getPath());
                 }
             }
-            return exportZip(repository, relativeRoots);
+            return relativeRoots;
         }
         IResource resource = repository.getResource(relativeRoot);
         if (resource.exists()) {
             relativeRoots.add(resource.getPath());
-            return exportZip(repository, relativeRoots);
+            return relativeRoots;
         }
         throw new RepositoryExportException(format("Relative Root: {0} does not exist", relativeRoot));
     }
@@ -146,13 +195,39 @@ public class RepositoryZipExporter {
             for (IResource iResource : resources) {
                 zipEntry = new ZipEntry(iResource.getPath()
                                                  .substring(substring));
-                zipOutputStream.putNextEntry(zipEntry);
-                zipOutputStream.write((iResource.getContent() == null ? new byte[] {} : iResource.getContent()));
-                zipOutputStream.closeEntry();
+                writeResource(zipOutputStream, zipEntry, iResource);
             }
         } catch (RepositoryReadException | IOException e) {
             throw new RepositoryExportException(e);
         }
     }
 
+    /**
+     * Writes the content of a resource as an entry, piping it from the resource content stream.
+     *
+     * @param zipOutputStream resulting output stream
+     * @param zipEntry the entry
+     * @param resource the resource
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static void writeResource(ZipOutputStream zipOutputStream, ZipEntry zipEntry, IResource resource) throws IOException {
+        zipOutputStream.putNextEntry(zipEntry);
+        try (InputStream content = resource.getContentStream()) {
+            if (content != null) {
+                content.transferTo(zipOutputStream);
+            }
+        }
+        zipOutputStream.closeEntry();
+    }
+
+    /**
+     * Gets the configured compression level.
+     *
+     * @return the compression level
+     */
+    private static int getCompressionLevel() {
+        int level = Configuration.getAsInt(DIRIGIBLE_REPOSITORY_ZIP_COMPRESSION_LEVEL, Deflater.DEFAULT_COMPRESSION);
+        return (level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION) ? level : Deflater.DEFAULT_COMPRESSION;
+    }
+
 }
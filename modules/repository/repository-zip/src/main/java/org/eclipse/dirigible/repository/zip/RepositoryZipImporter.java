@@ -9,17 +9,19 @@
  */
 package org.eclipse.dirigible.repository.zip;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.nio.file.Paths;
 import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CloseShieldInputStream;
 import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
 import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.RepositoryPath;
 import org.eclipse.dirigible.repository.api.RepositoryImportException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,7 +54,8 @@ public class RepositoryZipImporter {
      * @param repository the target {@link IRepository} instance
      * @param zipInputStream the content input stream
      * @param relativeRoot the relative root
-     * @param override whether to override existing
+     * @param override whether to override existing, not used - the existing resources are always
+     *        overwritten
      * @throws RepositoryImportException in case the content cannot be imported
      */
     public static void importZip(IRepository repository, ZipInputStream zipInputStream, String relativeRoot, boolean override)
@@ -67,7 +70,8 @@ public class RepositoryZipImporter {
      * @param repository the target {@link IRepository} instance
      * @param zipInputStream the content input stream
      * @param relativeRoot the relative root
-     * @param override whether to override existing
+     * @param override whether to override existing, not used - the existing resources are always
+     *        overwritten
      * @param excludeRootFolderName the exclude root folder name
      * @throws RepositoryImportException in case the content cannot be imported
      */
@@ -83,7 +87,8 @@ public class RepositoryZipImporter {
      * @param repository the target {@link IRepository} instance
      * @param zipInputStream the content input stream
      * @param relativeRoot the relative root
-     * @param override whether to override existing
+     * @param override whether to override existing, not used - the existing resources are always
+     *        overwritten
      * @param excludeRootFolderName the exclude root folder name
      * @param filter map of old/new string for replacement in paths
      * @throws RepositoryImportException in case the content cannot be imported
@@ -139,41 +144,41 @@ public class RepositoryZipImporter {
                         logger.debug("importZip outpath replaced: " + outpath);
                     }
 
-                    try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-                        IOUtils.copy(zipInputStream, output);
-                        try {
-                            final byte[] content = output.toByteArray();
-                            if (content.length > 0) {
-                                // TODO filter for binary extensions
+                    // the entry is piped to the repository, only its first byte is read ahead to skip the empty ones
+                    PushbackInputStream content = new PushbackInputStream(CloseShieldInputStream.wrap(zipInputStream), 1);
+                    try {
+                        int first = content.read();
+                        if (first != -1) {
+                            content.unread(first);
+                            // TODO filter for binary extensions
 
-                                String extension = ContentTypeHelper.getExtension(name);
-                                String mimeType = ContentTypeHelper.getContentType(extension);
-                                boolean isBinary = ContentTypeHelper.isBinary(mimeType);
+                            String extension = ContentTypeHelper.getExtension(name);
+                            String mimeType = ContentTypeHelper.getContentType(extension);
+                            boolean isBinary = ContentTypeHelper.isBinary(mimeType);
+                            if (logger.isDebugEnabled()) {
+                                logger.debug("importZip creating resource: " + outpath);
+                            }
+                            if (mimeType != null) {
                                 if (logger.isDebugEnabled()) {
-                                    logger.debug("importZip creating resource: " + outpath);
-                                }
-                                if (mimeType != null) {
-                                    if (logger.isDebugEnabled()) {
-                                        logger.debug("importZip creating resource is binary?: " + isBinary);
-                                    }
-                                    repository.createResource(outpath, content, isBinary, mimeType, override);
-
-                                } else {
-                                    repository.createResource(outpath, content, true, ContentTypeHelper.APPLICATION_OCTET_STREAM, override);
+                                    logger.debug("importZip creating resource is binary?: " + isBinary);
                                 }
+                                createResource(repository, outpath, content, isBinary, mimeType);
+
                             } else {
-                                if (outpath.endsWith(IRepository.SEPARATOR)) {
-                                    if (logger.isDebugEnabled()) {
-                                        logger.debug("importZip creating collection: " + outpath);
-                                    }
-                                    repository.createCollection(outpath);
-                                }
+                                createResource(repository, outpath, content, true, ContentTypeHelper.APPLICATION_OCTET_STREAM);
                             }
-                        } catch (Exception e) {
-                            if (logger.isErrorEnabled()) {
-                                logger.error(String.format("Error importing %s", outpath), e);
+                        } else {
+                            if (outpath.endsWith(IRepository.SEPARATOR)) {
+                                if (logger.isDebugEnabled()) {
+                                    logger.debug("importZip creating collection: " + outpath);
+                                }
+                                repository.createCollection(outpath);
                             }
                         }
+                    } catch (Exception e) {
+                        if (logger.isErrorEnabled()) {
+                            logger.error(String.format("Error importing %s", outpath), e);
+                        }
                     }
                 }
             } finally {
@@ -188,6 +193,43 @@ public class RepositoryZipImporter {
         }
     }
 
+    /**
+     * Import all the content from a given zip stream to the target repository instance within the given
+     * path, overrides files during the pass and removes the root folder name.
+     *
+     * @param repository the target {@link IRepository} instance
+     * @param inputStream the zip input stream
+     * @param relativeRoot the relative root
+     * @param override whether to override existing, not used - the existing resources are always
+     *        overwritten
+     * @param excludeRootFolderName the exclude root folder name
+     * @param filter map of old/new string for replacement in paths
+     * @throws RepositoryImportException in case the content cannot be imported
+     */
+    public static void importZip(IRepository repository, InputStream inputStream, String relativeRoot, boolean override,
+            boolean excludeRootFolderName, Map<String, String> filter) throws RepositoryImportException {
+        ZipInputStream zipInputStream =
+                inputStream instanceof ZipInputStream ? (ZipInputStream) inputStream : new ZipInputStream(inputStream);
+        importZip(repository, zipInputStream, relativeRoot, override, excludeRootFolderName, filter);
+    }
+
+    /**
+     * Creates a resource with the content piped from the input stream. An existing resource is
+     * overwritten, as the repositories do regardless of the override flag.
+     *
+     * @param repository the repository
+     * @param path the path
+     * @param content the content
+     * @param isBinary whether the content is binary
+     * @param contentType the content type
+     */
+    private static void createResource(IRepository repository, String path, InputStream content, boolean isBinary, String contentType) {
+        RepositoryPath repositoryPath = new RepositoryPath(path);
+        repository.getCollection(repositoryPath.getParentPath()
+                                               .build())
+                  .createResource(repositoryPath.getLastSegment(), content, isBinary, contentType);
+    }
+
     /**
      * Gets the entry name.
      *